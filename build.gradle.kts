@@ -18,6 +18,17 @@ java {
     targetCompatibility = JavaVersion.VERSION_21
 }
 
+// Benchmarks live in src/jmh and see the main classes and dependencies
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+configurations["jmhRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     // JDA (Java Discord API)
     implementation("net.dv8tion:JDA:5.0.0-beta.20")
@@ -39,6 +50,10 @@ dependencies {
     testImplementation("org.mockito:mockito-core:5.8.0")
     testImplementation("org.mockito:mockito-junit-jupiter:5.8.0")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Benchmarks
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 application {
@@ -49,6 +64,62 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Headless RPG balance simulation, e.g. ./gradlew simulateBalance -PsimArgs="--guilds=128 --weeks=8"
+tasks.register<JavaExec>("simulateBalance") {
+    group = "verification"
+    description = "Runs the Monte Carlo RPG balance simulator."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.tatumgames.mikros.games.rpg.simulation.BalanceSimulator")
+    args = (project.findProperty("simArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
-}
\ No newline at end of file
+}
+
+// JMH benchmarks with the GC profiler, e.g. ./gradlew jmh -PjmhArgs="RpgBenchmarks -f 2"
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file(
+    (project.findProperty("jmhBaseline") as String?) ?: "benchmarks/baseline.json")
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks and writes build/reports/jmh/results.json."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args = listOf("-prof", "gc", "-rf", "json", "-rff", jmhResults.get().asFile.path) +
+        ((project.findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList())
+    outputs.upToDateWhen { false }
+    doFirst { jmhResults.get().asFile.parentFile.mkdirs() }
+}
+
+// Fails when a benchmark is slower or allocates more than the baseline by over -PjmhThreshold percent;
+// skipped until a baseline has been recorded with jmhBaseline
+tasks.register<JavaExec>("jmhCompare") {
+    group = "verification"
+    description = "Compares the latest JMH results against the baseline."
+    mustRunAfter("jmh")
+    onlyIf("a baseline has been recorded") {
+        val present = jmhBaseline.asFile.isFile
+        if (!present) {
+            logger.lifecycle("No JMH baseline at ${jmhBaseline.asFile.path}; run jmh then jmhBaseline to record one.")
+        }
+        present
+    }
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.tatumgames.mikros.benchmarks.BenchmarkComparison")
+    args = listOf(
+        jmhBaseline.asFile.path,
+        jmhResults.get().asFile.path,
+        (project.findProperty("jmhThreshold") as String?) ?: "10"
+    )
+}
+
+tasks.register<Copy>("jmhBaseline") {
+    group = "verification"
+    description = "Records the latest JMH results as the baseline."
+    mustRunAfter("jmh")
+    from(jmhResults)
+    into(jmhBaseline.asFile.parentFile)
+    rename { jmhBaseline.asFile.name }
+}
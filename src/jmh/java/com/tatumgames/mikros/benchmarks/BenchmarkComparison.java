@@ -0,0 +1,112 @@
+package com.tatumgames.mikros.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against a baseline and fails when a benchmark regressed.
+ * <p>
+ * A benchmark regresses when its score is worse than the baseline by more than the threshold (lower
+ * is better for time modes, higher for throughput), or when its normalized allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) grew by more than the threshold. Benchmarks
+ * missing from either file are reported but do not fail the comparison.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <results.json> <thresholdPercent>}
+ */
+public class BenchmarkComparison {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    // Allocation changes below this many bytes per operation are noise (e.g. a boxed value)
+    private static final double ALLOCATION_NOISE_BYTES = 16.0;
+
+    private record Result(String mode, double score, String unit, Double allocatedBytes) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <results.json> <thresholdPercent>");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.isFile()) {
+            System.err.println("No baseline at " + baselineFile + "; record one with ./gradlew jmh jmhBaseline");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = read(baselineFile);
+        Map<String, Result> current = read(new File(args[1]));
+        double threshold = Double.parseDouble(args[2]) / 100.0;
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            String name = entry.getKey();
+            Result now = entry.getValue();
+            Result before = baseline.get(name);
+            if (before == null) {
+                System.out.printf("NEW        %s: %.3f %s%n", name, now.score(), now.unit());
+                continue;
+            }
+
+            // Positive change means worse
+            double change = now.mode().equals("thrpt")
+                    ? (before.score() - now.score()) / before.score()
+                    : (now.score() - before.score()) / before.score();
+            boolean slower = change > threshold;
+
+            boolean allocatesMore = false;
+            String allocation = "";
+            if (before.allocatedBytes() != null && now.allocatedBytes() != null) {
+                double grew = now.allocatedBytes() - before.allocatedBytes();
+                allocatesMore = grew > ALLOCATION_NOISE_BYTES
+                        && grew > before.allocatedBytes() * threshold;
+                allocation = String.format(", alloc %.0f -> %.0f B/op", before.allocatedBytes(), now.allocatedBytes());
+            }
+
+            String verdict = slower || allocatesMore ? "REGRESSED" : "ok";
+            if (slower || allocatesMore) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%% worse)%s%n",
+                    verdict, name, before.score(), now.score(), now.unit(), change * 100, allocation);
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("MISSING    %s%n", name);
+            }
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed past %.0f%%%n", regressions, threshold * 100);
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressed past " + args[2] + "%");
+    }
+
+    /**
+     * Reads a JMH JSON result file, keyed by benchmark name plus parameters.
+     */
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields().forEachRemaining(param ->
+                    name.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path("·" + ALLOCATION_METRIC);
+            if (allocation.isMissingNode()) {
+                allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            }
+            results.put(name.toString(), new Result(
+                    run.path("mode").asText(),
+                    primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(),
+                    allocation.isMissingNode() ? null : allocation.path("score").asDouble()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,82 @@
+package com.tatumgames.mikros.benchmarks;
+
+import com.tatumgames.mikros.games.rpg.model.CatalystType;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.EssenceType;
+import com.tatumgames.mikros.games.rpg.model.InfusionType;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacterCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary encoding and decoding of a long-played character with a stocked inventory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CharacterCodecBenchmarks {
+    private RPGCharacter character;
+    private ByteBuffer encodeBuffer;
+    private ByteBuffer encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        character = new RPGCharacter("402918374650192837", "Frostborne Vigil", CharacterClass.PRIEST);
+        character.addXp(40_000);
+        for (int i = 0; i < 120; i++) {
+            character.incrementExploreCount();
+            character.recordActionType(i % 4 == 0 ? "battle" : "explore");
+            character.incrementEnemiesKilled();
+        }
+        character.incrementBossesKilled();
+        character.incrementTimesResurrectedOthers();
+        character.recordDuel(true);
+        character.addStoryFlag("Echo of the Shattering");
+        character.setTitle("Frostborne's Chosen");
+        character.applyHeroicRefresh("918273645501928374", 42);
+        character.applyHeroicRefresh("102938475610293847", 7);
+        for (EssenceType essence : EssenceType.values()) {
+            character.getInventory().addEssence(essence, 3 + essence.ordinal());
+        }
+        for (CatalystType catalyst : CatalystType.values()) {
+            character.getInventory().addCatalyst(catalyst, 1 + catalyst.ordinal());
+        }
+        character.getInventory().setActiveInfusion(InfusionType.FROST_CLARITY);
+        character.addInfusionCrafted(InfusionType.FROST_CLARITY);
+        character.addInfusionCrafted(InfusionType.GALE_FORTUNE);
+
+        encodeBuffer = ByteBuffer.allocate(1024);
+        encoded = ByteBuffer.allocate(1024);
+        RPGCharacterCodec.encode(character, encoded);
+        encoded.flip();
+    }
+
+    @Benchmark
+    public int encodeCharacter() {
+        encodeBuffer.clear();
+        RPGCharacterCodec.encode(character, encodeBuffer);
+        return encodeBuffer.position();
+    }
+
+    @Benchmark
+    public RPGCharacter decodeCharacter() {
+        encoded.rewind();
+        return RPGCharacterCodec.decode(encoded);
+    }
+}
@@ -0,0 +1,132 @@
+package com.tatumgames.mikros.benchmarks;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.Mentions;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic, seeded inputs shared by the benchmarks.
+ */
+final class Fixtures {
+    private static final List<String> CHAT = List.of(
+            "gg everyone, that raid was close",
+            "anyone up for a match tonight?",
+            "just hit level 20 on my rogue",
+            "does anybody know when the next boss spawns",
+            "lol that clip was amazing",
+            "check the pinned message for the rules",
+            "thanks for the help earlier!",
+            "what time zone is the tournament in");
+
+    private static final List<String> PROMO = List.of(
+            "We're launching our game next Friday, wishlist it please",
+            "Our Steam page is live now, would love feedback",
+            "the demo goes live tomorrow for everyone",
+            "Kickstarter ends in three days, we are almost there",
+            "looking for help promoting my indie title",
+            "Trailer drops out this weekend, stay tuned");
+
+    private static final List<String> FLAGGED = List.of(
+            "you are such an idiot honestly",
+            "this is so stupid, what a loser move",
+            "WHY DOES NOBODY EVER READ THE CHANNEL RULES",
+            "shit, I missed the boss again",
+            "go die in a fire lol");
+
+    private static final List<String> LINKS = List.of(
+            "free nitro here https://disc0rd-gift.example/claim",
+            "my portfolio: https://example.com/art",
+            "join my server https://discord.gg/abcdef");
+
+    private Fixtures() {
+    }
+
+    /**
+     * Builds a message corpus: mostly chat, with promotion, flagged and link messages mixed in.
+     *
+     * @param size the number of messages
+     * @param seed the seed
+     * @return the messages
+     */
+    static List<String> messageCorpus(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> corpus = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int roll = random.nextInt(100);
+            List<String> pool = roll < 70 ? CHAT : roll < 82 ? PROMO : roll < 94 ? FLAGGED : LINKS;
+            String text = pool.get(random.nextInt(pool.size()));
+            // Vary the text so hashing and matching see distinct strings
+            corpus.add(random.nextInt(4) == 0 ? text + " #" + random.nextInt(1000) : text);
+        }
+        return corpus;
+    }
+
+    /**
+     * Creates a JDA message backed by a dynamic proxy that answers only what the moderation code reads.
+     *
+     * @param id       the message ID
+     * @param authorId the author's user ID
+     * @param content  the raw content
+     * @param mentions how many users the message mentions
+     * @return the message
+     */
+    static Message message(String id, String authorId, String content, int mentions) {
+        User author = stub(User.class, Map.of("getId", authorId, "getName", "user" + authorId, "isBot", false));
+        Guild guild = stub(Guild.class, Map.of("getId", "guild-1"));
+        MessageChannelUnion channel = stub(MessageChannelUnion.class, Map.of("getId", "channel-1", "getName", "general"));
+        Mentions mentioned = stub(Mentions.class, Map.of(
+                "getUsers", Collections.nCopies(mentions, author),
+                "getRoles", List.of()));
+        return stub(Message.class, Map.of(
+                "getId", id,
+                "getAuthor", author,
+                "getContentRaw", content,
+                "getGuild", guild,
+                "getChannel", channel,
+                "getMentions", mentioned));
+    }
+
+    /**
+     * Hashes content the way the bot detection service does, for multi-channel spam lookups.
+     *
+     * @param content the message content
+     * @return the lowercase hex SHA-256 of the content
+     */
+    static String contentHash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            return String.valueOf(content.hashCode());
+        }
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Object answer = answers.get(method.getName());
+            if (answer != null && (args == null || args.length == 0)) {
+                return answer;
+            }
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                case "toString" -> type.getSimpleName() + "Stub";
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,87 @@
+package com.tatumgames.mikros.benchmarks;
+
+import com.tatumgames.mikros.botdetection.tracker.MessagePatternTracker;
+import com.tatumgames.mikros.models.MessageSuggestion;
+import com.tatumgames.mikros.promo.service.PromoDetectionService;
+import com.tatumgames.mikros.services.MessageAnalysisService;
+import net.dv8tion.jda.api.entities.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message moderation paths: toxicity analysis, promotion trigger detection and multi-channel
+ * spam tracking, fed from a synthetic chat corpus.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModerationBenchmarks {
+    private static final int CORPUS_SIZE = 4_096;
+    private static final int USERS = 500;
+    private static final int CHANNELS = 12;
+
+    private List<String> corpus;
+    private List<String> hashes;
+    private Message[] messages;
+    private MessageAnalysisService analysisService;
+    private PromoDetectionService promoDetectionService;
+    private MessagePatternTracker patternTracker;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        corpus = Fixtures.messageCorpus(CORPUS_SIZE, 7L);
+        hashes = corpus.stream().map(Fixtures::contentHash).toList();
+        messages = new Message[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            messages[i] = Fixtures.message("m" + i, "u" + (i % USERS), corpus.get(i), i % 97 == 0 ? 6 : i % 3);
+        }
+        analysisService = new MessageAnalysisService();
+        promoDetectionService = new PromoDetectionService();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetTracker() {
+        // A fresh tracker per iteration keeps the per-user history the size it is in production
+        patternTracker = new MessagePatternTracker();
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (index + 1) & (CORPUS_SIZE - 1);
+        return index;
+    }
+
+    @Benchmark
+    public MessageSuggestion analyzeMessage() {
+        return analysisService.analyzeMessage(messages[nextIndex()]);
+    }
+
+    @Benchmark
+    public String detectPromoTrigger() {
+        return promoDetectionService.detectTrigger(corpus.get(nextIndex()));
+    }
+
+    @Benchmark
+    public boolean trackMessagePattern() {
+        int index = nextIndex();
+        String userId = "u" + (index % USERS);
+        patternTracker.recordMessage(userId, "c" + (index % CHANNELS), corpus.get(index));
+        return patternTracker.isMultiChannelSpam(userId, hashes.get(index), 3, 60);
+    }
+}
@@ -0,0 +1,154 @@
+package com.tatumgames.mikros.benchmarks;
+
+import com.tatumgames.mikros.games.rpg.actions.ExploreAction;
+import com.tatumgames.mikros.games.rpg.config.RPGConfig;
+import com.tatumgames.mikros.games.rpg.model.Boss;
+import com.tatumgames.mikros.games.rpg.model.BossType;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.games.rpg.service.BossService;
+import com.tatumgames.mikros.games.rpg.service.CharacterService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierService;
+import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
+import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
+import com.tatumgames.mikros.services.RngService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RPG hot paths against a populated character store: an explore action, an attack on a busy boss
+ * fight and a leaderboard read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RpgBenchmarks {
+    private static final String GUILD_ID = "bench-guild";
+    private static final int CHARACTERS = 10_000;
+    private static final int ATTACK_THREADS = 4;
+
+    /**
+     * A guild with {@link #CHARACTERS} characters of mixed classes and levels and an active boss.
+     */
+    @State(Scope.Benchmark)
+    public static class World {
+        CharacterService characterService;
+        BossService bossService;
+        ExploreAction exploreAction;
+        RPGConfig config;
+        List<RPGCharacter> characters;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            characterService = new CharacterService(new RngService(11L));
+            GuildModifierService guildModifierService = new GuildModifierService();
+            WorldCurseService worldCurseService = new WorldCurseService(guildModifierService);
+            LoreRecognitionService loreRecognitionService = new LoreRecognitionService();
+            bossService = new BossService(characterService, guildModifierService, worldCurseService,
+                    loreRecognitionService);
+            exploreAction = new ExploreAction(guildModifierService, loreRecognitionService);
+            config = new RPGConfig(GUILD_ID);
+
+            SplittableRandom random = new SplittableRandom(11L);
+            CharacterClass[] classes = CharacterClass.values();
+            characters = new ArrayList<>(CHARACTERS);
+            for (int i = 0; i < CHARACTERS; i++) {
+                RPGCharacter character = characterService.registerCharacter(
+                        "user-" + i, "Hero" + i, classes[i % classes.length]);
+                character.addXp(random.nextInt(50_000));
+                characterService.recordGuildActivity(character.getDiscordId(), GUILD_ID);
+                characters.add(character);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            bossService.shutdown();
+        }
+    }
+
+    /**
+     * A fresh boss fight per iteration, with enough HP to outlast it.
+     */
+    @State(Scope.Benchmark)
+    public static class BossFight {
+        Boss boss;
+
+        @Setup(Level.Iteration)
+        public void spawnBoss(World world) {
+            // Spawn for the fight's tally and epoch, then swap in a boss that survives a whole iteration
+            world.bossService.spawnNormalBoss(GUILD_ID);
+            boss = new Boss("bench-boss", "Endless Colossus", BossType.GIANT, 10, Integer.MAX_VALUE, 50);
+            world.bossService.getState(GUILD_ID).setCurrentBoss(boss);
+        }
+
+        @TearDown(Level.Iteration)
+        public void checkBossSurvived() {
+            if (boss.isDefeated()) {
+                throw new IllegalStateException("The boss died mid-iteration, so later attacks measured misses");
+            }
+        }
+    }
+
+    /**
+     * Each benchmark thread cycles through its own slice of the characters, so threads contend on
+     * the boss but not on character locks.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private static final AtomicInteger threads = new AtomicInteger();
+        private int offset;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            offset = threads.getAndIncrement() % ATTACK_THREADS * (CHARACTERS / ATTACK_THREADS);
+        }
+
+        RPGCharacter next(World world) {
+            RPGCharacter character = world.characters.get(offset + next);
+            next = (next + 1) % (CHARACTERS / ATTACK_THREADS);
+            return character;
+        }
+    }
+
+    @Benchmark
+    public RPGActionOutcome exploreAction(World world, Cursor cursor) {
+        RPGCharacter character = cursor.next(world);
+        character.setActionCharges(character.getMaxActionCharges());
+        return world.exploreAction.execute(character, world.config);
+    }
+
+    @Benchmark
+    @Threads(ATTACK_THREADS)
+    public int attackBusyBoss(World world, BossFight fight, Cursor cursor) {
+        RPGCharacter character = cursor.next(world);
+        world.characterService.withCharacterLock(character.getDiscordId(), character::refreshHeroicCharges);
+        return world.bossService.attackBoss(GUILD_ID, character);
+    }
+
+    @Benchmark
+    public List<RPGCharacter> leaderboardTop10(World world) {
+        return world.characterService.getLeaderboard(10);
+    }
+}
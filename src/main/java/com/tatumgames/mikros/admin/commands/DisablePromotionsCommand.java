@@ -2,6 +2,7 @@ package com.tatumgames.mikros.admin.commands;
 
 import com.tatumgames.mikros.admin.handler.CommandHandler;
 import com.tatumgames.mikros.services.GamePromotionService;
+import com.tatumgames.mikros.services.scheduler.GamePromotionScheduler;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
@@ -20,14 +21,18 @@ import org.slf4j.LoggerFactory;
 public class DisablePromotionsCommand implements CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(DisablePromotionsCommand.class);
     private final GamePromotionService gamePromotionService;
+    private final GamePromotionScheduler gamePromotionScheduler;
 
     /**
      * Creates a new DisablePromotionsCommand handler.
      *
-     * @param gamePromotionService the game promotion service
+     * @param gamePromotionService   the game promotion service
+     * @param gamePromotionScheduler the game promotion scheduler (re-keyed on configuration changes)
      */
-    public DisablePromotionsCommand(GamePromotionService gamePromotionService) {
+    public DisablePromotionsCommand(GamePromotionService gamePromotionService,
+                                    GamePromotionScheduler gamePromotionScheduler) {
         this.gamePromotionService = gamePromotionService;
+        this.gamePromotionScheduler = gamePromotionScheduler;
     }
 
     @Override
@@ -76,6 +81,7 @@ public class DisablePromotionsCommand implements CommandHandler {
             // In a database implementation, this would clear all related data
             gamePromotionService.setPromotionChannel(guild.getId(), null);
         }
+        gamePromotionScheduler.rescheduleGuild(guild.getId());
 
         // Send confirmation
         String message = """
@@ -177,6 +177,7 @@ public class PromotionConfigCommand implements CommandHandler {
 
         // Update channel
         gamePromotionService.setPromotionChannel(guildId, channel.getId());
+        gamePromotionScheduler.rescheduleGuild(guildId);
 
         event.reply(String.format("✅ Promotion channel updated to %s", channel.getAsMention())).queue();
         logger.info("Promotion channel updated to {} for guild {}", channel.getId(), guildId);
@@ -211,6 +212,7 @@ public class PromotionConfigCommand implements CommandHandler {
 
         // Save the configuration
         gamePromotionService.setPromotionVerbosity(guildId, verbosity);
+        gamePromotionScheduler.rescheduleGuild(guildId);
 
         // Send confirmation
         String message = String.format("""
@@ -256,6 +258,7 @@ public class PromotionConfigCommand implements CommandHandler {
             // In a database implementation, this would clear all related data
             gamePromotionService.setPromotionChannel(guildId, null);
         }
+        gamePromotionScheduler.rescheduleGuild(guildId);
 
         // Send confirmation
         String message = """
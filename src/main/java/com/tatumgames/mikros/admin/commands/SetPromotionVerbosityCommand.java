@@ -3,6 +3,7 @@ package com.tatumgames.mikros.admin.commands;
 import com.tatumgames.mikros.admin.handler.CommandHandler;
 import com.tatumgames.mikros.models.PromotionVerbosity;
 import com.tatumgames.mikros.services.GamePromotionService;
+import com.tatumgames.mikros.services.scheduler.GamePromotionScheduler;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
@@ -24,14 +25,18 @@ import org.slf4j.LoggerFactory;
 public class SetPromotionVerbosityCommand implements CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(SetPromotionVerbosityCommand.class);
     private final GamePromotionService gamePromotionService;
+    private final GamePromotionScheduler gamePromotionScheduler;
 
     /**
      * Creates a new SetPromotionVerbosityCommand handler.
      *
-     * @param gamePromotionService the game promotion service
+     * @param gamePromotionService   the game promotion service
+     * @param gamePromotionScheduler the game promotion scheduler (re-keyed on configuration changes)
      */
-    public SetPromotionVerbosityCommand(GamePromotionService gamePromotionService) {
+    public SetPromotionVerbosityCommand(GamePromotionService gamePromotionService,
+                                        GamePromotionScheduler gamePromotionScheduler) {
         this.gamePromotionService = gamePromotionService;
+        this.gamePromotionScheduler = gamePromotionScheduler;
     }
 
     @Override
@@ -93,6 +98,7 @@ public class SetPromotionVerbosityCommand implements CommandHandler {
 
         // Save the configuration
         gamePromotionService.setPromotionVerbosity(guildId, verbosity);
+        gamePromotionScheduler.rescheduleGuild(guildId);
 
         // Send confirmation
         String message = String.format("""
@@ -3,6 +3,7 @@ package com.tatumgames.mikros.admin.commands;
 import com.tatumgames.mikros.admin.handler.CommandHandler;
 import com.tatumgames.mikros.admin.utils.AdminUtils;
 import com.tatumgames.mikros.services.GamePromotionService;
+import com.tatumgames.mikros.services.scheduler.GamePromotionScheduler;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
@@ -23,14 +24,18 @@ import org.slf4j.LoggerFactory;
 public class SetupPromotionChannelCommand implements CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(SetupPromotionChannelCommand.class);
     private final GamePromotionService gamePromotionService;
+    private final GamePromotionScheduler gamePromotionScheduler;
 
     /**
      * Creates a new SetupPromotionChannelCommand handler.
      *
-     * @param gamePromotionService the game promotion service
+     * @param gamePromotionService   the game promotion service
+     * @param gamePromotionScheduler the game promotion scheduler (re-keyed on configuration changes)
      */
-    public SetupPromotionChannelCommand(GamePromotionService gamePromotionService) {
+    public SetupPromotionChannelCommand(GamePromotionService gamePromotionService,
+                                        GamePromotionScheduler gamePromotionScheduler) {
         this.gamePromotionService = gamePromotionService;
+        this.gamePromotionScheduler = gamePromotionScheduler;
     }
 
     @Override
@@ -64,6 +69,7 @@ public class SetupPromotionChannelCommand implements CommandHandler {
         String channelId = channel.getId();
 
         gamePromotionService.setPromotionChannel(guildId, channelId);
+        gamePromotionScheduler.rescheduleGuild(guildId);
 
         // Send confirmation
         event.reply(String.format(
@@ -127,6 +127,30 @@ public class TatumGamesApiClient {
         });
     }
 
+    /**
+     * Performs a conditional GET request to a custom base URL with X-Apikey header.
+     * Sends If-None-Match / If-Modified-Since when validators from a previous response are supplied,
+     * so an unchanged resource costs a 304 instead of a full download and deserialization.
+     *
+     * @param baseUrl       the base URL for the API (can be different from default)
+     * @param endpoint      the endpoint path
+     * @param apiKey        the API key for X-Apikey header
+     * @param etag          the ETag from the previous response (can be null)
+     * @param lastModified  the Last-Modified value from the previous response (can be null)
+     * @param responseClass the expected response class
+     * @param <T>           the response type
+     * @return the conditional response (body is null when not modified)
+     * @throws ApiException if the request fails after retries
+     */
+    public <T> ConditionalResponse<T> getWithApiKeyConditional(String baseUrl, String endpoint, String apiKey,
+                                                              String etag, String lastModified,
+                                                              Class<T> responseClass) throws ApiException {
+        return executeWithRetry(() -> {
+            HttpRequest request = buildConditionalRequest(baseUrl, endpoint, apiKey, etag, lastModified);
+            return executeConditionalRequest(request, responseClass);
+        });
+    }
+
     /**
      * Builds an HTTP request with authentication and headers.
      *
@@ -204,6 +228,87 @@ public class TatumGamesApiClient {
         return builder.build();
     }
 
+    /**
+     * Builds a GET request carrying cache validators.
+     *
+     * @param baseUrl      the base URL
+     * @param endpoint     the endpoint path
+     * @param apiKey       the API key for X-Apikey header
+     * @param etag         the ETag validator (can be null)
+     * @param lastModified the Last-Modified validator (can be null)
+     * @return the HTTP request
+     * @throws ApiException if the request cannot be built
+     */
+    private HttpRequest buildConditionalRequest(String baseUrl, String endpoint, String apiKey,
+                                                String etag, String lastModified) throws ApiException {
+        HttpRequest base = buildRequestWithApiKey("GET", baseUrl, endpoint, null, apiKey);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base, (name, value) -> true);
+
+        if (etag != null && !etag.isBlank()) {
+            builder.header("If-None-Match", etag);
+        }
+        if (lastModified != null && !lastModified.isBlank()) {
+            builder.header("If-Modified-Since", lastModified);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Executes a conditional HTTP request, treating 304 Not Modified as success.
+     *
+     * @param request       the HTTP request
+     * @param responseClass the expected response class
+     * @param <T>           the response type
+     * @return the conditional response
+     * @throws ApiException if the request fails
+     */
+    private <T> ConditionalResponse<T> executeConditionalRequest(HttpRequest request, Class<T> responseClass)
+            throws ApiException {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            String etag = response.headers().firstValue("ETag").orElse(null);
+            String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+
+            if (response.statusCode() == 304) {
+                logger.debug("Resource not modified: {}", request.uri());
+                return new ConditionalResponse<>(null, etag, lastModified, true);
+            }
+
+            if (response.statusCode() == 429) {
+                handleRateLimit(response);
+                throw new ApiException("Rate limit exceeded", response.statusCode());
+            }
+
+            if (response.statusCode() >= 400) {
+                logger.warn("Conditional request failed with status {}", response.statusCode());
+                throw new ApiException("Request failed: " + response.statusCode(), response.statusCode());
+            }
+
+            String responseBody = response.body();
+            if (responseBody == null || responseBody.isBlank()) {
+                logger.warn("Empty response body from API");
+                return new ConditionalResponse<>(null, etag, lastModified, false);
+            }
+
+            try {
+                return new ConditionalResponse<>(objectMapper.readValue(responseBody, responseClass),
+                        etag, lastModified, false);
+            } catch (Exception e) {
+                logger.error("Failed to parse API response", e);
+                throw new ApiException("Failed to parse response", e);
+            }
+
+        } catch (IOException e) {
+            logger.error("IO error during API request", e);
+            throw new ApiException("Network error", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Request interrupted", e);
+            throw new ApiException("Request interrupted", e);
+        }
+    }
+
     /**
      * Executes an HTTP request and parses the response.
      *
@@ -348,6 +453,41 @@ public class TatumGamesApiClient {
         T get() throws ApiException;
     }
 
+    /**
+     * Result of a conditional GET request.
+     *
+     * @param <T> the response type
+     */
+    public static class ConditionalResponse<T> {
+        private final T body;
+        private final String etag;
+        private final String lastModified;
+        private final boolean notModified;
+
+        public ConditionalResponse(T body, String etag, String lastModified, boolean notModified) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.notModified = notModified;
+        }
+
+        public T getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public boolean isNotModified() {
+            return notModified;
+        }
+    }
+
     /**
      * Exception thrown when API requests fail.
      */
@@ -9,14 +9,18 @@ import com.tatumgames.mikros.games.rpg.service.ActionService;
 import com.tatumgames.mikros.games.rpg.service.BossScheduler;
 import com.tatumgames.mikros.games.rpg.service.AchievementService;
 import com.tatumgames.mikros.games.rpg.service.AuraService;
+import com.tatumgames.mikros.games.rpg.service.BossAttackBatcher;
 import com.tatumgames.mikros.games.rpg.service.BossService;
 import com.tatumgames.mikros.games.rpg.service.CharacterService;
 import com.tatumgames.mikros.games.rpg.service.CraftingService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierService;
 import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
+import com.tatumgames.mikros.games.rpg.service.MafiaMembershipService;
 import com.tatumgames.mikros.games.rpg.service.NilfheimEventService;
 import com.tatumgames.mikros.games.rpg.service.InMemoryNilfheimEventService;
 import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
 import com.tatumgames.mikros.games.rpg.scheduler.NilfheimEventScheduler;
+import com.tatumgames.mikros.games.rpg.listener.MafiaMembershipListener;
 import com.tatumgames.mikros.games.word_unscramble.commands.GameConfigCommand;
 import com.tatumgames.mikros.games.word_unscramble.commands.GameSetupCommand;
 import com.tatumgames.mikros.games.word_unscramble.commands.ScrambleGuessCommand;
@@ -35,6 +39,9 @@ import com.tatumgames.mikros.promo.service.PromoDetectionService;
 import com.tatumgames.mikros.services.*;
 import com.tatumgames.mikros.services.RealGamePromotionService;
 import com.tatumgames.mikros.services.PromotionOnboardingService;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import com.tatumgames.mikros.scheduling.ScheduleLedger;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
 import com.tatumgames.mikros.services.scheduler.GamePromotionScheduler;
 import com.tatumgames.mikros.services.scheduler.PromotionOnboardingScheduler;
 import com.tatumgames.mikros.bump.service.BumpService;
@@ -59,6 +66,7 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -79,7 +87,10 @@ public class BotMain extends ListenerAdapter {
     @SuppressWarnings("unused")
     private final AutoEscalationService autoEscalationService; // Reserved for future auto-escalation features
     private final MonthlyReportService monthlyReportService;
+    private final AnnouncementDispatcher announcementDispatcher;
+    private final SchedulingRuntime schedulingRuntime;
     private final GamePromotionService gamePromotionService;
+    private final AppCatalogCache appCatalogCache;
     private final GamePromotionScheduler gamePromotionScheduler;
     private final PromotionOnboardingService promotionOnboardingService;
     private final PromotionOnboardingScheduler promotionOnboardingScheduler;
@@ -88,11 +99,15 @@ public class BotMain extends ListenerAdapter {
     private final WordUnscrambleService wordUnscrambleService;
     private final WordUnscrambleResetScheduler wordUnscrambleResetScheduler;
     private final CharacterService characterService;
+    private final MafiaMembershipService mafiaMembershipService;
+    private final MafiaMembershipListener mafiaMembershipListener;
     private final ActionService actionService;
     private final AchievementService achievementService;
+    private final GuildModifierService guildModifierService;
     private final AuraService auraService;
     private final WorldCurseService worldCurseService;
     private final BossService bossService;
+    private final BossAttackBatcher bossAttackBatcher;
     private final BossScheduler bossScheduler;
     private final PromoDetectionService promoService;
     private final PromoMessageListener promoListener;
@@ -134,7 +149,10 @@ public class BotMain extends ListenerAdapter {
         this.activityTrackingService = new ActivityTrackingService();
         this.messageAnalysisService = new MessageAnalysisService();
         this.autoEscalationService = new AutoEscalationService(moderationLogService);
-        this.monthlyReportService = new MonthlyReportService(moderationLogService, activityTrackingService);
+        this.announcementDispatcher = new AnnouncementDispatcher();
+        this.schedulingRuntime = new SchedulingRuntime(ScheduleLedger.load(Path.of(config.getScheduleLedgerPath())));
+        this.monthlyReportService = new MonthlyReportService(moderationLogService, activityTrackingService,
+                announcementDispatcher, schedulingRuntime);
 
         // Initialize game promotion service (use real API if key is configured, otherwise use mock)
         if (config.getMikrosApiKey() != null && !config.getMikrosApiKey().isBlank()) {
@@ -145,30 +163,44 @@ public class BotMain extends ListenerAdapter {
             this.gamePromotionService = new InMemoryGamePromotionService();
         }
 
-        this.gamePromotionScheduler = new GamePromotionScheduler(gamePromotionService);
+        this.appCatalogCache = new AppCatalogCache(gamePromotionService, schedulingRuntime);
+        this.gamePromotionScheduler = new GamePromotionScheduler(gamePromotionService, appCatalogCache,
+                announcementDispatcher, schedulingRuntime);
         this.promotionOnboardingService = new PromotionOnboardingService();
         this.promotionOnboardingScheduler = new PromotionOnboardingScheduler(
                 promotionOnboardingService,
-                gamePromotionService
+                gamePromotionService,
+                schedulingRuntime
         );
         this.tatumTechEventScheduler = new com.tatumgames.mikros.tatumtech.scheduler.TatumTechEventScheduler(
                 gamePromotionService,
+                appCatalogCache,
                 config.getTatumTechRecapMonthYear(),
-                config.getTatumTechRecapVideoUrl()
+                config.getTatumTechRecapVideoUrl(),
+                announcementDispatcher,
+                schedulingRuntime
         );
         this.gameStatsService = new MockGameStatsService();
         this.wordUnscrambleService = new WordUnscrambleService();
-        this.wordUnscrambleResetScheduler = new WordUnscrambleResetScheduler(wordUnscrambleService);
-        this.characterService = new CharacterService();
+        this.wordUnscrambleResetScheduler = new WordUnscrambleResetScheduler(wordUnscrambleService,
+                announcementDispatcher, schedulingRuntime);
+        this.characterService = new CharacterService(config.getRpgRngSeed() != null
+                ? new RngService(config.getRpgRngSeed()) : new RngService());
+        this.mafiaMembershipService = new MafiaMembershipService(config.getMafiaGuildId());
+        this.mafiaMembershipListener = new MafiaMembershipListener(mafiaMembershipService);
         this.achievementService = new AchievementService();
-        this.auraService = new AuraService();
-        this.worldCurseService = new WorldCurseService();
-        this.nilfheimEventService = new InMemoryNilfheimEventService();
+        this.guildModifierService = new GuildModifierService();
+        this.auraService = new AuraService(guildModifierService);
+        this.worldCurseService = new WorldCurseService(guildModifierService);
+        this.nilfheimEventService = new InMemoryNilfheimEventService(guildModifierService);
         this.loreRecognitionService = new LoreRecognitionService();
-        this.actionService = new ActionService(characterService, worldCurseService, auraService, nilfheimEventService, loreRecognitionService);
-        this.bossService = new BossService(characterService, auraService, worldCurseService, nilfheimEventService, loreRecognitionService);
-        this.bossScheduler = new BossScheduler(bossService, characterService, worldCurseService);
-        this.nilfheimEventScheduler = new NilfheimEventScheduler(nilfheimEventService, characterService);
+        this.actionService = new ActionService(characterService, guildModifierService, loreRecognitionService);
+        this.bossService = new BossService(characterService, guildModifierService, worldCurseService, loreRecognitionService);
+        this.bossAttackBatcher = new BossAttackBatcher(bossService);
+        this.bossScheduler = new BossScheduler(bossService, characterService, worldCurseService,
+                announcementDispatcher, schedulingRuntime);
+        this.nilfheimEventScheduler = new NilfheimEventScheduler(nilfheimEventService, characterService,
+                schedulingRuntime);
         this.promoService = new PromoDetectionService();
         this.promoListener = new PromoMessageListener(promoService);
         this.honeypotService = new HoneypotService();
@@ -178,7 +210,7 @@ public class BotMain extends ListenerAdapter {
         this.botDetectionListener = new com.tatumgames.mikros.botdetection.listener.BotDetectionMessageListener(
                 botDetectionService, reputationService);
         this.bumpService = new InMemoryBumpService();
-        this.bumpScheduler = new BumpScheduler(bumpService);
+        this.bumpScheduler = new BumpScheduler(bumpService, schedulingRuntime);
         this.bumpDetectionListener = new BumpDetectionListener(bumpService);
 
         // Register command handlers
@@ -199,6 +231,7 @@ public class BotMain extends ListenerAdapter {
 
             // Create bot instance
             BotMain bot = new BotMain();
+            Runtime.getRuntime().addShutdownHook(new Thread(bot::shutdown, "bot-shutdown"));
 
             // Build and start JDA
             JDA jda = JDABuilder.createDefault(config.getBotToken())
@@ -209,7 +242,8 @@ public class BotMain extends ListenerAdapter {
                             GatewayIntent.MESSAGE_CONTENT
                     )
                     .setActivity(Activity.playing("Moderating with style 🎮"))
-                    .addEventListeners(bot, bot.promoListener, bot.honeypotListener, bot.botDetectionListener, bot.bumpDetectionListener)
+                    .addEventListeners(bot, bot.promoListener, bot.honeypotListener, bot.botDetectionListener, bot.bumpDetectionListener,
+                            bot.mafiaMembershipListener)
                     .build();
 
             // Wait for JDA to be ready
@@ -242,7 +276,7 @@ public class BotMain extends ListenerAdapter {
         registerHandler(new LookupCommand(reputationService, config));
 
         // Game Promotion commands
-        registerHandler(new SetupPromotionChannelCommand(gamePromotionService));
+        registerHandler(new SetupPromotionChannelCommand(gamePromotionService, gamePromotionScheduler));
         registerHandler(new PromotionConfigCommand(gamePromotionService, gamePromotionScheduler));
 
         // Auto-Bump commands
@@ -261,17 +295,17 @@ public class BotMain extends ListenerAdapter {
         registerHandler(new com.tatumgames.mikros.games.word_unscramble.commands.GameStatsCommand(wordUnscrambleService));
         registerHandler(new ScrambleProfileCommand(wordUnscrambleService));
         registerHandler(new ScrambleLeaderboardCommand(wordUnscrambleService));
-        registerHandler(new GameConfigCommand(wordUnscrambleService));
+        registerHandler(new GameConfigCommand(wordUnscrambleService, wordUnscrambleResetScheduler));
 
         // RPG System commands
         registerHandler(new RPGRegisterCommand(characterService));
         registerHandler(new RPGProfileCommand(characterService, worldCurseService));
-        registerHandler(new RPGActionCommand(characterService, actionService, achievementService, worldCurseService));
+        registerHandler(new RPGActionCommand(characterService, actionService, achievementService, guildModifierService));
         registerHandler(new RPGResurrectCommand(characterService, worldCurseService, loreRecognitionService));
-        registerHandler(new RPGBossBattleCommand(characterService, bossService, worldCurseService));
-        registerHandler(new RPGLeaderboardCommand(characterService, config));
+        registerHandler(new RPGBossBattleCommand(characterService, bossService, worldCurseService, bossAttackBatcher));
+        registerHandler(new RPGLeaderboardCommand(characterService, mafiaMembershipService));
         registerHandler(new RPGSetupCommand(characterService, bossService));
-        registerHandler(new RPGConfigCommand(characterService));
+        registerHandler(new RPGConfigCommand(characterService, bossScheduler));
         registerHandler(new RPGResetCommand(characterService, bossService));
         registerHandler(new RPGStatsCommand(characterService));
         registerHandler(new RPGDuelCommand(characterService));
@@ -319,10 +353,17 @@ public class BotMain extends ListenerAdapter {
         // Register slash commands globally
         registerSlashCommands(event.getJDA());
 
+        // Start the shared scheduling runtime (all schedulers below register tasks with it)
+        schedulingRuntime.start();
+
         // Start monthly report scheduler
         monthlyReportService.startScheduler(event.getJDA());
         logger.info("Monthly report scheduler started");
 
+        // Start shared app catalog refresh (one /getAllApps fetch for all guilds)
+        appCatalogCache.start();
+        logger.info("App catalog cache started");
+
         // Start game promotion scheduler
         gamePromotionScheduler.start(event.getJDA());
         logger.info("Game promotion scheduler started");
@@ -357,6 +398,18 @@ public class BotMain extends ListenerAdapter {
         logger.info("Nilfheim event scheduler started");
     }
 
+    /**
+     * Stops all background work: scheduled tasks (including the catalog refresh), the announcement
+     * dispatcher, the boss attack batcher and the boss defeat handler.
+     */
+    public void shutdown() {
+        logger.info("Shutting down schedulers...");
+        schedulingRuntime.shutdown();
+        announcementDispatcher.shutdown();
+        bossAttackBatcher.shutdown();
+        bossService.shutdown();
+    }
+
     /**
      * Registers all slash commands with Discord.
      *
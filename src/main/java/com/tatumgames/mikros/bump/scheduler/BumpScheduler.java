@@ -2,6 +2,9 @@ package com.tatumgames.mikros.bump.scheduler;
 
 import com.tatumgames.mikros.bump.model.BumpConfig;
 import com.tatumgames.mikros.bump.service.BumpService;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
@@ -18,9 +21,6 @@ import java.awt.Color;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.EnumSet;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Scheduler for automatic server bumping.
@@ -31,6 +31,9 @@ public class BumpScheduler {
     private static final Logger logger = LoggerFactory.getLogger(BumpScheduler.class);
     
     private static final long CHECK_INTERVAL_MINUTES = 15;
+    private static final String SUBSYSTEM = "bump";
+    private static final TaskKey CHECK_TASK = TaskKey.global(SUBSYSTEM);
+    private static final String LAST_BUMP_MARK_PREFIX = "last-bump:";
     
     // External bot rate limits (conservative estimates)
     private static final long DISBOARD_MIN_COOLDOWN_HOURS = 2; // Disboard requires 2h between bumps
@@ -41,21 +44,18 @@ public class BumpScheduler {
     private static final long DISURL_BOT_ID = 823495039178932224L;   // Disurl bot ID (approximate, may need verification)
     
     private final BumpService bumpService;
-    private final ScheduledExecutorService scheduler;
+    private final SchedulingRuntime schedulingRuntime;
     private JDA jda;
     
     /**
      * Creates a new BumpScheduler.
      *
-     * @param bumpService the bump service
+     * @param bumpService       the bump service
+     * @param schedulingRuntime the shared scheduling runtime
      */
-    public BumpScheduler(BumpService bumpService) {
+    public BumpScheduler(BumpService bumpService, SchedulingRuntime schedulingRuntime) {
         this.bumpService = bumpService;
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "bump-scheduler");
-            t.setDaemon(true);
-            return t;
-        });
+        this.schedulingRuntime = schedulingRuntime;
         logger.info("BumpScheduler initialized");
     }
     
@@ -68,14 +68,15 @@ public class BumpScheduler {
         this.jda = jda;
         
         // Run check every 15 minutes
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                logger.debug("Bump scheduler check triggered");
-                checkAndExecuteBumps();
-            } catch (Exception e) {
-                logger.error("Error in bump scheduler", e);
-            }
-        }, 0, CHECK_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        schedulingRuntime.schedule(CHECK_TASK,
+                Trigger.every(Duration.ofMinutes(CHECK_INTERVAL_MINUTES), Duration.ZERO), () -> {
+                    try {
+                        logger.debug("Bump scheduler check triggered");
+                        checkAndExecuteBumps();
+                    } catch (Exception e) {
+                        logger.error("Error in bump scheduler", e);
+                    }
+                });
         
         logger.info("Bump scheduler started (checks every {} minutes)", CHECK_INTERVAL_MINUTES);
     }
@@ -84,8 +85,7 @@ public class BumpScheduler {
      * Stops the bump scheduler.
      */
     public void stop() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
+        if (schedulingRuntime.cancel(CHECK_TASK)) {
             logger.info("Bump scheduler stopped");
         }
     }
@@ -145,6 +145,8 @@ public class BumpScheduler {
                 if (shouldBump(guild, bot, config, intervalHours, now)) {
                     sendBumpCommand(channel, bot);
                     bumpService.recordBumpTime(guildId, bot, now);
+                    schedulingRuntime.getLedger().setMark(TaskKey.of(SUBSYSTEM, guildId),
+                            LAST_BUMP_MARK_PREFIX + bot.name(), now);
                     logger.info("Executed bump for bot {} in guild {}", bot.getDisplayName(), guildId);
                 }
             } catch (Exception e) {
@@ -171,8 +173,12 @@ public class BumpScheduler {
             return false;
         }
         
-        // Check last bump time
+        // Check last bump time (falling back to the ledger, which survives restarts)
         Instant lastBump = config.getLastBumpTime(bot);
+        if (lastBump == null) {
+            lastBump = schedulingRuntime.getLedger().getMark(TaskKey.of(SUBSYSTEM, guild.getId()),
+                    LAST_BUMP_MARK_PREFIX + bot.name());
+        }
         if (lastBump == null) {
             // Never bumped before, allow it
             return true;
@@ -76,6 +76,8 @@ public class ConfigLoader {
     private final String reputationApiUrl;
     private final String tatumTechRecapMonthYear;
     private final String tatumTechRecapVideoUrl;
+    private final String scheduleLedgerPath;
+    private final Long rpgRngSeed;
 
     /**
      * Creates a new ConfigLoader instance and loads configuration.
@@ -227,6 +229,17 @@ public class ConfigLoader {
         this.tatumTechRecapMonthYear = getEnv("TATUM_TECH_RECAP_MONTH_YEAR", "October 2025");
         this.tatumTechRecapVideoUrl = getEnv("TATUM_TECH_RECAP_VIDEO_URL", "https://youtu.be/_0JZcW_Eo3E");
 
+        // Load scheduler state location (optional - has default)
+        this.scheduleLedgerPath = getEnv("SCHEDULE_LEDGER_PATH", "data/schedule-ledger.json");
+
+        // Load RPG random seed (optional - random per run if unset; set it to replay outcomes)
+        String rngSeed = getEnv("RPG_RNG_SEED", "");
+        try {
+            this.rpgRngSeed = rngSeed.isBlank() ? null : Long.parseLong(rngSeed.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("RPG_RNG_SEED must be a 64-bit integer: " + rngSeed, e);
+        }
+
         logger.info("Configuration loaded successfully");
     }
 
@@ -375,4 +388,22 @@ public class ConfigLoader {
     public String getTatumTechRecapVideoUrl() {
         return tatumTechRecapVideoUrl;
     }
+
+    /**
+     * Gets the path of the file scheduler state is persisted to.
+     *
+     * @return the schedule ledger path (defaults to "data/schedule-ledger.json")
+     */
+    public String getScheduleLedgerPath() {
+        return scheduleLedgerPath;
+    }
+
+    /**
+     * Gets the seed for RPG randomness.
+     *
+     * @return the configured seed, or null to pick a random one at startup
+     */
+    public Long getRpgRngSeed() {
+        return rpgRngSeed;
+    }
 }
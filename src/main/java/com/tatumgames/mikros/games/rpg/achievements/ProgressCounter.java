@@ -0,0 +1,39 @@
+package com.tatumgames.mikros.games.rpg.achievements;
+
+/**
+ * Character counters that progress rules (lore recognitions, achievements) can depend on.
+ * <p>
+ * {@link com.tatumgames.mikros.games.rpg.model.RPGCharacter} marks a counter changed whenever it
+ * updates it, and {@link ProgressRuleEngine} re-evaluates only the rules that depend on a changed
+ * counter. Each counter is one bit of a {@code long} mask, so there can be at most 64.
+ */
+public enum ProgressCounter {
+    LEVEL,
+    STATS, // Strength, agility, intelligence, luck and max HP
+    BOSS_KILLS,
+    SUPER_BOSS_KILLS,
+    EXPLORES,
+    RESTS,
+    DEATHS,
+    RESURRECTIONS_RECEIVED,
+    RESURRECTIONS_PERFORMED,
+    CURSED_RESURRECTIONS,
+    CHARGES_DONATED,
+    EXPLORE_STREAK,
+    TRAIN_STREAK,
+    REST_STREAK,
+    BATTLE_STREAK,
+    CURSED_BOSS_FIGHTS,
+    ACTED_DURING_BOTH_CURSES,
+    INFUSIONS_CRAFTED,
+    STORY_FLAGS;
+
+    /**
+     * Gets this counter's bit in a changed-counter mask.
+     *
+     * @return the bit
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+}
@@ -0,0 +1,43 @@
+package com.tatumgames.mikros.games.rpg.achievements;
+
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A lore recognition or achievement condition, with the counters it reads.
+ * <p>
+ * The condition must read only the declared counters (plus fixed properties such as the character
+ * class); a rule is re-evaluated only after one of them changes.
+ *
+ * @param reward    what the rule grants (a story flag or achievement type)
+ * @param dependsOn the counters the condition reads
+ * @param condition whether the character qualifies
+ * @param <T>       the reward type
+ */
+public record ProgressRule<T>(T reward, Set<ProgressCounter> dependsOn, Predicate<RPGCharacter> condition) {
+
+    public ProgressRule {
+        if (dependsOn.isEmpty()) {
+            throw new IllegalArgumentException("Rule for " + reward + " depends on no counters, so it would never run");
+        }
+        dependsOn = Set.copyOf(dependsOn);
+    }
+
+    /**
+     * Creates a rule.
+     *
+     * @param reward    what the rule grants
+     * @param condition whether the character qualifies
+     * @param first     a counter the condition reads
+     * @param rest      further counters the condition reads
+     * @param <T>       the reward type
+     * @return the rule
+     */
+    public static <T> ProgressRule<T> of(T reward, Predicate<RPGCharacter> condition,
+                                         ProgressCounter first, ProgressCounter... rest) {
+        return new ProgressRule<>(reward, EnumSet.of(first, rest), condition);
+    }
+}
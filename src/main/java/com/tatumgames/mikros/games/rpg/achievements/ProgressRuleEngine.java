@@ -0,0 +1,103 @@
+package com.tatumgames.mikros.games.rpg.achievements;
+
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates a set of progress rules incrementally.
+ * <p>
+ * Rules are indexed by the counters they depend on. {@link #evaluate} takes the counters that
+ * changed on the character since this rule set last looked, and tests only the rules that depend on
+ * them, so the cost after an action depends on what the action changed rather than on how many
+ * rules exist. A character's first evaluation tests every rule.
+ * <p>
+ * Callers hold the character's lock, as for any other character mutation.
+ *
+ * @param <T> the reward type
+ */
+public final class ProgressRuleEngine<T> {
+    private static final ProgressCounter[] COUNTERS = ProgressCounter.values();
+
+    private final ProgressRuleSet ruleSet;
+    private final List<ProgressRule<T>> rules;
+    // Counter ordinal -> indexes of the rules depending on it, ascending
+    private final int[][] rulesByCounter;
+
+    /**
+     * Creates an engine.
+     *
+     * @param ruleSet the group the rules belong to, which owns the changed-counter tracking
+     * @param rules   the rules, in the order satisfied rewards are reported
+     */
+    public ProgressRuleEngine(ProgressRuleSet ruleSet, List<ProgressRule<T>> rules) {
+        this.ruleSet = ruleSet;
+        this.rules = List.copyOf(rules);
+        this.rulesByCounter = new int[COUNTERS.length][];
+        for (ProgressCounter counter : COUNTERS) {
+            List<Integer> dependents = new ArrayList<>();
+            for (int i = 0; i < this.rules.size(); i++) {
+                if (this.rules.get(i).dependsOn().contains(counter)) {
+                    dependents.add(i);
+                }
+            }
+            rulesByCounter[counter.ordinal()] = dependents.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Tests the rules depending on counters changed since this rule set last evaluated the character.
+     *
+     * @param character the character
+     * @return the rewards of the tested rules whose conditions hold, in rule order (empty if nothing
+     * relevant changed)
+     */
+    public List<T> evaluate(RPGCharacter character) {
+        long changed = character.takeChangedCounters(ruleSet);
+        if (changed == 0) {
+            return List.of();
+        }
+
+        long[] due = new long[(rules.size() + 63) >>> 6];
+        for (long remaining = changed; remaining != 0; remaining &= remaining - 1) {
+            int counter = Long.numberOfTrailingZeros(remaining);
+            if (counter >= COUNTERS.length) {
+                break;
+            }
+            for (int rule : rulesByCounter[counter]) {
+                due[rule >>> 6] |= 1L << rule;
+            }
+        }
+
+        List<T> satisfied = null;
+        for (int word = 0; word < due.length; word++) {
+            for (long remaining = due[word]; remaining != 0; remaining &= remaining - 1) {
+                ProgressRule<T> rule = rules.get((word << 6) + Long.numberOfTrailingZeros(remaining));
+                if (rule.condition().test(character)) {
+                    if (satisfied == null) {
+                        satisfied = new ArrayList<>();
+                    }
+                    satisfied.add(rule.reward());
+                }
+            }
+        }
+        return satisfied != null ? satisfied : List.of();
+    }
+
+    /**
+     * Tests every rule, regardless of what changed. Does not consume changed counters.
+     *
+     * @param character the character
+     * @return the rewards of all rules whose conditions hold, in rule order
+     */
+    public List<T> evaluateAll(RPGCharacter character) {
+        List<T> satisfied = new ArrayList<>();
+        for (ProgressRule<T> rule : rules) {
+            if (rule.condition().test(character)) {
+                satisfied.add(rule.reward());
+            }
+        }
+        return satisfied;
+    }
+}
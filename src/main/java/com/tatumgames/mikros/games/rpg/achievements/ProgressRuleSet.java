@@ -0,0 +1,10 @@
+package com.tatumgames.mikros.games.rpg.achievements;
+
+/**
+ * The groups of progress rules that are evaluated separately. Each character tracks changed
+ * counters per group, so evaluating one group does not hide changes from the others.
+ */
+public enum ProgressRuleSet {
+    LORE_RECOGNITIONS,
+    FIRST_TO_ACHIEVEMENTS
+}
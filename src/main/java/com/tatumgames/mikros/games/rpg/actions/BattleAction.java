@@ -9,16 +9,17 @@ import com.tatumgames.mikros.games.rpg.model.InfusionType;
 import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.model.RPGStats;
-import com.tatumgames.mikros.games.rpg.service.AuraService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierSnapshot;
 import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
-import com.tatumgames.mikros.games.rpg.service.NilfheimEventService;
-import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
-import com.tatumgames.mikros.games.rpg.events.NilfheimEventType;
+import com.tatumgames.mikros.services.RngService;
+import com.tatumgames.mikros.services.TextTemplate;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.random.RandomGenerator;
 
 /**
  * Battle action - player fights an AI enemy.
@@ -31,27 +32,35 @@ import java.util.Random;
  * - Battle items and consumables
  */
 public class BattleAction implements CharacterAction {
-    private static final Random random = new Random();
-    private final WorldCurseService worldCurseService;
-    private final AuraService auraService;
-    private final NilfheimEventService nilfheimEventService;
+    private static final RandomGenerator random = RngService.current();
+    private static final EssenceType[] ESSENCE_TYPES = EssenceType.values();
+    private static final CatalystType[] CATALYST_TYPES = CatalystType.values();
+    private final GuildModifierService guildModifierService;
     private final LoreRecognitionService loreRecognitionService;
 
     /**
      * Creates a new BattleAction.
      *
-     * @param worldCurseService the world curse service for applying curse effects
-     * @param auraService the aura service for Song of Nilfheim curse reduction
-     * @param nilfheimEventService the Nilfheim event service for server-wide events
+     * @param guildModifierService the guild modifiers (curses, Song of Nilfheim and server-wide events)
      * @param loreRecognitionService the lore recognition service for milestone checks
      */
-    public BattleAction(WorldCurseService worldCurseService, AuraService auraService, NilfheimEventService nilfheimEventService, LoreRecognitionService loreRecognitionService) {
-        this.worldCurseService = worldCurseService;
-        this.auraService = auraService;
-        this.nilfheimEventService = nilfheimEventService;
+    public BattleAction(GuildModifierService guildModifierService, LoreRecognitionService loreRecognitionService) {
+        this.guildModifierService = guildModifierService;
         this.loreRecognitionService = loreRecognitionService;
     }
 
+    private static final TextTemplate VICTORY_NARRATIVE = TextTemplate.compile(
+            "You encountered %s (Level %d) and emerged victorious!%s%s%s " +
+                    "Your combat prowess proved superior, though you sustained minor wounds.%s%s%s");
+
+    private static final TextTemplate DEFEAT_NARRATIVE = TextTemplate.compile(
+            "You encountered %s (Level %d) but were defeated.%s%s " +
+                    "Learn from this experience!");
+
+    private static final TextTemplate PACK_ENEMY_NAME = TextTemplate.compile("**%s a pack of %s**");
+    private static final TextTemplate ENEMY_NAME = TextTemplate.compile("a **%s %s**");
+    private static final Pattern PACK_SUFFIX = Pattern.compile("(?i)\\s*pack\\s*$");
+
     private static final String[] ENEMY_NAMES = {
             // Original 16
             "Goblin Scout", "Wild Wolf", "Bandit Thief", "Slime Monster",
@@ -212,12 +221,16 @@ public class BattleAction implements CharacterAction {
 
     @Override
     public RPGActionOutcome execute(RPGCharacter character, RPGConfig config) {
+        return execute(character, config, guildModifierService.getSnapshot(config.getGuildId()));
+    }
+
+    @Override
+    public RPGActionOutcome execute(RPGCharacter character, RPGConfig config, GuildModifierSnapshot modifiers) {
         // Get active curses for this guild
-        String guildId = config.getGuildId();
-        List<WorldCurse> activeCurses = worldCurseService.getActiveCurses(guildId);
+        List<WorldCurse> activeCurses = modifiers.getActiveCurses();
         
         // Check for Song of Nilfheim aura (reduces curse penalties by 1-2%)
-        double songReduction = auraService.getSongOfNilfheimCurseReduction(guildId);
+        double songReduction = modifiers.getSongOfNilfheimCurseReduction(random);
 
         // Select random enemy (March of the Dead increases undead chance)
         String enemyName;
@@ -304,14 +317,8 @@ public class BattleAction implements CharacterAction {
             }
         }
 
-        // Apply Nilfheim event effects
-        NilfheimEventType activeEvent = nilfheimEventService.getActiveEvent(guildId);
-        if (activeEvent != null) {
-            if (activeEvent.getEffectType() == NilfheimEventType.EventEffectType.BATTLE_DAMAGE_BOOST) {
-                // Stormwarden's Blessing: +5% damage on Battle
-                playerPower = (int) (playerPower * (1.0 + activeEvent.getEffectValue()));
-            }
-        }
+        // Apply Nilfheim event effects (Stormwarden's Blessing: +5% damage on Battle)
+        playerPower = (int) (playerPower * modifiers.getBattleDamageMultiplier());
 
         // Apply infusion effects for damage
         InfusionType activeInfusion = character.getInventory().getActiveInfusion();
@@ -371,13 +378,8 @@ public class BattleAction implements CharacterAction {
                 xpGained = (int) (xpGained * (1 - reduction));
             }
 
-            // Apply Nilfheim event effects for XP
-            if (activeEvent != null) {
-                if (activeEvent.getEffectType() == NilfheimEventType.EventEffectType.ALL_XP_BOOST) {
-                    // Starfall Ridge's Light: +15% XP on all actions
-                    xpGained = (int) (xpGained * (1.0 + activeEvent.getEffectValue()));
-                }
-            }
+            // Apply Nilfheim event effects for XP (Starfall Ridge's Light: +15% XP on all actions)
+            xpGained = (int) (xpGained * modifiers.getXpMultiplier());
 
             // Apply infusion effects for XP
             if (activeInfusion != null) {
@@ -434,11 +436,16 @@ public class BattleAction implements CharacterAction {
             String packNote = isPack ? 
                     " The pack's coordinated attacks made the battle more challenging, but you prevailed!" : "";
             
-            narrative = String.format(
-                    "You encountered %s (Level %d) and emerged victorious!%s%s%s " +
-                            "Your combat prowess proved superior, though you sustained minor wounds.%s%s%s",
-                    formattedEnemyName, enemyLevel, critNote, effectivenessNote, classNote, agilityNote, decayNote, packNote
-            );
+            narrative = VICTORY_NARRATIVE.with()
+                    .arg(formattedEnemyName)
+                    .arg(enemyLevel)
+                    .arg(critNote)
+                    .arg(effectivenessNote)
+                    .arg(classNote)
+                    .arg(agilityNote)
+                    .arg(decayNote)
+                    .arg(packNote)
+                    .render();
         } else {
             // Defeat: moderate XP, significant damage
             int baseXp = (int) ((20 + (enemyLevel * 4)) * config.getXpMultiplier());
@@ -469,11 +476,12 @@ public class BattleAction implements CharacterAction {
             String packNote = isPack ? 
                     " The pack's overwhelming numbers proved too much to handle." : "";
             
-            narrative = String.format(
-                    "You encountered %s (Level %d) but were defeated.%s%s " +
-                            "Learn from this experience!",
-                    formattedEnemyName, enemyLevel, injurySeverity, packNote
-            );
+            narrative = DEFEAT_NARRATIVE.with()
+                    .arg(formattedEnemyName)
+                    .arg(enemyLevel)
+                    .arg(injurySeverity)
+                    .arg(packNote)
+                    .render();
         }
 
         // Calculate base damage with variance
@@ -626,8 +634,7 @@ public class BattleAction implements CharacterAction {
      * @return random essence type
      */
     private EssenceType getRandomEssence() {
-        EssenceType[] essences = EssenceType.values();
-        return essences[random.nextInt(essences.length)];
+        return ESSENCE_TYPES[random.nextInt(ESSENCE_TYPES.length)];
     }
 
     /**
@@ -636,8 +643,7 @@ public class BattleAction implements CharacterAction {
      * @return random catalyst type
      */
     private CatalystType getRandomCatalyst() {
-        CatalystType[] catalysts = CatalystType.values();
-        return catalysts[random.nextInt(catalysts.length)];
+        return CATALYST_TYPES[random.nextInt(CATALYST_TYPES.length)];
     }
 
     /**
@@ -781,14 +787,14 @@ public class BattleAction implements CharacterAction {
     private String formatEnemyNameForNarrative(String enemyName, boolean isPack) {
         if (isPack) {
             // Remove "Pack" suffix and format as "a pack of [enemy type]"
-            String baseName = enemyName.replaceAll("(?i)\\s*pack\\s*$", "");
+            String baseName = PACK_SUFFIX.matcher(enemyName).replaceAll("");
             // Get emoji from enemy type
             EnemyType enemyType = ENEMY_TYPE_MAP.getOrDefault(enemyName, EnemyType.PHYSICAL);
-            return String.format("**%s a pack of %s**", enemyType.getEmoji(), baseName);
+            return PACK_ENEMY_NAME.with().arg(enemyType.getEmoji()).arg(baseName).render();
         } else {
             // Regular enemy - get emoji from enemy type
             EnemyType enemyType = ENEMY_TYPE_MAP.getOrDefault(enemyName, EnemyType.PHYSICAL);
-            return String.format("a **%s %s**", enemyType.getEmoji(), enemyName);
+            return ENEMY_NAME.with().arg(enemyType.getEmoji()).arg(enemyName).render();
         }
     }
 
@@ -3,6 +3,7 @@ package com.tatumgames.mikros.games.rpg.actions;
 import com.tatumgames.mikros.games.rpg.config.RPGConfig;
 import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierSnapshot;
 
 /**
  * Interface for RPG character actions.
@@ -39,5 +40,28 @@ public interface CharacterAction {
      * @return the outcome of the action
      */
     RPGActionOutcome execute(RPGCharacter character, RPGConfig config);
+
+    /**
+     * Executes the action against guild modifiers the caller has already read, so the whole action
+     * sees one state of the guild's curses, auras and event. Actions that read no modifiers ignore them.
+     *
+     * @param character the character performing the action
+     * @param config    the guild's RPG configuration
+     * @param modifiers the guild's modifier snapshot
+     * @return the outcome of the action
+     */
+    default RPGActionOutcome execute(RPGCharacter character, RPGConfig config, GuildModifierSnapshot modifiers) {
+        return execute(character, config);
+    }
+
+    /**
+     * Checks whether the action changes characters other than the one performing it.
+     * Such actions take their own (ordered) character locks; all others run under the actor's lock.
+     *
+     * @return true if the action locks the characters it touches itself
+     */
+    default boolean locksCharacters() {
+        return false;
+    }
 }
 
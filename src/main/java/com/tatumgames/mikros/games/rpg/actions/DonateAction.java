@@ -4,20 +4,17 @@ import com.tatumgames.mikros.games.rpg.config.RPGConfig;
 import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.service.CharacterService;
+import com.tatumgames.mikros.games.rpg.service.DonationRecipientIndex;
+import com.tatumgames.mikros.services.GameClock;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * Donate action - player donates an action charge to a random active player with fewer charges.
  * Level 10+ required. Only consumes charge if a recipient is found.
  */
 public class DonateAction implements CharacterAction {
-    private static final Random random = new Random();
-    private static final long ACTIVE_THRESHOLD_HOURS = 24;
-    
     private final CharacterService characterService;
 
     /**
@@ -44,6 +41,11 @@ public class DonateAction implements CharacterAction {
         return "Donate an action charge to a random active player (Level 10+ required)";
     }
 
+    @Override
+    public boolean locksCharacters() {
+        return true;
+    }
+
     @Override
     public RPGActionOutcome execute(RPGCharacter donor, RPGConfig config) {
         // Check level requirement (Level 10+)
@@ -68,20 +70,11 @@ public class DonateAction implements CharacterAction {
                     .build();
         }
 
-        // Get all characters
-        Collection<RPGCharacter> allCharacters = characterService.getAllCharacters();
-
-        // Filter eligible recipients
-        List<RPGCharacter> eligible = allCharacters.stream()
-                .filter(c -> !c.getDiscordId().equals(donor.getDiscordId())) // Not the donor
-                .filter(this::isActive) // Active within last 24 hours
-                .filter(c -> canReceiveDonation(c, donor)) // Haven't received donation this cycle
-                .filter(c -> !c.isDead() && !c.isRecovering()) // Not dead or recovering
-                .sorted(Comparator.comparingInt(RPGCharacter::getActionCharges)) // Sort by charge count (ascending)
-                .collect(Collectors.toList());
+        // Draw a random eligible recipient (alive, not recovering, off cooldown) from the lower-charge half
+        RPGCharacter recipient = characterService.drawDonationRecipient(donor.getDiscordId());
 
         // If no eligible recipients, don't consume charge
-        if (eligible.isEmpty()) {
+        if (recipient == null) {
             return RPGActionOutcome.builder()
                     .narrative("You look around, but everyone seems well-rested. Your generosity will have to wait.")
                     .xpGained(0)
@@ -91,24 +84,35 @@ public class DonateAction implements CharacterAction {
                     .build();
         }
 
-        // Get bottom 50% (those with fewer charges)
-        int bottomHalfStart = eligible.size() / 2;
-        List<RPGCharacter> bottomHalf = eligible.subList(bottomHalfStart, eligible.size());
-
-        // Randomly select from bottom half
-        RPGCharacter recipient = bottomHalf.get(random.nextInt(bottomHalf.size()));
-
-        // Perform donation
-        donor.setActionCharges(donor.getActionCharges() - 1);
-        recipient.addTemporaryCharge();
-        recipient.setLastDonationReceived(Instant.now());
-        donor.incrementChargesDonated();
-
-        // Record the action (consumes charge)
-        donor.recordAction();
-
-        // Track action type for achievements
-        donor.recordActionType("donate");
+        // Perform donation with both characters locked; the draw ran unlocked, so repeat its checks
+        boolean donated = characterService.withCharacterLocks(
+                List.of(donor.getDiscordId(), recipient.getDiscordId()), () -> {
+                    if (donor.getActionCharges() <= 0 || !canReceiveDonation(recipient)
+                            || recipient.isDead() || recipient.isRecovering()) {
+                        return false;
+                    }
+                    donor.setActionCharges(donor.getActionCharges() - 1);
+                    recipient.addTemporaryCharge();
+                    recipient.setLastDonationReceived(GameClock.now());
+                    donor.incrementChargesDonated();
+
+                    // Record the action (consumes charge)
+                    donor.recordAction();
+
+                    // Track action type for achievements
+                    donor.recordActionType("donate");
+                    return true;
+                });
+
+        if (!donated) {
+            return RPGActionOutcome.builder()
+                    .narrative("Your chosen companion was claimed by another's generosity first. Your charge is kept.")
+                    .xpGained(0)
+                    .leveledUp(false)
+                    .hpRestored(0)
+                    .success(false)
+                    .build();
+        }
 
         String narrative = String.format(
                 "You share your energy with a fellow adventurer. **%s** feels reinvigorated!",
@@ -125,47 +129,20 @@ public class DonateAction implements CharacterAction {
     }
 
     /**
-     * Checks if a character is active (has performed an action within the threshold).
-     *
-     * @param character the character to check
-     * @return true if active
-     */
-    private boolean isActive(RPGCharacter character) {
-        if (character.getLastActionTime() == null) {
-            return false;
-        }
-
-        long hoursSinceAction = Duration.between(
-                character.getLastActionTime(),
-                Instant.now()
-        ).toHours();
-
-        return hoursSinceAction <= ACTIVE_THRESHOLD_HOURS;
-    }
-
-    /**
-     * Checks if a character can receive a donation (hasn't received one this refresh cycle).
+     * Checks if a character can receive a donation (hasn't received one within the donation cooldown).
      *
      * @param recipient the potential recipient
-     * @param donor the donor
      * @return true if can receive donation
      */
-    private boolean canReceiveDonation(RPGCharacter recipient, RPGCharacter donor) {
+    private boolean canReceiveDonation(RPGCharacter recipient) {
         Instant lastDonation = recipient.getLastDonationReceived();
-        Instant donorRefresh = donor.getLastChargeRefreshTime();
 
         // If recipient never received donation, they can receive one
         if (lastDonation == null) {
             return true;
         }
 
-        // If donor's refresh time is null, allow donation (edge case)
-        if (donorRefresh == null) {
-            return true;
-        }
-
-        // Recipient can receive donation if their last donation was before donor's last refresh
-        return !lastDonation.isAfter(donorRefresh);
+        return !lastDonation.isAfter(GameClock.now().minus(DonationRecipientIndex.DONATION_COOLDOWN));
     }
 }
 
@@ -4,8 +4,10 @@ import com.tatumgames.mikros.games.rpg.config.RPGConfig;
 import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.model.RPGStats;
+import com.tatumgames.mikros.services.RngService;
+
+import java.util.random.RandomGenerator;
 
-import java.util.Random;
 
 /**
  * Duel action - player vs player combat.
@@ -13,7 +15,7 @@ import java.util.Random;
  * No HP damage, no XP rewards - just win/loss tracking.
  */
 public class DuelAction {
-    private static final Random random = new Random();
+    private static final RandomGenerator random = RngService.current();
     private final DuelNarrativeGenerator narrativeGenerator;
 
     public DuelAction() {
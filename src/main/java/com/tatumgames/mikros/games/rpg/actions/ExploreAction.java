@@ -11,42 +11,60 @@ import com.tatumgames.mikros.games.rpg.model.EssenceType;
 import com.tatumgames.mikros.games.rpg.model.InfusionType;
 import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
-import com.tatumgames.mikros.games.rpg.service.AuraService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierSnapshot;
 import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
-import com.tatumgames.mikros.games.rpg.service.NilfheimEventService;
-import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
-import com.tatumgames.mikros.games.rpg.events.NilfheimEventType;
+import com.tatumgames.mikros.services.RngService;
+import com.tatumgames.mikros.services.TextTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Explore action - player explores the world and encounters random events.
  * Rewards XP and generates narrative encounters.
  */
 public class ExploreAction implements CharacterAction {
-    private static final Random random = new Random();
-    private final WorldCurseService worldCurseService;
-    private final AuraService auraService;
-    private final NilfheimEventService nilfheimEventService;
+    private static final RandomGenerator random = RngService.current();
+    private static final EssenceType[] ESSENCE_TYPES = EssenceType.values();
+    private static final CatalystType[] CATALYST_TYPES = CatalystType.values();
+    private final GuildModifierService guildModifierService;
     private final LoreRecognitionService loreRecognitionService;
 
     /**
      * Creates a new ExploreAction.
      *
-     * @param worldCurseService the world curse service for applying curse effects
-     * @param auraService the aura service for Song of Nilfheim curse reduction
-     * @param nilfheimEventService the Nilfheim event service for server-wide events
+     * @param guildModifierService the guild modifiers (curses, Song of Nilfheim and server-wide events)
      * @param loreRecognitionService the lore recognition service for milestone checks
      */
-    public ExploreAction(WorldCurseService worldCurseService, AuraService auraService, NilfheimEventService nilfheimEventService, LoreRecognitionService loreRecognitionService) {
-        this.worldCurseService = worldCurseService;
-        this.auraService = auraService;
-        this.nilfheimEventService = nilfheimEventService;
+    public ExploreAction(GuildModifierService guildModifierService, LoreRecognitionService loreRecognitionService) {
+        this.guildModifierService = guildModifierService;
         this.loreRecognitionService = loreRecognitionService;
     }
 
+    private static final TextTemplate NEGATIVE_EVENT_NARRATIVE = TextTemplate.compile(
+            "As you push deeper into the frozen ruins, something feels… off.\n\n%s");
+    private static final TextTemplate SLIPPED_ON_ICE_NARRATIVE = TextTemplate.compile(
+            "🧊 **Slipped on Ice:** You lose your footing on a patch of black ice, taking %d damage. At least you're still alive!");
+    private static final TextTemplate PICKPOCKETED_NARRATIVE = TextTemplate.compile(
+            "🧤 **Pickpocketed by Thieves:** A group of shadowy figures slips past you in the fog. You notice " +
+                    "%s is missing from your inventory!");
+    private static final TextTemplate MOCKED_BY_MOB_NARRATIVE = TextTemplate.compile(
+            "😠 **Mocked by Angry Mob:** The citizens of Nilfheim blame you for the world's curses! They throw stones and steal " +
+                    "%s from your pack.");
+    private static final TextTemplate AMBUSH_VICTORY_NARRATIVE = TextTemplate.compile(
+            "🐺 **Ambushed by %s:** You were caught off guard, but managed to fight back! You take " +
+                    "%d damage but gain %d XP.");
+    private static final TextTemplate AMBUSH_DEATH_NARRATIVE = TextTemplate.compile(
+            "🐺 **Ambushed by %s:** The ambush was too much! You fall, defeated. " +
+                    "You gain %d XP from the experience, but death claims you.");
+    private static final TextTemplate AMBUSH_ESCAPE_NARRATIVE = TextTemplate.compile(
+            "🐺 **Ambushed by %s:** You were caught off guard and take %d damage! You barely escape with %d XP.");
+    private static final TextTemplate WANDERING_FIGURE_HEADER = TextTemplate.compile("**%s**\n\n%s\n\n");
+    private static final TextTemplate MERCHANT_TRADE_NARRATIVE = TextTemplate.compile(
+            "The Merchant trades 2x %s for 1x %s.");
+
     private static final String[] NARRATIVES = {
             // Original 15 narratives
             "You ventured into an ancient forest and discovered a hidden shrine. The spirits blessed your journey.",
@@ -162,12 +180,16 @@ public class ExploreAction implements CharacterAction {
 
     @Override
     public RPGActionOutcome execute(RPGCharacter character, RPGConfig config) {
+        return execute(character, config, guildModifierService.getSnapshot(config.getGuildId()));
+    }
+
+    @Override
+    public RPGActionOutcome execute(RPGCharacter character, RPGConfig config, GuildModifierSnapshot modifiers) {
         // Get active curses for this guild
-        String guildId = config.getGuildId();
-        List<WorldCurse> activeCurses = worldCurseService.getActiveCurses(guildId);
+        List<WorldCurse> activeCurses = modifiers.getActiveCurses();
         
         // Check for Song of Nilfheim aura (reduces curse penalties by 1-2%)
-        double songReduction = auraService.getSongOfNilfheimCurseReduction(guildId);
+        double songReduction = modifiers.getSongOfNilfheimCurseReduction(random);
 
         // Check for class-exclusive exploration event (very rare, 1-2% base chance, separate from negative events)
         ClassExclusiveEventType classEvent = rollForClassExclusiveEvent(character);
@@ -194,9 +216,8 @@ public class ExploreAction implements CharacterAction {
         if (negativeEvent != null) {
             // Negative event triggered - show warning and apply event
             eventTriggered = true;
-            narrative = "As you push deeper into the frozen ruins, something feels… off.\n\n";
             RPGActionOutcome eventOutcome = handleNegativeEvent(negativeEvent, character, config, activeCurses, songReduction);
-            narrative += eventOutcome.narrative();
+            narrative = NEGATIVE_EVENT_NARRATIVE.with().arg(eventOutcome.narrative()).render();
             xpGained = eventOutcome.xpGained();
             damageTaken = eventOutcome.damageTaken();
             leveledUp = eventOutcome.leveledUp();
@@ -221,14 +242,8 @@ public class ExploreAction implements CharacterAction {
             xpGained = Math.max(minXpWithCurse, xpGained);
         }
 
-        // Apply Nilfheim event effects
-        NilfheimEventType activeEvent = nilfheimEventService.getActiveEvent(guildId);
-        if (activeEvent != null) {
-            if (activeEvent.getEffectType() == NilfheimEventType.EventEffectType.ALL_XP_BOOST) {
-                // Starfall Ridge's Light: +15% XP on all actions
-                xpGained = (int) (xpGained * (1.0 + activeEvent.getEffectValue()));
-            }
-        }
+        // Apply Nilfheim event effects (Starfall Ridge's Light: +15% XP on all actions)
+        xpGained = (int) (xpGained * modifiers.getXpMultiplier());
 
         // Apply infusion effects
         InfusionType activeInfusion = character.getInventory().getActiveInfusion();
@@ -269,13 +284,8 @@ public class ExploreAction implements CharacterAction {
             dropChance = Math.max(0.0, dropChance - illFortunePenalty);
         }
 
-        // Apply Nilfheim event effects for drops
-        if (activeEvent != null) {
-            if (activeEvent.getEffectType() == NilfheimEventType.EventEffectType.EXPLORE_DROP_BOOST) {
-                // Twin Moons Align: +10% essence drop chance
-                dropChance += activeEvent.getEffectValue();
-            }
-        }
+        // Apply Nilfheim event effects for drops (Twin Moons Align: +10% essence drop chance)
+        dropChance += modifiers.getExploreDropBonus();
 
         RPGActionOutcome.Builder outcomeBuilder = RPGActionOutcome.builder()
                 .narrative(narrative)
@@ -347,8 +357,6 @@ public class ExploreAction implements CharacterAction {
      * @return random essence type (biased by class)
      */
     private EssenceType getRandomEssenceWithClassBonus(CharacterClass characterClass) {
-        EssenceType[] allEssences = EssenceType.values();
-        
         // Class-specific essence bonuses
         switch (characterClass) {
             case WARRIOR:
@@ -384,7 +392,7 @@ public class ExploreAction implements CharacterAction {
         }
         
         // Default: random essence
-        return allEssences[random.nextInt(allEssences.length)];
+        return ESSENCE_TYPES[random.nextInt(ESSENCE_TYPES.length)];
     }
 
     /**
@@ -465,14 +473,13 @@ public class ExploreAction implements CharacterAction {
                 int currentHp = character.getStats().getCurrentHp();
                 damageTaken = Math.min(hpLoss, currentHp - 1); // Ensure at least 1 HP remains
                 character.getStats().takeDamage(damageTaken);
-                narrative = "🧊 **Slipped on Ice:** You lose your footing on a patch of black ice, taking " + damageTaken + " damage. At least you're still alive!";
+                narrative = SLIPPED_ON_ICE_NARRATIVE.with().arg(damageTaken).render();
             }
             
             case PICKPOCKETED_BY_THIEVES -> {
                 // Lose 1 random essence (cannot lose catalysts, cannot go below 0)
-                EssenceType[] allEssences = EssenceType.values();
                 List<EssenceType> availableEssences = new ArrayList<>();
-                for (EssenceType essence : allEssences) {
+                for (EssenceType essence : ESSENCE_TYPES) {
                     if (character.getInventory().getEssenceCount(essence) > 0) {
                         availableEssences.add(essence);
                     }
@@ -481,8 +488,7 @@ public class ExploreAction implements CharacterAction {
                 if (!availableEssences.isEmpty()) {
                     EssenceType stolenEssence = availableEssences.get(random.nextInt(availableEssences.size()));
                     character.getInventory().removeEssence(stolenEssence, 1); // Remove 1
-                    narrative = "🧤 **Pickpocketed by Thieves:** A group of shadowy figures slips past you in the fog. You notice " + 
-                               stolenEssence.getDisplayName() + " is missing from your inventory!";
+                    narrative = PICKPOCKETED_NARRATIVE.with().arg(stolenEssence.getDisplayName()).render();
                 } else {
                     narrative = "🧤 **Pickpocketed by Thieves:** A group of shadowy figures slips past you, but your pockets are already empty. Lucky you!";
                 }
@@ -491,9 +497,8 @@ public class ExploreAction implements CharacterAction {
             case MOCKED_BY_ANGRY_MOB -> {
                 // Only triggers if curses are active
                 if (!activeCurses.isEmpty()) {
-                    EssenceType[] allEssences = EssenceType.values();
                     List<EssenceType> availableEssences = new ArrayList<>();
-                    for (EssenceType essence : allEssences) {
+                    for (EssenceType essence : ESSENCE_TYPES) {
                         if (character.getInventory().getEssenceCount(essence) > 0) {
                             availableEssences.add(essence);
                         }
@@ -502,8 +507,7 @@ public class ExploreAction implements CharacterAction {
                     if (!availableEssences.isEmpty()) {
                         EssenceType stolenEssence = availableEssences.get(random.nextInt(availableEssences.size()));
                         character.getInventory().removeEssence(stolenEssence, 1); // Remove 1
-                        narrative = "😠 **Mocked by Angry Mob:** The citizens of Nilfheim blame you for the world's curses! They throw stones and steal " + 
-                                   stolenEssence.getDisplayName() + " from your pack.";
+                        narrative = MOCKED_BY_MOB_NARRATIVE.with().arg(stolenEssence.getDisplayName()).render();
                     } else {
                         narrative = "😠 **Mocked by Angry Mob:** The citizens of Nilfheim blame you for the world's curses! They throw stones, but you have nothing left to lose.";
                     }
@@ -568,8 +572,7 @@ public class ExploreAction implements CharacterAction {
                     }
                     character.getStats().takeDamage(damageTaken);
                     leveledUp = character.addXp(xpGained, loreRecognitionService);
-                    narrative = "🐺 **Ambushed by " + enemyName + ":** You were caught off guard, but managed to fight back! You take " + 
-                               damageTaken + " damage but gain " + xpGained + " XP.";
+                    narrative = AMBUSH_VICTORY_NARRATIVE.with().arg(enemyName).arg(damageTaken).arg(xpGained).render();
                 } else {
                     // Defeat: significant damage, minimal XP
                     int baseXp = (int) ((50 + (enemyLevel * 10)) * config.getXpMultiplier() * 0.25); // Quarter XP for defeat
@@ -592,11 +595,9 @@ public class ExploreAction implements CharacterAction {
                     
                     if (!survived) {
                         character.setIsDead(true);
-                        narrative = "🐺 **Ambushed by " + enemyName + ":** The ambush was too much! You fall, defeated. " + 
-                                   "You gain " + xpGained + " XP from the experience, but death claims you.";
+                        narrative = AMBUSH_DEATH_NARRATIVE.with().arg(enemyName).arg(xpGained).render();
                     } else {
-                        narrative = "🐺 **Ambushed by " + enemyName + ":** You were caught off guard and take " + damageTaken + 
-                                   " damage! You barely escape with " + xpGained + " XP.";
+                        narrative = AMBUSH_ESCAPE_NARRATIVE.with().arg(enemyName).arg(damageTaken).arg(xpGained).render();
                     }
                 }
             }
@@ -733,7 +734,10 @@ public class ExploreAction implements CharacterAction {
      */
     private RPGActionOutcome handleWanderingFigure(WanderingFigureType figureType, RPGCharacter character,
                                          RPGConfig config, List<WorldCurse> activeCurses, double songReduction) {
-        String narrative = String.format("**%s**\n\n%s\n\n", figureType.getDisplayName(), figureType.getDescription());
+        String narrative = WANDERING_FIGURE_HEADER.with()
+                .arg(figureType.getDisplayName())
+                .arg(figureType.getDescription())
+                .render();
         int xpGained = 0;
         boolean leveledUp = false;
         RPGActionOutcome.Builder outcomeBuilder = RPGActionOutcome.builder();
@@ -808,9 +812,8 @@ public class ExploreAction implements CharacterAction {
                 switch (outcomeRoll) {
                     case 0 -> {
                         // Trade: Exchange 2 essences of one type → 1 essence of another type (if possible)
-                        EssenceType[] allEssences = EssenceType.values();
                         List<EssenceType> availableEssences = new ArrayList<>();
-                        for (EssenceType essence : allEssences) {
+                        for (EssenceType essence : ESSENCE_TYPES) {
                             if (character.getInventory().getEssenceCount(essence) >= 2) {
                                 availableEssences.add(essence);
                             }
@@ -821,19 +824,20 @@ public class ExploreAction implements CharacterAction {
                             character.getInventory().removeEssence(sourceEssence, 2);
                             
                             // Get random different essence
-                            EssenceType targetEssence = allEssences[random.nextInt(allEssences.length)];
+                            EssenceType targetEssence = ESSENCE_TYPES[random.nextInt(ESSENCE_TYPES.length)];
                             while (targetEssence == sourceEssence) {
-                                targetEssence = allEssences[random.nextInt(allEssences.length)];
+                                targetEssence = ESSENCE_TYPES[random.nextInt(ESSENCE_TYPES.length)];
                             }
                             
                             outcomeBuilder.addItemDrop(targetEssence, 1);
                             character.getInventory().addEssence(targetEssence, 1);
-                            narrative += String.format("The Merchant trades 2x %s for 1x %s.", 
-                                    sourceEssence.getDisplayName(), targetEssence.getDisplayName());
+                            narrative += MERCHANT_TRADE_NARRATIVE.with()
+                                    .arg(sourceEssence.getDisplayName())
+                                    .arg(targetEssence.getDisplayName())
+                                    .render();
                         } else {
                             // No essences to trade, give catalyst instead
-                            CatalystType[] catalysts = CatalystType.values();
-                            CatalystType catalyst = catalysts[random.nextInt(catalysts.length)];
+                            CatalystType catalyst = CATALYST_TYPES[random.nextInt(CATALYST_TYPES.length)];
                             outcomeBuilder.addCatalystDrop(catalyst, 1);
                             character.getInventory().addCatalyst(catalyst, 1);
                             narrative += figureType.getOutcome1Narrative();
@@ -841,8 +845,7 @@ public class ExploreAction implements CharacterAction {
                     }
                     case 1 -> {
                         // +1 random catalyst
-                        CatalystType[] catalysts = CatalystType.values();
-                        CatalystType catalyst = catalysts[random.nextInt(catalysts.length)];
+                        CatalystType catalyst = CATALYST_TYPES[random.nextInt(CATALYST_TYPES.length)];
                         outcomeBuilder.addCatalystDrop(catalyst, 1);
                         character.getInventory().addCatalyst(catalyst, 1);
                         narrative += figureType.getOutcome1Narrative();
@@ -1015,8 +1018,7 @@ public class ExploreAction implements CharacterAction {
                 
                 // 15% chance for catalyst
                 if (random.nextDouble() < 0.15) {
-                    CatalystType[] catalysts = CatalystType.values();
-                    CatalystType catalyst = catalysts[random.nextInt(catalysts.length)];
+                    CatalystType catalyst = CATALYST_TYPES[random.nextInt(CATALYST_TYPES.length)];
                     outcomeBuilder.addCatalystDrop(catalyst, 1);
                     character.getInventory().addCatalyst(catalyst, 1);
                     narrative += " You also find a rare " + catalyst.getDisplayName() + "!";
@@ -1074,8 +1076,7 @@ public class ExploreAction implements CharacterAction {
                 
                 // 12% chance for catalyst
                 if (random.nextDouble() < 0.12) {
-                    CatalystType[] catalysts = CatalystType.values();
-                    CatalystType catalyst = catalysts[random.nextInt(catalysts.length)];
+                    CatalystType catalyst = CATALYST_TYPES[random.nextInt(CATALYST_TYPES.length)];
                     outcomeBuilder.addCatalystDrop(catalyst, 1);
                     character.getInventory().addCatalyst(catalyst, 1);
                     narrative += " The sigil also reveals a hidden " + catalyst.getDisplayName() + "!";
@@ -3,15 +3,17 @@ package com.tatumgames.mikros.games.rpg.actions;
 import com.tatumgames.mikros.games.rpg.config.RPGConfig;
 import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.services.RngService;
+
+import java.util.random.RandomGenerator;
 
-import java.util.Random;
 
 /**
  * Rest action - player rests to fully restore HP.
  * Consumes 1 action charge.
  */
 public class RestAction implements CharacterAction {
-    private static final Random random = new Random();
+    private static final RandomGenerator random = RngService.current();
 
     private static final String[] NARRATIVES = {
             "You rest beside a glowing icefire brazier, warmth filling you.",
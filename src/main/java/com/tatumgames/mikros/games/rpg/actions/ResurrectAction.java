@@ -7,16 +7,17 @@ import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
 import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
+import com.tatumgames.mikros.services.RngService;
 
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Resurrect action - Priest-only free action to revive dead players.
  * Does not consume action charges.
  */
 public class ResurrectAction implements CharacterAction {
-    private static final Random random = new Random();
+    private static final RandomGenerator random = RngService.current();
     private final WorldCurseService worldCurseService;
     private final LoreRecognitionService loreRecognitionService;
 
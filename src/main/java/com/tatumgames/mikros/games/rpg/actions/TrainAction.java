@@ -1,32 +1,34 @@
 package com.tatumgames.mikros.games.rpg.actions;
 
 import com.tatumgames.mikros.games.rpg.config.RPGConfig;
-import com.tatumgames.mikros.games.rpg.events.NilfheimEventType;
 import com.tatumgames.mikros.games.rpg.model.InfusionType;
 import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierSnapshot;
 import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
-import com.tatumgames.mikros.games.rpg.service.NilfheimEventService;
+import com.tatumgames.mikros.services.RngService;
+
+import java.util.random.RandomGenerator;
 
-import java.util.Random;
 
 /**
  * Train action - player trains to improve stats and gain XP.
  * Guarantees stat increase along with XP.
  */
 public class TrainAction implements CharacterAction {
-    private static final Random random = new Random();
-    private final NilfheimEventService nilfheimEventService;
+    private static final RandomGenerator random = RngService.current();
+    private final GuildModifierService guildModifierService;
     private final LoreRecognitionService loreRecognitionService;
 
     /**
      * Creates a new TrainAction.
      *
-     * @param nilfheimEventService the Nilfheim event service for server-wide events
+     * @param guildModifierService the guild modifiers (server-wide events)
      * @param loreRecognitionService the lore recognition service for milestone checks
      */
-    public TrainAction(NilfheimEventService nilfheimEventService, LoreRecognitionService loreRecognitionService) {
-        this.nilfheimEventService = nilfheimEventService;
+    public TrainAction(GuildModifierService guildModifierService, LoreRecognitionService loreRecognitionService) {
+        this.guildModifierService = guildModifierService;
         this.loreRecognitionService = loreRecognitionService;
     }
 
@@ -146,6 +148,11 @@ public class TrainAction implements CharacterAction {
 
     @Override
     public RPGActionOutcome execute(RPGCharacter character, RPGConfig config) {
+        return execute(character, config, guildModifierService.getSnapshot(config.getGuildId()));
+    }
+
+    @Override
+    public RPGActionOutcome execute(RPGCharacter character, RPGConfig config, GuildModifierSnapshot modifiers) {
         // Select random stat to increase
         int statIndex = random.nextInt(STAT_NAMES.length);
         String statName = STAT_NAMES[statIndex];
@@ -154,18 +161,8 @@ public class TrainAction implements CharacterAction {
         // Calculate stat increase (1-3 points)
         int statIncrease = 1 + random.nextInt(3);
 
-        // Apply Nilfheim event effects
-        String guildId = config.getGuildId();
-        NilfheimEventType activeEvent = nilfheimEventService.getActiveEvent(guildId);
-        if (activeEvent != null) {
-            if (activeEvent.getEffectType() == NilfheimEventType.EventEffectType.TRAIN_STAT_BOOST) {
-                // Grand Library Opens: +1 guaranteed stat point
-                statIncrease += (int) activeEvent.getEffectValue();
-            }
-            if (activeEvent.getEffectType() == NilfheimEventType.EventEffectType.ALL_XP_BOOST) {
-                // Starfall Ridge's Light: +15% XP on all actions (applied below)
-            }
-        }
+        // Apply Nilfheim event effects (Grand Library Opens: +1 guaranteed stat point)
+        statIncrease += modifiers.getTrainStatBonus();
 
         // Apply stat increase
         character.getStats().increaseStat(statName, statIncrease);
@@ -175,11 +172,8 @@ public class TrainAction implements CharacterAction {
         int variance = random.nextInt(15) - 7;
         int xpGained = (int) ((baseXp + variance) * config.getXpMultiplier());
 
-        // Apply Nilfheim event effects for XP
-        if (activeEvent != null && activeEvent.getEffectType() == NilfheimEventType.EventEffectType.ALL_XP_BOOST) {
-            // Starfall Ridge's Light: +15% XP on all actions
-            xpGained = (int) (xpGained * (1.0 + activeEvent.getEffectValue()));
-        }
+        // Apply Nilfheim event effects for XP (Starfall Ridge's Light: +15% XP on all actions)
+        xpGained = (int) (xpGained * modifiers.getXpMultiplier());
 
         // Apply infusion effects
         InfusionType activeInfusion = character.getInventory().getActiveInfusion();
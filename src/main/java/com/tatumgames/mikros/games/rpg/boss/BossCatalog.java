@@ -3,15 +3,17 @@ package com.tatumgames.mikros.games.rpg.boss;
 import com.tatumgames.mikros.games.rpg.model.Boss;
 import com.tatumgames.mikros.games.rpg.model.BossType;
 import com.tatumgames.mikros.games.rpg.model.SuperBoss;
+import com.tatumgames.mikros.services.RngService;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Catalog of all bosses in the RPG system.
  * Contains 48 normal bosses (4 per level for levels 1-12) and 20 super bosses.
  */
 public class BossCatalog {
-    private static final Random random = new Random();
+    private static final RandomGenerator random = RngService.current();
 
     // Normal bosses by level (2 per level for levels 1-12)
     private static final Map<Integer, List<BossDefinition>> NORMAL_BOSSES = new HashMap<>();
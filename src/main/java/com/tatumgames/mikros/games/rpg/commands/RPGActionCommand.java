@@ -11,7 +11,8 @@ import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.service.AchievementService;
 import com.tatumgames.mikros.games.rpg.service.ActionService;
 import com.tatumgames.mikros.games.rpg.service.CharacterService;
-import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierSnapshot;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
@@ -26,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import java.awt.*;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Command handler for /rpg-action.
@@ -37,7 +39,7 @@ public class RPGActionCommand implements CommandHandler {
     private final CharacterService characterService;
     private final ActionService actionService;
     private final AchievementService achievementService;
-    private final WorldCurseService worldCurseService;
+    private final GuildModifierService guildModifierService;
 
     /**
      * Creates a new RPGActionCommand handler.
@@ -45,13 +47,13 @@ public class RPGActionCommand implements CommandHandler {
      * @param characterService the character service
      * @param actionService    the action service
      * @param achievementService the achievement service for checking first-to achievements
-     * @param worldCurseService the world curse service for tracking cursed world participation
+     * @param guildModifierService the guild modifiers, read once per action (curses, auras and events)
      */
-    public RPGActionCommand(CharacterService characterService, ActionService actionService, AchievementService achievementService, WorldCurseService worldCurseService) {
+    public RPGActionCommand(CharacterService characterService, ActionService actionService, AchievementService achievementService, GuildModifierService guildModifierService) {
         this.characterService = characterService;
         this.actionService = actionService;
         this.achievementService = achievementService;
-        this.worldCurseService = worldCurseService;
+        this.guildModifierService = guildModifierService;
     }
 
     @Override
@@ -101,6 +103,7 @@ public class RPGActionCommand implements CommandHandler {
                     .queue();
             return;
         }
+        characterService.recordGuildActivity(userId, guildId);
 
         // Check if RPG is enabled
         if (!config.isEnabled()) {
@@ -122,7 +125,7 @@ public class RPGActionCommand implements CommandHandler {
         }
 
         // Check death/recovery status
-        character.checkRecovery(); // Auto-update recovery status
+        characterService.withCharacterLock(userId, character::checkRecovery); // Auto-update recovery status
         if (character.isDead()) {
             event.reply("💀 **You are dead!** A Priest can resurrect you with `/rpg-resurrect`.")
                     .setEphemeral(true)
@@ -150,7 +153,7 @@ public class RPGActionCommand implements CommandHandler {
 
         // Check action charges
         int refreshHours = config.getChargeRefreshHours();
-        if (!character.canPerformAction(refreshHours)) {
+        if (!characterService.withCharacterLock(userId, () -> character.canPerformAction(refreshHours))) {
             long secondsRemaining = character.getSecondsUntilChargeRefresh(refreshHours);
             Duration duration = Duration.ofSeconds(secondsRemaining);
             long hours = duration.toHours();
@@ -188,22 +191,27 @@ public class RPGActionCommand implements CommandHandler {
             return;
         }
 
+        // One snapshot for the whole action, so participation tracking and the action agree on the curses
+        GuildModifierSnapshot modifiers = guildModifierService.getSnapshot(config.getGuildId());
+
         // Track cursed world participation (Cursewalker and Bound to Death titles)
-        var activeCurses = worldCurseService.getActiveCurses(config.getGuildId());
+        List<WorldCurse> activeCurses = modifiers.getActiveCurses();
         boolean hasMinor = activeCurses.stream().anyMatch(c -> c.getType() == WorldCurse.CurseType.MINOR);
         boolean hasMajor = activeCurses.stream().anyMatch(c -> c.getType() == WorldCurse.CurseType.MAJOR);
-        if (hasMinor && hasMajor) {
-            character.setActedDuringBothCurses(true);
-        }
-        // Bound to Death: Necromancer active during March of the Dead
-        if (activeCurses.contains(WorldCurse.MAJOR_MARCH_OF_THE_DEAD) &&
-            character.getCharacterClass() == com.tatumgames.mikros.games.rpg.model.CharacterClass.NECROMANCER) {
-            character.addStoryFlag("Bound to Death"); // Track via story flag for now
-        }
+        characterService.withCharacterLock(userId, () -> {
+            if (hasMinor && hasMajor) {
+                character.setActedDuringBothCurses(true);
+            }
+            // Bound to Death: Necromancer active during March of the Dead
+            if (modifiers.hasCurse(WorldCurse.MAJOR_MARCH_OF_THE_DEAD) &&
+                character.getCharacterClass() == com.tatumgames.mikros.games.rpg.model.CharacterClass.NECROMANCER) {
+                character.addStoryFlag("Bound to Death"); // Track via story flag for now
+            }
+        });
 
         // Execute action
         try {
-            RPGActionOutcome outcome = actionService.executeAction(actionType, character, config);
+            RPGActionOutcome outcome = actionService.executeAction(actionType, character, config, modifiers);
             CharacterAction action = actionService.getAction(actionType);
 
             // Build result embed
@@ -250,11 +258,11 @@ public class RPGActionCommand implements CommandHandler {
                 int newLevel = character.getLevel();
                 results.append(String.format("\n\n🎉 **LEVEL UP!** You are now Level %d!",
                         newLevel));
-                
-                // Check for first-to level achievements
-                checkLevelAchievements(guildId, userId, newLevel);
             }
 
+            // Check for first-to achievements (re-tests only those whose counters changed)
+            checkFirstToAchievements(guildId, character);
+
             embed.addField("📊 Results", results.toString(), false);
 
             // Display item drops inline
@@ -319,30 +327,18 @@ public class RPGActionCommand implements CommandHandler {
     }
 
     /**
-     * Checks for first-to level achievements.
+     * Checks for first-to achievements.
      *
      * @param guildId the guild ID
-     * @param userId the user ID
-     * @param level the new level
+     * @param character the character that just acted
      */
-    private void checkLevelAchievements(String guildId, String userId, int level) {
-        AchievementType achievementType = null;
-        
-        if (level == 20) {
-            achievementType = AchievementType.FIRST_TO_LEVEL_20;
-        } else if (level == 30) {
-            achievementType = AchievementType.FIRST_TO_LEVEL_30;
-        } else if (level == 50) {
-            achievementType = AchievementType.FIRST_TO_LEVEL_50;
-        }
-        
-        if (achievementType != null) {
-            boolean claimed = achievementService.checkAndClaimFirstTo(guildId, achievementType, userId);
-            if (claimed) {
-                logger.info("User {} claimed first-to achievement {} at level {} in guild {}",
-                        userId, achievementType, level, guildId);
-                // TODO: Announce achievement (will be handled by AchievementAnnouncementService)
-            }
+    private void checkFirstToAchievements(String guildId, RPGCharacter character) {
+        List<AchievementType> claimed = characterService.withCharacterLock(character.getDiscordId(),
+                () -> achievementService.claimFirstToAchievements(guildId, character));
+        for (AchievementType achievementType : claimed) {
+            logger.info("User {} claimed first-to achievement {} at level {} in guild {}",
+                    character.getDiscordId(), achievementType, character.getLevel(), guildId);
+            // TODO: Announce achievement (will be handled by AchievementAnnouncementService)
         }
     }
 
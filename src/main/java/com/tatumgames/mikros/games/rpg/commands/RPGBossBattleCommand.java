@@ -7,6 +7,7 @@ import com.tatumgames.mikros.games.rpg.model.Boss;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.model.SuperBoss;
 import com.tatumgames.mikros.games.rpg.curse.WorldCurse;
+import com.tatumgames.mikros.games.rpg.service.BossAttackBatcher;
 import com.tatumgames.mikros.games.rpg.service.BossService;
 import com.tatumgames.mikros.games.rpg.service.CharacterService;
 import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
@@ -35,6 +36,7 @@ public class RPGBossBattleCommand implements CommandHandler {
     private final CharacterService characterService;
     private final BossService bossService;
     private final WorldCurseService worldCurseService;
+    private final BossAttackBatcher attackBatcher;
 
     /**
      * Creates a new RPGBossBattleCommand handler.
@@ -42,11 +44,14 @@ public class RPGBossBattleCommand implements CommandHandler {
      * @param characterService the character service
      * @param bossService      the boss service
      * @param worldCurseService the world curse service
+     * @param attackBatcher    the batcher that applies boss attacks
      */
-    public RPGBossBattleCommand(CharacterService characterService, BossService bossService, WorldCurseService worldCurseService) {
+    public RPGBossBattleCommand(CharacterService characterService, BossService bossService,
+                                WorldCurseService worldCurseService, BossAttackBatcher attackBatcher) {
         this.characterService = characterService;
         this.bossService = bossService;
         this.worldCurseService = worldCurseService;
+        this.attackBatcher = attackBatcher;
     }
 
     @Override
@@ -135,7 +140,8 @@ public class RPGBossBattleCommand implements CommandHandler {
             return;
         }
 
-        // Check if character has heroic charges
+        // Check if character has heroic charges (after any refresh owed from a new boss here)
+        bossService.applyHeroicRefresh(guildId, character);
         if (!character.canPerformHeroicAction()) {
             int remaining = character.getHeroicCharges();
             event.reply(String.format("""
@@ -170,18 +176,20 @@ public class RPGBossBattleCommand implements CommandHandler {
             return;
         }
 
-        // Battle boss (this consumes a heroic charge)
-        int damage = bossService.attackBoss(guildId, character);
-
-        if (damage == 0) {
-            event.reply("❌ Failed to battle boss. Please try again.")
-                    .setEphemeral(true)
-                    .queue();
-            return;
-        }
+        // Battle boss (this consumes a heroic charge); attacks are applied in short per-guild batches
+        attackBatcher.submit(guildId, character).whenComplete((damage, error) -> {
+            if (error != null || damage == 0) {
+                event.reply("❌ Failed to battle boss. Please try again.")
+                        .setEphemeral(true)
+                        .queue();
+                return;
+            }
+            replyBattleResult(event, character, userId, guildId, boss, superBoss, damage);
+        });
+    }
 
-        // Consume heroic charge after successful battle
-        character.useHeroicCharge();
+    private void replyBattleResult(SlashCommandInteractionEvent event, RPGCharacter character, String userId,
+                                   String guildId, Boss boss, SuperBoss superBoss, int damage) {
         int remainingCharges = character.getHeroicCharges();
 
         // Build response
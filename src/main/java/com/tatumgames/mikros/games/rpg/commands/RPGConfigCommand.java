@@ -3,6 +3,7 @@ package com.tatumgames.mikros.games.rpg.commands;
 import com.tatumgames.mikros.admin.handler.CommandHandler;
 import com.tatumgames.mikros.admin.utils.AdminUtils;
 import com.tatumgames.mikros.games.rpg.config.RPGConfig;
+import com.tatumgames.mikros.games.rpg.service.BossScheduler;
 import com.tatumgames.mikros.games.rpg.service.CharacterService;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.Permission;
@@ -19,7 +20,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.*;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.ZoneId;
 
 /**
  * Command handler for /admin-rpg-config.
@@ -29,14 +32,17 @@ import java.time.Instant;
 public class RPGConfigCommand implements CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(RPGConfigCommand.class);
     private final CharacterService characterService;
+    private final BossScheduler bossScheduler;
 
     /**
      * Creates a new RPGConfigCommand handler.
      *
      * @param characterService the character service
+     * @param bossScheduler    the boss scheduler (re-keyed when the boss spawn time changes)
      */
-    public RPGConfigCommand(CharacterService characterService) {
+    public RPGConfigCommand(CharacterService characterService, BossScheduler bossScheduler) {
         this.characterService = characterService;
+        this.bossScheduler = bossScheduler;
     }
 
     @Override
@@ -53,7 +59,10 @@ public class RPGConfigCommand implements CommandHandler {
                         new SubcommandData("set-xp-multiplier", "Set XP gain multiplier")
                                 .addOption(OptionType.NUMBER, "multiplier", "XP multiplier (0.1-10.0)", true),
                         new SubcommandData("set-allow-no-role", "Allow or disallow users without roles to play")
-                                .addOption(OptionType.BOOLEAN, "enabled", "Allow users without roles?", true)
+                                .addOption(OptionType.BOOLEAN, "enabled", "Allow users without roles?", true),
+                        new SubcommandData("set-boss-spawn-time", "Set the local hour new bosses spawn at")
+                                .addOption(OptionType.INTEGER, "hour", "Hour of day (0-23), or leave empty for automatic", false)
+                                .addOption(OptionType.STRING, "timezone", "Time zone, e.g. America/Los_Angeles (default: UTC)", false)
                 )
                 .setGuildOnly(true)
                 .setDefaultPermissions(net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions.enabledFor(Permission.ADMINISTRATOR));
@@ -89,6 +98,7 @@ public class RPGConfigCommand implements CommandHandler {
             case "set-charge-refresh" -> handleSetChargeRefresh(event, guildId);
             case "set-xp-multiplier" -> handleSetXpMultiplier(event, guildId);
             case "set-allow-no-role" -> handleSetAllowNoRole(event, guildId);
+            case "set-boss-spawn-time" -> handleSetBossSpawnTime(event, guildId);
             default -> event.reply("❌ Unknown subcommand.").setEphemeral(true).queue();
         }
     }
@@ -132,6 +142,14 @@ public class RPGConfigCommand implements CommandHandler {
                 true
         );
 
+        embed.addField(
+                "Boss Spawn Time",
+                config.getBossSpawnHour() != null
+                        ? String.format("%02d:00 %s", config.getBossSpawnHour(), config.getBossSpawnZone())
+                        : "Automatic",
+                true
+        );
+
         embed.setTimestamp(Instant.now());
 
         event.replyEmbeds(embed.build()).queue();
@@ -255,6 +273,48 @@ public class RPGConfigCommand implements CommandHandler {
         logger.info("RPG allowNoRoleUsers set to {} for guild {}", enabled, guildId);
     }
 
+    private void handleSetBossSpawnTime(SlashCommandInteractionEvent event, String guildId) {
+        RPGConfig config = characterService.getConfig(guildId);
+        OptionMapping hourOption = event.getOption("hour");
+        OptionMapping timezoneOption = event.getOption("timezone");
+
+        Integer hour = hourOption != null ? hourOption.getAsInt() : null;
+        if (hour != null && (hour < 0 || hour > 23)) {
+            event.reply("❌ Boss spawn hour must be between 0 and 23")
+                    .setEphemeral(true)
+                    .queue();
+            return;
+        }
+
+        ZoneId zone = config.getBossSpawnZone();
+        if (timezoneOption != null) {
+            try {
+                zone = ZoneId.of(timezoneOption.getAsString().trim());
+            } catch (DateTimeException e) {
+                event.reply("❌ Unknown time zone. Use a region ID such as `America/Los_Angeles` or `UTC`.")
+                        .setEphemeral(true)
+                        .queue();
+                return;
+            }
+        }
+
+        config.setBossSpawnHour(hour);
+        config.setBossSpawnZone(zone);
+        characterService.updateConfig(config);
+        bossScheduler.rescheduleGuild(guildId);
+
+        if (hour == null) {
+            event.reply("✅ Bosses will spawn at this server's **automatic** time slot").queue();
+        } else {
+            event.reply(String.format(
+                    "✅ Bosses will spawn daily at **%02d:00 %s**",
+                    hour, zone
+            )).queue();
+        }
+
+        logger.info("RPG boss spawn time set to {} ({}) for guild {}", hour != null ? hour : "automatic", zone, guildId);
+    }
+
     @Override
     public String getCommandName() {
         return "admin-rpg-config";
@@ -150,7 +150,8 @@ public class RPGCraftCommand implements CommandHandler {
                 return;
             }
             
-            result = craftingService.craftInfusion(character, infusionType);
+            result = characterService.withCharacterLock(userId, () -> characterService.withActionStream(character,
+                    () -> craftingService.craftInfusion(character, infusionType)));
             
             if (result == CraftingResult.SUCCESS) {
                 embed.setColor(Color.GREEN);
@@ -203,7 +204,8 @@ public class RPGCraftCommand implements CommandHandler {
                 return;
             }
             
-            result = craftingService.craft(character, itemType);
+            result = characterService.withCharacterLock(userId, () -> characterService.withActionStream(character,
+                    () -> craftingService.craft(character, itemType)));
             
             if (result == CraftingResult.SUCCESS) {
                 embed.setColor(Color.GREEN);
@@ -262,7 +264,8 @@ public class RPGCraftCommand implements CommandHandler {
                 return;
             }
             
-            result = craftingService.craft(character, itemType);
+            result = characterService.withCharacterLock(userId, () -> characterService.withActionStream(character,
+                    () -> craftingService.craft(character, itemType)));
             
             if (result == CraftingResult.SUCCESS) {
                 embed.setColor(Color.GREEN);
@@ -21,6 +21,7 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.*;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Command handler for /rpg-duel.
@@ -150,12 +151,26 @@ public class RPGDuelCommand implements CommandHandler {
             return;
         }
 
-        // Execute duel
-        RPGActionOutcome outcome = duelAction.executeDuel(challenger, target, config);
+        characterService.recordGuildActivity(challengerId, guildId);
+        characterService.recordGuildActivity(targetId, guildId);
 
-        // Update records
-        challenger.recordDuel(outcome.success());
-        target.recordDuel(!outcome.success());
+        // Execute duel and update records with both characters locked; re-check the limits under the lock
+        RPGActionOutcome outcome = characterService.withCharacterLocks(List.of(challengerId, targetId), () -> {
+            if (!challenger.canDuel() || target.isDead() || target.isRecovering()) {
+                return null;
+            }
+            RPGActionOutcome result = characterService.withActionStream(challenger,
+                    () -> duelAction.executeDuel(challenger, target, config));
+            challenger.recordDuel(result.success());
+            target.recordDuel(!result.success());
+            return result;
+        });
+        if (outcome == null) {
+            event.reply("❌ The duel could not start: one of you is no longer able to fight. Try again later.")
+                    .setEphemeral(true)
+                    .queue();
+            return;
+        }
 
         // Build result embed
         EmbedBuilder embed = new EmbedBuilder();
@@ -1,50 +1,66 @@
 package com.tatumgames.mikros.games.rpg.commands;
 
 import com.tatumgames.mikros.admin.handler.CommandHandler;
-import com.tatumgames.mikros.config.ConfigLoader;
+import com.tatumgames.mikros.games.rpg.leaderboard.LeaderboardOrdering;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.service.CharacterService;
+import com.tatumgames.mikros.games.rpg.service.MafiaMembershipService;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Guild;
-import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.*;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Command handler for /rpg-leaderboard.
- * Shows top characters by level and XP with Mafia Member status and pagination.
+ * Shows top characters by level and XP (or boss kills / duels won), globally or for this server,
+ * with Mafia Member status, pagination and the caller's own rank.
  */
 @SuppressWarnings("ClassCanBeRecord")
 public class RPGLeaderboardCommand implements CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(RPGLeaderboardCommand.class);
     private final CharacterService characterService;
-    private final ConfigLoader configLoader;
+    private final MafiaMembershipService mafiaMembershipService;
     private static final int ENTRIES_PER_PAGE = 25;
 
     /**
      * Creates a new RPGLeaderboardCommand handler.
      *
      * @param characterService the character service
-     * @param configLoader the configuration loader
+     * @param mafiaMembershipService the MIKROS Mafia membership index
      */
-    public RPGLeaderboardCommand(CharacterService characterService, ConfigLoader configLoader) {
+    public RPGLeaderboardCommand(CharacterService characterService, MafiaMembershipService mafiaMembershipService) {
         this.characterService = characterService;
-        this.configLoader = configLoader;
+        this.mafiaMembershipService = mafiaMembershipService;
     }
 
     @Override
     public CommandData getCommandData() {
+        OptionData boardOption = new OptionData(OptionType.STRING, "board", "What to rank by (default: level)", false);
+        for (LeaderboardOrdering ordering : LeaderboardOrdering.values()) {
+            boardOption.addChoice(ordering.getDisplayName(), ordering.getOptionValue());
+        }
+        OptionData scopeOption = new OptionData(OptionType.STRING, "scope", "Global or this server (default: global)", false)
+                .addChoice("All servers", "global")
+                .addChoice("This server", "server");
+
         return Commands.slash("rpg-leaderboard", "View top RPG characters by level and XP")
-                .addOption(OptionType.INTEGER, "page", "Page number (default: 1)", false);
+                .addOption(OptionType.INTEGER, "page", "Page number (default: 1)", false)
+                .addOptions(boardOption, scopeOption);
     }
 
     @Override
@@ -60,10 +76,19 @@ public class RPGLeaderboardCommand implements CommandHandler {
             return;
         }
 
-        // Get all characters and calculate pagination
-        List<RPGCharacter> allCharacters = characterService.getLeaderboard(Integer.MAX_VALUE);
+        OptionMapping boardOption = event.getOption("board");
+        LeaderboardOrdering ordering = boardOption != null
+                ? LeaderboardOrdering.fromOptionValue(boardOption.getAsString())
+                : LeaderboardOrdering.LEVEL;
+        OptionMapping scopeOption = event.getOption("scope");
+        boolean serverScope = scopeOption != null && "server".equals(scopeOption.getAsString())
+                && event.getGuild() != null;
+        String boardGuildId = serverScope ? event.getGuild().getId() : null;
 
-        if (allCharacters.isEmpty()) {
+        // Board size and the requested page come straight from the ranked index
+        int boardSize = characterService.getLeaderboardSize(boardGuildId, ordering);
+
+        if (boardSize == 0) {
             String message = """
                     ❌ No characters have been registered yet!
                     
@@ -75,7 +100,7 @@ public class RPGLeaderboardCommand implements CommandHandler {
         }
 
         // Calculate pagination
-        int totalPages = (int) Math.ceil((double) allCharacters.size() / ENTRIES_PER_PAGE);
+        int totalPages = (int) Math.ceil((double) boardSize / ENTRIES_PER_PAGE);
         if (page > totalPages) {
             event.reply(String.format("❌ Page %d doesn't exist! There are only %d page(s).", page, totalPages))
                     .setEphemeral(true)
@@ -85,19 +110,19 @@ public class RPGLeaderboardCommand implements CommandHandler {
 
         // Get characters for this page
         int startIndex = (page - 1) * ENTRIES_PER_PAGE;
-        int endIndex = Math.min(startIndex + ENTRIES_PER_PAGE, allCharacters.size());
-        List<RPGCharacter> pageCharacters = allCharacters.subList(startIndex, endIndex);
+        List<RPGCharacter> pageCharacters =
+                characterService.getLeaderboardPage(boardGuildId, ordering, startIndex, ENTRIES_PER_PAGE);
 
         // Get MIKROS Mafia guild for member checking
         // Use current guild if MIKROS_MAFIA_GUILD_ID matches or is not configured
-        String mafiaGuildId = configLoader.getMafiaGuildId();
+        String mafiaGuildId = mafiaMembershipService.getMafiaGuildId();
         Guild currentGuild = event.getGuild();
         Guild mafiaGuild = null;
         
         if (currentGuild != null) {
             // If MIKROS_MAFIA_GUILD_ID is configured and matches current guild, use it
             // Otherwise, if not configured, assume current guild is the Mafia guild
-            if (mafiaGuildId != null && !mafiaGuildId.isBlank()) {
+            if (mafiaGuildId != null) {
                 if (mafiaGuildId.equals(currentGuild.getId())) {
                     mafiaGuild = currentGuild;
                     logger.debug("Using current guild as MIKROS Mafia guild: {} ({})", currentGuild.getName(), mafiaGuildId);
@@ -115,42 +140,63 @@ public class RPGLeaderboardCommand implements CommandHandler {
             }
         }
 
-        // Build leaderboard embed
+        int ownRank = characterService.getLeaderboardRank(boardGuildId, ordering, event.getUser().getId());
+        Function<Set<String>, MessageEmbed> render = mafiaMembers -> buildLeaderboardEmbed(
+                pageCharacters, mafiaMembers, ordering, serverScope, page, totalPages, boardSize, ownRank);
+
+        if (mafiaGuild == null) {
+            event.replyEmbeds(render.apply(Set.of())).queue();
+            return;
+        }
+
+        // Membership normally comes from the index; only unknown users cost one batched lookup,
+        // in which case the reply is deferred so the lookup cannot break the 3-second reply window
+        List<String> userIds = pageCharacters.stream().map(RPGCharacter::getDiscordId).toList();
+        Map<String, Boolean> known = mafiaMembershipService.getKnownMembership(mafiaGuild.getId(), userIds);
+        if (known.keySet().containsAll(userIds)) {
+            Set<String> mafiaMembers = new HashSet<>();
+            known.forEach((userId, isMember) -> {
+                if (isMember) {
+                    mafiaMembers.add(userId);
+                }
+            });
+            event.replyEmbeds(render.apply(mafiaMembers)).queue();
+        } else {
+            event.deferReply().queue();
+            mafiaMembershipService.resolveMembers(mafiaGuild, userIds,
+                    mafiaMembers -> event.getHook().editOriginalEmbeds(render.apply(mafiaMembers)).queue());
+        }
+
+        logger.debug("Leaderboard requested - showing page {} ({} characters)", page, pageCharacters.size());
+    }
+
+    /**
+     * Builds the leaderboard embed for one page.
+     */
+    private MessageEmbed buildLeaderboardEmbed(List<RPGCharacter> pageCharacters, Set<String> mafiaMembers,
+                                               LeaderboardOrdering ordering, boolean serverScope, int page,
+                                               int totalPages, int boardSize, int ownRank) {
         EmbedBuilder embed = new EmbedBuilder();
-        embed.setTitle("🏆 RPG Leaderboard - Top Adventurers");
+        embed.setTitle("🏆 RPG Leaderboard - " + (ordering == LeaderboardOrdering.LEVEL
+                ? "Top Adventurers" : ordering.getDisplayName()));
         embed.setColor(new Color(255, 215, 0)); // Gold color
-        embed.setDescription("The strongest characters across all servers");
+        embed.setDescription(serverScope
+                ? "The strongest characters in this server"
+                : "The strongest characters across all servers");
 
         StringBuilder leaderboard = new StringBuilder();
-        int rank = startIndex + 1;
+        int rank = (page - 1) * ENTRIES_PER_PAGE + 1;
 
         for (RPGCharacter character : pageCharacters) {
             String medal = getMedal(rank - 1);
             String classEmoji = character.getCharacterClass().getEmoji();
 
             // Check if user is in MIKROS Mafia
-            String mafiaStatus = "❌ No";
-            if (mafiaGuild != null) {
-                try {
-                    // This makes a Discord API call to check if the user is a member
-                    // For 25 entries, this is 25 API calls per leaderboard view
-                    // Discord rate limit: ~50 requests/second, so this should be fine for normal usage
-                    Member member = mafiaGuild.retrieveMemberById(character.getDiscordId()).complete();
-                    if (member != null) {
-                        mafiaStatus = "✅ Yes";
-                        logger.trace("User {} ({}) is a Mafia member", character.getDiscordId(), character.getName());
-                    }
-                } catch (Exception e) {
-                    // Member not found or error retrieving - not in Mafia
-                    // This is expected for most users, so we don't log it at info level
-                    logger.trace("User {} ({}) is not a Mafia member or error checking: {}",
-                            character.getDiscordId(), character.getName(), e.getMessage());
-                }
-            }
+            String mafiaStatus = mafiaMembers.contains(character.getDiscordId()) ? "✅ Yes" : "❌ No";
 
             leaderboard.append(String.format("""
                             %s **#%d** - %s **%s**
-                            └ %s Level %d • %,d XP • HP: %d/%d
+                            └ %s Level %d • %,d XP • HP: %d/%d%s
                             └ Mafia Member? %s
                             
                             """,
@@ -163,6 +209,7 @@ public class RPGLeaderboardCommand implements CommandHandler {
                     character.getXp(),
                     character.getStats().getCurrentHp(),
                     character.getStats().getMaxHp(),
+                    formatScore(character, ordering),
                     mafiaStatus
             ));
 
@@ -171,18 +218,20 @@ public class RPGLeaderboardCommand implements CommandHandler {
 
         embed.addField("Top Characters", leaderboard.toString(), false);
 
+        if (ownRank >= 0) {
+            embed.addField("Your Rank", String.format("#%d of %d (page %d)",
+                    ownRank + 1, boardSize, ownRank / ENTRIES_PER_PAGE + 1), false);
+        }
+
         // Pagination footer
-        String footerText = buildFooterText(page, totalPages);
+        String footerText = buildFooterText(page, totalPages, boardSize);
         embed.setFooter(footerText);
         embed.setTimestamp(Instant.now());
 
-        event.replyEmbeds(embed.build()).queue();
-
-        logger.debug("Leaderboard requested - showing page {} ({} characters)", page, pageCharacters.size());
+        return embed.build();
     }
 
-    private String buildFooterText(int page, int totalPages) {
-        int totalCharacters = characterService.getCharacterCount();
+    private String buildFooterText(int page, int totalPages, int totalCharacters) {
         if (totalPages > 1) {
             return String.format(
                     "Page %d/%d • Total Characters: %d • Use /rpg-leaderboard page:%d for next page",
@@ -199,6 +248,17 @@ public class RPGLeaderboardCommand implements CommandHandler {
         }
     }
 
+    /**
+     * Formats the score a non-default ordering ranks by.
+     */
+    private String formatScore(RPGCharacter character, LeaderboardOrdering ordering) {
+        return switch (ordering) {
+            case LEVEL -> "";
+            case BOSS_KILLS -> String.format(" • 👹 %d bosses slain", character.getTotalBossKills());
+            case DUELS_WON -> String.format(" • ⚔️ %d duels won", character.getDuelsWon());
+        };
+    }
+
     /**
      * Gets medal emoji for rank.
      */
@@ -110,6 +110,7 @@ public class RPGRegisterCommand implements CommandHandler {
         // Create character
         try {
             RPGCharacter character = characterService.registerCharacter(userId, name, characterClass);
+            characterService.recordGuildActivity(userId, guildId);
 
             // Build welcome embed
             EmbedBuilder embed = new EmbedBuilder();
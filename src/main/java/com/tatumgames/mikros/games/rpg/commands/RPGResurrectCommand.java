@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.*;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Command handler for /rpg-resurrect.
@@ -112,7 +113,9 @@ public class RPGResurrectCommand implements CommandHandler {
 
         // Execute resurrection
         try {
-            RPGActionOutcome outcome = resurrectAction.executeWithTarget(priest, target, config);
+            RPGActionOutcome outcome = characterService.withCharacterLocks(List.of(userId, targetUserId),
+                    () -> characterService.withActionStream(priest,
+                            () -> resurrectAction.executeWithTarget(priest, target, config)));
 
             // Build result embed
             EmbedBuilder embed = new EmbedBuilder();
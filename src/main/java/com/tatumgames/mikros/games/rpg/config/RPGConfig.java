@@ -1,5 +1,8 @@
 package com.tatumgames.mikros.games.rpg.config;
 
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
 /**
  * Configuration for RPG system per guild.
  * <p>
@@ -16,6 +19,8 @@ public class RPGConfig {
     private int chargeRefreshHours; // New: hours until charges refresh (default: 12)
     private double xpMultiplier;
     private boolean allowNoRoleUsers; // Whether users without roles can play (default: true)
+    private Integer bossSpawnHour; // Local hour (0-23) bosses spawn at, or null to use the guild's spread slot
+    private ZoneId bossSpawnZone; // Zone bossSpawnHour is evaluated in (default: UTC)
 
     /**
      * Creates an RPG configuration.
@@ -29,6 +34,8 @@ public class RPGConfig {
         this.chargeRefreshHours = 12; // 12 hour charge refresh by default
         this.xpMultiplier = 1.0;   // Normal XP rate
         this.allowNoRoleUsers = true; // Allow users without roles by default
+        this.bossSpawnHour = null; // Spread across the day by default
+        this.bossSpawnZone = ZoneOffset.UTC;
     }
 
     /**
@@ -49,6 +56,8 @@ public class RPGConfig {
         this.chargeRefreshHours = chargeRefreshHours;
         this.xpMultiplier = xpMultiplier;
         this.allowNoRoleUsers = allowNoRoleUsers;
+        this.bossSpawnHour = null;
+        this.bossSpawnZone = ZoneOffset.UTC;
     }
 
     // Getters and setters
@@ -106,4 +115,43 @@ public class RPGConfig {
     public void setAllowNoRoleUsers(boolean allowNoRoleUsers) {
         this.allowNoRoleUsers = allowNoRoleUsers;
     }
+
+    /**
+     * Gets the local hour bosses spawn at.
+     *
+     * @return the hour (0-23), or null if bosses spawn at the guild's automatic slot
+     */
+    public Integer getBossSpawnHour() {
+        return bossSpawnHour;
+    }
+
+    /**
+     * Sets the local hour bosses spawn at.
+     *
+     * @param bossSpawnHour the hour (0-23), or null for the guild's automatic slot
+     */
+    public void setBossSpawnHour(Integer bossSpawnHour) {
+        if (bossSpawnHour != null && (bossSpawnHour < 0 || bossSpawnHour > 23)) {
+            throw new IllegalArgumentException("Boss spawn hour must be between 0 and 23");
+        }
+        this.bossSpawnHour = bossSpawnHour;
+    }
+
+    /**
+     * Gets the zone the boss spawn hour is evaluated in.
+     *
+     * @return the zone (default: UTC)
+     */
+    public ZoneId getBossSpawnZone() {
+        return bossSpawnZone;
+    }
+
+    /**
+     * Sets the zone the boss spawn hour is evaluated in.
+     *
+     * @param bossSpawnZone the zone, or null for UTC
+     */
+    public void setBossSpawnZone(ZoneId bossSpawnZone) {
+        this.bossSpawnZone = bossSpawnZone != null ? bossSpawnZone : ZoneOffset.UTC;
+    }
 }
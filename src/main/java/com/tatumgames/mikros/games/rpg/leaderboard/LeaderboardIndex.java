@@ -0,0 +1,154 @@
+package com.tatumgames.mikros.games.rpg.leaderboard;
+
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incrementally maintained RPG leaderboards.
+ * <p>
+ * Keeps one {@link RankedIndex} per ordering for the global board and for every guild board.
+ * Characters are global, so a guild board holds the characters that registered or played in that guild.
+ * Characters report their own changes (XP, level, boss kills, duels) through
+ * {@link RPGCharacter#setRankingListener}, so boards are never rebuilt from scratch.
+ */
+public class LeaderboardIndex {
+    // Returned for guilds that have no board yet; never written to
+    private static final RankedIndex<LeaderboardOrdering.RankKey> EMPTY_BOARD =
+            new RankedIndex<>(LeaderboardOrdering.RANKING);
+
+    private final Map<LeaderboardOrdering, RankedIndex<LeaderboardOrdering.RankKey>> globalBoards;
+
+    // guildId -> boards for that guild
+    private final Map<String, Map<LeaderboardOrdering, RankedIndex<LeaderboardOrdering.RankKey>>> guildBoards =
+            new ConcurrentHashMap<>();
+
+    // discordId -> guilds whose boards include the character
+    private final Map<String, Set<String>> guildsByCharacter = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public LeaderboardIndex() {
+        this.globalBoards = newBoards();
+    }
+
+    private static Map<LeaderboardOrdering, RankedIndex<LeaderboardOrdering.RankKey>> newBoards() {
+        Map<LeaderboardOrdering, RankedIndex<LeaderboardOrdering.RankKey>> boards =
+                new EnumMap<>(LeaderboardOrdering.class);
+        for (LeaderboardOrdering ordering : LeaderboardOrdering.values()) {
+            boards.put(ordering, new RankedIndex<>(LeaderboardOrdering.RANKING));
+        }
+        return boards;
+    }
+
+    /**
+     * Re-ranks a character on the global board and on every guild board it belongs to.
+     *
+     * @param character the character whose scores changed
+     */
+    public void update(RPGCharacter character) {
+        String discordId = character.getDiscordId();
+        place(globalBoards, character);
+        Set<String> guilds = guildsByCharacter.get(discordId);
+        if (guilds != null) {
+            for (String guildId : guilds) {
+                place(boardsFor(guildId), character);
+            }
+        }
+    }
+
+    /**
+     * Adds a character to a guild's boards. Does nothing if it is already there.
+     *
+     * @param character the character
+     * @param guildId   the guild ID
+     */
+    public void enroll(RPGCharacter character, String guildId) {
+        if (guildsByCharacter.computeIfAbsent(character.getDiscordId(), id -> ConcurrentHashMap.newKeySet())
+                .add(guildId)) {
+            place(boardsFor(guildId), character);
+        }
+    }
+
+    /**
+     * Removes a character from every board.
+     *
+     * @param discordId the Discord user ID
+     */
+    public void remove(String discordId) {
+        globalBoards.values().forEach(board -> board.remove(discordId));
+        Set<String> guilds = guildsByCharacter.remove(discordId);
+        if (guilds != null) {
+            for (String guildId : guilds) {
+                boardsFor(guildId).values().forEach(board -> board.remove(discordId));
+            }
+        }
+    }
+
+    /**
+     * Removes every character from every board.
+     */
+    public void clear() {
+        globalBoards.values().forEach(RankedIndex::clear);
+        guildBoards.clear();
+        guildsByCharacter.clear();
+    }
+
+    /**
+     * Gets a page of a board.
+     *
+     * @param guildId  the guild ID, or null for the global board
+     * @param ordering the ordering
+     * @param offset   the rank (0-based) of the first entry
+     * @param limit    the maximum number of entries
+     * @return Discord IDs in rank order
+     */
+    public List<String> getPage(String guildId, LeaderboardOrdering ordering, int offset, int limit) {
+        return board(guildId, ordering).page(offset, limit);
+    }
+
+    /**
+     * Gets a character's 0-based rank on a board.
+     *
+     * @param guildId   the guild ID, or null for the global board
+     * @param ordering  the ordering
+     * @param discordId the Discord user ID
+     * @return the rank, or -1 if the character is not on the board
+     */
+    public int getRank(String guildId, LeaderboardOrdering ordering, String discordId) {
+        return board(guildId, ordering).rankOf(discordId);
+    }
+
+    /**
+     * Gets the number of characters on a board.
+     *
+     * @param guildId  the guild ID, or null for the global board
+     * @param ordering the ordering
+     * @return the board size
+     */
+    public int getSize(String guildId, LeaderboardOrdering ordering) {
+        return board(guildId, ordering).size();
+    }
+
+    private RankedIndex<LeaderboardOrdering.RankKey> board(String guildId, LeaderboardOrdering ordering) {
+        if (guildId == null) {
+            return globalBoards.get(ordering);
+        }
+        Map<LeaderboardOrdering, RankedIndex<LeaderboardOrdering.RankKey>> boards = guildBoards.get(guildId);
+        return boards != null ? boards.get(ordering) : EMPTY_BOARD;
+    }
+
+    private Map<LeaderboardOrdering, RankedIndex<LeaderboardOrdering.RankKey>> boardsFor(String guildId) {
+        return guildBoards.computeIfAbsent(guildId, id -> newBoards());
+    }
+
+    private static void place(Map<LeaderboardOrdering, RankedIndex<LeaderboardOrdering.RankKey>> boards,
+                              RPGCharacter character) {
+        boards.forEach((ordering, board) -> board.put(character.getDiscordId(), ordering.keyOf(character)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.tatumgames.mikros.games.rpg.leaderboard;
+
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Orderings a character leaderboard can be ranked by.
+ * Every ordering ranks by a primary and a secondary score (both descending), then by Discord ID.
+ */
+public enum LeaderboardOrdering {
+    LEVEL("level", "Level & XP", RPGCharacter::getLevel, RPGCharacter::getXp),
+    BOSS_KILLS("bosses", "Bosses Slain", RPGCharacter::getTotalBossKills, RPGCharacter::getLevel),
+    DUELS_WON("duels", "Duels Won", RPGCharacter::getDuelsWon, RPGCharacter::getLevel);
+
+    /**
+     * Snapshot of a character's scores for one ordering.
+     *
+     * @param primary   the primary score
+     * @param secondary the tie-breaking score
+     * @param discordId the character's Discord ID (final tie-break)
+     */
+    public record RankKey(int primary, int secondary, String discordId) {
+    }
+
+    /**
+     * Highest scores first; equal scores in Discord ID order so every key is unique.
+     */
+    static final Comparator<RankKey> RANKING = Comparator.comparingInt(RankKey::primary).reversed()
+            .thenComparing(Comparator.comparingInt(RankKey::secondary).reversed())
+            .thenComparing(RankKey::discordId);
+
+    private final String optionValue;
+    private final String displayName;
+    private final ToIntFunction<RPGCharacter> primaryScore;
+    private final ToIntFunction<RPGCharacter> secondaryScore;
+
+    LeaderboardOrdering(String optionValue, String displayName,
+                        ToIntFunction<RPGCharacter> primaryScore, ToIntFunction<RPGCharacter> secondaryScore) {
+        this.optionValue = optionValue;
+        this.displayName = displayName;
+        this.primaryScore = primaryScore;
+        this.secondaryScore = secondaryScore;
+    }
+
+    /**
+     * Takes a snapshot of a character's scores.
+     *
+     * @param character the character
+     * @return the rank key
+     */
+    public RankKey keyOf(RPGCharacter character) {
+        return new RankKey(primaryScore.applyAsInt(character), secondaryScore.applyAsInt(character),
+                character.getDiscordId());
+    }
+
+    /**
+     * Gets the value used for this ordering in slash command choices.
+     *
+     * @return the option value
+     */
+    public String getOptionValue() {
+        return optionValue;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Finds an ordering by its slash command option value.
+     *
+     * @param optionValue the option value
+     * @return the ordering, or LEVEL if unknown
+     */
+    public static LeaderboardOrdering fromOptionValue(String optionValue) {
+        for (LeaderboardOrdering ordering : values()) {
+            if (ordering.optionValue.equalsIgnoreCase(optionValue)) {
+                return ordering;
+            }
+        }
+        return LEVEL;
+    }
+}
@@ -0,0 +1,306 @@
+package com.tatumgames.mikros.games.rpg.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe order-statistic index: a treap whose nodes carry subtree sizes.
+ * <p>
+ * Each entry is an id with a sort key; re-putting an id moves it to its new position. Updates take
+ * O(log n), rank lookups O(log n), and a page of {@code limit} entries at any offset O(log n + limit),
+ * so a leaderboard never has to copy or re-sort the whole population. Sort keys must be unique
+ * (include the id as a final tie-break).
+ *
+ * @param <K> the sort key type
+ */
+public class RankedIndex<K> {
+    private final Comparator<? super K> comparator;
+    private final Map<String, Node<K>> nodesById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SplittableRandom priorities = new SplittableRandom();
+    private Node<K> root;
+
+    private static final class Node<K> {
+        final String id;
+        final K key;
+        final int priority;
+        int size = 1;
+        Node<K> left;
+        Node<K> right;
+
+        Node(String id, K key, int priority) {
+            this.id = id;
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * The two halves of a split subtree.
+     */
+    private record Split<K>(Node<K> below, Node<K> atOrAbove) {
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @param comparator the ranking order; rank 0 is the smallest key
+     */
+    public RankedIndex(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Inserts an id, or moves it if its key changed.
+     *
+     * @param id  the entry id
+     * @param key the entry's current sort key
+     */
+    public void put(String id, K key) {
+        lock.writeLock().lock();
+        try {
+            Node<K> existing = nodesById.get(id);
+            if (existing != null) {
+                if (comparator.compare(existing.key, key) == 0) {
+                    return;
+                }
+                root = delete(root, existing.key);
+            }
+            Node<K> node = new Node<>(id, key, priorities.nextInt());
+            root = insert(root, node);
+            nodesById.put(id, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an id.
+     *
+     * @param id the entry id
+     * @return true if the id was present
+     */
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Node<K> existing = nodesById.remove(id);
+            if (existing == null) {
+                return false;
+            }
+            root = delete(root, existing.key);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether an id is indexed.
+     *
+     * @param id the entry id
+     * @return true if present
+     */
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return nodesById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the 0-based rank of an id.
+     *
+     * @param id the entry id
+     * @return the rank, or -1 if the id is not indexed
+     */
+    public int rankOf(String id) {
+        lock.readLock().lock();
+        try {
+            Node<K> target = nodesById.get(id);
+            if (target == null) {
+                return -1;
+            }
+            int rank = 0;
+            Node<K> node = root;
+            while (node != null) {
+                int cmp = comparator.compare(target.key, node.key);
+                if (cmp < 0) {
+                    node = node.left;
+                } else {
+                    rank += size(node.left);
+                    if (cmp == 0) {
+                        return rank;
+                    }
+                    rank++;
+                    node = node.right;
+                }
+            }
+            return -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a slice of ids in rank order.
+     *
+     * @param offset the rank of the first id to return
+     * @param limit  the maximum number of ids
+     * @return the ids, possibly empty
+     */
+    public List<String> page(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        }
+        lock.readLock().lock();
+        try {
+            List<String> ids = new ArrayList<>(Math.min(limit, Math.max(0, size(root) - offset)));
+            if (offset >= size(root) || limit == 0) {
+                return ids;
+            }
+
+            // Descend to the node at the offset, keeping the ancestors that follow it in order
+            Deque<Node<K>> pending = new ArrayDeque<>();
+            Node<K> node = root;
+            int remaining = offset;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (remaining < leftSize) {
+                    pending.push(node);
+                    node = node.left;
+                } else if (remaining == leftSize) {
+                    pending.push(node);
+                    break;
+                } else {
+                    remaining -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+
+            // In-order walk from there
+            while (ids.size() < limit && !pending.isEmpty()) {
+                Node<K> next = pending.pop();
+                ids.add(next.id);
+                for (Node<K> child = next.right; child != null; child = child.left) {
+                    pending.push(child);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed ids.
+     *
+     * @return the size
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all ids.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            nodesById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Node<K> insert(Node<K> node, Node<K> added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            // The new node becomes the root of this subtree
+            Split<K> parts = split(node, added.key);
+            added.left = parts.below();
+            added.right = parts.atOrAbove();
+            return update(added);
+        }
+        if (comparator.compare(added.key, node.key) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    private Node<K> delete(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(key, node.key);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = delete(node.left, key);
+        } else {
+            node.right = delete(node.right, key);
+        }
+        return update(node);
+    }
+
+    /**
+     * Splits a subtree into keys below and keys at or above the given key.
+     */
+    private Split<K> split(Node<K> node, K key) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (comparator.compare(node.key, key) < 0) {
+            Split<K> parts = split(node.right, key);
+            node.right = parts.below();
+            return new Split<>(update(node), parts.atOrAbove());
+        }
+        Split<K> parts = split(node.left, key);
+        node.left = parts.atOrAbove();
+        return new Split<>(parts.below(), update(node));
+    }
+
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private Node<K> update(Node<K> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.tatumgames.mikros.games.rpg.listener;
+
+import com.tatumgames.mikros.games.rpg.service.MafiaMembershipService;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps the {@link MafiaMembershipService} index current.
+ * Loads the Mafia guild's members once it is ready, then applies member join/leave events.
+ */
+public class MafiaMembershipListener extends ListenerAdapter {
+    private final MafiaMembershipService mafiaMembershipService;
+
+    public MafiaMembershipListener(MafiaMembershipService mafiaMembershipService) {
+        this.mafiaMembershipService = mafiaMembershipService;
+    }
+
+    @Override
+    public void onGuildReady(@NotNull GuildReadyEvent event) {
+        if (event.getGuild().getId().equals(mafiaMembershipService.getMafiaGuildId())) {
+            mafiaMembershipService.loadGuild(event.getGuild());
+        }
+    }
+
+    @Override
+    public void onGuildMemberJoin(@NotNull GuildMemberJoinEvent event) {
+        mafiaMembershipService.recordJoin(event.getGuild().getId(), event.getUser().getId());
+    }
+
+    @Override
+    public void onGuildMemberRemove(@NotNull GuildMemberRemoveEvent event) {
+        mafiaMembershipService.recordLeave(event.getGuild().getId(), event.getUser().getId());
+    }
+}
@@ -0,0 +1,245 @@
+package com.tatumgames.mikros.games.rpg.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Primitive reads and writes for {@link RPGCharacterCodec}, straight to and from a {@link ByteBuffer}.
+ * <p>
+ * Integers are unsigned LEB128 varints (7 bits per byte, low groups first), so small counters take
+ * one byte; negative values still round-trip, in 5 (int) or 10 (long) bytes. Strings are a varint
+ * UTF-8 byte length followed by the bytes; Discord IDs are written as numbers when they are snowflakes.
+ * A section is a length-prefixed run of fields: readers stop
+ * at its end, so fields appended by newer writers are skipped and fields missing from older writers
+ * read as absent.
+ */
+final class BinaryFields {
+    // Section lengths are written as padded 3-byte varints, so they can be filled in after the body
+    private static final int SECTION_LENGTH_BYTES = 3;
+    private static final int MAX_SECTION_LENGTH = (1 << (7 * SECTION_LENGTH_BYTES)) - 1;
+
+    private BinaryFields() {
+    }
+
+    static void writeVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Writes an instant as whole epoch seconds; sub-second precision is dropped.
+     */
+    static void writeInstant(ByteBuffer out, Instant instant) {
+        writeVarLong(out, instant.getEpochSecond());
+    }
+
+    static Instant readInstant(ByteBuffer in) {
+        return Instant.ofEpochSecond(readVarLong(in));
+    }
+
+    static void writeString(ByteBuffer out, String value) {
+        writeVarInt(out, utf8Length(value));
+        writeUtf8(out, value);
+    }
+
+    private static void writeUtf8(ByteBuffer out, String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >>> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >>> 18)));
+                out.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?'); // Unpaired surrogate, as String.getBytes would write it
+            } else {
+                out.put((byte) (0xE0 | (c >>> 12)));
+                out.put((byte) (0x80 | ((c >>> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Writes a Discord ID. Snowflakes (canonical non-negative decimal numbers) are written as a varint
+     * of the number, about half the size of their text; anything else is written as a string. The low
+     * bit of the leading varint tells the two apart.
+     */
+    static void writeId(ByteBuffer out, String id) {
+        long snowflake = parseSnowflake(id);
+        if (snowflake >= 0) {
+            writeVarLong(out, (snowflake << 1) | 1);
+        } else {
+            writeVarLong(out, (long) utf8Length(id) << 1);
+            writeUtf8(out, id);
+        }
+    }
+
+    static String readId(ByteBuffer in) {
+        long tag = readVarLong(in);
+        if ((tag & 1) != 0) {
+            return Long.toString(tag >>> 1);
+        }
+        return readUtf8(in, tag >>> 1);
+    }
+
+    /**
+     * Reads a string. Heap buffers are decoded in place; direct buffers are copied out first.
+     */
+    static String readString(ByteBuffer in) {
+        return readUtf8(in, readVarInt(in) & 0xFFFFFFFFL);
+    }
+
+    private static String readUtf8(ByteBuffer in, long encodedLength) {
+        if (encodedLength > in.remaining()) {
+            throw new IllegalArgumentException("String length " + encodedLength + " exceeds the remaining data");
+        }
+        int length = (int) encodedLength;
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Starts a section, reserving room for its length.
+     *
+     * @return the position to pass to {@link #endSection}
+     */
+    static int beginSection(ByteBuffer out) {
+        int start = out.position();
+        for (int i = 0; i < SECTION_LENGTH_BYTES; i++) {
+            out.put((byte) 0);
+        }
+        return start;
+    }
+
+    /**
+     * Ends a section, filling in its length.
+     *
+     * @param start the position returned by {@link #beginSection}
+     */
+    static void endSection(ByteBuffer out, int start) {
+        int length = out.position() - start - SECTION_LENGTH_BYTES;
+        if (length > MAX_SECTION_LENGTH) {
+            throw new IllegalArgumentException("Section of " + length + " bytes exceeds " + MAX_SECTION_LENGTH);
+        }
+        out.put(start, (byte) ((length & 0x7F) | 0x80));
+        out.put(start + 1, (byte) (((length >>> 7) & 0x7F) | 0x80));
+        out.put(start + 2, (byte) (length >>> 14));
+    }
+
+    /**
+     * Enters a section: reads its length and limits the buffer to its end.
+     *
+     * @return the previous limit, to pass to {@link #exitSection}
+     */
+    static int enterSection(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Section length " + length + " exceeds the remaining data");
+        }
+        int previousLimit = in.limit();
+        in.limit(in.position() + length);
+        return previousLimit;
+    }
+
+    /**
+     * Leaves a section, skipping any fields the reader did not consume.
+     *
+     * @param previousLimit the limit returned by {@link #enterSection}
+     */
+    static void exitSection(ByteBuffer in, int previousLimit) {
+        in.position(in.limit());
+        in.limit(previousLimit);
+    }
+
+    // The ID's value if it is a snowflake small enough to tag, otherwise -1
+    private static long parseSnowflake(String id) {
+        int length = id.length();
+        if (length == 0 || length > 19 || (length > 1 && id.charAt(0) == '0')) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            int digit = c - '0';
+            if (value > ((Long.MAX_VALUE >>> 1) - digit) / 10) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2; // 4 bytes for the pair's 2 chars
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+}
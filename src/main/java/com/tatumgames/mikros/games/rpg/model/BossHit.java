@@ -0,0 +1,15 @@
+package com.tatumgames.mikros.games.rpg.model;
+
+/**
+ * Outcome of one hit on a boss.
+ *
+ * @param damage      the damage actually applied: the hit's damage, less any overkill, or 0 if the
+ *                    boss was already at 0 HP
+ * @param killingBlow true only for the hit that brought the boss to 0 HP
+ */
+public record BossHit(int damage, boolean killingBlow) {
+    /**
+     * A hit on a boss that was already slain.
+     */
+    public static final BossHit MISSED = new BossHit(0, false);
+}
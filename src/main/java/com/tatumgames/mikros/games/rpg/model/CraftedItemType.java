@@ -5,11 +5,11 @@ package com.tatumgames.mikros.games.rpg.model;
  * Each item requires essences and a catalyst to craft.
  */
 public enum CraftedItemType {
-    EMBER_INFUSION("Ember Infusion", "🔥", EssenceType.EMBER_SHARD, 5, CatalystType.ANCIENT_VIAL, 1, "STR", 1),
-    GALE_ETCHING("Gale Etching", "🌪️", EssenceType.GALE_FRAGMENT, 5, CatalystType.ANCIENT_VIAL, 1, "AGI", 1),
-    MIND_SIGIL("Mind Sigil", "🔮", EssenceType.MIND_CRYSTAL, 4, CatalystType.RUNIC_BINDING, 1, "INT", 1),
-    CHARM_OF_FORTUNE("Charm of Fortune", "🍀", EssenceType.FATE_CLOVER, 4, CatalystType.RUNIC_BINDING, 1, "LUCK", 1),
-    VITAL_RUNE("Vital Rune", "🩸", EssenceType.VITAL_ASH, 3, CatalystType.MONSTER_CORE, 1, "HP", 5);
+    EMBER_INFUSION("Ember Infusion", "🔥", EssenceType.EMBER_SHARD, 5, CatalystType.ANCIENT_VIAL, 1, CraftedStat.STR, 1),
+    GALE_ETCHING("Gale Etching", "🌪️", EssenceType.GALE_FRAGMENT, 5, CatalystType.ANCIENT_VIAL, 1, CraftedStat.AGI, 1),
+    MIND_SIGIL("Mind Sigil", "🔮", EssenceType.MIND_CRYSTAL, 4, CatalystType.RUNIC_BINDING, 1, CraftedStat.INT, 1),
+    CHARM_OF_FORTUNE("Charm of Fortune", "🍀", EssenceType.FATE_CLOVER, 4, CatalystType.RUNIC_BINDING, 1, CraftedStat.LUCK, 1),
+    VITAL_RUNE("Vital Rune", "🩸", EssenceType.VITAL_ASH, 3, CatalystType.MONSTER_CORE, 1, CraftedStat.HP, 5);
 
     private final String displayName;
     private final String emoji;
@@ -17,18 +17,18 @@ public enum CraftedItemType {
     private final int essenceCount;
     private final CatalystType requiredCatalyst;
     private final int catalystCount;
-    private final String statName;
+    private final CraftedStat craftedStat;
     private final int statBonus;
 
     CraftedItemType(String displayName, String emoji, EssenceType requiredEssence, int essenceCount,
-                    CatalystType requiredCatalyst, int catalystCount, String statName, int statBonus) {
+                    CatalystType requiredCatalyst, int catalystCount, CraftedStat craftedStat, int statBonus) {
         this.displayName = displayName;
         this.emoji = emoji;
         this.requiredEssence = requiredEssence;
         this.essenceCount = essenceCount;
         this.requiredCatalyst = requiredCatalyst;
         this.catalystCount = catalystCount;
-        this.statName = statName;
+        this.craftedStat = craftedStat;
         this.statBonus = statBonus;
     }
 
@@ -56,8 +56,12 @@ public enum CraftedItemType {
         return catalystCount;
     }
 
+    public CraftedStat getCraftedStat() {
+        return craftedStat;
+    }
+
     public String getStatName() {
-        return statName;
+        return craftedStat.getStatName();
     }
 
     public int getStatBonus() {
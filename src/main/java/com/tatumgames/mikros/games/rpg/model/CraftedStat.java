@@ -0,0 +1,45 @@
+package com.tatumgames.mikros.games.rpg.model;
+
+/**
+ * Enum representing the stats that crafted items can permanently raise.
+ * Each stat is capped separately in the inventory's crafted bonuses.
+ */
+public enum CraftedStat {
+    STR("STR"),
+    AGI("AGI"),
+    INT("INT"),
+    LUCK("LUCK"),
+    HP("HP");
+
+    private static final CraftedStat[] VALUES = values();
+
+    private final String statName;
+
+    CraftedStat(String statName) {
+        this.statName = statName;
+    }
+
+    /**
+     * Gets the short stat name, as shown to players and accepted by {@link RPGStats#increaseStat(String, int)}.
+     *
+     * @return the stat name (STR, AGI, INT, LUCK, HP)
+     */
+    public String getStatName() {
+        return statName;
+    }
+
+    /**
+     * Looks up a stat by its short name, ignoring case.
+     *
+     * @param statName the stat name (STR, AGI, INT, LUCK, HP)
+     * @return the stat, or null if the name is not a craftable stat
+     */
+    public static CraftedStat fromStatName(String statName) {
+        for (CraftedStat stat : VALUES) {
+            if (stat.statName.equalsIgnoreCase(statName)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+}
@@ -1,9 +1,18 @@
 package com.tatumgames.mikros.games.rpg.model;
 
+import com.tatumgames.mikros.games.rpg.achievements.ProgressCounter;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressRuleSet;
+import com.tatumgames.mikros.services.GameClock;
+
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Represents a player's RPG character.
@@ -16,6 +25,25 @@ import java.util.Objects;
  * - Prestige levels after max level
  */
 public class RPGCharacter {
+    // Bits of the flags field written by writeState: booleans, then which nullable fields follow
+    private static final int FLAG_DEAD = 1;
+    private static final int FLAG_RECOVERING = 1 << 1;
+    private static final int FLAG_RAISED_FALLEN_THIS_BOSS = 1 << 2;
+    private static final int FLAG_ACTED_DURING_BOTH_CURSES = 1 << 3;
+    private static final int FLAG_FROSTBITE = 1 << 4;
+    private static final int HAS_LAST_ACTION_TIME = 1 << 5;
+    private static final int HAS_LAST_CHARGE_REFRESH_TIME = 1 << 6;
+    private static final int HAS_RECOVER_UNTIL = 1 << 7;
+    private static final int HAS_LAST_DUEL_TIME = 1 << 8;
+    private static final int HAS_LAST_DONATION_RECEIVED = 1 << 9;
+    private static final int HAS_TITLE = 1 << 10;
+    private static final int HAS_LEGENDARY_AURA = 1 << 11;
+    private static final int HAS_LAST_ACTION_TYPE = 1 << 12;
+    private static final int HAS_DARK_RELIC_MODIFIERS = 1 << 13;
+
+    private static final CharacterClass[] CHARACTER_CLASSES = CharacterClass.values();
+    private static final InfusionType[] INFUSION_TYPES = InfusionType.values();
+
     private final String discordId;
     private String name;
     private final CharacterClass characterClass;
@@ -51,6 +79,7 @@ public class RPGCharacter {
 
     // Heroic charge system (for boss battles)
     private int heroicCharges = 5; // Fixed at 5 charges, refreshed when new boss spawns
+    private final Map<String, Long> heroicRefreshEpochs = new HashMap<>(); // guildId -> boss epoch last refreshed for
 
     // Achievement system
     private String title; // Current equipped title (nullable)
@@ -88,6 +117,18 @@ public class RPGCharacter {
     private int timesResurrectedOthers = 0; // Times Priest resurrected others (for The Rescuer recognition)
     private java.util.Set<com.tatumgames.mikros.games.rpg.model.InfusionType> infusionsCrafted; // Set of infusion types crafted (for Master of Elements recognition)
 
+    // Numbers this character's random game invocations, so each outcome can be replayed
+    private long actionSequence = 0;
+
+    // Notified when a ranked score (level, XP, boss kills, duels won) changes
+    private Consumer<RPGCharacter> rankingListener;
+
+    // Notified when action charges or the last action time change
+    private Consumer<RPGCharacter> chargeListener;
+
+    // Per ProgressRuleSet, the ProgressCounter bits changed since that set last evaluated this character
+    private final long[] changedCounters = new long[ProgressRuleSet.values().length];
+
     /**
      * Creates a new RPG character.
      *
@@ -103,12 +144,13 @@ public class RPGCharacter {
         this.xp = 0;
         this.xpToNextLevel = calculateXpForNextLevel(1);
         this.stats = new RPGStats(characterClass);
+        this.stats.setChangeListener(() -> markChanged(ProgressCounter.STATS));
         this.lastActionTime = null;
-        this.createdAt = Instant.now();
+        this.createdAt = GameClock.now();
 
         // Initialize action charge system (dynamic max based on level)
         this.actionCharges = getMaxActionCharges(); // Will return 3 for level 1
-        this.lastChargeRefreshTime = Instant.now();
+        this.lastChargeRefreshTime = GameClock.now();
 
         // Initialize death/recovery system
         this.isDead = false;
@@ -165,6 +207,223 @@ public class RPGCharacter {
         // Initialize lore recognition tracking
         this.timesResurrectedOthers = 0;
         this.infusionsCrafted = new java.util.HashSet<>();
+
+        // Every rule is due on a character's first evaluation
+        Arrays.fill(this.changedCounters, -1L);
+    }
+
+    /**
+     * Restores a character written by {@link #writeState}. The buffer is limited to the character's
+     * section, so fields a newer writer appended are left unread. Listeners are not restored.
+     *
+     * @param in the buffer, positioned at the first field
+     */
+    RPGCharacter(ByteBuffer in) {
+        this.discordId = BinaryFields.readId(in);
+        this.name = BinaryFields.readString(in);
+        int classOrdinal = BinaryFields.readVarInt(in);
+        if (classOrdinal < 0 || classOrdinal >= CHARACTER_CLASSES.length) {
+            throw new IllegalArgumentException("Unknown character class ordinal " + classOrdinal);
+        }
+        this.characterClass = CHARACTER_CLASSES[classOrdinal];
+        this.level = BinaryFields.readVarInt(in);
+        this.xp = BinaryFields.readVarInt(in);
+        this.xpToNextLevel = BinaryFields.readVarInt(in);
+        this.stats = new RPGStats(BinaryFields.readVarInt(in), BinaryFields.readVarInt(in),
+                BinaryFields.readVarInt(in), BinaryFields.readVarInt(in),
+                BinaryFields.readVarInt(in), BinaryFields.readVarInt(in));
+        this.stats.setChangeListener(() -> markChanged(ProgressCounter.STATS));
+
+        int flags = BinaryFields.readVarInt(in);
+        this.isDead = (flags & FLAG_DEAD) != 0;
+        this.isRecovering = (flags & FLAG_RECOVERING) != 0;
+        this.raisedFallenThisBoss = (flags & FLAG_RAISED_FALLEN_THIS_BOSS) != 0;
+        this.actedDuringBothCurses = (flags & FLAG_ACTED_DURING_BOTH_CURSES) != 0;
+        this.hasFrostbite = (flags & FLAG_FROSTBITE) != 0;
+
+        this.createdAt = BinaryFields.readInstant(in);
+        this.lastActionTime = (flags & HAS_LAST_ACTION_TIME) != 0 ? BinaryFields.readInstant(in) : null;
+        this.lastChargeRefreshTime = (flags & HAS_LAST_CHARGE_REFRESH_TIME) != 0 ? BinaryFields.readInstant(in) : null;
+        this.recoverUntil = (flags & HAS_RECOVER_UNTIL) != 0 ? BinaryFields.readInstant(in) : null;
+        this.lastDuelTime = (flags & HAS_LAST_DUEL_TIME) != 0 ? BinaryFields.readInstant(in) : null;
+        this.lastDonationReceived = (flags & HAS_LAST_DONATION_RECEIVED) != 0 ? BinaryFields.readInstant(in) : null;
+
+        this.actionCharges = BinaryFields.readVarInt(in);
+        this.temporaryCharges = BinaryFields.readVarInt(in);
+        this.heroicCharges = BinaryFields.readVarInt(in);
+        this.enemiesKilled = BinaryFields.readVarInt(in);
+        this.bossesKilled = BinaryFields.readVarInt(in);
+        this.superBossesKilled = BinaryFields.readVarInt(in);
+        this.duelsWon = BinaryFields.readVarInt(in);
+        this.duelsLost = BinaryFields.readVarInt(in);
+        this.duelsInLast24Hours = BinaryFields.readVarInt(in);
+        this.totalExplores = BinaryFields.readVarInt(in);
+        this.totalRests = BinaryFields.readVarInt(in);
+        this.totalDeaths = BinaryFields.readVarInt(in);
+        this.totalResurrections = BinaryFields.readVarInt(in);
+        this.totalChargesDonated = BinaryFields.readVarInt(in);
+        this.exploreStreak = BinaryFields.readVarInt(in);
+        this.trainStreak = BinaryFields.readVarInt(in);
+        this.restStreak = BinaryFields.readVarInt(in);
+        this.battleStreak = BinaryFields.readVarInt(in);
+        this.consecutiveSameAction = BinaryFields.readVarInt(in);
+        this.timesRaisedFallen = BinaryFields.readVarInt(in);
+        this.topDamageBossKills = BinaryFields.readVarInt(in);
+        this.cursedBossFights = BinaryFields.readVarInt(in);
+        this.cursedResurrections = BinaryFields.readVarInt(in);
+        this.darkRelicActionsRemaining = BinaryFields.readVarInt(in);
+        this.timesResurrectedOthers = BinaryFields.readVarInt(in);
+        this.actionSequence = BinaryFields.readVarLong(in);
+
+        this.title = (flags & HAS_TITLE) != 0 ? BinaryFields.readString(in) : null;
+        this.legendaryAura = (flags & HAS_LEGENDARY_AURA) != 0 ? BinaryFields.readString(in) : null;
+        this.lastActionType = (flags & HAS_LAST_ACTION_TYPE) != 0 ? BinaryFields.readString(in) : null;
+        if ((flags & HAS_DARK_RELIC_MODIFIERS) != 0) {
+            this.darkRelicXpBonus = in.getDouble();
+            this.darkRelicDamagePenalty = in.getDouble();
+        }
+
+        int storyFlagCount = BinaryFields.readVarInt(in);
+        this.storyFlags = new ArrayList<>(Math.max(storyFlagCount, 2));
+        for (int i = 0; i < storyFlagCount; i++) {
+            this.storyFlags.add(BinaryFields.readString(in));
+        }
+        long infusionMask = BinaryFields.readVarLong(in);
+        this.infusionsCrafted = new java.util.HashSet<>();
+        for (InfusionType infusion : INFUSION_TYPES) {
+            if ((infusionMask & (1L << infusion.ordinal())) != 0) {
+                this.infusionsCrafted.add(infusion);
+            }
+        }
+        int heroicRefreshCount = BinaryFields.readVarInt(in);
+        for (int i = 0; i < heroicRefreshCount; i++) {
+            String guildId = BinaryFields.readId(in);
+            this.heroicRefreshEpochs.put(guildId, BinaryFields.readVarLong(in));
+        }
+
+        int previousLimit = BinaryFields.enterSection(in);
+        this.inventory = new RPGInventory(in);
+        BinaryFields.exitSection(in, previousLimit);
+
+        // Every rule is due on a restored character's first evaluation
+        Arrays.fill(this.changedCounters, -1L);
+    }
+
+    /**
+     * Writes this character for {@link RPGCharacterCodec}. Fields are only ever appended to the end of
+     * this layout (and of the inventory's), so older readers skip them and newer readers see them as
+     * absent in older data. Enums are written by ordinal, so their constants may only be appended too.
+     * Caller holds the character's lock.
+     *
+     * @param out the buffer
+     */
+    void writeState(ByteBuffer out) {
+        BinaryFields.writeId(out, discordId);
+        BinaryFields.writeString(out, name);
+        BinaryFields.writeVarInt(out, characterClass.ordinal());
+        BinaryFields.writeVarInt(out, level);
+        BinaryFields.writeVarInt(out, xp);
+        BinaryFields.writeVarInt(out, xpToNextLevel);
+        BinaryFields.writeVarInt(out, stats.getMaxHp());
+        BinaryFields.writeVarInt(out, stats.getCurrentHp());
+        BinaryFields.writeVarInt(out, stats.getStrength());
+        BinaryFields.writeVarInt(out, stats.getAgility());
+        BinaryFields.writeVarInt(out, stats.getIntelligence());
+        BinaryFields.writeVarInt(out, stats.getLuck());
+
+        boolean darkRelicModifiers = darkRelicXpBonus != 0.0 || darkRelicDamagePenalty != 0.0;
+        int flags = (isDead ? FLAG_DEAD : 0)
+                | (isRecovering ? FLAG_RECOVERING : 0)
+                | (raisedFallenThisBoss ? FLAG_RAISED_FALLEN_THIS_BOSS : 0)
+                | (actedDuringBothCurses ? FLAG_ACTED_DURING_BOTH_CURSES : 0)
+                | (hasFrostbite ? FLAG_FROSTBITE : 0)
+                | (lastActionTime != null ? HAS_LAST_ACTION_TIME : 0)
+                | (lastChargeRefreshTime != null ? HAS_LAST_CHARGE_REFRESH_TIME : 0)
+                | (recoverUntil != null ? HAS_RECOVER_UNTIL : 0)
+                | (lastDuelTime != null ? HAS_LAST_DUEL_TIME : 0)
+                | (lastDonationReceived != null ? HAS_LAST_DONATION_RECEIVED : 0)
+                | (title != null ? HAS_TITLE : 0)
+                | (legendaryAura != null ? HAS_LEGENDARY_AURA : 0)
+                | (lastActionType != null ? HAS_LAST_ACTION_TYPE : 0)
+                | (darkRelicModifiers ? HAS_DARK_RELIC_MODIFIERS : 0);
+        BinaryFields.writeVarInt(out, flags);
+
+        BinaryFields.writeInstant(out, createdAt);
+        if (lastActionTime != null) {
+            BinaryFields.writeInstant(out, lastActionTime);
+        }
+        if (lastChargeRefreshTime != null) {
+            BinaryFields.writeInstant(out, lastChargeRefreshTime);
+        }
+        if (recoverUntil != null) {
+            BinaryFields.writeInstant(out, recoverUntil);
+        }
+        if (lastDuelTime != null) {
+            BinaryFields.writeInstant(out, lastDuelTime);
+        }
+        if (lastDonationReceived != null) {
+            BinaryFields.writeInstant(out, lastDonationReceived);
+        }
+
+        BinaryFields.writeVarInt(out, actionCharges);
+        BinaryFields.writeVarInt(out, temporaryCharges);
+        BinaryFields.writeVarInt(out, heroicCharges);
+        BinaryFields.writeVarInt(out, enemiesKilled);
+        BinaryFields.writeVarInt(out, bossesKilled);
+        BinaryFields.writeVarInt(out, superBossesKilled);
+        BinaryFields.writeVarInt(out, duelsWon);
+        BinaryFields.writeVarInt(out, duelsLost);
+        BinaryFields.writeVarInt(out, duelsInLast24Hours);
+        BinaryFields.writeVarInt(out, totalExplores);
+        BinaryFields.writeVarInt(out, totalRests);
+        BinaryFields.writeVarInt(out, totalDeaths);
+        BinaryFields.writeVarInt(out, totalResurrections);
+        BinaryFields.writeVarInt(out, totalChargesDonated);
+        BinaryFields.writeVarInt(out, exploreStreak);
+        BinaryFields.writeVarInt(out, trainStreak);
+        BinaryFields.writeVarInt(out, restStreak);
+        BinaryFields.writeVarInt(out, battleStreak);
+        BinaryFields.writeVarInt(out, consecutiveSameAction);
+        BinaryFields.writeVarInt(out, timesRaisedFallen);
+        BinaryFields.writeVarInt(out, topDamageBossKills);
+        BinaryFields.writeVarInt(out, cursedBossFights);
+        BinaryFields.writeVarInt(out, cursedResurrections);
+        BinaryFields.writeVarInt(out, darkRelicActionsRemaining);
+        BinaryFields.writeVarInt(out, timesResurrectedOthers);
+        BinaryFields.writeVarLong(out, actionSequence);
+
+        if (title != null) {
+            BinaryFields.writeString(out, title);
+        }
+        if (legendaryAura != null) {
+            BinaryFields.writeString(out, legendaryAura);
+        }
+        if (lastActionType != null) {
+            BinaryFields.writeString(out, lastActionType);
+        }
+        if (darkRelicModifiers) {
+            out.putDouble(darkRelicXpBonus);
+            out.putDouble(darkRelicDamagePenalty);
+        }
+
+        BinaryFields.writeVarInt(out, storyFlags.size());
+        for (int i = 0; i < storyFlags.size(); i++) {
+            BinaryFields.writeString(out, storyFlags.get(i));
+        }
+        long infusionMask = 0;
+        for (InfusionType infusion : infusionsCrafted) {
+            infusionMask |= 1L << infusion.ordinal();
+        }
+        BinaryFields.writeVarLong(out, infusionMask);
+        BinaryFields.writeVarInt(out, heroicRefreshEpochs.size());
+        for (Map.Entry<String, Long> refresh : heroicRefreshEpochs.entrySet()) {
+            BinaryFields.writeId(out, refresh.getKey());
+            BinaryFields.writeVarLong(out, refresh.getValue());
+        }
+
+        int inventorySection = BinaryFields.beginSection(out);
+        inventory.writeState(out);
+        BinaryFields.endSection(out, inventorySection);
     }
 
     /**
@@ -193,6 +452,7 @@ public class RPGCharacter {
             leveledUp = true;
         }
 
+        notifyRankingChanged();
         return leveledUp;
     }
 
@@ -208,12 +468,14 @@ public class RPGCharacter {
         this.xp -= this.xpToNextLevel;
         this.xpToNextLevel = calculateXpForNextLevel(this.level);
         this.stats.applyLevelUpGrowth(this.characterClass);
+        markChanged(ProgressCounter.LEVEL);
         
         // Check if max charges increased (Fibonacci threshold reached)
         int newMaxCharges = getMaxActionCharges();
         if (newMaxCharges > oldMaxCharges) {
             // Player gained a charge slot - give +1 charge immediately as level-up bonus
             this.actionCharges = Math.min(newMaxCharges, this.actionCharges + 1);
+            notifyChargesChanged();
         }
         
         // Check for lore recognition milestones (level-based)
@@ -229,6 +491,79 @@ public class RPGCharacter {
         levelUp(null);
     }
 
+    /**
+     * Takes the next sequence number for a random game invocation (action, boss attack, duel, craft).
+     * Caller holds the character's lock.
+     *
+     * @return the sequence number
+     */
+    public long nextActionSequence() {
+        return ++actionSequence;
+    }
+
+    /**
+     * Gets the sequence number of the character's latest random game invocation.
+     *
+     * @return the sequence number (0 before the first invocation)
+     */
+    public long getActionSequence() {
+        return actionSequence;
+    }
+
+    /**
+     * Sets the listener told about changes to ranked scores, so leaderboards can re-rank the character
+     * incrementally.
+     *
+     * @param rankingListener the listener (null to detach)
+     */
+    public void setRankingListener(Consumer<RPGCharacter> rankingListener) {
+        this.rankingListener = rankingListener;
+    }
+
+    private void notifyRankingChanged() {
+        Consumer<RPGCharacter> listener = rankingListener;
+        if (listener != null) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Sets the listener told about changes to action charges, activity, death, recovery or donations
+     * received, so the donation index can re-bucket the character incrementally.
+     *
+     * @param chargeListener the listener (null to detach)
+     */
+    public void setChargeListener(Consumer<RPGCharacter> chargeListener) {
+        this.chargeListener = chargeListener;
+    }
+
+    private void notifyChargesChanged() {
+        Consumer<RPGCharacter> listener = chargeListener;
+        if (listener != null) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Takes the progress counters changed since a rule set last called this, and clears them for
+     * that set. Caller holds the character's lock.
+     *
+     * @param ruleSet the rule set
+     * @return the changed counters, one {@link ProgressCounter#bit()} each
+     */
+    public long takeChangedCounters(ProgressRuleSet ruleSet) {
+        long changed = changedCounters[ruleSet.ordinal()];
+        changedCounters[ruleSet.ordinal()] = 0;
+        return changed;
+    }
+
+    private void markChanged(ProgressCounter counter) {
+        long bit = counter.bit();
+        for (int i = 0; i < changedCounters.length; i++) {
+            changedCounters[i] |= bit;
+        }
+    }
+
     /**
      * Calculates XP required for next level.
      * Uses exponential growth formula.
@@ -298,12 +633,13 @@ public class RPGCharacter {
         int maxCharges = getMaxActionCharges();
         
         if (lastChargeRefreshTime == null) {
-            lastChargeRefreshTime = Instant.now();
+            lastChargeRefreshTime = GameClock.now();
             actionCharges = maxCharges;
+            notifyChargesChanged();
             return;
         }
 
-        Instant now = Instant.now();
+        Instant now = GameClock.now();
         long hoursSinceRefresh = (now.getEpochSecond() - lastChargeRefreshTime.getEpochSecond()) / 3600;
 
         if (hoursSinceRefresh >= effectiveRefreshHours) {
@@ -311,6 +647,7 @@ public class RPGCharacter {
             int refreshCycles = (int) (hoursSinceRefresh / effectiveRefreshHours);
             actionCharges = Math.min(maxCharges, actionCharges + refreshCycles * maxCharges);
             lastChargeRefreshTime = now;
+            notifyChargesChanged();
         }
     }
 
@@ -332,7 +669,8 @@ public class RPGCharacter {
         if (actionCharges > 0) {
             actionCharges--;
             // Keep lastActionTime for backward compatibility
-            this.lastActionTime = Instant.now();
+            this.lastActionTime = GameClock.now();
+            notifyChargesChanged();
             return true;
         }
         return false;
@@ -355,7 +693,7 @@ public class RPGCharacter {
         }
 
         Instant nextRefresh = lastChargeRefreshTime.plusSeconds(refreshHours * 3600L);
-        long remaining = nextRefresh.getEpochSecond() - Instant.now().getEpochSecond();
+        long remaining = nextRefresh.getEpochSecond() - GameClock.now().getEpochSecond();
         return Math.max(0, remaining);
     }
 
@@ -373,6 +711,7 @@ public class RPGCharacter {
     public void die() {
         this.isDead = true;
         this.stats.setCurrentHp(0);
+        notifyChargesChanged();
     }
 
     /**
@@ -385,7 +724,8 @@ public class RPGCharacter {
         this.isRecovering = true;
         // Set HP to 50% of max
         this.stats.setCurrentHp(this.stats.getMaxHp() / 2);
-        this.recoverUntil = Instant.now().plusSeconds(recoveryHours * 3600L);
+        this.recoverUntil = GameClock.now().plusSeconds(recoveryHours * 3600L);
+        notifyChargesChanged();
     }
 
     /**
@@ -393,7 +733,7 @@ public class RPGCharacter {
      */
     public void checkRecovery() {
         if (isRecovering && recoverUntil != null) {
-            if (Instant.now().isAfter(recoverUntil)) {
+            if (GameClock.now().isAfter(recoverUntil)) {
                 this.isRecovering = false;
                 this.recoverUntil = null;
             }
@@ -451,6 +791,7 @@ public class RPGCharacter {
     public void setActionCharges(int actionCharges) {
         int maxCharges = getMaxActionCharges();
         this.actionCharges = Math.max(0, Math.min(maxCharges, actionCharges));
+        notifyChargesChanged();
     }
 
     public Instant getLastChargeRefreshTime() {
@@ -469,6 +810,7 @@ public class RPGCharacter {
 
     public void setIsDead(boolean isDead) {
         this.isDead = isDead;
+        notifyChargesChanged();
     }
 
     public boolean isRecovering() {
@@ -478,6 +820,7 @@ public class RPGCharacter {
 
     public void setIsRecovering(boolean isRecovering) {
         this.isRecovering = isRecovering;
+        notifyChargesChanged();
     }
 
     public Instant getRecoverUntil() {
@@ -486,6 +829,7 @@ public class RPGCharacter {
 
     public void setRecoverUntil(Instant recoverUntil) {
         this.recoverUntil = recoverUntil;
+        notifyChargesChanged();
     }
 
     // Kill counter system getters
@@ -529,6 +873,8 @@ public class RPGCharacter {
      */
     public void incrementBossesKilled() {
         this.bossesKilled++;
+        markChanged(ProgressCounter.BOSS_KILLS);
+        notifyRankingChanged();
     }
 
     /**
@@ -536,6 +882,8 @@ public class RPGCharacter {
      */
     public void incrementSuperBossesKilled() {
         this.superBossesKilled++;
+        markChanged(ProgressCounter.SUPER_BOSS_KILLS);
+        notifyRankingChanged();
     }
 
     // Inventory system getters/setters
@@ -588,8 +936,9 @@ public class RPGCharacter {
         } else {
             duelsLost++;
         }
-        lastDuelTime = Instant.now();
+        lastDuelTime = GameClock.now();
         duelsInLast24Hours++;
+        notifyRankingChanged();
     }
 
     /**
@@ -599,7 +948,7 @@ public class RPGCharacter {
         if (lastDuelTime == null) {
             return;
         }
-        long hoursSince = java.time.temporal.ChronoUnit.HOURS.between(lastDuelTime, Instant.now());
+        long hoursSince = java.time.temporal.ChronoUnit.HOURS.between(lastDuelTime, GameClock.now());
         if (hoursSince >= 24) {
             duelsInLast24Hours = 0;
         }
@@ -650,6 +999,25 @@ public class RPGCharacter {
         return false;
     }
 
+    /**
+     * Refreshes heroic charges if a guild has spawned a boss since this character's last refresh there.
+     * Spawning only advances the guild's boss epoch; the refresh itself is applied here, lazily, the
+     * next time the character fights in that guild. Caller holds the character's lock.
+     *
+     * @param guildId   the guild ID
+     * @param bossEpoch the guild's current boss epoch
+     * @return true if charges were refreshed
+     */
+    public boolean applyHeroicRefresh(String guildId, long bossEpoch) {
+        Long refreshedFor = heroicRefreshEpochs.get(guildId);
+        if (refreshedFor != null && refreshedFor >= bossEpoch) {
+            return false;
+        }
+        heroicRefreshEpochs.put(guildId, bossEpoch);
+        refreshHeroicCharges();
+        return true;
+    }
+
     /**
      * Refreshes heroic charges to maximum (5).
      * Called when a new boss spawns.
@@ -685,6 +1053,7 @@ public class RPGCharacter {
 
     public void setStoryFlags(List<String> storyFlags) {
         this.storyFlags = storyFlags != null ? new ArrayList<>(storyFlags) : new ArrayList<>();
+        markChanged(ProgressCounter.STORY_FLAGS);
     }
 
     /**
@@ -697,6 +1066,7 @@ public class RPGCharacter {
             storyFlags.remove(0); // Remove oldest
         }
         storyFlags.add(flag);
+        markChanged(ProgressCounter.STORY_FLAGS);
     }
 
     public int getTotalExplores() {
@@ -705,6 +1075,7 @@ public class RPGCharacter {
 
     public void incrementExploreCount() {
         this.totalExplores++;
+        markChanged(ProgressCounter.EXPLORES);
     }
 
     public int getTotalRests() {
@@ -713,6 +1084,7 @@ public class RPGCharacter {
 
     public void incrementRestCount() {
         this.totalRests++;
+        markChanged(ProgressCounter.RESTS);
     }
 
     public int getTotalDeaths() {
@@ -721,6 +1093,7 @@ public class RPGCharacter {
 
     public void incrementDeathCount() {
         this.totalDeaths++;
+        markChanged(ProgressCounter.DEATHS);
     }
 
     public int getTotalResurrections() {
@@ -729,6 +1102,7 @@ public class RPGCharacter {
 
     public void incrementResurrectionCount() {
         this.totalResurrections++;
+        markChanged(ProgressCounter.RESURRECTIONS_RECEIVED);
     }
 
     public int getTotalChargesDonated() {
@@ -737,6 +1111,7 @@ public class RPGCharacter {
 
     public void incrementChargesDonated() {
         this.totalChargesDonated++;
+        markChanged(ProgressCounter.CHARGES_DONATED);
     }
 
     public int getExploreStreak() {
@@ -745,6 +1120,7 @@ public class RPGCharacter {
 
     public void incrementExploreStreak() {
         this.exploreStreak++;
+        markChanged(ProgressCounter.EXPLORE_STREAK);
     }
 
     public int getTrainStreak() {
@@ -753,6 +1129,7 @@ public class RPGCharacter {
 
     public void incrementTrainStreak() {
         this.trainStreak++;
+        markChanged(ProgressCounter.TRAIN_STREAK);
     }
 
     public int getRestStreak() {
@@ -761,6 +1138,7 @@ public class RPGCharacter {
 
     public void incrementRestStreak() {
         this.restStreak++;
+        markChanged(ProgressCounter.REST_STREAK);
     }
 
     public int getBattleStreak() {
@@ -769,6 +1147,7 @@ public class RPGCharacter {
 
     public void incrementBattleStreak() {
         this.battleStreak++;
+        markChanged(ProgressCounter.BATTLE_STREAK);
     }
 
     public String getLastActionType() {
@@ -867,6 +1246,7 @@ public class RPGCharacter {
 
     public void setLastDonationReceived(Instant lastDonationReceived) {
         this.lastDonationReceived = lastDonationReceived;
+        notifyChargesChanged();
     }
 
     // Cursed world tracking getters/setters
@@ -877,6 +1257,7 @@ public class RPGCharacter {
 
     public void incrementCursedBossFights() {
         this.cursedBossFights++;
+        markChanged(ProgressCounter.CURSED_BOSS_FIGHTS);
     }
 
     public int getCursedResurrections() {
@@ -885,6 +1266,7 @@ public class RPGCharacter {
 
     public void incrementCursedResurrections() {
         this.cursedResurrections++;
+        markChanged(ProgressCounter.CURSED_RESURRECTIONS);
     }
 
     public boolean hasActedDuringBothCurses() {
@@ -892,7 +1274,10 @@ public class RPGCharacter {
     }
 
     public void setActedDuringBothCurses(boolean actedDuringBothCurses) {
-        this.actedDuringBothCurses = actedDuringBothCurses;
+        if (this.actedDuringBothCurses != actedDuringBothCurses) {
+            this.actedDuringBothCurses = actedDuringBothCurses;
+            markChanged(ProgressCounter.ACTED_DURING_BOTH_CURSES);
+        }
     }
 
     /**
@@ -957,6 +1342,7 @@ public class RPGCharacter {
 
     public void incrementTimesResurrectedOthers() {
         this.timesResurrectedOthers++;
+        markChanged(ProgressCounter.RESURRECTIONS_PERFORMED);
     }
 
     public java.util.Set<com.tatumgames.mikros.games.rpg.model.InfusionType> getInfusionsCrafted() {
@@ -964,6 +1350,8 @@ public class RPGCharacter {
     }
 
     public void addInfusionCrafted(com.tatumgames.mikros.games.rpg.model.InfusionType infusionType) {
-        this.infusionsCrafted.add(infusionType);
+        if (this.infusionsCrafted.add(infusionType)) {
+            markChanged(ProgressCounter.INFUSIONS_CRAFTED);
+        }
     }
 }
@@ -0,0 +1,68 @@
+package com.tatumgames.mikros.games.rpg.model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary format for a character and its inventory, for persistence, snapshots and transfer.
+ * <p>
+ * An encoded character is a varint format version followed by a length-prefixed section holding the
+ * character's fields, with the inventory in a nested section. Counters are varints, enums are
+ * ordinals, instants are whole epoch seconds, nullable fields are flagged in a bit set and written
+ * only when present, and the inventory's essence and catalyst counts are arrays indexed by type
+ * ordinal. A typical character takes well under 200 bytes.
+ * <p>
+ * The format evolves by appending: a field is only ever added at the end of its section, so a reader
+ * skips fields it does not know and treats fields an older writer did not write as absent. The format
+ * version is bumped when fields are appended, and would let a reader branch should an existing field
+ * ever need a different meaning.
+ * <p>
+ * Encoding and decoding work directly on the caller's buffer, from its position. Decoding restores
+ * every field except listeners; whoever keeps the character attaches those, as for a new character.
+ */
+public final class RPGCharacterCodec {
+    /**
+     * The format version this code writes.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private RPGCharacterCodec() {
+    }
+
+    /**
+     * Encodes a character at the buffer's position. Caller holds the character's lock.
+     *
+     * @param character the character
+     * @param out       the buffer; its position is advanced past the encoded character
+     * @throws java.nio.BufferOverflowException if the buffer has too little room
+     */
+    public static void encode(RPGCharacter character, ByteBuffer out) {
+        BinaryFields.writeVarInt(out, FORMAT_VERSION);
+        int section = BinaryFields.beginSection(out);
+        character.writeState(out);
+        BinaryFields.endSection(out, section);
+    }
+
+    /**
+     * Decodes a character at the buffer's position.
+     *
+     * @param in the buffer; its position is advanced past the encoded character
+     * @return the character
+     * @throws IllegalArgumentException if the data is truncated or malformed (the buffer's position
+     *                                  and limit are then unspecified)
+     */
+    public static RPGCharacter decode(ByteBuffer in) {
+        try {
+            int version = BinaryFields.readVarInt(in);
+            if (version < 1) {
+                throw new IllegalArgumentException("Unknown character format version " + version);
+            }
+            int previousLimit = BinaryFields.enterSection(in);
+            RPGCharacter character = new RPGCharacter(in);
+            BinaryFields.exitSection(in, previousLimit);
+            return character;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated character data", e);
+        }
+    }
+}
@@ -1,19 +1,31 @@
 package com.tatumgames.mikros.games.rpg.model;
 
+import com.tatumgames.mikros.services.GameClock;
+
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * Represents a character's inventory containing essences, catalysts, and crafted bonuses.
+ * <p>
+ * Counts are kept in int arrays indexed by enum ordinal, so adding drops and crafting never allocate
+ * and an inventory costs a few dozen bytes instead of a map entry and boxed count per type. The map
+ * getters build copies on demand.
  */
 public class RPGInventory {
     private static final int MAX_CRAFTED_BONUS_PER_STAT = 5;
+    private static final CraftedStat[] CRAFTED_STATS = CraftedStat.values();
+    private static final EssenceType[] ESSENCE_TYPES = EssenceType.values();
+    private static final CatalystType[] CATALYST_TYPES = CatalystType.values();
+    private static final InfusionType[] INFUSION_TYPES = InfusionType.values();
 
-    private final Map<EssenceType, Integer> essences;
-    private final Map<CatalystType, Integer> catalysts;
-    private final Map<String, Integer> craftedBonuses; // stat name -> bonus amount (0-5)
+    private final int[] essences; // indexed by EssenceType ordinal
+    private final int[] catalysts; // indexed by CatalystType ordinal
+    private final int[] craftedBonuses; // indexed by CraftedStat ordinal, 0-5 each
     
     // Active infusion (max 1 at a time)
     private InfusionType activeInfusion;
@@ -23,22 +35,82 @@ public class RPGInventory {
      * Creates a new empty inventory.
      */
     public RPGInventory() {
-        this.essences = new HashMap<>();
-        this.catalysts = new HashMap<>();
-        this.craftedBonuses = new HashMap<>();
-        
-        // Initialize crafted bonuses to 0
-        this.craftedBonuses.put("STR", 0);
-        this.craftedBonuses.put("AGI", 0);
-        this.craftedBonuses.put("INT", 0);
-        this.craftedBonuses.put("LUCK", 0);
-        this.craftedBonuses.put("HP", 0);
+        this.essences = new int[ESSENCE_TYPES.length];
+        this.catalysts = new int[CATALYST_TYPES.length];
+        this.craftedBonuses = new int[CRAFTED_STATS.length];
         
         // Initialize infusion fields
         this.activeInfusion = null;
         this.infusionExpiresAt = null;
     }
 
+    /**
+     * Restores an inventory written by {@link #writeState}. The buffer is limited to the inventory's
+     * section, so fields a newer writer appended are left unread.
+     *
+     * @param in the buffer, positioned at the first field
+     */
+    RPGInventory(ByteBuffer in) {
+        this();
+        int essenceCount = BinaryFields.readVarInt(in);
+        for (int i = 0; i < essenceCount; i++) {
+            int count = BinaryFields.readVarInt(in);
+            if (i < essences.length) {
+                essences[i] = count;
+            }
+        }
+        int catalystCount = BinaryFields.readVarInt(in);
+        for (int i = 0; i < catalystCount; i++) {
+            int count = BinaryFields.readVarInt(in);
+            if (i < catalysts.length) {
+                catalysts[i] = count;
+            }
+        }
+        int statCount = BinaryFields.readVarInt(in);
+        for (int i = 0; i < statCount; i++) {
+            int bonus = BinaryFields.readVarInt(in);
+            if (i < craftedBonuses.length) {
+                craftedBonuses[i] = bonus;
+            }
+        }
+        int infusion = BinaryFields.readVarInt(in);
+        if (infusion != 0) {
+            Instant expiresAt = BinaryFields.readInstant(in);
+            if (infusion <= INFUSION_TYPES.length) {
+                this.activeInfusion = INFUSION_TYPES[infusion - 1];
+                this.infusionExpiresAt = expiresAt;
+            }
+        }
+    }
+
+    /**
+     * Writes this inventory for {@link RPGCharacterCodec}: essence and catalyst counts as arrays indexed
+     * by type ordinal, crafted bonuses indexed by {@link CraftedStat} ordinal, then the active infusion
+     * (ordinal + 1, or 0 for none) and its expiry. Each array is prefixed with its length, so types
+     * added later read as zero from older data.
+     *
+     * @param out the buffer
+     */
+    void writeState(ByteBuffer out) {
+        writeCounts(out, essences);
+        writeCounts(out, catalysts);
+        writeCounts(out, craftedBonuses);
+        // Written as stored; expiry is checked when the infusion is next read
+        if (activeInfusion != null && infusionExpiresAt != null) {
+            BinaryFields.writeVarInt(out, activeInfusion.ordinal() + 1);
+            BinaryFields.writeInstant(out, infusionExpiresAt);
+        } else {
+            BinaryFields.writeVarInt(out, 0);
+        }
+    }
+
+    private static void writeCounts(ByteBuffer out, int[] counts) {
+        BinaryFields.writeVarInt(out, counts.length);
+        for (int count : counts) {
+            BinaryFields.writeVarInt(out, count);
+        }
+    }
+
     /**
      * Adds essences to inventory.
      *
@@ -50,7 +122,7 @@ public class RPGInventory {
         if (count < 0) {
             throw new IllegalArgumentException("Count cannot be negative");
         }
-        essences.put(essence, essences.getOrDefault(essence, 0) + count);
+        essences[essence.ordinal()] += count;
     }
 
     /**
@@ -65,11 +137,11 @@ public class RPGInventory {
         if (count < 0) {
             throw new IllegalArgumentException("Count cannot be negative");
         }
-        int currentCount = getEssenceCount(essence);
+        int currentCount = essences[essence.ordinal()];
         if (currentCount < count) {
             return false; // Not enough essences
         }
-        essences.put(essence, Math.max(0, currentCount - count));
+        essences[essence.ordinal()] = currentCount - count;
         return true;
     }
 
@@ -84,7 +156,7 @@ public class RPGInventory {
         if (count < 0) {
             throw new IllegalArgumentException("Count cannot be negative");
         }
-        catalysts.put(catalyst, catalysts.getOrDefault(catalyst, 0) + count);
+        catalysts[catalyst.ordinal()] += count;
     }
 
     /**
@@ -99,11 +171,11 @@ public class RPGInventory {
         if (count < 0) {
             throw new IllegalArgumentException("Count cannot be negative");
         }
-        int currentCount = getCatalystCount(catalyst);
+        int currentCount = catalysts[catalyst.ordinal()];
         if (currentCount < count) {
             return false; // Not enough catalysts
         }
-        catalysts.put(catalyst, Math.max(0, currentCount - count));
+        catalysts[catalyst.ordinal()] = currentCount - count;
         return true;
     }
 
@@ -114,7 +186,7 @@ public class RPGInventory {
      * @return the count (0 if not present)
      */
     public int getEssenceCount(EssenceType essence) {
-        return essences.getOrDefault(essence, 0);
+        return essences[essence.ordinal()];
     }
 
     /**
@@ -124,7 +196,7 @@ public class RPGInventory {
      * @return the count (0 if not present)
      */
     public int getCatalystCount(CatalystType catalyst) {
-        return catalysts.getOrDefault(catalyst, 0);
+        return catalysts[catalyst.ordinal()];
     }
 
     /**
@@ -134,7 +206,18 @@ public class RPGInventory {
      * @return the bonus amount (0-5)
      */
     public int getCraftedBonus(String statName) {
-        return craftedBonuses.getOrDefault(statName.toUpperCase(), 0);
+        CraftedStat stat = CraftedStat.fromStatName(statName);
+        return stat != null ? craftedBonuses[stat.ordinal()] : 0;
+    }
+
+    /**
+     * Gets the crafted bonus for a stat.
+     *
+     * @param stat the stat
+     * @return the bonus amount (0-5)
+     */
+    public int getCraftedBonus(CraftedStat stat) {
+        return craftedBonuses[stat.ordinal()];
     }
 
     /**
@@ -162,7 +245,7 @@ public class RPGInventory {
             return false;
         }
         
-        int currentBonus = getCraftedBonus(itemType.getStatName());
+        int currentBonus = getCraftedBonus(itemType.getCraftedStat());
         return currentBonus < MAX_CRAFTED_BONUS_PER_STAT;
     }
 
@@ -174,31 +257,42 @@ public class RPGInventory {
      */
     public void craft(CraftedItemType itemType) {
         // Consume materials
-        int essenceCount = getEssenceCount(itemType.getRequiredEssence());
-        int catalystCount = getCatalystCount(itemType.getRequiredCatalyst());
-        
-        essences.put(itemType.getRequiredEssence(), essenceCount - itemType.getEssenceCount());
-        catalysts.put(itemType.getRequiredCatalyst(), catalystCount - itemType.getCatalystCount());
+        essences[itemType.getRequiredEssence().ordinal()] -= itemType.getEssenceCount();
+        catalysts[itemType.getRequiredCatalyst().ordinal()] -= itemType.getCatalystCount();
         
         // Apply bonus (enforce cap)
-        String statName = itemType.getStatName();
-        int currentBonus = getCraftedBonus(statName);
-        int newBonus = Math.min(MAX_CRAFTED_BONUS_PER_STAT, currentBonus + itemType.getStatBonus());
-        craftedBonuses.put(statName, newBonus);
+        int stat = itemType.getCraftedStat().ordinal();
+        craftedBonuses[stat] = Math.min(MAX_CRAFTED_BONUS_PER_STAT, craftedBonuses[stat] + itemType.getStatBonus());
     }
 
-    // Getters for maps (for serialization if needed)
+    // Map copies (for serialization if needed); essences and catalysts list only types held
 
     public Map<EssenceType, Integer> getEssences() {
-        return new HashMap<>(essences);
+        Map<EssenceType, Integer> copy = new EnumMap<>(EssenceType.class);
+        for (EssenceType essence : ESSENCE_TYPES) {
+            if (essences[essence.ordinal()] != 0) {
+                copy.put(essence, essences[essence.ordinal()]);
+            }
+        }
+        return copy;
     }
 
     public Map<CatalystType, Integer> getCatalysts() {
-        return new HashMap<>(catalysts);
+        Map<CatalystType, Integer> copy = new EnumMap<>(CatalystType.class);
+        for (CatalystType catalyst : CATALYST_TYPES) {
+            if (catalysts[catalyst.ordinal()] != 0) {
+                copy.put(catalyst, catalysts[catalyst.ordinal()]);
+            }
+        }
+        return copy;
     }
 
     public Map<String, Integer> getCraftedBonuses() {
-        return new HashMap<>(craftedBonuses);
+        Map<String, Integer> copy = new HashMap<>();
+        for (CraftedStat stat : CRAFTED_STATS) {
+            copy.put(stat.getStatName(), craftedBonuses[stat.ordinal()]);
+        }
+        return copy;
     }
 
     // Infusion methods
@@ -223,7 +317,7 @@ public class RPGInventory {
         this.activeInfusion = infusion;
         if (infusion != null) {
             // Expires after 24 hours
-            this.infusionExpiresAt = Instant.now().plusSeconds(24 * 3600);
+            this.infusionExpiresAt = GameClock.now().plusSeconds(24 * 3600);
         } else {
             this.infusionExpiresAt = null;
         }
@@ -243,7 +337,7 @@ public class RPGInventory {
      */
     public void checkInfusionExpiration() {
         if (activeInfusion != null && infusionExpiresAt != null) {
-            if (Instant.now().isAfter(infusionExpiresAt)) {
+            if (GameClock.now().isAfter(infusionExpiresAt)) {
                 // Infusion expired
                 activeInfusion = null;
                 infusionExpiresAt = null;
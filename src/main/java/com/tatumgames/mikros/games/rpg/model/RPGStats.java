@@ -12,6 +12,9 @@ public class RPGStats {
     private int intelligence;
     private int luck;
 
+    // Notified when a stat other than current HP changes
+    private Runnable changeListener;
+
     /**
      * Creates RPG stats from a character class.
      *
@@ -43,6 +46,7 @@ public class RPGStats {
         this.agility = agility;
         this.intelligence = intelligence;
         this.luck = luck;
+        notifyChanged();
     }
 
     /**
@@ -61,6 +65,7 @@ public class RPGStats {
         this.agility += 1;
         this.intelligence += 1;
         this.luck += 1;
+        notifyChanged();
     }
 
     /**
@@ -80,6 +85,27 @@ public class RPGStats {
             case "INT", "INTELLIGENCE" -> this.intelligence += amount;
             case "LUCK" -> this.luck += amount;
         }
+        notifyChanged();
+    }
+
+    /**
+     * Increases a stat raised by a crafted item.
+     *
+     * @param stat   the stat to increase
+     * @param amount the amount to increase
+     */
+    public void increaseStat(CraftedStat stat, int amount) {
+        switch (stat) {
+            case HP -> {
+                this.maxHp += amount;
+                this.currentHp += amount;
+            }
+            case STR -> this.strength += amount;
+            case AGI -> this.agility += amount;
+            case INT -> this.intelligence += amount;
+            case LUCK -> this.luck += amount;
+        }
+        notifyChanged();
     }
 
     /**
@@ -151,6 +177,7 @@ public class RPGStats {
 
     public void setMaxHp(int maxHp) {
         this.maxHp = maxHp;
+        notifyChanged();
     }
 
     public int getCurrentHp() {
@@ -167,6 +194,7 @@ public class RPGStats {
 
     public void setStrength(int strength) {
         this.strength = strength;
+        notifyChanged();
     }
 
     public int getAgility() {
@@ -175,6 +203,7 @@ public class RPGStats {
 
     public void setAgility(int agility) {
         this.agility = agility;
+        notifyChanged();
     }
 
     public int getIntelligence() {
@@ -183,6 +212,7 @@ public class RPGStats {
 
     public void setIntelligence(int intelligence) {
         this.intelligence = intelligence;
+        notifyChanged();
     }
 
     public int getLuck() {
@@ -191,6 +221,23 @@ public class RPGStats {
 
     public void setLuck(int luck) {
         this.luck = luck;
+        notifyChanged();
     }
-}
 
+    /**
+     * Sets the listener told about stat changes (current HP excluded), so progress rules reading
+     * stats can be re-evaluated.
+     *
+     * @param changeListener the listener (null to detach)
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void notifyChanged() {
+        Runnable listener = changeListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+}
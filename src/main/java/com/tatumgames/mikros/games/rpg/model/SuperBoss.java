@@ -1,7 +1,11 @@
 package com.tatumgames.mikros.games.rpg.model;
 
+import com.tatumgames.mikros.services.GameClock;
+
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a super boss in the RPG system.
@@ -13,12 +17,12 @@ public class SuperBoss {
     private final BossType type;
     private final int level;
     private final int maxHp;
-    private int currentHp;
+    private final AtomicInteger currentHp;
     private final int attack;
     private final String specialMechanic;
     private final Instant spawnTime;
     private final Instant expiresAt;
-    private boolean defeated;
+    private final AtomicBoolean defeated;
 
     /**
      * Creates a new SuperBoss.
@@ -37,27 +41,33 @@ public class SuperBoss {
         this.type = Objects.requireNonNull(type);
         this.level = level;
         this.maxHp = maxHp;
-        this.currentHp = maxHp;
+        this.currentHp = new AtomicInteger(maxHp);
         this.attack = attack;
         this.specialMechanic = specialMechanic;
-        this.spawnTime = Instant.now();
+        this.spawnTime = GameClock.now();
         this.expiresAt = spawnTime.plusSeconds(24 * 3600); // 24 hours
-        this.defeated = false;
+        this.defeated = new AtomicBoolean(false);
     }
 
     /**
-     * Applies damage to the super boss.
+     * Applies damage to the super boss. Safe to call from many threads at once: HP is
+     * lowered with compare-and-set and never drops below 0.
      *
      * @param damage damage amount
-     * @return true if boss is defeated
+     * @return the damage applied, and whether this was the killing blow; exactly one hit is the
+     *         killing blow, and hits landing after it apply no damage
      */
-    public boolean takeDamage(int damage) {
-        this.currentHp = Math.max(0, this.currentHp - damage);
-        if (this.currentHp <= 0) {
-            this.defeated = true;
-            return true;
-        }
-        return false;
+    public BossHit takeDamage(int damage) {
+        int before;
+        int after;
+        do {
+            before = currentHp.get();
+            if (before <= 0) {
+                return BossHit.MISSED;
+            }
+            after = Math.max(0, before - damage);
+        } while (!currentHp.compareAndSet(before, after));
+        return new BossHit(before - after, after == 0 && defeated.compareAndSet(false, true));
     }
 
     /**
@@ -66,7 +76,7 @@ public class SuperBoss {
      * @return true if expired
      */
     public boolean isExpired() {
-        return Instant.now().isAfter(expiresAt);
+        return GameClock.now().isAfter(expiresAt);
     }
 
     // Getters
@@ -92,7 +102,7 @@ public class SuperBoss {
     }
 
     public int getCurrentHp() {
-        return currentHp;
+        return currentHp.get();
     }
 
     public int getAttack() {
@@ -112,11 +122,11 @@ public class SuperBoss {
     }
 
     public boolean isDefeated() {
-        return defeated;
+        return defeated.get();
     }
 
     public void setDefeated(boolean defeated) {
-        this.defeated = defeated;
+        this.defeated.set(defeated);
     }
 }
 
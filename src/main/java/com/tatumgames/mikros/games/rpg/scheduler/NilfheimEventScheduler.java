@@ -4,6 +4,10 @@ import com.tatumgames.mikros.games.rpg.config.RPGConfig;
 import com.tatumgames.mikros.games.rpg.events.NilfheimEventType;
 import com.tatumgames.mikros.games.rpg.service.CharacterService;
 import com.tatumgames.mikros.games.rpg.service.NilfheimEventService;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
+import com.tatumgames.mikros.services.RngService;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
@@ -13,10 +17,8 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.*;
 import java.time.Instant;
-import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.time.ZoneOffset;
+import java.util.random.RandomGenerator;
 
 /**
  * Scheduler for server-wide Nilfheim events.
@@ -30,22 +32,21 @@ public class NilfheimEventScheduler {
     
     // Event duration: 12 hours
     private static final long EVENT_DURATION_HOURS = 12;
+
+    private static final TaskKey CHECK_TASK = TaskKey.global("nilfheim-events");
     
     private final NilfheimEventService eventService;
     private final CharacterService characterService;
-    private final ScheduledExecutorService scheduler;
-    private final Random random;
+    private final SchedulingRuntime schedulingRuntime;
+    private final RandomGenerator random;
     private JDA jda;
 
-    public NilfheimEventScheduler(NilfheimEventService eventService, CharacterService characterService) {
+    public NilfheimEventScheduler(NilfheimEventService eventService, CharacterService characterService,
+                                  SchedulingRuntime schedulingRuntime) {
         this.eventService = eventService;
         this.characterService = characterService;
-        this.random = new Random();
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "nilfheim-event-scheduler");
-            t.setDaemon(true);
-            return t;
-        });
+        this.schedulingRuntime = schedulingRuntime;
+        this.random = RngService.current();
         logger.info("NilfheimEventScheduler initialized");
     }
 
@@ -58,33 +59,19 @@ public class NilfheimEventScheduler {
     public void start(JDA jda) {
         this.jda = jda;
 
-        // Calculate initial delay to next 6-hour boundary
-        long initialDelay = calculateInitialDelay();
-        
-        // Run check every 6 hours
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                checkAndTriggerEvents();
-            } catch (Exception e) {
-                logger.error("Error in Nilfheim event scheduler", e);
-            }
-        }, initialDelay, CHECK_INTERVAL_HOURS, TimeUnit.HOURS);
+        // Run check on every 6-hour UTC boundary
+        schedulingRuntime.schedule(CHECK_TASK,
+                Trigger.cron("0 */" + CHECK_INTERVAL_HOURS + " * * *", ZoneOffset.UTC), () -> {
+                    try {
+                        checkAndTriggerEvents();
+                    } catch (Exception e) {
+                        logger.error("Error in Nilfheim event scheduler", e);
+                    }
+                });
 
         logger.info("Nilfheim event scheduler started (checks every {} hours)", CHECK_INTERVAL_HOURS);
     }
 
-    /**
-     * Calculates initial delay to next 6-hour boundary.
-     *
-     * @return delay in hours
-     */
-    private long calculateInitialDelay() {
-        Instant now = Instant.now();
-        long hoursSinceEpoch = now.getEpochSecond() / 3600;
-        long hoursUntilNextBoundary = CHECK_INTERVAL_HOURS - (hoursSinceEpoch % CHECK_INTERVAL_HOURS);
-        return hoursUntilNextBoundary;
-    }
-
     /**
      * Checks all servers and triggers events if enough time has passed.
      */
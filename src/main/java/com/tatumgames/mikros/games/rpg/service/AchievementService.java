@@ -1,6 +1,11 @@
 package com.tatumgames.mikros.games.rpg.service;
 
 import com.tatumgames.mikros.games.rpg.achievements.AchievementType;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressCounter;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressRule;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressRuleEngine;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressRuleSet;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,6 +15,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * Achievements can only be claimed once per server (guild).
  */
 public class AchievementService {
+    // Character-driven first-to achievements, each re-tested only when its counters change
+    private static final ProgressRuleEngine<AchievementType> FIRST_TO_RULES = new ProgressRuleEngine<>(
+            ProgressRuleSet.FIRST_TO_ACHIEVEMENTS, List.of(
+            ProgressRule.of(AchievementType.FIRST_TO_LEVEL_20, character -> character.getLevel() >= 20,
+                    ProgressCounter.LEVEL),
+            ProgressRule.of(AchievementType.FIRST_TO_LEVEL_30, character -> character.getLevel() >= 30,
+                    ProgressCounter.LEVEL),
+            ProgressRule.of(AchievementType.FIRST_TO_LEVEL_50, character -> character.getLevel() >= 50,
+                    ProgressCounter.LEVEL)));
+
     // Map: guildId -> (AchievementType -> userId)
     private final Map<String, Map<AchievementType, String>> achievementClaims;
 
@@ -38,6 +53,25 @@ public class AchievementService {
         return true;
     }
 
+    /**
+     * Claims the first-to achievements a character newly qualifies for in a guild. Only achievements
+     * whose counters changed since the character's last check are re-tested.
+     * Caller holds the character's lock.
+     *
+     * @param guildId the Discord guild ID
+     * @param character the character
+     * @return the achievements the character claimed (empty if none)
+     */
+    public List<AchievementType> claimFirstToAchievements(String guildId, RPGCharacter character) {
+        List<AchievementType> claimed = new ArrayList<>();
+        for (AchievementType type : FIRST_TO_RULES.evaluate(character)) {
+            if (checkAndClaimFirstTo(guildId, type, character.getDiscordId())) {
+                claimed.add(type);
+            }
+        }
+        return claimed;
+    }
+
     /**
      * Checks if a first-to achievement has already been claimed.
      *
@@ -19,23 +19,25 @@ public class ActionService {
     private static final Logger logger = LoggerFactory.getLogger(ActionService.class);
 
     private final Map<String, CharacterAction> actions;
+    private final CharacterService characterService;
+    private final GuildModifierService guildModifierService;
 
     /**
      * Creates a new ActionService and registers all actions.
      *
      * @param characterService the character service (needed for DonateAction)
-     * @param worldCurseService the world curse service (needed for curse effects)
-     * @param auraService the aura service (needed for Song of Nilfheim)
-     * @param nilfheimEventService the Nilfheim event service (needed for server-wide events)
+     * @param guildModifierService the guild modifiers (needed for curses, Song of Nilfheim and server-wide events)
      * @param loreRecognitionService the lore recognition service (needed for milestone checks)
      */
-    public ActionService(CharacterService characterService, WorldCurseService worldCurseService, AuraService auraService, com.tatumgames.mikros.games.rpg.service.NilfheimEventService nilfheimEventService, com.tatumgames.mikros.games.rpg.service.LoreRecognitionService loreRecognitionService) {
+    public ActionService(CharacterService characterService, GuildModifierService guildModifierService, com.tatumgames.mikros.games.rpg.service.LoreRecognitionService loreRecognitionService) {
         this.actions = new HashMap<>();
+        this.characterService = characterService;
+        this.guildModifierService = guildModifierService;
 
         // Register available actions
-        registerAction(new ExploreAction(worldCurseService, auraService, nilfheimEventService, loreRecognitionService));
-        registerAction(new TrainAction(nilfheimEventService, loreRecognitionService));
-        registerAction(new BattleAction(worldCurseService, auraService, nilfheimEventService, loreRecognitionService));
+        registerAction(new ExploreAction(guildModifierService, loreRecognitionService));
+        registerAction(new TrainAction(guildModifierService, loreRecognitionService));
+        registerAction(new BattleAction(guildModifierService, loreRecognitionService));
         registerAction(new RestAction());
         registerAction(new DonateAction(characterService));
 
@@ -62,6 +64,21 @@ public class ActionService {
      * @throws IllegalArgumentException if action doesn't exist
      */
     public RPGActionOutcome executeAction(String actionName, RPGCharacter character, RPGConfig config) {
+        return executeAction(actionName, character, config, guildModifierService.getSnapshot(config.getGuildId()));
+    }
+
+    /**
+     * Executes an action for a character against guild modifiers the caller has already read.
+     *
+     * @param actionName the action to execute
+     * @param character  the character performing the action
+     * @param config     the guild RPG configuration
+     * @param modifiers  the guild's modifier snapshot, used for the whole action
+     * @return the action outcome
+     * @throws IllegalArgumentException if action doesn't exist
+     */
+    public RPGActionOutcome executeAction(String actionName, RPGCharacter character, RPGConfig config,
+                                          GuildModifierSnapshot modifiers) {
         CharacterAction action = actions.get(actionName.toLowerCase());
 
         if (action == null) {
@@ -71,7 +88,11 @@ public class ActionService {
         logger.info("Executing action {} for character {} (Level {})",
                 actionName, character.getName(), character.getLevel());
 
-        return action.execute(character, config);
+        if (action.locksCharacters()) {
+            return characterService.withActionStream(character, () -> action.execute(character, config, modifiers));
+        }
+        return characterService.withCharacterLock(character.getDiscordId(),
+                () -> characterService.withActionStream(character, () -> action.execute(character, config, modifiers)));
     }
 
     /**
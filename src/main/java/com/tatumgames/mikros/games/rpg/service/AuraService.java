@@ -3,19 +3,30 @@ package com.tatumgames.mikros.games.rpg.service;
 import com.tatumgames.mikros.games.rpg.achievements.LegendaryAura;
 import com.tatumgames.mikros.games.rpg.model.CharacterClass;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.services.RngService;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
 
 /**
  * Service for managing legendary auras and applying their effects.
+ * Aura holders are kept in the guild's {@link GuildModifierSnapshot}.
  */
 public class AuraService {
-    // Map: guildId -> (LegendaryAura -> List of userIds)
-    private final Map<String, Map<LegendaryAura, List<String>>> auraHolders;
+    private static final RandomGenerator random = RngService.current();
 
-    public AuraService() {
-        this.auraHolders = new ConcurrentHashMap<>();
+    private final GuildModifierService guildModifierService;
+
+    /**
+     * Creates a new AuraService.
+     *
+     * @param guildModifierService where aura holders are kept and published
+     */
+    public AuraService(GuildModifierService guildModifierService) {
+        this.guildModifierService = guildModifierService;
     }
 
     /**
@@ -26,12 +37,7 @@ public class AuraService {
      * @return list of user IDs who hold the aura
      */
     public List<String> getAuraHolders(String guildId, LegendaryAura aura) {
-        Map<LegendaryAura, List<String>> guildAuras = auraHolders.get(guildId);
-        if (guildAuras == null) {
-            return Collections.emptyList();
-        }
-        List<String> holders = guildAuras.get(aura);
-        return holders != null ? new ArrayList<>(holders) : Collections.emptyList();
+        return List.copyOf(guildModifierService.getSnapshot(guildId).getAuraHolders(aura));
     }
 
     /**
@@ -43,8 +49,7 @@ public class AuraService {
      * @return true if can acquire
      */
     public boolean canAcquireAura(String guildId, LegendaryAura aura, RPGCharacter character) {
-        Map<LegendaryAura, List<String>> guildAuras = auraHolders.computeIfAbsent(guildId, k -> new ConcurrentHashMap<>());
-        List<String> holders = guildAuras.computeIfAbsent(aura, k -> new ArrayList<>());
+        Set<String> holders = guildModifierService.getSnapshot(guildId).getAuraHolders(aura);
 
         // Check max holders
         int maxHolders = getMaxHolders(aura);
@@ -74,22 +79,17 @@ public class AuraService {
      * @return true if successfully acquired
      */
     public boolean acquireAura(String guildId, LegendaryAura aura, String userId) {
-        Map<LegendaryAura, List<String>> guildAuras = auraHolders.computeIfAbsent(guildId, k -> new ConcurrentHashMap<>());
-        List<String> holders = guildAuras.computeIfAbsent(aura, k -> new ArrayList<>());
-
-        // Check max holders
         int maxHolders = getMaxHolders(aura);
-        if (holders.size() >= maxHolders) {
-            return false;
-        }
-
-        // Add holder if not already present
-        if (!holders.contains(userId)) {
-            holders.add(userId);
-            return true;
-        }
-
-        return false;
+        return guildModifierService.update(guildId, snapshot -> {
+            Set<String> holders = snapshot.getAuraHolders(aura);
+            // Check max holders, and add holder if not already present
+            if (holders.size() >= maxHolders || holders.contains(userId)) {
+                return snapshot;
+            }
+            Set<String> updated = new LinkedHashSet<>(holders);
+            updated.add(userId);
+            return snapshot.withAuraHolders(aura, updated);
+        });
     }
 
     /**
@@ -120,23 +120,24 @@ public class AuraService {
      * @return damage with aura bonus applied (if aura holder present)
      */
     public int applyAuraEffects(String guildId, List<String> participants, int baseDamage) {
-        List<String> songHolders = getAuraHolders(guildId, LegendaryAura.SONG_OF_NILFHEIM);
-        
-        // Check if any participant has the aura
-        boolean hasAuraHolder = false;
-        for (String participantId : participants) {
-            if (songHolders.contains(participantId)) {
-                hasAuraHolder = true;
-                break;
-            }
-        }
+        return (int) (baseDamage * getSongOfNilfheimMultiplier(guildId, participants::contains));
+    }
 
-        if (hasAuraHolder) {
-            // Apply +5% damage bonus
-            return (int) (baseDamage * 1.05);
+    /**
+     * Gets the Song of Nilfheim damage multiplier for a boss fight.
+     * Checks only the aura's holders, so the cost does not grow with the number of participants.
+     *
+     * @param guildId the Discord guild ID
+     * @param isParticipant tests whether a user takes part in the fight
+     * @return 1.05 if any holder takes part, otherwise 1.0
+     */
+    public double getSongOfNilfheimMultiplier(String guildId, Predicate<String> isParticipant) {
+        for (String holderId : guildModifierService.getSnapshot(guildId).getAuraHolders(LegendaryAura.SONG_OF_NILFHEIM)) {
+            if (isParticipant.test(holderId)) {
+                return 1.05; // +5% damage bonus
+            }
         }
-
-        return baseDamage;
+        return 1.0;
     }
 
     /**
@@ -176,13 +177,7 @@ public class AuraService {
      * @return curse penalty reduction multiplier (0.98-0.99, or 1.0 if no aura)
      */
     public double getSongOfNilfheimCurseReduction(String guildId) {
-        List<String> songHolders = getAuraHolders(guildId, LegendaryAura.SONG_OF_NILFHEIM);
-        if (!songHolders.isEmpty()) {
-            // Reduce curse penalties by 1-2% (random between 0.98 and 0.99)
-            // This means curses are 98-99% effective instead of 100%
-            return 0.98 + (Math.random() * 0.01); // Random between 0.98 and 0.99
-        }
-        return 1.0; // No reduction
+        return guildModifierService.getSnapshot(guildId).getSongOfNilfheimCurseReduction(random);
     }
 
     /**
@@ -193,14 +188,11 @@ public class AuraService {
      * @param userId the user ID to remove
      */
     public void removeAura(String guildId, LegendaryAura aura, String userId) {
-        Map<LegendaryAura, List<String>> guildAuras = auraHolders.get(guildId);
-        if (guildAuras == null) {
-            return;
-        }
-        List<String> holders = guildAuras.get(aura);
-        if (holders != null) {
+        guildModifierService.update(guildId, snapshot -> {
+            Set<String> holders = new LinkedHashSet<>(snapshot.getAuraHolders(aura));
             holders.remove(userId);
-        }
+            return snapshot.withAuraHolders(aura, holders);
+        });
     }
 }
 
@@ -0,0 +1,146 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects boss attacks per guild over a short window and applies each window as one batch.
+ * <p>
+ * When a raid boss is hot, hundreds of attacks arrive within minutes. The first attack in a guild opens a
+ * window; attacks arriving before it closes join the batch, which {@link BossService#attackBoss(String, List)}
+ * applies in arrival order with the fight's modifiers looked up once. Each caller gets its own damage back.
+ * <p>
+ * One platform thread only times the windows; each closed window is applied on its own virtual thread, so
+ * a guild whose batch waits on character locks does not hold up other guilds. Batches of one guild are
+ * still applied one at a time, in window order.
+ */
+public class BossAttackBatcher {
+    private static final Logger logger = LoggerFactory.getLogger(BossAttackBatcher.class);
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(75);
+
+    private final BossService bossService;
+    private final Duration window;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService flushers;
+
+    // guildId -> attacks waiting for the guild's open window
+    private final Map<String, List<PendingAttack>> pending = new ConcurrentHashMap<>();
+
+    // guildId -> held while a batch is taken and applied, so one guild's batches never overlap
+    private final Map<String, ReentrantLock> flushLocks = new ConcurrentHashMap<>();
+
+    private record PendingAttack(RPGCharacter character, CompletableFuture<Integer> result) {
+    }
+
+    /**
+     * Creates a new BossAttackBatcher with the default window.
+     *
+     * @param bossService the boss service that applies batches
+     */
+    public BossAttackBatcher(BossService bossService) {
+        this(bossService, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a new BossAttackBatcher.
+     *
+     * @param bossService the boss service that applies batches
+     * @param window      how long a guild's window stays open after its first attack
+     */
+    public BossAttackBatcher(BossService bossService, Duration window) {
+        this.bossService = bossService;
+        this.window = window;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "boss-attack-batcher");
+            t.setDaemon(true);
+            return t;
+        });
+        this.flushers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("boss-attack-flush-", 0).factory());
+        logger.info("BossAttackBatcher initialized (window: {}ms)", window.toMillis());
+    }
+
+    /**
+     * Submits an attack on a guild's boss.
+     *
+     * @param guildId   the guild ID
+     * @param character the attacking character
+     * @return completes with the damage dealt (0 if the attack missed), or exceptionally if the batch failed
+     */
+    public CompletableFuture<Integer> submit(String guildId, RPGCharacter character) {
+        PendingAttack attack = new PendingAttack(character, new CompletableFuture<>());
+        boolean[] opened = new boolean[1];
+        pending.compute(guildId, (id, attacks) -> {
+            if (attacks == null) {
+                attacks = new ArrayList<>();
+                opened[0] = true;
+            }
+            attacks.add(attack);
+            return attacks;
+        });
+        if (opened[0]) {
+            timer.schedule(() -> flushers.execute(() -> flush(guildId)), window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return attack.result();
+    }
+
+    /**
+     * Closes a guild's window and applies its attacks.
+     */
+    private void flush(String guildId) {
+        // The next window only opens once this batch is taken, so batches take the lock in window order
+        ReentrantLock lock = flushLocks.computeIfAbsent(guildId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            List<PendingAttack> batch = pending.remove(guildId);
+            if (batch != null && !batch.isEmpty()) {
+                apply(guildId, batch);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(String guildId, List<PendingAttack> batch) {
+        List<RPGCharacter> attackers = batch.stream().map(PendingAttack::character).toList();
+        try {
+            List<Integer> damages = bossService.attackBoss(guildId, attackers);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(damages.get(i));
+            }
+            logger.debug("Applied {} boss attacks in one batch for guild {}", batch.size(), guildId);
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply {} boss attacks for guild {}", batch.size(), guildId, e);
+            batch.forEach(pendingAttack -> pendingAttack.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Stops the batcher. Windows already open are still applied.
+     */
+    public void shutdown() {
+        timer.shutdown();
+        try {
+            // Let open windows close and hand their batches over before the flushers stop
+            timer.awaitTermination(window.toMillis() + 1_000, TimeUnit.MILLISECONDS);
+            flushers.shutdown();
+            flushers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Boss attack batcher stopped");
+    }
+}
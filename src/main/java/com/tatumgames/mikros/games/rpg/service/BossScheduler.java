@@ -1,25 +1,34 @@
 package com.tatumgames.mikros.games.rpg.service;
 
+import com.tatumgames.mikros.games.rpg.config.RPGConfig;
 import com.tatumgames.mikros.games.rpg.model.Boss;
 import com.tatumgames.mikros.games.rpg.model.SuperBoss;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
+import com.tatumgames.mikros.services.TextTemplate;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import com.tatumgames.mikros.services.dispatch.AnnouncementJob;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Scheduler for boss spawning.
- * Spawns a new boss every 24 hours for all servers with RPG enabled.
+ * Scheduler for the boss lifecycle.
+ * <p>
+ * Each guild with RPG enabled has its own daily spawn task: at the guild's configured local hour
+ * ({@link RPGConfig#getBossSpawnHour()}), or otherwise at a slot derived from the guild ID so spawns
+ * are spread evenly across the day. Every spawned boss gets exact one-shot timers for its expiry
+ * (curse and respawn) and its pre-expiry warnings, and all announcements go through the
+ * {@link AnnouncementDispatcher}.
  */
 public class BossScheduler {
     private static final Logger logger = LoggerFactory.getLogger(BossScheduler.class);
@@ -27,18 +36,22 @@ public class BossScheduler {
     private final BossService bossService;
     private final CharacterService characterService;
     private final WorldCurseService worldCurseService;
-    private final ScheduledExecutorService scheduler;
+    private final AnnouncementDispatcher announcementDispatcher;
+    private final SchedulingRuntime schedulingRuntime;
     private JDA jda;
 
-    // Track last warning sent per boss to avoid spam: "guildId_bossId" -> Instant
-    private final Map<String, Instant> lastWarningSent;
+    private static final String SPAWN_SUBSYSTEM = "boss-spawn";
+    private static final String EXPIRY_SUBSYSTEM = "boss-expiry";
+    private static final String WARNING_SUBSYSTEM = "boss-warning";
 
-    // Warning check interval: check every 30 minutes
-    private static final long WARNING_CHECK_INTERVAL_MINUTES = 30;
+    // Registers spawn tasks for guilds that do not have one yet (e.g. newly joined)
+    private static final TaskKey SPAWN_REGISTRATION_TASK = TaskKey.global("boss-schedule");
+    private static final Duration SPAWN_REGISTRATION_INTERVAL = Duration.ofHours(1);
 
-    // Warning thresholds: warn when 1-2 hours remain
-    private static final long WARNING_THRESHOLD_MIN_HOURS = 1;
-    private static final long WARNING_THRESHOLD_MAX_HOURS = 2;
+    private static final Duration SPAWN_PERIOD = Duration.ofDays(1);
+
+    // Warnings are sent this long before a boss expires
+    private static final List<Duration> WARNING_LEADS = List.of(Duration.ofHours(2), Duration.ofHours(1));
 
     /**
      * Creates a new BossScheduler.
@@ -46,13 +59,16 @@ public class BossScheduler {
      * @param bossService      the boss service
      * @param characterService the character service (to check if RPG is enabled)
      * @param worldCurseService the world curse service (for applying curses on boss expiration)
+     * @param announcementDispatcher the shared dispatcher that paces announcements across guilds
+     * @param schedulingRuntime the shared scheduling runtime
      */
-    public BossScheduler(BossService bossService, CharacterService characterService, WorldCurseService worldCurseService) {
+    public BossScheduler(BossService bossService, CharacterService characterService, WorldCurseService worldCurseService,
+                         AnnouncementDispatcher announcementDispatcher, SchedulingRuntime schedulingRuntime) {
         this.bossService = bossService;
         this.characterService = characterService;
         this.worldCurseService = worldCurseService;
-        this.scheduler = Executors.newScheduledThreadPool(1);
-        this.lastWarningSent = new ConcurrentHashMap<>();
+        this.announcementDispatcher = announcementDispatcher;
+        this.schedulingRuntime = schedulingRuntime;
         logger.info("BossScheduler initialized");
     }
 
@@ -64,105 +80,182 @@ public class BossScheduler {
     public void start(JDA jda) {
         this.jda = jda;
 
-        // Spawn bosses every 24 hours (initial delay: 0, meaning immediate first spawn)
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                logger.info("Boss scheduler triggered - checking all servers for boss spawns");
-                spawnBossesForAllServers();
-            } catch (Exception e) {
-                logger.error("Error in boss scheduler", e);
+        schedulingRuntime.schedule(SPAWN_REGISTRATION_TASK,
+                Trigger.every(SPAWN_REGISTRATION_INTERVAL, Duration.ZERO), () -> {
+                    try {
+                        registerSpawnTasks();
+                    } catch (Exception e) {
+                        logger.error("Error registering boss spawn tasks", e);
+                    }
+                });
+
+        logger.info("Boss scheduler started (per-guild daily spawns, exact expiry and warning timers)");
+    }
+
+    /**
+     * Re-keys a guild's spawn task, e.g. after its boss spawn hour changed.
+     *
+     * @param guildId the guild ID
+     */
+    public void rescheduleGuild(String guildId) {
+        Instant nextSpawn = scheduleGuildSpawn(guildId);
+        logger.info("Boss scheduler: Next spawn check for guild {} at {}", guildId, nextSpawn);
+    }
+
+    /**
+     * Registers a spawn task for every guild that does not have one yet.
+     */
+    private void registerSpawnTasks() {
+        if (jda == null) {
+            logger.warn("Boss scheduler: JDA instance is null, cannot schedule boss spawns");
+            return;
+        }
+
+        int registered = 0;
+        for (Guild guild : jda.getGuilds()) {
+            if (!schedulingRuntime.isScheduled(TaskKey.of(SPAWN_SUBSYSTEM, guild.getId()))) {
+                scheduleGuildSpawn(guild.getId());
+                registered++;
             }
-        }, 0, 24, TimeUnit.HOURS);
+        }
+        if (registered > 0) {
+            logger.info("Boss scheduler: Registered spawn tasks for {} guild(s)", registered);
+        }
+    }
 
-        // Check for expiration warnings every 30 minutes
-        scheduler.scheduleAtFixedRate(() -> {
+    /**
+     * Schedules a guild's daily spawn task.
+     *
+     * @param guildId the guild ID
+     * @return the first spawn check
+     */
+    private Instant scheduleGuildSpawn(String guildId) {
+        RPGConfig config = characterService.getConfig(guildId);
+        Trigger trigger = config.getBossSpawnHour() != null
+                ? Trigger.cron("0 " + config.getBossSpawnHour() + " * * *", config.getBossSpawnZone())
+                : Trigger.every(SPAWN_PERIOD, delayUntilSpawnSlot(guildId, Instant.now()));
+        return schedulingRuntime.schedule(TaskKey.of(SPAWN_SUBSYSTEM, guildId), trigger, () -> {
             try {
-                logger.debug("Boss expiration warning check triggered");
-                checkBossExpirationWarnings();
+                checkGuildSpawn(guildId);
             } catch (Exception e) {
-                logger.error("Error in boss expiration warning check", e);
+                logger.error("Error in boss spawn check for guild {}", guildId, e);
             }
-        }, 0, WARNING_CHECK_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        });
+    }
 
-        logger.info("Boss scheduler started (spawns every 24 hours, warnings checked every {} minutes)",
-                WARNING_CHECK_INTERVAL_MINUTES);
+    /**
+     * Gets the delay until a guild's automatic spawn slot: a fixed offset into the UTC day derived
+     * from the guild ID, so guilds are spread evenly across the day.
+     *
+     * @param guildId the guild ID
+     * @param now     the current time
+     * @return the delay until the next slot
+     */
+    private static Duration delayUntilSpawnSlot(String guildId, Instant now) {
+        long offsetSeconds = Math.floorMod(guildId.hashCode(), SPAWN_PERIOD.toSeconds());
+        Instant slot = now.truncatedTo(ChronoUnit.DAYS).plusSeconds(offsetSeconds);
+        if (!slot.isAfter(now)) {
+            slot = slot.plus(SPAWN_PERIOD);
+        }
+        return Duration.between(now, slot);
     }
 
     /**
-     * Spawns bosses for all servers with RPG enabled.
+     * Spawns a boss for a guild if it has none active.
+     *
+     * @param guildId the guild ID
      */
-    private void spawnBossesForAllServers() {
-        if (jda == null) {
-            logger.warn("Boss scheduler: JDA instance is null, cannot spawn bosses");
+    private void checkGuildSpawn(String guildId) {
+        Guild guild = jda != null ? jda.getGuildById(guildId) : null;
+        if (guild == null) {
+            // Bot left the guild; the registration task re-adds it if it comes back
+            schedulingRuntime.cancel(TaskKey.of(SPAWN_SUBSYSTEM, guildId));
             return;
         }
+        String guildName = guild.getName();
 
-        int totalGuilds = jda.getGuilds().size();
-        logger.debug("Boss scheduler: Checking {} guilds for boss spawns", totalGuilds);
+        // Check if RPG is enabled
+        RPGConfig config = characterService.getConfig(guildId);
+        if (config == null || !config.isEnabled()) {
+            logger.debug("Boss scheduler: Skipping guild {} (RPG disabled or not configured)", guildName);
+            return;
+        }
 
-        for (Guild guild : jda.getGuilds()) {
-            try {
-                String guildId = guild.getId();
-                String guildName = guild.getName();
-
-                // Check if RPG is enabled
-                com.tatumgames.mikros.games.rpg.config.RPGConfig config = characterService.getConfig(guildId);
-                if (config == null || !config.isEnabled()) {
-                    logger.debug("Boss scheduler: Skipping guild {} (RPG disabled or not configured)", guildName);
-                    continue;
+        BossService.ServerBossState state = bossService.getOrCreateState(guildId);
+        synchronized (state) {
+            Boss currentBoss = state.getCurrentBoss();
+            SuperBoss currentSuperBoss = state.getCurrentSuperBoss();
+
+            // Check if current boss expired
+            // Note: Expiration is normally handled by the boss's expiry timer; this is a safety net.
+            // A defeated boss stays current until BossService has handled the defeat and cleared it,
+            // so the next spawn sees the updated progression.
+            if (currentBoss != null) {
+                if (!currentBoss.isDefeated() && hasExpired(currentBoss.getExpiresAt())) {
+                    logger.debug("Boss {} expired in spawn check for guild {}", currentBoss.getName(), guildName);
+                    applyBossFailureCurse(guild, guildId, currentBoss.getBossId(), false); // false = normal boss
+                    spawnNewBoss(guild, guildId, state);
                 }
+                return; // Boss still active or its defeat is being handled
+            }
 
-                // Check if there's already an active boss
-                BossService.ServerBossState state = bossService.getState(guildId);
-                if (state != null) {
-                    Boss currentBoss = state.getCurrentBoss();
-                    SuperBoss currentSuperBoss = state.getCurrentSuperBoss();
-
-                    // Check if current boss expired or was defeated
-                    // Note: Expiration is also checked in checkBossExpirationWarnings() which runs every 30 minutes
-                    // This 24-hour check serves as a backup/safety net
-                    if (currentBoss != null) {
-                        if (currentBoss.isExpired() || currentBoss.isDefeated()) {
-                            // Check if boss expired without being defeated (apply curse)
-                            if (currentBoss.isExpired() && !currentBoss.isDefeated()) {
-                                logger.debug("Boss {} expired in 24h spawn check for guild {}", currentBoss.getName(), guild.getName());
-                                applyBossFailureCurse(guild, guildId, false); // false = normal boss
-                            }
-                            // Boss expired or defeated, spawn new one
-                            spawnNewBoss(guild, guildId, state);
-                        }
-                        continue; // Boss still active
-                    }
-
-                    if (currentSuperBoss != null) {
-                        if (currentSuperBoss.isExpired() || currentSuperBoss.isDefeated()) {
-                            // Check if super boss expired without being defeated (apply curse)
-                            // Note: Expiration is also checked in checkBossExpirationWarnings() which runs every 30 minutes
-                            if (currentSuperBoss.isExpired() && !currentSuperBoss.isDefeated()) {
-                                logger.debug("Super boss {} expired in 24h spawn check for guild {}", currentSuperBoss.getName(), guild.getName());
-                                applyBossFailureCurse(guild, guildId, true); // true = super boss
-                            }
-                            // Super boss expired or defeated, spawn new one
-                            spawnNewBoss(guild, guildId, state);
-                        }
-                        continue; // Super boss still active
-                    }
+            if (currentSuperBoss != null) {
+                if (!currentSuperBoss.isDefeated() && hasExpired(currentSuperBoss.getExpiresAt())) {
+                    logger.debug("Super boss {} expired in spawn check for guild {}", currentSuperBoss.getName(), guildName);
+                    applyBossFailureCurse(guild, guildId, currentSuperBoss.getBossId(), true); // true = super boss
+                    spawnNewBoss(guild, guildId, state);
                 }
+                return; // Super boss still active or its defeat is being handled
+            }
 
-                // No active boss, spawn new one
-                logger.debug("Boss scheduler: No active boss found for guild {}, spawning new boss", guildName);
-                spawnNewBoss(guild, guildId, bossService.getOrCreateState(guildId));
+            // No active boss, spawn new one
+            logger.debug("Boss scheduler: No active boss found for guild {}, spawning new boss", guildName);
+            spawnNewBoss(guild, guildId, state);
+        }
+    }
 
-            } catch (Exception e) {
-                logger.error("Error spawning boss for guild {} ({})", guild.getName(), guild.getId(), e);
+    /**
+     * Handles a boss's expiry timer: applies the failure curse and spawns the next boss, unless the
+     * boss was defeated or replaced in the meantime.
+     *
+     * @param guildId the guild ID
+     * @param bossId  the boss the timer was set for
+     */
+    private void handleBossExpiry(String guildId, String bossId) {
+        Guild guild = jda != null ? jda.getGuildById(guildId) : null;
+        BossService.ServerBossState state = bossService.getState(guildId);
+        if (guild == null || state == null) {
+            return;
+        }
+
+        synchronized (state) {
+            Boss currentBoss = state.getCurrentBoss();
+            SuperBoss currentSuperBoss = state.getCurrentSuperBoss();
+
+            if (currentBoss != null && currentBoss.getBossId().equals(bossId)) {
+                if (!currentBoss.isDefeated() && hasExpired(currentBoss.getExpiresAt())) {
+                    // Boss expired! Apply curse and spawn new one
+                    logger.info("Boss {} expired in guild {}, applying curse", currentBoss.getName(), guild.getName());
+                    applyBossFailureCurse(guild, guildId, bossId, false);
+                    spawnNewBoss(guild, guildId, state);
+                }
+            } else if (currentSuperBoss != null && currentSuperBoss.getBossId().equals(bossId)) {
+                if (!currentSuperBoss.isDefeated() && hasExpired(currentSuperBoss.getExpiresAt())) {
+                    // Super boss expired! Apply curse and spawn new one
+                    logger.info("Super boss {} expired in guild {}, applying curse", currentSuperBoss.getName(), guild.getName());
+                    applyBossFailureCurse(guild, guildId, bossId, true);
+                    spawnNewBoss(guild, guildId, state);
+                }
             }
         }
+    }
 
-        logger.info("Boss scheduler: Finished checking all guilds");
+    private static boolean hasExpired(Instant expiresAt) {
+        return !Instant.now().isBefore(expiresAt);
     }
 
     /**
-     * Spawns a new boss for a guild.
+     * Spawns a new boss for a guild and sets its expiry and warning timers.
      * Clears curses that expire on spawn.
      */
     private void spawnNewBoss(Guild guild, String guildId, BossService.ServerBossState state) {
@@ -174,6 +267,7 @@ public class BossScheduler {
                     guild.getName(), state.getNormalBossesSinceSuper());
             SuperBoss superBoss = bossService.spawnSuperBoss(guildId);
             if (superBoss != null) {
+                scheduleBossTimers(guildId, superBoss.getBossId(), superBoss.getExpiresAt());
                 announceSuperBoss(guild, superBoss);
             } else {
                 logger.warn("Boss scheduler: Failed to spawn super boss for guild {}", guild.getName());
@@ -183,6 +277,7 @@ public class BossScheduler {
                     guild.getName(), state.getNormalBossesSinceSuper());
             Boss boss = bossService.spawnNormalBoss(guildId);
             if (boss != null) {
+                scheduleBossTimers(guildId, boss.getBossId(), boss.getExpiresAt());
                 announceBoss(guild, boss);
             } else {
                 logger.warn("Boss scheduler: Failed to spawn normal boss for guild {}", guild.getName());
@@ -190,7 +285,33 @@ public class BossScheduler {
         }
     }
 
-    private static final List<String> NORMAL_BOSS_TEMPLATES = List.of(
+    /**
+     * Sets a boss's one-shot expiry timer and warning timers, replacing those of the previous boss.
+     *
+     * @param guildId   the guild ID
+     * @param bossId    the boss ID
+     * @param expiresAt when the boss expires
+     */
+    private void scheduleBossTimers(String guildId, String bossId, Instant expiresAt) {
+        schedulingRuntime.schedule(TaskKey.of(EXPIRY_SUBSYSTEM, guildId), Trigger.at(expiresAt), () -> {
+            try {
+                handleBossExpiry(guildId, bossId);
+            } catch (Exception e) {
+                logger.error("Error handling boss expiry for guild {}", guildId, e);
+            }
+        });
+
+        List<Instant> warningTimes = WARNING_LEADS.stream().map(expiresAt::minus).toList();
+        schedulingRuntime.schedule(TaskKey.of(WARNING_SUBSYSTEM, guildId), Trigger.atTimes(warningTimes), () -> {
+            try {
+                sendExpirationWarning(guildId, bossId);
+            } catch (Exception e) {
+                logger.error("Error sending boss expiration warning for guild {}", guildId, e);
+            }
+        });
+    }
+
+    private static final List<TextTemplate> NORMAL_BOSS_TEMPLATES = TextTemplate.compileAll(
             """
                     🐲 **A New Boss Has Appeared!** 🐲
                     
@@ -249,23 +370,19 @@ public class BossScheduler {
             return;
         }
 
-        String template = pickRandom(NORMAL_BOSS_TEMPLATES);
+        String announcement = pickRandom(NORMAL_BOSS_TEMPLATES).with()
+                .arg(boss.getName())
+                .arg(boss.getLevel())
+                .arg(boss.getType().getDisplayName())
+                .arg(boss.getMaxHp())
+                .render();
 
-        String announcement = String.format(template,
-                boss.getName(),
-                boss.getLevel(),
-                boss.getType().getDisplayName(),
-                boss.getMaxHp()
-        );
-
-        channel.sendMessage(announcement).queue(
-                success -> logger.info("Boss scheduler: Successfully announced boss {} (Level {}) in channel {} for guild {}",
-                        boss.getName(), boss.getLevel(), channel.getName(), guild.getName()),
-                failure -> logger.error("Boss scheduler: Failed to send boss announcement for guild {}", guild.getName(), failure)
-        );
+        postAnnouncement(guild, channel, "boss-spawn:" + boss.getBossId(), announcement);
+        logger.info("Boss scheduler: Queued announcement for boss {} (Level {}) in channel {} for guild {}",
+                boss.getName(), boss.getLevel(), channel.getName(), guild.getName());
     }
 
-    private static final List<String> SUPER_BOSS_TEMPLATES = List.of(
+    private static final List<TextTemplate> SUPER_BOSS_TEMPLATES = TextTemplate.compileAll(
             """
                     🔥 **A SUPER BOSS HAS APPEARED!** 🔥
                     
@@ -330,50 +447,51 @@ public class BossScheduler {
             return;
         }
 
-        String template = pickRandom(SUPER_BOSS_TEMPLATES);
-
-        String announcement = String.format(template,
-                superBoss.getName(),
-                superBoss.getLevel(),
-                superBoss.getType().getDisplayName(),
-                superBoss.getMaxHp(),
-                superBoss.getSpecialMechanic()
-        );
-
-        channel.sendMessage(announcement).queue(
-                success -> logger.info("Boss scheduler: Successfully announced super boss {} (Level {}) in channel {} for guild {}",
-                        superBoss.getName(), superBoss.getLevel(), channel.getName(), guild.getName()),
-                failure -> logger.error("Boss scheduler: Failed to send super boss announcement for guild {}", guild.getName(), failure)
-        );
+        String announcement = pickRandom(SUPER_BOSS_TEMPLATES).with()
+                .arg(superBoss.getName())
+                .arg(superBoss.getLevel())
+                .arg(superBoss.getType().getDisplayName())
+                .arg(superBoss.getMaxHp())
+                .arg(superBoss.getSpecialMechanic())
+                .render();
+
+        postAnnouncement(guild, channel, "superboss-spawn:" + superBoss.getBossId(), announcement);
+        logger.info("Boss scheduler: Queued announcement for super boss {} (Level {}) in channel {} for guild {}",
+                superBoss.getName(), superBoss.getLevel(), channel.getName(), guild.getName());
     }
 
+    private static final TextTemplate MAJOR_CURSE_TEMPLATE = TextTemplate.compile("""
+            🌑 **The Super Boss endures.**
+            The sky darkens as **%s** descends upon the realm.
+
+            %s
+            """);
+
+    private static final TextTemplate MINOR_CURSE_TEMPLATE = TextTemplate.compile("""
+            ❄️ **The beast is not slain.**
+            Nilfheim shudders beneath the **%s**.
+
+            %s
+            """);
+
     /**
      * Applies a world curse when a boss expires undefeated.
      *
      * @param guild the guild
      * @param guildId the guild ID
+     * @param bossId the ID of the boss that expired (announcement dedupe key)
      * @param isSuperBoss whether it was a super boss
      */
-    private void applyBossFailureCurse(Guild guild, String guildId, boolean isSuperBoss) {
+    private void applyBossFailureCurse(Guild guild, String guildId, String bossId, boolean isSuperBoss) {
         com.tatumgames.mikros.games.rpg.curse.WorldCurse curse;
-        String announcementTemplate;
+        TextTemplate announcementTemplate;
 
         if (isSuperBoss) {
             curse = worldCurseService.getRandomMajorCurse();
-            announcementTemplate = """
-                    🌑 **The Super Boss endures.**
-                    The sky darkens as **%s** descends upon the realm.
-                    
-                    %s
-                    """;
+            announcementTemplate = MAJOR_CURSE_TEMPLATE;
         } else {
             curse = worldCurseService.getRandomMinorCurse();
-            announcementTemplate = """
-                    ❄️ **The beast is not slain.**
-                    Nilfheim shudders beneath the **%s**.
-                    
-                    %s
-                    """;
+            announcementTemplate = MINOR_CURSE_TEMPLATE;
         }
 
         // Apply the curse
@@ -382,23 +500,34 @@ public class BossScheduler {
         // Announce the curse
         TextChannel channel = findRpgChannel(guild);
         if (channel != null && channel.canTalk()) {
-            String announcement = String.format(announcementTemplate,
-                    curse.getDisplayName(),
-                    curse.getDescription()
-            );
-
-            channel.sendMessage(announcement).queue(
-                    success -> logger.info("Boss scheduler: Applied and announced curse {} for guild {}",
-                            curse.getDisplayName(), guild.getName()),
-                    failure -> logger.error("Boss scheduler: Failed to announce curse for guild {}", guild.getName(), failure)
-            );
+            String announcement = announcementTemplate.with()
+                    .arg(curse.getDisplayName())
+                    .arg(curse.getDescription())
+                    .render();
+
+            postAnnouncement(guild, channel, "boss-curse:" + bossId, announcement);
+            logger.info("Boss scheduler: Applied curse {} for guild {} (announcement queued)",
+                    curse.getDisplayName(), guild.getName());
         } else {
             logger.warn("Boss scheduler: Applied curse {} for guild {} but could not announce (no channel)",
                     curse.getDisplayName(), guild.getName());
         }
     }
 
-    private static String pickRandom(List<String> list) {
+    /**
+     * Hands an announcement to the shared dispatcher, which paces and deduplicates it.
+     *
+     * @param guild   the guild
+     * @param channel the channel to post in
+     * @param key     the announcement key (deduplicated per guild)
+     * @param content the message content
+     */
+    private void postAnnouncement(Guild guild, TextChannel channel, String key, String content) {
+        announcementDispatcher.submit(new AnnouncementJob(guild.getId(), key, channel.getId(),
+                () -> channel.sendMessage(content)));
+    }
+
+    private static <T> T pickRandom(List<T> list) {
         return list.get(ThreadLocalRandom.current().nextInt(list.size()));
     }
 
@@ -414,7 +543,7 @@ public class BossScheduler {
         String guildName = guild.getName();
 
         // Try to find channel from config
-        com.tatumgames.mikros.games.rpg.config.RPGConfig config = characterService.getConfig(guildId);
+        RPGConfig config = characterService.getConfig(guildId);
         if (config != null && config.getRpgChannelId() != null) {
             String channelId = config.getRpgChannelId();
             TextChannel channel = guild.getTextChannelById(channelId);
@@ -454,113 +583,41 @@ public class BossScheduler {
     }
 
     /**
-     * Checks all active bosses and sends expiration warnings if needed.
+     * Sends the expiration warning for a boss if it is still the guild's active, undefeated boss.
+     *
+     * @param guildId the guild ID
+     * @param bossId  the boss the warning timer was set for
      */
-    private void checkBossExpirationWarnings() {
-        if (jda == null) {
-            logger.warn("Boss expiration warning: JDA instance is null");
+    private void sendExpirationWarning(String guildId, String bossId) {
+        Guild guild = jda != null ? jda.getGuildById(guildId) : null;
+        BossService.ServerBossState state = bossService.getState(guildId);
+        RPGConfig config = characterService.getConfig(guildId);
+        if (guild == null || state == null || !config.isEnabled()) {
             return;
         }
 
-        for (Guild guild : jda.getGuilds()) {
-            try {
-                String guildId = guild.getId();
-
-                // Check if RPG is enabled
-                com.tatumgames.mikros.games.rpg.config.RPGConfig config = characterService.getConfig(guildId);
-                if (config == null || !config.isEnabled()) {
-                    continue;
-                }
-
-                BossService.ServerBossState state = bossService.getState(guildId);
-                if (state == null) {
-                    continue;
-                }
-
-                Boss currentBoss = state.getCurrentBoss();
-                SuperBoss currentSuperBoss = state.getCurrentSuperBoss();
-
-                // Check normal boss - both warnings AND expiration
-                if (currentBoss != null && !currentBoss.isDefeated()) {
-                    if (currentBoss.isExpired()) {
-                        // Boss expired! Apply curse and spawn new one
-                        logger.info("Boss {} expired in guild {}, applying curse", currentBoss.getName(), guild.getName());
-                        applyBossFailureCurse(guild, guildId, false);
-                        spawnNewBoss(guild, guildId, state);
-                    } else {
-                        // Boss still active, check for warnings
-                        checkAndSendBossWarning(guild, guildId, currentBoss);
-                    }
-                }
-
-                // Check super boss - both warnings AND expiration
-                if (currentSuperBoss != null && !currentSuperBoss.isDefeated()) {
-                    if (currentSuperBoss.isExpired()) {
-                        // Super boss expired! Apply curse and spawn new one
-                        logger.info("Super boss {} expired in guild {}, applying curse", currentSuperBoss.getName(), guild.getName());
-                        applyBossFailureCurse(guild, guildId, true);
-                        spawnNewBoss(guild, guildId, state);
-                    } else {
-                        // Super boss still active, check for warnings
-                        checkAndSendSuperBossWarning(guild, guildId, currentSuperBoss);
-                    }
-                }
-
-            } catch (Exception e) {
-                logger.error("Error checking boss expiration warning for guild {}", guild.getName(), e);
-            }
-        }
-    }
-
-    /**
-     * Checks if a normal boss needs a warning and sends it.
-     */
-    private void checkAndSendBossWarning(Guild guild, String guildId, Boss boss) {
-        Instant now = Instant.now();
-        Instant expiresAt = boss.getExpiresAt();
-
-        long secondsRemaining = java.time.Duration.between(now, expiresAt).getSeconds();
-        long hoursRemaining = secondsRemaining / 3600;
-        long minutesRemaining = (secondsRemaining % 3600) / 60;
-
-        // Check if within warning threshold (1-2 hours)
-        if (hoursRemaining >= WARNING_THRESHOLD_MIN_HOURS && hoursRemaining <= WARNING_THRESHOLD_MAX_HOURS) {
-            String warningKey = guildId + "_boss_" + boss.getBossId();
-            Instant lastWarning = lastWarningSent.get(warningKey);
-
-            // Only send warning if we haven't sent one in the last hour (to avoid spam)
-            if (lastWarning == null || java.time.Duration.between(lastWarning, now).toHours() >= 1) {
-                sendBossExpirationWarning(guild, boss, hoursRemaining, minutesRemaining);
-                lastWarningSent.put(warningKey, now);
-            }
+        Boss currentBoss = state.getCurrentBoss();
+        SuperBoss currentSuperBoss = state.getCurrentSuperBoss();
+        if (currentBoss != null && currentBoss.getBossId().equals(bossId) && !currentBoss.isDefeated()) {
+            Duration remaining = remainingUntil(currentBoss.getExpiresAt());
+            sendBossExpirationWarning(guild, currentBoss, remaining.toHours(), remaining.toMinutesPart());
+        } else if (currentSuperBoss != null && currentSuperBoss.getBossId().equals(bossId)
+                && !currentSuperBoss.isDefeated()) {
+            Duration remaining = remainingUntil(currentSuperBoss.getExpiresAt());
+            sendSuperBossExpirationWarning(guild, currentSuperBoss, remaining.toHours(), remaining.toMinutesPart());
         }
     }
 
     /**
-     * Checks if a super boss needs a warning and sends it.
+     * Gets the time left until an instant, rounded to the nearest minute so a timer firing a moment
+     * late still reports its whole lead time.
      */
-    private void checkAndSendSuperBossWarning(Guild guild, String guildId, SuperBoss superBoss) {
-        Instant now = Instant.now();
-        Instant expiresAt = superBoss.getExpiresAt();
-
-        long secondsRemaining = java.time.Duration.between(now, expiresAt).getSeconds();
-        long hoursRemaining = secondsRemaining / 3600;
-        long minutesRemaining = (secondsRemaining % 3600) / 60;
-
-        // Check if within warning threshold (1-2 hours)
-        if (hoursRemaining >= WARNING_THRESHOLD_MIN_HOURS && hoursRemaining <= WARNING_THRESHOLD_MAX_HOURS) {
-            String warningKey = guildId + "_superboss_" + superBoss.getBossId();
-            Instant lastWarning = lastWarningSent.get(warningKey);
-
-            // Only send warning if we haven't sent one in the last hour (to avoid spam)
-            if (lastWarning == null || java.time.Duration.between(lastWarning, now).toHours() >= 1) {
-                sendSuperBossExpirationWarning(guild, superBoss, hoursRemaining, minutesRemaining);
-                lastWarningSent.put(warningKey, now);
-            }
-        }
+    private static Duration remainingUntil(Instant expiresAt) {
+        Duration remaining = Duration.between(Instant.now(), expiresAt).plusSeconds(30).truncatedTo(ChronoUnit.MINUTES);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
     }
 
-    private static final List<String> BOSS_WARNING_TEMPLATES = List.of(
+    private static final List<TextTemplate> BOSS_WARNING_TEMPLATES = TextTemplate.compileAll(
             """
                     ⏰ **Time is almost up, where are the heroes?**
                     
@@ -625,32 +682,29 @@ public class BossScheduler {
             return;
         }
 
-        String template = pickRandom(BOSS_WARNING_TEMPLATES);
         double hpPercent = (double) boss.getCurrentHp() / boss.getMaxHp() * 100.0;
         String hoursText = hoursRemaining != 1 ? "s" : "";
         String minutesText = minutesRemaining != 1 ? "s" : "";
 
-        String warning = String.format(template,
-                boss.getName(),
-                boss.getLevel(),
-                boss.getType().getDisplayName(),
-                boss.getCurrentHp(),
-                boss.getMaxHp(),
-                hpPercent,
-                hoursRemaining,
-                hoursText,
-                minutesRemaining,
-                minutesText
-        );
-
-        channel.sendMessage(warning).queue(
-                success -> logger.info("Boss expiration warning sent for {} (Level {}) in guild {} - {}h {}m remaining",
-                        boss.getName(), boss.getLevel(), guild.getName(), hoursRemaining, minutesRemaining),
-                failure -> logger.error("Failed to send boss expiration warning for guild {}", guild.getName(), failure)
-        );
+        String warning = pickRandom(BOSS_WARNING_TEMPLATES).with()
+                .arg(boss.getName())
+                .arg(boss.getLevel())
+                .arg(boss.getType().getDisplayName())
+                .arg(boss.getCurrentHp())
+                .arg(boss.getMaxHp())
+                .arg(hpPercent)
+                .arg(hoursRemaining)
+                .arg(hoursText)
+                .arg(minutesRemaining)
+                .arg(minutesText)
+                .render();
+
+        postAnnouncement(guild, channel, "boss-warning:" + boss.getBossId() + ":" + hoursRemaining, warning);
+        logger.info("Boss expiration warning queued for {} (Level {}) in guild {} - {}h {}m remaining",
+                boss.getName(), boss.getLevel(), guild.getName(), hoursRemaining, minutesRemaining);
     }
 
-    private static final List<String> SUPER_BOSS_WARNING_TEMPLATES = List.of(
+    private static final List<TextTemplate> SUPER_BOSS_WARNING_TEMPLATES = TextTemplate.compileAll(
             """
                     ⏰ **Time is almost up, where are the heroes?**
                     
@@ -720,37 +774,37 @@ public class BossScheduler {
             return;
         }
 
-        String template = pickRandom(SUPER_BOSS_WARNING_TEMPLATES);
         double hpPercent = (double) superBoss.getCurrentHp() / superBoss.getMaxHp() * 100.0;
         String hoursText = hoursRemaining != 1 ? "s" : "";
         String minutesText = minutesRemaining != 1 ? "s" : "";
 
-        String warning = String.format(template,
-                superBoss.getName(),
-                superBoss.getLevel(),
-                superBoss.getType().getDisplayName(),
-                superBoss.getCurrentHp(),
-                superBoss.getMaxHp(),
-                hpPercent,
-                superBoss.getSpecialMechanic(),
-                hoursRemaining,
-                hoursText,
-                minutesRemaining,
-                minutesText
-        );
-
-        channel.sendMessage(warning).queue(
-                success -> logger.info("Super boss expiration warning sent for {} (Level {}) in guild {} - {}h {}m remaining",
-                        superBoss.getName(), superBoss.getLevel(), guild.getName(), hoursRemaining, minutesRemaining),
-                failure -> logger.error("Failed to send super boss expiration warning for guild {}", guild.getName(), failure)
-        );
+        String warning = pickRandom(SUPER_BOSS_WARNING_TEMPLATES).with()
+                .arg(superBoss.getName())
+                .arg(superBoss.getLevel())
+                .arg(superBoss.getType().getDisplayName())
+                .arg(superBoss.getCurrentHp())
+                .arg(superBoss.getMaxHp())
+                .arg(hpPercent)
+                .arg(superBoss.getSpecialMechanic())
+                .arg(hoursRemaining)
+                .arg(hoursText)
+                .arg(minutesRemaining)
+                .arg(minutesText)
+                .render();
+
+        postAnnouncement(guild, channel, "superboss-warning:" + superBoss.getBossId() + ":" + hoursRemaining, warning);
+        logger.info("Super boss expiration warning queued for {} (Level {}) in guild {} - {}h {}m remaining",
+                superBoss.getName(), superBoss.getLevel(), guild.getName(), hoursRemaining, minutesRemaining);
     }
 
     /**
      * Stops the scheduler.
      */
     public void shutdown() {
-        scheduler.shutdown();
+        schedulingRuntime.cancel(SPAWN_REGISTRATION_TASK);
+        schedulingRuntime.cancelSubsystem(SPAWN_SUBSYSTEM);
+        schedulingRuntime.cancelSubsystem(EXPIRY_SUBSYSTEM);
+        schedulingRuntime.cancelSubsystem(WARNING_SUBSYSTEM);
         logger.info("Boss scheduler stopped");
     }
 }
@@ -1,18 +1,25 @@
 package com.tatumgames.mikros.games.rpg.service;
 
+import com.tatumgames.mikros.games.rpg.achievements.LegendaryAura;
 import com.tatumgames.mikros.games.rpg.boss.BossCatalog;
-import com.tatumgames.mikros.games.rpg.events.NilfheimEventType;
 import com.tatumgames.mikros.games.rpg.model.*;
 import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
-import com.tatumgames.mikros.games.rpg.service.NilfheimEventService;
+import com.tatumgames.mikros.services.RngService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 
 /**
  * Service for managing boss battles per server.
@@ -24,32 +31,60 @@ public class BossService {
     // Per-server boss state: guildId -> ServerBossState
     private final Map<String, ServerBossState> serverStates;
 
-    // Damage tracking: guildId -> Map<userId, totalDamage>
-    private final Map<String, Map<String, Integer>> damageTracking;
+    // Damage tracking for the current fight: guildId -> Map<userId, totalDamage>
+    private final Map<String, FightTally> damageTracking;
+
+    // Source of boss epochs; global so a guild's epoch keeps increasing across resetServerData
+    private final AtomicLong bossEpochs = new AtomicLong();
+
+    // Runs defeat handling (rewards, progression) off the attacking thread, one defeat at a time
+    private final Executor defeatHandler;
 
     private final CharacterService characterService;
-    private final AuraService auraService;
+    private final GuildModifierService guildModifierService;
     private final WorldCurseService worldCurseService;
-    private final NilfheimEventService nilfheimEventService;
     private final LoreRecognitionService loreRecognitionService;
-    private static final Random random = new Random();
+    private static final RandomGenerator random = RngService.current();
+    private static final EssenceType[] ESSENCE_TYPES = EssenceType.values();
+    private static final CatalystType[] CATALYST_TYPES = CatalystType.values();
 
     /**
      * Creates a new BossService.
      *
      * @param characterService the character service for tracking kills
-     * @param auraService the aura service for applying legendary aura effects
+     * @param guildModifierService the guild modifiers (curses, auras and events) applied to attacks
+     * @param worldCurseService the world curse service for clearing curses on defeat
+     * @param loreRecognitionService the lore recognition service for milestone checks
+     */
+    public BossService(CharacterService characterService, GuildModifierService guildModifierService,
+                       WorldCurseService worldCurseService, LoreRecognitionService loreRecognitionService) {
+        this(characterService, guildModifierService, worldCurseService, loreRecognitionService,
+                Executors.newSingleThreadExecutor(r -> {
+                    Thread t = new Thread(r, "boss-defeat-handler");
+                    t.setDaemon(true);
+                    return t;
+                }));
+    }
+
+    /**
+     * Creates a new BossService that hands defeats to the given executor. Headless tools pass a direct
+     * executor ({@code Runnable::run}) so a defeat is fully handled before the killing attack returns.
+     *
+     * @param characterService the character service for tracking kills
+     * @param guildModifierService the guild modifiers (curses, auras and events) applied to attacks
      * @param worldCurseService the world curse service for clearing curses on defeat
-     * @param nilfheimEventService the Nilfheim event service for server-wide events
      * @param loreRecognitionService the lore recognition service for milestone checks
+     * @param defeatHandler runs defeat handling; must run one defeat at a time
      */
-    public BossService(CharacterService characterService, AuraService auraService, WorldCurseService worldCurseService, NilfheimEventService nilfheimEventService, LoreRecognitionService loreRecognitionService) {
+    public BossService(CharacterService characterService, GuildModifierService guildModifierService,
+                       WorldCurseService worldCurseService, LoreRecognitionService loreRecognitionService,
+                       Executor defeatHandler) {
         this.serverStates = new ConcurrentHashMap<>();
         this.damageTracking = new ConcurrentHashMap<>();
+        this.defeatHandler = defeatHandler;
         this.characterService = characterService;
-        this.auraService = auraService;
+        this.guildModifierService = guildModifierService;
         this.worldCurseService = worldCurseService;
-        this.nilfheimEventService = nilfheimEventService;
         this.loreRecognitionService = loreRecognitionService;
         logger.info("BossService initialized");
     }
@@ -89,14 +124,16 @@ public class BossService {
         }
 
         int level = state.getBossLevel();
-        BossCatalog.BossDefinition definition = BossCatalog.getRandomNormalBoss(level);
+        long epoch = bossEpochs.incrementAndGet();
+        BossCatalog.BossDefinition definition = characterService.getRngService()
+                .withStream("boss-spawn:" + guildId, epoch, () -> BossCatalog.getRandomNormalBoss(level));
         Boss boss = BossCatalog.createBoss(definition, level);
 
+        // New tally and epoch first, so an attacker that sees the new boss also sees both.
+        // Heroic charges refresh lazily, the next time each character fights here.
+        damageTracking.put(guildId, new FightTally());
+        state.setBossEpoch(epoch);
         state.setCurrentBoss(boss);
-        damageTracking.put(guildId, new ConcurrentHashMap<>());
-
-        // Refresh heroic charges for all characters when new boss spawns
-        refreshHeroicChargesForAllCharacters();
 
         logger.info("Spawned normal boss {} (Level {}) for guild {}", boss.getName(), level, guildId);
         return boss;
@@ -115,35 +152,184 @@ public class BossService {
         BossCatalog.SuperBossDefinition definition = BossCatalog.getSuperBoss(level);
         SuperBoss superBoss = BossCatalog.createSuperBoss(definition, level);
 
+        damageTracking.put(guildId, new FightTally());
+        state.setBossEpoch(bossEpochs.incrementAndGet());
         state.setCurrentSuperBoss(superBoss);
         state.setNormalBossesSinceSuper(0); // Reset counter
-        damageTracking.put(guildId, new ConcurrentHashMap<>());
-
-        // Refresh heroic charges for all characters when new boss spawns
-        refreshHeroicChargesForAllCharacters();
 
         logger.info("Spawned super boss {} (Level {}) for guild {}", superBoss.getName(), level, guildId);
         return superBoss;
     }
 
     /**
-     * Attacks a boss with a character.
+     * Attacks a boss with a character, consuming one of its heroic charges.
+     * The attack runs under the attacker's character lock, but the boss itself is never locked: HP is
+     * lowered with compare-and-set and damage is tallied in a {@link LongAdder}, so any number of
+     * players can attack at once. Only the killing blow sees the defeat, and it hands the fight's tally
+     * to a background task that distributes rewards and advances progression exactly once. A hit that
+     * finds the boss already slain deals no damage and costs no charge.
      *
      * @param guildId   the guild ID
      * @param character the attacking character
-     * @return damage dealt
+     * @return damage dealt (0 if there is no boss, it is already slain, or the character has no heroic
+     *         charge left)
      */
     public int attackBoss(String guildId, RPGCharacter character) {
+        return attackBoss(guildId, List.of(character)).get(0);
+    }
+
+    /**
+     * Attacks a boss with a batch of characters, in order. The fight's modifiers (aura, event, curses)
+     * are looked up once for the whole batch; each attack then consumes its character's heroic charge
+     * as in {@link #attackBoss(String, RPGCharacter)}. Attacks after the killing blow miss.
+     *
+     * @param guildId   the guild ID
+     * @param attackers the attacking characters (a character may appear more than once)
+     * @return damage dealt by each attack, in the same order
+     */
+    public List<Integer> attackBoss(String guildId, List<RPGCharacter> attackers) {
+        List<Integer> damages = new ArrayList<>(attackers.size());
+        StrikeModifiers modifiers = modifiersFor(guildId, attackers);
+        for (RPGCharacter character : attackers) {
+            Strike strike = modifiers == null ? Strike.MISSED
+                    : characterService.withCharacterLock(character.getDiscordId(), () -> {
+                        character.applyHeroicRefresh(guildId, modifiers.bossEpoch());
+                        if (!character.canPerformHeroicAction()) {
+                            return Strike.MISSED;
+                        }
+                        Strike result = characterService.withActionStream(character,
+                                () -> strikeBoss(character, modifiers));
+                        if (result.damage() > 0) {
+                            character.useHeroicCharge();
+                        }
+                        return result;
+                    });
+
+            if (strike.defeated()) {
+                defeatHandler.execute(() -> handleBossDefeat(guildId, strike));
+            }
+            damages.add(strike.damage());
+        }
+        return damages;
+    }
+
+    /**
+     * Everything an attack needs besides the attacker, looked up once per batch.
+     *
+     * @param boss             the active normal boss, or null
+     * @param superBoss        the active super boss, or null
+     * @param tally            the fight's damage tally
+     * @param auraMultiplier   Song of Nilfheim multiplier
+     * @param eventMultiplier  Nilfheim event multiplier
+     * @param cursed           whether a world curse is active
+     * @param bossEpoch        the guild's boss epoch, for lazy heroic refresh
+     */
+    private record StrikeModifiers(Boss boss, SuperBoss superBoss, FightTally tally,
+                                   double auraMultiplier, double eventMultiplier, boolean cursed, long bossEpoch) {
+        BossType bossType() {
+            return boss != null ? boss.getType() : superBoss.getType();
+        }
+    }
+
+    /**
+     * Looks up the modifiers for a batch of attacks.
+     *
+     * @return the modifiers, or null if there is no boss to attack
+     */
+    private StrikeModifiers modifiersFor(String guildId, List<RPGCharacter> attackers) {
         ServerBossState state = getState(guildId);
         if (state == null) {
-            return 0;
+            return null;
         }
-
         Boss boss = state.getCurrentBoss();
         SuperBoss superBoss = state.getCurrentSuperBoss();
-
         if (boss == null && superBoss == null) {
-            return 0; // No active boss
+            return null; // No active boss
+        }
+        FightTally tally = damageTracking.get(guildId);
+        if (tally == null) {
+            return null;
+        }
+
+        GuildModifierSnapshot modifiers = guildModifierService.getSnapshot(guildId);
+
+        // Song of Nilfheim (+5%) applies if its holder has fought this boss or attacks in this batch
+        double auraMultiplier = 1.0;
+        for (String holderId : modifiers.getAuraHolders(LegendaryAura.SONG_OF_NILFHEIM)) {
+            if (tally.hasDamageFrom(holderId) || isAttacking(holderId, attackers)) {
+                auraMultiplier = 1.05;
+                break;
+            }
+        }
+
+        // Frostborne Echoes: +8% damage to bosses
+        double eventMultiplier = modifiers.getBossDamageMultiplier();
+
+        return new StrikeModifiers(boss, superBoss, tally, auraMultiplier, eventMultiplier, modifiers.isCursed(),
+                state.getBossEpoch());
+    }
+
+    private static boolean isAttacking(String userId, List<RPGCharacter> attackers) {
+        for (RPGCharacter attacker : attackers) {
+            if (attacker.getDiscordId().equals(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A fight's damage tally. Strikes count themselves in flight from just before they lower HP until
+     * their damage is tallied, so the defeat handler can wait for every hit that landed before the
+     * killing blow. Hits after the killing blow apply no damage and are never tallied.
+     */
+    private static final class FightTally {
+        private final Map<String, LongAdder> damage = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        boolean hasDamageFrom(String userId) {
+            return damage.containsKey(userId);
+        }
+
+        /**
+         * Waits for strikes still between lowering HP and tallying. Once the boss is at 0 HP no new
+         * strike can apply damage, so after this the tally is final.
+         */
+        void awaitStrikesInFlight() {
+            while (inFlight.get() != 0) {
+                Thread.yield();
+            }
+        }
+
+        /**
+         * Copies the tally.
+         */
+        Map<String, Integer> snapshot() {
+            Map<String, Integer> copy = new LinkedHashMap<>();
+            damage.forEach((userId, adder) -> copy.put(userId, adder.intValue()));
+            return copy;
+        }
+    }
+
+    /**
+     * Result of one attack on a boss. A killing blow carries the defeated boss and its damage tally.
+     */
+    private record Strike(int damage, boolean defeated, Object boss, FightTally tally) {
+        static final Strike MISSED = new Strike(0, false, null, null);
+
+        boolean normalBoss() {
+            return boss instanceof Boss;
+        }
+    }
+
+    /**
+     * Applies one attack to the batch's boss. Caller holds the attacker's lock.
+     */
+    private Strike strikeBoss(RPGCharacter character, StrikeModifiers modifiers) {
+        Boss boss = modifiers.boss();
+        SuperBoss superBoss = modifiers.superBoss();
+        if (boss != null ? boss.isDefeated() : superBoss.isDefeated()) {
+            return Strike.MISSED; // Already slain, defeat being handled
         }
 
         // Check for Gravebound Presence Raise Fallen mechanic
@@ -165,53 +351,42 @@ public class BossService {
         }
 
         // Calculate damage based on character stats and class
-        int baseDamage = calculateDamage(character, boss != null ? boss.getType() : superBoss.getType());
+        int baseDamage = calculateDamage(character, modifiers.bossType());
 
         // Apply class bonuses
-        double multiplier = getClassBonus(character.getCharacterClass(), boss != null ? boss.getType() : superBoss.getType());
+        double multiplier = getClassBonus(character.getCharacterClass(), modifiers.bossType());
         int damage = (int) (baseDamage * multiplier);
 
         // Apply Song of Nilfheim aura effect (+5% damage if aura holder present)
-        // Get all participants who have dealt damage
-        Map<String, Integer> allDamage = damageTracking.get(guildId);
-        if (allDamage != null) {
-            java.util.List<String> participants = new java.util.ArrayList<>(allDamage.keySet());
-            participants.add(character.getDiscordId()); // Include current attacker
-            damage = auraService.applyAuraEffects(guildId, participants, damage);
-        }
+        damage = (int) (damage * modifiers.auraMultiplier());
 
         // Apply Nilfheim event effects
-        NilfheimEventType activeEvent = nilfheimEventService.getActiveEvent(guildId);
-        if (activeEvent != null) {
-            if (activeEvent.getEffectType() == NilfheimEventType.EventEffectType.BOSS_DAMAGE_BOOST) {
-                // Frostborne Echoes: +8% damage to bosses
-                damage = (int) (damage * (1.0 + activeEvent.getEffectValue()));
+        damage = (int) (damage * modifiers.eventMultiplier());
+
+        // Apply damage, tallying only what landed
+        FightTally tally = modifiers.tally();
+        BossHit hit;
+        tally.inFlight.incrementAndGet();
+        try {
+            hit = boss != null ? boss.takeDamage(damage) : superBoss.takeDamage(damage);
+            if (hit.damage() > 0) {
+                tally.damage.computeIfAbsent(character.getDiscordId(), k -> new LongAdder()).add(hit.damage());
             }
+        } finally {
+            tally.inFlight.decrementAndGet();
         }
-
-        // Apply damage
-        boolean defeated;
-        if (boss != null) {
-            defeated = boss.takeDamage(damage);
-        } else {
-            defeated = superBoss.takeDamage(damage);
+        if (hit.damage() == 0) {
+            return Strike.MISSED; // Slain by a concurrent hit
         }
 
-        // Track damage
-        damageTracking.computeIfAbsent(guildId, k -> new ConcurrentHashMap<>())
-                .merge(character.getDiscordId(), damage, Integer::sum);
-
         // Track cursed boss fight participation
-        var activeCurses = worldCurseService.getActiveCurses(guildId);
-        if (!activeCurses.isEmpty()) {
+        if (modifiers.cursed()) {
             character.incrementCursedBossFights();
         }
 
-        if (defeated) {
-            handleBossDefeat(guildId, boss != null);
-        }
-
-        return damage;
+        return hit.killingBlow()
+                ? new Strike(hit.damage(), true, boss != null ? boss : superBoss, tally)
+                : new Strike(hit.damage(), false, null, null);
     }
 
     /**
@@ -232,7 +407,7 @@ public class BossService {
 
         // Random variance
         int variance = (int) (baseDamage * 0.2); // ±20%
-        baseDamage += (int) (Math.random() * variance * 2) - variance;
+        baseDamage += (int) (random.nextDouble() * variance * 2) - variance;
 
         return Math.max(50, baseDamage); // Minimum 50 damage
     }
@@ -261,25 +436,45 @@ public class BossService {
     }
 
     /**
-     * Handles boss defeat and progression.
+     * Handles boss defeat and progression. Runs once per boss, on the defeat handler thread.
      */
-    private void handleBossDefeat(String guildId, boolean isNormalBoss) {
+    private void handleBossDefeat(String guildId, Strike killingBlow) {
         ServerBossState state = getState(guildId);
         if (state == null) {
             return;
         }
+        boolean isNormalBoss = killingBlow.normalBoss();
+
+        try {
+            FightTally tally = killingBlow.tally();
+            tally.awaitStrikesInFlight();
+            distributeDefeatRewards(guildId, state, isNormalBoss, tally.snapshot());
+        } catch (RuntimeException e) {
+            logger.error("Failed to distribute boss rewards for guild {}", guildId, e);
+        } finally {
+            // Progression always advances, or the defeated boss would never be replaced
+            synchronized (state) {
+                advanceProgression(guildId, state, killingBlow.boss(), isNormalBoss);
+            }
+            damageTracking.remove(guildId, killingBlow.tally());
+        }
+    }
 
+    /**
+     * Clears defeat curses, awards XP to the top damage dealers and credits every participant.
+     */
+    private void distributeDefeatRewards(String guildId, ServerBossState state, boolean isNormalBoss,
+                                         Map<String, Integer> damage) {
         // Clear curses that expire on defeat (victory removes curses)
         worldCurseService.clearCursesOnDefeat(guildId);
 
         // Calculate 30% of participants (rounded up) for XP rewards
-        Map<String, Integer> allDamage = damageTracking.get(guildId);
-        int totalParticipants = (allDamage != null) ? allDamage.size() : 0;
+        int totalParticipants = damage.size();
         int rewardCount = (int) Math.ceil(totalParticipants * 0.30); // Top 30%, rounded up
         int limit = Math.max(1, rewardCount); // At least 1 person gets rewarded
         
         // Get top damage dealers for XP rewards (top 30% of participants)
-        Map<String, Integer> topDamage = getTopDamageDealers(guildId, limit);
+        Map<String, Integer> topDamage = topOf(damage, limit);
         
         // Calculate total XP pool based on boss type and level
         int totalXpPool;
@@ -328,7 +523,7 @@ public class BossService {
                         int finalXp = (int) (baseXp * rankBonus);
                         
                         // Award XP
-                        boolean leveledUp = character.addXp(finalXp);
+                        boolean leveledUp = characterService.withCharacterLock(userId, () -> character.addXp(finalXp));
                         
                         logger.info("Awarded {} XP to {} (rank #{}, {} damage) for boss defeat. Leveled up: {}",
                                 finalXp, character.getName(), rank, playerDamage, leveledUp);
@@ -340,7 +535,7 @@ public class BossService {
                 if (topDamageDealerId != null) {
                     RPGCharacter topDealer = characterService.getCharacter(topDamageDealerId);
                     if (topDealer != null) {
-                        topDealer.incrementTopDamageBossKills();
+                        characterService.withCharacterLock(topDamageDealerId, topDealer::incrementTopDamageBossKills);
                         
                         // TODO: Check for Hero's Mark achievement (100 normal OR 10 super)
                         // Hero's Mark: 100 top damage kills on normal bosses OR 10 on super bosses
@@ -351,32 +546,41 @@ public class BossService {
         }
 
         // Credit kills and distribute rewards to all participants who dealt damage
-        Map<String, Integer> damage = damageTracking.get(guildId);
-        if (damage != null) {
-            for (String userId : damage.keySet()) {
-                RPGCharacter character = characterService.getCharacter(userId);
-                if (character != null) {
+        for (String userId : damage.keySet()) {
+            RPGCharacter character = characterService.getCharacter(userId);
+            if (character != null) {
+                characterService.withCharacterLock(userId, () -> {
                     if (isNormalBoss) {
                         character.incrementBossesKilled();
                     } else {
                         character.incrementSuperBossesKilled();
                     }
-                    
+
                     // Distribute boss rewards
-                    distributeBossRewards(character, isNormalBoss);
-                    
+                    characterService.withActionStream(character, () -> {
+                        distributeBossRewards(character, isNormalBoss);
+                        return null;
+                    });
+
                     // Check for lore recognition milestones (boss victory)
                     if (loreRecognitionService != null) {
                         loreRecognitionService.checkMilestones(character);
                     }
-                }
+                });
             }
         }
+    }
 
+    /**
+     * Counts the defeat towards boss progression and clears the defeated boss. Caller holds the state's monitor.
+     */
+    private void advanceProgression(String guildId, ServerBossState state, Object defeatedBoss, boolean isNormalBoss) {
         if (isNormalBoss) {
             state.setNormalBossesDefeated(state.getNormalBossesDefeated() + 1);
             state.setNormalBossesSinceSuper(state.getNormalBossesSinceSuper() + 1);
-            state.setCurrentBoss(null);
+            if (state.getCurrentBoss() == defeatedBoss) {
+                state.setCurrentBoss(null);
+            }
 
             // Check for level up: TotalDefeated >= 6 × currentBossLevel
             int required = 6 * state.getBossLevel();
@@ -387,7 +591,9 @@ public class BossService {
         } else {
             state.setSuperBossesDefeated(state.getSuperBossesDefeated() + 1);
             state.setNormalBossesSinceSuper(0);
-            state.setCurrentSuperBoss(null);
+            if (state.getCurrentSuperBoss() == defeatedBoss) {
+                state.setCurrentSuperBoss(null);
+            }
 
             // Check for super boss level up: SuperBossesDefeated >= 2 × superBossLevel
             int required = 2 * state.getSuperBossLevel();
@@ -396,9 +602,23 @@ public class BossService {
                 logger.info("Super boss level increased to {} for guild {}", state.getSuperBossLevel(), guildId);
             }
         }
+    }
 
-        // Clear damage tracking
-        damageTracking.remove(guildId);
+    /**
+     * Applies any heroic-charge refresh a character is owed from boss spawns in a guild.
+     * Call before reading the character's heroic charges for that guild.
+     *
+     * @param guildId   the guild ID
+     * @param character the character
+     */
+    public void applyHeroicRefresh(String guildId, RPGCharacter character) {
+        ServerBossState state = getState(guildId);
+        if (state == null || state.getBossEpoch() == 0) {
+            return; // No boss has spawned here yet
+        }
+        long bossEpoch = state.getBossEpoch();
+        characterService.withCharacterLock(character.getDiscordId(),
+                () -> character.applyHeroicRefresh(guildId, bossEpoch));
     }
 
     /**
@@ -409,11 +629,14 @@ public class BossService {
      * @return map of userId -> total damage
      */
     public Map<String, Integer> getTopDamageDealers(String guildId, int limit) {
-        Map<String, Integer> damage = damageTracking.get(guildId);
-        if (damage == null || damage.isEmpty()) {
+        FightTally tally = damageTracking.get(guildId);
+        if (tally == null || tally.damage.isEmpty()) {
             return new LinkedHashMap<>();
         }
+        return topOf(tally.snapshot(), limit);
+    }
 
+    private static Map<String, Integer> topOf(Map<String, Integer> damage, int limit) {
         return damage.entrySet().stream()
                 .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
                 .limit(limit)
@@ -434,6 +657,16 @@ public class BossService {
         logger.warn("Reset boss data for server {}", guildId);
     }
 
+    /**
+     * Stops the defeat handler. Defeats already queued are still handled.
+     */
+    public void shutdown() {
+        if (defeatHandler instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+        logger.info("Boss defeat handler stopped");
+    }
+
     /**
      * Server-specific boss state.
      */
@@ -443,8 +676,10 @@ public class BossService {
         private int normalBossesDefeated = 0;
         private int superBossesDefeated = 0;
         private int normalBossesSinceSuper = 0;
-        private Boss currentBoss;
-        private SuperBoss currentSuperBoss;
+        // Volatile: attackers read the current boss without holding the state's monitor
+        private volatile Boss currentBoss;
+        private volatile SuperBoss currentSuperBoss;
+        private volatile long bossEpoch;
 
         // Getters and setters
 
@@ -488,6 +723,14 @@ public class BossService {
             this.normalBossesSinceSuper = normalBossesSinceSuper;
         }
 
+        public long getBossEpoch() {
+            return bossEpoch;
+        }
+
+        public void setBossEpoch(long bossEpoch) {
+            this.bossEpoch = bossEpoch;
+        }
+
         public Boss getCurrentBoss() {
             return currentBoss;
         }
@@ -544,8 +787,7 @@ public class BossService {
      * @return random essence type
      */
     private EssenceType getRandomEssence() {
-        EssenceType[] essences = EssenceType.values();
-        return essences[random.nextInt(essences.length)];
+        return ESSENCE_TYPES[random.nextInt(ESSENCE_TYPES.length)];
     }
 
     /**
@@ -554,21 +796,7 @@ public class BossService {
      * @return random catalyst type
      */
     private CatalystType getRandomCatalyst() {
-        CatalystType[] catalysts = CatalystType.values();
-        return catalysts[random.nextInt(catalysts.length)];
-    }
-
-    /**
-     * Refreshes heroic charges for all characters when a new boss spawns.
-     */
-    private void refreshHeroicChargesForAllCharacters() {
-        Collection<RPGCharacter> allCharacters = characterService.getAllCharacters();
-        int refreshedCount = 0;
-        for (RPGCharacter character : allCharacters) {
-            character.refreshHeroicCharges();
-            refreshedCount++;
-        }
-        logger.info("Refreshed heroic charges for {} characters (new boss spawned)", refreshedCount);
+        return CATALYST_TYPES[random.nextInt(CATALYST_TYPES.length)];
     }
 }
 
@@ -0,0 +1,128 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks that serialize mutations of a character without a global lock.
+ * <p>
+ * Each Discord ID maps to one of a fixed number of stripes. Single-character work takes one stripe;
+ * work that touches several characters takes all of their stripes in ascending stripe order, so two
+ * such operations can never deadlock. Locks are reentrant, but a thread that already holds a stripe
+ * must not go on to take a lower one — that breaks the ordering and is rejected with
+ * {@link IllegalStateException}.
+ */
+public class CharacterLocks {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Creates striped locks with the default stripe count.
+     */
+    public CharacterLocks() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates striped locks.
+     *
+     * @param stripeCount the number of stripes
+     */
+    public CharacterLocks(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be positive");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs work while holding one character's lock.
+     *
+     * @param discordId the character's Discord ID
+     * @param work      the work
+     * @param <T>       the result type
+     * @return the work's result
+     */
+    public <T> T withLock(String discordId, Supplier<T> work) {
+        int stripe = stripeOf(discordId);
+        checkOrdering(stripe);
+        ReentrantLock lock = stripes[stripe];
+        lock.lock();
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs work while holding the locks of several characters, taken in stripe order.
+     *
+     * @param discordIds the characters' Discord IDs
+     * @param work       the work
+     * @param <T>        the result type
+     * @return the work's result
+     */
+    public <T> T withLocks(Collection<String> discordIds, Supplier<T> work) {
+        TreeSet<Integer> needed = new TreeSet<>();
+        for (String discordId : discordIds) {
+            needed.add(stripeOf(discordId));
+        }
+        if (needed.isEmpty()) {
+            return work.get();
+        }
+        Integer[] order = needed.toArray(Integer[]::new);
+        for (Integer stripe : order) {
+            checkOrdering(stripe);
+        }
+
+        int acquired = 0;
+        try {
+            for (Integer stripe : order) {
+                stripes[stripe].lock();
+                acquired++;
+            }
+            return work.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[order[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the current thread holds the lock of a character.
+     *
+     * @param discordId the character's Discord ID
+     * @return true if held
+     */
+    public boolean isHeldByCurrentThread(String discordId) {
+        return stripes[stripeOf(discordId)].isHeldByCurrentThread();
+    }
+
+    private int stripeOf(String discordId) {
+        int hash = discordId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    /**
+     * Rejects taking a stripe below one the thread already holds (re-taking a held stripe is fine).
+     */
+    private void checkOrdering(int stripe) {
+        if (stripes[stripe].isHeldByCurrentThread()) {
+            return;
+        }
+        for (int i = stripe + 1; i < stripes.length; i++) {
+            if (stripes[i].isHeldByCurrentThread()) {
+                throw new IllegalStateException(
+                        "Character lock ordering violated: take multi-character locks with withLocks up front");
+            }
+        }
+    }
+}
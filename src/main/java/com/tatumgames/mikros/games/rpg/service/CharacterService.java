@@ -1,19 +1,27 @@
 package com.tatumgames.mikros.games.rpg.service;
 
 import com.tatumgames.mikros.games.rpg.config.RPGConfig;
+import com.tatumgames.mikros.games.rpg.leaderboard.LeaderboardIndex;
+import com.tatumgames.mikros.games.rpg.leaderboard.LeaderboardOrdering;
 import com.tatumgames.mikros.games.rpg.model.CharacterClass;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.services.RngService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing RPG characters.
  * Handles character creation, retrieval, and state management.
  * <p>
+ * Characters are plain mutable objects. Anything that changes a character must run inside
+ * {@link #withCharacterLock} (or {@link #withCharacterLocks} when several characters change together),
+ * which serializes work per character without a global lock.
+ * <p>
  * TODO: Future Features
  * - Database persistence for characters
  * - Character deletion/reset functionality
@@ -29,12 +37,37 @@ public class CharacterService {
     // Guild configurations: guildId -> RPGConfig
     private final Map<String, RPGConfig> guildConfigs;
 
+    // Ranked boards, kept current by the characters' ranking listeners
+    private final LeaderboardIndex leaderboardIndex;
+
+    // Active characters by action charges, kept current by the characters' charge listeners
+    private final DonationRecipientIndex donationIndex;
+
+    // Serializes mutations per character
+    private final CharacterLocks characterLocks;
+
+    // Replayable random streams for character actions
+    private final RngService rngService;
+
     /**
-     * Creates a new CharacterService.
+     * Creates a new CharacterService with a randomly seeded RngService.
      */
     public CharacterService() {
+        this(new RngService());
+    }
+
+    /**
+     * Creates a new CharacterService.
+     *
+     * @param rngService the source of character action randomness
+     */
+    public CharacterService(RngService rngService) {
+        this.rngService = rngService;
         this.characters = new ConcurrentHashMap<>();
         this.guildConfigs = new ConcurrentHashMap<>();
+        this.leaderboardIndex = new LeaderboardIndex();
+        this.donationIndex = new DonationRecipientIndex();
+        this.characterLocks = new CharacterLocks();
         logger.info("CharacterService initialized");
     }
 
@@ -54,6 +87,9 @@ public class CharacterService {
 
         RPGCharacter character = new RPGCharacter(discordId, name, characterClass);
         characters.put(discordId, character);
+        character.setRankingListener(leaderboardIndex::update);
+        leaderboardIndex.update(character);
+        character.setChargeListener(donationIndex::update);
 
         logger.info("Registered new character for user {}: {} ({})",
                 discordId, name, characterClass.getDisplayName());
@@ -71,6 +107,71 @@ public class CharacterService {
         return characters.get(discordId);
     }
 
+    /**
+     * Runs work that mutates one character, serialized with all other work on that character.
+     *
+     * @param discordId the Discord user ID
+     * @param work      the work
+     * @param <T>       the result type
+     * @return the work's result
+     */
+    public <T> T withCharacterLock(String discordId, Supplier<T> work) {
+        return characterLocks.withLock(discordId, work);
+    }
+
+    /**
+     * Runs work that mutates one character, serialized with all other work on that character.
+     *
+     * @param discordId the Discord user ID
+     * @param work      the work
+     */
+    public void withCharacterLock(String discordId, Runnable work) {
+        characterLocks.withLock(discordId, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs work that mutates several characters together (donations, resurrections, duels).
+     * The character locks are taken in a fixed order, so concurrent multi-character work cannot deadlock.
+     *
+     * @param discordIds the Discord user IDs
+     * @param work       the work
+     * @param <T>        the result type
+     * @return the work's result
+     */
+    public <T> T withCharacterLocks(Collection<String> discordIds, Supplier<T> work) {
+        return characterLocks.withLocks(discordIds, work);
+    }
+
+    /**
+     * Runs one random game invocation for a character (an action, a boss attack, a craft) with its own
+     * random stream, derived from the service seed, the character's Discord ID and the character's next
+     * action sequence number. The same seed, ID and sequence number always replay the same outcome.
+     *
+     * @param character the character the invocation belongs to
+     * @param work      the work
+     * @param <T>       the result type
+     * @return the work's result
+     */
+    public <T> T withActionStream(RPGCharacter character, Supplier<T> work) {
+        String discordId = character.getDiscordId();
+        long sequence = withCharacterLock(discordId, character::nextActionSequence);
+        // Per-action replay journal; TRACE so it stays out of the DEBUG level the bot logs at
+        logger.trace("Action stream for character {} (seq {})", discordId, sequence);
+        return rngService.withStream(discordId, sequence, work);
+    }
+
+    /**
+     * Gets the source of character action randomness.
+     *
+     * @return the RNG service
+     */
+    public RngService getRngService() {
+        return rngService;
+    }
+
     /**
      * Checks if a user has a character.
      *
@@ -111,12 +212,74 @@ public class CharacterService {
      * @return list of top characters
      */
     public List<RPGCharacter> getLeaderboard(int limit) {
-        return getTopCharacters(
-                Comparator.comparingInt(RPGCharacter::getLevel)
-                        .thenComparingInt(RPGCharacter::getXp)
-                        .reversed(),
-                limit
-        );
+        return getLeaderboardPage(null, LeaderboardOrdering.LEVEL, 0, limit);
+    }
+
+    /**
+     * Gets one page of a leaderboard without sorting the whole population.
+     *
+     * @param guildId  the guild ID, or null for the global board
+     * @param ordering the ordering
+     * @param offset   the rank (0-based) of the first character
+     * @param limit    the maximum number of characters
+     * @return characters in rank order
+     */
+    public List<RPGCharacter> getLeaderboardPage(String guildId, LeaderboardOrdering ordering, int offset, int limit) {
+        List<RPGCharacter> page = new ArrayList<>();
+        for (String discordId : leaderboardIndex.getPage(guildId, ordering, offset, limit)) {
+            RPGCharacter character = characters.get(discordId);
+            if (character != null) {
+                page.add(character);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Gets a character's 0-based rank on a leaderboard.
+     *
+     * @param guildId   the guild ID, or null for the global board
+     * @param ordering  the ordering
+     * @param discordId the Discord user ID
+     * @return the rank, or -1 if the character is not on the board
+     */
+    public int getLeaderboardRank(String guildId, LeaderboardOrdering ordering, String discordId) {
+        return leaderboardIndex.getRank(guildId, ordering, discordId);
+    }
+
+    /**
+     * Gets the number of characters on a leaderboard.
+     *
+     * @param guildId  the guild ID, or null for the global board
+     * @param ordering the ordering
+     * @return the board size
+     */
+    public int getLeaderboardSize(String guildId, LeaderboardOrdering ordering) {
+        return leaderboardIndex.getSize(guildId, ordering);
+    }
+
+    /**
+     * Records that a character plays in a guild, adding it to that guild's leaderboards.
+     *
+     * @param discordId the Discord user ID
+     * @param guildId   the guild ID
+     */
+    public void recordGuildActivity(String discordId, String guildId) {
+        RPGCharacter character = characters.get(discordId);
+        if (character != null && guildId != null) {
+            leaderboardIndex.enroll(character, guildId);
+        }
+    }
+
+    /**
+     * Draws a random donation recipient from the eligible active characters (alive, not recovering,
+     * off donation cooldown) with the fewest action charges, without scanning the whole population.
+     *
+     * @param donorId the donor's Discord user ID, never drawn
+     * @return the recipient, or null if no other character is eligible
+     */
+    public RPGCharacter drawDonationRecipient(String donorId) {
+        return donationIndex.drawFromLowerHalf(donorId);
     }
 
     /**
@@ -192,7 +355,13 @@ public class CharacterService {
      */
     public int clearAllCharacters() {
         int count = characters.size();
+        characters.values().forEach(character -> {
+            character.setRankingListener(null);
+            character.setChargeListener(null);
+        });
         characters.clear();
+        leaderboardIndex.clear();
+        donationIndex.clear();
         logger.warn("Cleared all {} characters (global reset)", count);
         return count;
     }
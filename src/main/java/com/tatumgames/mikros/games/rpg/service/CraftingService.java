@@ -1,16 +1,19 @@
 package com.tatumgames.mikros.games.rpg.service;
 
 import com.tatumgames.mikros.games.rpg.model.CraftedItemType;
+import com.tatumgames.mikros.games.rpg.model.CraftedStat;
 import com.tatumgames.mikros.games.rpg.model.CraftingResult;
 import com.tatumgames.mikros.games.rpg.model.EssenceType;
 import com.tatumgames.mikros.games.rpg.model.InfusionType;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import com.tatumgames.mikros.games.rpg.model.RPGStats;
 import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
+import com.tatumgames.mikros.services.RngService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
+
 
 /**
  * Service for handling item crafting.
@@ -19,7 +22,8 @@ import java.util.Random;
 public class CraftingService {
     private static final Logger logger = LoggerFactory.getLogger(CraftingService.class);
     private static final int MAX_CRAFTED_BONUS_PER_STAT = 5;
-    private static final Random random = new Random();
+    private static final RandomGenerator random = RngService.current();
+    private static final EssenceType[] ESSENCE_TYPES = EssenceType.values();
     private final LoreRecognitionService loreRecognitionService;
     
     /**
@@ -47,8 +51,8 @@ public class CraftingService {
         }
 
         // Check stat cap
-        String statName = itemType.getStatName();
-        int currentBonus = inventory.getCraftedBonus(statName);
+        CraftedStat stat = itemType.getCraftedStat();
+        int currentBonus = inventory.getCraftedBonus(stat);
         if (currentBonus >= MAX_CRAFTED_BONUS_PER_STAT) {
             return CraftingResult.STAT_CAPPED;
         }
@@ -80,7 +84,7 @@ public class CraftingService {
         }
 
         // Apply bonus to character stats
-        stats.increaseStat(statName, itemType.getStatBonus());
+        stats.increaseStat(stat, itemType.getStatBonus());
 
         // Consume active infusion if used
         if (infusionConsumed) {
@@ -89,7 +93,7 @@ public class CraftingService {
 
         logger.info("Character {} crafted {} - applied +{} {}",
                 character.getName(), itemType.getDisplayName(),
-                itemType.getStatBonus(), statName);
+                itemType.getStatBonus(), stat.getStatName());
 
         return CraftingResult.SUCCESS;
     }
@@ -114,7 +118,7 @@ public class CraftingService {
         if (infusionType.isElementalConvergence()) {
             // Elemental Convergence requires 1x of each essence type (5 total) + 1x Runic Binding
             boolean hasAllEssences = true;
-            for (EssenceType essence : EssenceType.values()) {
+            for (EssenceType essence : ESSENCE_TYPES) {
                 if (inventory.getEssenceCount(essence) < 1) {
                     hasAllEssences = false;
                     break;
@@ -125,7 +129,7 @@ public class CraftingService {
             }
             
             // Consume materials
-            for (EssenceType essence : EssenceType.values()) {
+            for (EssenceType essence : ESSENCE_TYPES) {
                 inventory.removeEssence(essence, 1);
             }
             inventory.removeCatalyst(com.tatumgames.mikros.games.rpg.model.CatalystType.RUNIC_BINDING, 1);
@@ -0,0 +1,288 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.services.GameClock;
+import com.tatumgames.mikros.services.RngService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+
+/**
+ * Characters that can receive donated action charges, bucketed by their current action charges.
+ * <p>
+ * Holds every character that acted within {@link #ACTIVE_WINDOW}. Characters report charge, activity,
+ * death, recovery and donation changes through {@link RPGCharacter#setChargeListener}. Only eligible
+ * characters (alive, not recovering and off {@link #DONATION_COOLDOWN}) sit in the buckets; the others
+ * wait in a time-ordered queue that also drops characters whose last action falls out of the window,
+ * and are put back when their recovery or cooldown ends. Charge counts are small, so there are only a
+ * handful of buckets and a draw from the lower-charge half costs one walk over them plus one array
+ * lookup, however many characters are registered.
+ */
+public class DonationRecipientIndex {
+    /**
+     * How recently a character must have acted to receive donations.
+     */
+    public static final Duration ACTIVE_WINDOW = Duration.ofHours(24);
+
+    /**
+     * How long a character waits after receiving a donation before it can receive another
+     * (one charge refresh period at the default configuration).
+     */
+    public static final Duration DONATION_COOLDOWN = Duration.ofHours(12);
+
+    private static final RandomGenerator random = RngService.current();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // actionCharges -> eligible characters with that many charges, in ascending charge order
+    private final TreeMap<Integer, Bucket> buckets = new TreeMap<>();
+    private int eligibleCount;
+
+    // discordId -> where the character is indexed
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    // Instants at which an entry may leave the window or become eligible again, earliest first
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>(Comparator.comparing(Timer::at));
+
+    /**
+     * An active character.
+     *
+     * @param eligibleAt null while the character is in its bucket; otherwise when it becomes eligible
+     *                   ({@link Instant#MAX} while dead)
+     */
+    private record Entry(RPGCharacter character, int charges, Instant activeAt, Instant eligibleAt) {
+    }
+
+    private record Timer(String discordId, Instant at) {
+    }
+
+    /**
+     * Characters with one charge count, with O(1) add, remove and positional access.
+     */
+    private static final class Bucket {
+        final List<RPGCharacter> members = new ArrayList<>();
+        final Map<String, Integer> positions = new HashMap<>();
+
+        void add(RPGCharacter character) {
+            positions.put(character.getDiscordId(), members.size());
+            members.add(character);
+        }
+
+        void remove(String discordId) {
+            Integer position = positions.remove(discordId);
+            if (position == null) {
+                return;
+            }
+            RPGCharacter last = members.remove(members.size() - 1);
+            if (position < members.size()) {
+                members.set(position, last);
+                positions.put(last.getDiscordId(), position);
+            }
+        }
+    }
+
+    /**
+     * Re-indexes a character after its action charges, activity or eligibility changed.
+     *
+     * @param character the character
+     */
+    public void update(RPGCharacter character) {
+        Instant now = GameClock.now();
+        // Read before taking the lock: the character's state is guarded by its own lock
+        Instant eligibleAt = eligibleAt(character, now);
+        lock.lock();
+        try {
+            expire(now);
+            String discordId = character.getDiscordId();
+            Instant activeAt = character.getLastActionTime();
+            if (activeAt == null || !activeAt.isAfter(now.minus(ACTIVE_WINDOW))) {
+                removeEntry(discordId);
+                return;
+            }
+
+            Entry current = entries.get(discordId);
+            int charges = character.getActionCharges();
+            boolean wasIndexed = current != null && current.eligibleAt() == null;
+            boolean indexed = eligibleAt == null;
+            boolean chargesChanged = current == null || current.charges() != charges;
+            if (wasIndexed && (!indexed || chargesChanged)) {
+                removeFromBucket(discordId, current.charges());
+            }
+            if (indexed && (!wasIndexed || chargesChanged)) {
+                addToBucket(character, charges);
+            }
+            entries.put(discordId, new Entry(character, charges, activeAt, eligibleAt));
+
+            if (current == null || !activeAt.equals(current.activeAt())) {
+                timers.add(new Timer(discordId, activeAt.plus(ACTIVE_WINDOW)));
+            }
+            if (!indexed && !eligibleAt.equals(Instant.MAX)
+                    && (current == null || !eligibleAt.equals(current.eligibleAt()))) {
+                timers.add(new Timer(discordId, eligibleAt));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a character from the index.
+     *
+     * @param discordId the Discord user ID
+     */
+    public void remove(String discordId) {
+        lock.lock();
+        try {
+            removeEntry(discordId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every character from the index.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            buckets.clear();
+            eligibleCount = 0;
+            entries.clear();
+            timers.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of active characters, eligible or not.
+     *
+     * @return the number of indexed characters
+     */
+    public int size() {
+        lock.lock();
+        try {
+            expire(GameClock.now());
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Draws a uniformly random character from the half of the eligible characters with the fewest
+     * action charges, not counting the donor.
+     *
+     * @param donorId the donor's Discord user ID, never drawn
+     * @return the drawn character, or null if no other character is eligible
+     */
+    public RPGCharacter drawFromLowerHalf(String donorId) {
+        lock.lock();
+        try {
+            expire(GameClock.now());
+            Entry donor = entries.get(donorId);
+            boolean donorIndexed = donor != null && donor.eligibleAt() == null;
+            int size = eligibleCount - (donorIndexed ? 1 : 0);
+            if (size == 0) {
+                return null;
+            }
+            int position = random.nextInt((size + 1) / 2);
+            for (Bucket bucket : buckets.values()) {
+                int members = bucket.members.size();
+                // Skip over the donor's slot, so the draw covers everyone else
+                Integer donorPosition = donorIndexed ? bucket.positions.get(donorId) : null;
+                if (donorPosition != null && position >= donorPosition) {
+                    position++;
+                }
+                if (position < members) {
+                    return bucket.members.get(position);
+                }
+                position -= members;
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets when a character can next receive a donation.
+     *
+     * @return null if it can now, {@link Instant#MAX} while it is dead, otherwise the end of its
+     * recovery or donation cooldown, whichever is later
+     */
+    private static Instant eligibleAt(RPGCharacter character, Instant now) {
+        if (character.isDead()) {
+            // Until resurrected, which reports the recovery period
+            return Instant.MAX;
+        }
+
+        Instant eligibleAt = null;
+        if (character.isRecovering()) {
+            Instant recoverUntil = character.getRecoverUntil();
+            eligibleAt = recoverUntil != null ? recoverUntil : Instant.MAX;
+        }
+        Instant lastDonation = character.getLastDonationReceived();
+        if (lastDonation != null) {
+            Instant cooldownEnd = lastDonation.plus(DONATION_COOLDOWN);
+            if (cooldownEnd.isAfter(now) && (eligibleAt == null || cooldownEnd.isAfter(eligibleAt))) {
+                eligibleAt = cooldownEnd;
+            }
+        }
+        return eligibleAt;
+    }
+
+    /**
+     * Runs the timers that are due: drops characters whose last action left the window and puts
+     * back characters whose recovery or cooldown ended. Caller holds the lock.
+     */
+    private void expire(Instant now) {
+        Instant cutoff = now.minus(ACTIVE_WINDOW);
+        while (!timers.isEmpty() && !timers.peek().at().isAfter(now)) {
+            Timer timer = timers.poll();
+            Entry entry = entries.get(timer.discordId());
+            if (entry == null) {
+                continue;
+            }
+            if (!entry.activeAt().isAfter(cutoff)) {
+                removeEntry(timer.discordId());
+            } else if (entry.eligibleAt() != null && !entry.eligibleAt().isAfter(now)) {
+                addToBucket(entry.character(), entry.charges());
+                entries.put(timer.discordId(), new Entry(entry.character(), entry.charges(), entry.activeAt(), null));
+            }
+        }
+    }
+
+    /**
+     * Removes a character's entry and bucket slot. Caller holds the lock.
+     */
+    private void removeEntry(String discordId) {
+        Entry entry = entries.remove(discordId);
+        if (entry != null && entry.eligibleAt() == null) {
+            removeFromBucket(discordId, entry.charges());
+        }
+    }
+
+    private void addToBucket(RPGCharacter character, int charges) {
+        buckets.computeIfAbsent(charges, c -> new Bucket()).add(character);
+        eligibleCount++;
+    }
+
+    private void removeFromBucket(String discordId, int charges) {
+        Bucket bucket = buckets.get(charges);
+        bucket.remove(discordId);
+        eligibleCount--;
+        if (bucket.members.isEmpty()) {
+            buckets.remove(charges);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current {@link GuildModifierSnapshot} of each guild.
+ * <p>
+ * {@link WorldCurseService}, {@link AuraService} and {@link InMemoryNilfheimEventService} keep their
+ * state here and publish a new snapshot on every change, so actions and boss attacks read a guild's
+ * curses, aura holders and event with a single volatile read instead of copying each service's lists.
+ * One instance must be shared by those services and their readers.
+ */
+public class GuildModifierService {
+    private final Map<String, AtomicReference<GuildModifierSnapshot>> snapshots;
+
+    /**
+     * Creates a new GuildModifierService with no published snapshots.
+     */
+    public GuildModifierService() {
+        this.snapshots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets a guild's current snapshot.
+     *
+     * @param guildId the guild ID
+     * @return the snapshot ({@link GuildModifierSnapshot#EMPTY} if nothing was ever published)
+     */
+    public GuildModifierSnapshot getSnapshot(String guildId) {
+        AtomicReference<GuildModifierSnapshot> snapshot = snapshots.get(guildId);
+        return snapshot != null ? snapshot.get() : GuildModifierSnapshot.EMPTY;
+    }
+
+    /**
+     * Publishes a change to a guild's snapshot. The change may be applied more than once if another
+     * change races with it, so it must not have side effects.
+     *
+     * @param guildId the guild ID
+     * @param change  derives the next snapshot from the current one, or returns it unchanged
+     * @return true if a new snapshot was published
+     */
+    boolean update(String guildId, UnaryOperator<GuildModifierSnapshot> change) {
+        AtomicReference<GuildModifierSnapshot> snapshot =
+                snapshots.computeIfAbsent(guildId, k -> new AtomicReference<>(GuildModifierSnapshot.EMPTY));
+        while (true) {
+            GuildModifierSnapshot current = snapshot.get();
+            GuildModifierSnapshot next = change.apply(current);
+            if (next == current) {
+                return false;
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
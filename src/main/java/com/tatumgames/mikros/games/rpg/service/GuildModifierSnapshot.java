@@ -0,0 +1,261 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.achievements.LegendaryAura;
+import com.tatumgames.mikros.games.rpg.curse.WorldCurse;
+import com.tatumgames.mikros.games.rpg.events.NilfheimEventType;
+import com.tatumgames.mikros.services.GameClock;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable view of everything that modifies play in a guild: world curses, legendary aura holders
+ * and the active Nilfheim event, with the event's multipliers worked out in advance.
+ * <p>
+ * Snapshots are published by {@link GuildModifierService}; each change produces a new snapshot with
+ * the next version rather than mutating this one, so a reader can take one snapshot and use it for a
+ * whole action without locking.
+ */
+public final class GuildModifierSnapshot {
+    /**
+     * The snapshot of a guild with no curses, aura holders or event.
+     */
+    public static final GuildModifierSnapshot EMPTY = new GuildModifierSnapshot(0,
+            EnumSet.noneOf(WorldCurse.class), new EnumMap<>(LegendaryAura.class), null, null);
+
+    private final long version;
+    // Never modified after construction, so derived snapshots share whatever did not change
+    private final EnumSet<WorldCurse> curses;
+    private final EnumMap<LegendaryAura, Set<String>> auraHolders;
+    private final Set<WorldCurse> curseView;
+    private final List<WorldCurse> curseList;
+    private final NilfheimEventType event;
+    private final Instant eventExpiresAt;
+
+    // Event multipliers; identity values unless the event has that effect
+    private final double bossDamageMultiplier;
+    private final double battleDamageMultiplier;
+    private final double xpMultiplier;
+    private final double exploreDropBonus;
+    private final int trainStatBonus;
+
+    private GuildModifierSnapshot(long version, EnumSet<WorldCurse> curses,
+                                  EnumMap<LegendaryAura, Set<String>> auraHolders,
+                                  NilfheimEventType event, Instant eventExpiresAt) {
+        this.version = version;
+        this.curses = curses;
+        this.auraHolders = auraHolders;
+        this.curseView = Collections.unmodifiableSet(curses);
+        this.curseList = List.copyOf(curses);
+        this.event = event;
+        this.eventExpiresAt = eventExpiresAt;
+
+        NilfheimEventType.EventEffectType effect = event != null ? event.getEffectType() : null;
+        double effectValue = event != null ? event.getEffectValue() : 0.0;
+        this.bossDamageMultiplier = effect == NilfheimEventType.EventEffectType.BOSS_DAMAGE_BOOST
+                ? 1.0 + effectValue : 1.0;
+        this.battleDamageMultiplier = effect == NilfheimEventType.EventEffectType.BATTLE_DAMAGE_BOOST
+                ? 1.0 + effectValue : 1.0;
+        this.xpMultiplier = effect == NilfheimEventType.EventEffectType.ALL_XP_BOOST
+                ? 1.0 + effectValue : 1.0;
+        this.exploreDropBonus = effect == NilfheimEventType.EventEffectType.EXPLORE_DROP_BOOST
+                ? effectValue : 0.0;
+        this.trainStatBonus = effect == NilfheimEventType.EventEffectType.TRAIN_STAT_BOOST
+                ? (int) effectValue : 0;
+    }
+
+    /**
+     * Gets the snapshot's version. Each change published for a guild increases it.
+     *
+     * @return the version (0 for a guild that never changed)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the active world curses.
+     *
+     * @return the curses (unmodifiable)
+     */
+    public Set<WorldCurse> getCurses() {
+        return curseView;
+    }
+
+    /**
+     * Gets the active world curses as a list, for code that takes one.
+     *
+     * @return the curses in declaration order (unmodifiable)
+     */
+    public List<WorldCurse> getActiveCurses() {
+        return curseList;
+    }
+
+    /**
+     * Checks if a curse is active.
+     *
+     * @param curse the curse
+     * @return true if active
+     */
+    public boolean hasCurse(WorldCurse curse) {
+        return curses.contains(curse);
+    }
+
+    /**
+     * Checks if any curse is active.
+     *
+     * @return true if at least one curse is active
+     */
+    public boolean isCursed() {
+        return !curses.isEmpty();
+    }
+
+    /**
+     * Gets the holders of an aura.
+     *
+     * @param aura the aura
+     * @return the holders' user IDs in acquisition order (unmodifiable, empty if none)
+     */
+    public Set<String> getAuraHolders(LegendaryAura aura) {
+        Set<String> holders = auraHolders.get(aura);
+        return holders != null ? holders : Set.of();
+    }
+
+    /**
+     * Gets the active Nilfheim event.
+     *
+     * @return the event, or null if none is active or it has expired
+     */
+    public NilfheimEventType getActiveEvent() {
+        return isEventActive() ? event : null;
+    }
+
+    /**
+     * Gets the damage multiplier for boss attacks (Frostborne Echoes).
+     *
+     * @return the multiplier (1.0 without the event)
+     */
+    public double getBossDamageMultiplier() {
+        return isEventActive() ? bossDamageMultiplier : 1.0;
+    }
+
+    /**
+     * Gets the damage multiplier for Battle actions (Stormwarden's Blessing).
+     *
+     * @return the multiplier (1.0 without the event)
+     */
+    public double getBattleDamageMultiplier() {
+        return isEventActive() ? battleDamageMultiplier : 1.0;
+    }
+
+    /**
+     * Gets the XP multiplier for all actions (Starfall Ridge's Light).
+     *
+     * @return the multiplier (1.0 without the event)
+     */
+    public double getXpMultiplier() {
+        return isEventActive() ? xpMultiplier : 1.0;
+    }
+
+    /**
+     * Gets the bonus added to the Explore item drop chance.
+     *
+     * @return the bonus (0.0 without the event)
+     */
+    public double getExploreDropBonus() {
+        return isEventActive() ? exploreDropBonus : 0.0;
+    }
+
+    /**
+     * Gets the extra stat points granted by Train (Grand Library Opens).
+     *
+     * @return the extra points (0 without the event)
+     */
+    public int getTrainStatBonus() {
+        return isEventActive() ? trainStatBonus : 0;
+    }
+
+    /**
+     * Gets the Song of Nilfheim curse penalty reduction (1-2% while anyone holds the aura).
+     * Draws from the generator only when the aura is held.
+     *
+     * @param random the generator to draw the reduction from
+     * @return curse penalty multiplier (0.98-0.99, or 1.0 if no one holds the aura)
+     */
+    public double getSongOfNilfheimCurseReduction(RandomGenerator random) {
+        if (!getAuraHolders(LegendaryAura.SONG_OF_NILFHEIM).isEmpty()) {
+            // Curses are 98-99% effective instead of 100%
+            return 0.98 + (random.nextDouble() * 0.01);
+        }
+        return 1.0;
+    }
+
+    /**
+     * Returns this snapshot with the given curses.
+     *
+     * @param newCurses the curses
+     * @return the next snapshot, or this one if the curses are unchanged
+     */
+    GuildModifierSnapshot withCurses(Set<WorldCurse> newCurses) {
+        if (curses.equals(newCurses)) {
+            return this;
+        }
+        EnumSet<WorldCurse> copy = EnumSet.noneOf(WorldCurse.class);
+        copy.addAll(newCurses);
+        return new GuildModifierSnapshot(version + 1, copy, auraHolders, event, eventExpiresAt);
+    }
+
+    /**
+     * Returns this snapshot with the given holders for an aura.
+     *
+     * @param aura    the aura
+     * @param holders the holders, in acquisition order
+     * @return the next snapshot, or this one if the holders are unchanged
+     */
+    GuildModifierSnapshot withAuraHolders(LegendaryAura aura, Set<String> holders) {
+        if (getAuraHolders(aura).equals(holders)) {
+            return this;
+        }
+        EnumMap<LegendaryAura, Set<String>> copy = new EnumMap<>(auraHolders);
+        if (holders.isEmpty()) {
+            copy.remove(aura);
+        } else {
+            copy.put(aura, Collections.unmodifiableSet(new LinkedHashSet<>(holders)));
+        }
+        return new GuildModifierSnapshot(version + 1, curses, copy, event, eventExpiresAt);
+    }
+
+    /**
+     * Returns this snapshot with the given event.
+     *
+     * @param newEvent  the event, or null for none
+     * @param expiresAt when the event expires, or null for none
+     * @return the next snapshot, or this one if the event is unchanged
+     */
+    GuildModifierSnapshot withEvent(NilfheimEventType newEvent, Instant expiresAt) {
+        if (event == newEvent && Objects.equals(eventExpiresAt, expiresAt)) {
+            return this;
+        }
+        return new GuildModifierSnapshot(version + 1, curses, auraHolders, newEvent, expiresAt);
+    }
+
+    /**
+     * Gets when the active event expires.
+     *
+     * @return the expiry, or null if no event was set
+     */
+    Instant getEventExpiresAt() {
+        return eventExpiresAt;
+    }
+
+    private boolean isEventActive() {
+        return event != null && !GameClock.now().isAfter(eventExpiresAt);
+    }
+}
@@ -15,57 +15,45 @@ import java.util.Map;
 public class InMemoryNilfheimEventService implements NilfheimEventService {
     private static final Logger logger = LoggerFactory.getLogger(InMemoryNilfheimEventService.class);
 
-    // Map: guildId -> ActiveEvent (contains eventType and expiresAt)
-    private final Map<String, ActiveEvent> activeEvents;
+    // Active events (type and expiry) are kept in the guild's snapshot
+    private final GuildModifierService guildModifierService;
     
     // Map: guildId -> last event time
     private final Map<String, Instant> lastEventTimes;
 
     /**
-     * Represents an active event with expiration time.
+     * Creates a new InMemoryNilfheimEventService.
+     *
+     * @param guildModifierService where active events are kept and published
      */
-    private static class ActiveEvent {
-        final NilfheimEventType eventType;
-        final Instant expiresAt;
-
-        ActiveEvent(NilfheimEventType eventType, Instant expiresAt) {
-            this.eventType = eventType;
-            this.expiresAt = expiresAt;
-        }
-    }
-
-    public InMemoryNilfheimEventService() {
-        this.activeEvents = new ConcurrentHashMap<>();
+    public InMemoryNilfheimEventService(GuildModifierService guildModifierService) {
+        this.guildModifierService = guildModifierService;
         this.lastEventTimes = new ConcurrentHashMap<>();
         logger.info("InMemoryNilfheimEventService initialized");
     }
 
     @Override
     public NilfheimEventType getActiveEvent(String guildId) {
-        ActiveEvent activeEvent = activeEvents.get(guildId);
-        if (activeEvent == null) {
-            return null;
+        GuildModifierSnapshot snapshot = guildModifierService.getSnapshot(guildId);
+        NilfheimEventType activeEvent = snapshot.getActiveEvent();
+        if (activeEvent == null && snapshot.getEventExpiresAt() != null) {
+            // Event expired, clear it unless it was replaced meanwhile
+            Instant expiresAt = snapshot.getEventExpiresAt();
+            guildModifierService.update(guildId, current -> expiresAt.equals(current.getEventExpiresAt())
+                    ? current.withEvent(null, null) : current);
         }
-
-        // Check if event has expired
-        if (Instant.now().isAfter(activeEvent.expiresAt)) {
-            // Event expired, clear it
-            activeEvents.remove(guildId);
-            return null;
-        }
-
-        return activeEvent.eventType;
+        return activeEvent;
     }
 
     @Override
     public void setActiveEvent(String guildId, NilfheimEventType eventType, Instant expiresAt) {
-        activeEvents.put(guildId, new ActiveEvent(eventType, expiresAt));
+        guildModifierService.update(guildId, snapshot -> snapshot.withEvent(eventType, expiresAt));
         logger.info("Set active event {} for guild {} (expires at {})", eventType.getDisplayName(), guildId, expiresAt);
     }
 
     @Override
     public void clearActiveEvent(String guildId) {
-        activeEvents.remove(guildId);
+        guildModifierService.update(guildId, snapshot -> snapshot.withEvent(null, null));
         logger.info("Cleared active event for guild {}", guildId);
     }
 
@@ -82,7 +70,7 @@ public class InMemoryNilfheimEventService implements NilfheimEventService {
 
     @Override
     public void clearGuildData(String guildId) {
-        activeEvents.remove(guildId);
+        guildModifierService.update(guildId, snapshot -> snapshot.withEvent(null, null));
         lastEventTimes.remove(guildId);
         logger.info("Cleared all event data for guild {}", guildId);
     }
@@ -1,150 +1,83 @@
 package com.tatumgames.mikros.games.rpg.service;
 
+import com.tatumgames.mikros.games.rpg.achievements.ProgressCounter;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressRule;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressRuleEngine;
+import com.tatumgames.mikros.games.rpg.achievements.ProgressRuleSet;
 import com.tatumgames.mikros.games.rpg.model.CharacterClass;
 import com.tatumgames.mikros.games.rpg.model.InfusionType;
 import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 /**
  * Service for checking character milestones and awarding story flags.
  * Provides narrative recognition for significant achievements.
+ * <p>
+ * Each recognition declares the counters it reads, and a check only re-tests the recognitions whose
+ * counters changed since the last check. All of them also depend on the story flags, since a flag
+ * is only awarded while a slot is free.
  */
 public class LoreRecognitionService {
     private static final Logger logger = LoggerFactory.getLogger(LoreRecognitionService.class);
 
+    // The 5 base infusion types (Elemental Convergence excluded)
+    private static final Set<InfusionType> BASE_INFUSIONS = EnumSet.of(
+            InfusionType.FROST_CLARITY,
+            InfusionType.GALE_FORTUNE,
+            InfusionType.EMBER_ENDURANCE,
+            InfusionType.ASTRAL_INSIGHT,
+            InfusionType.VOID_PRECISION);
+
+    private static final ProgressRuleEngine<String> RECOGNITIONS = new ProgressRuleEngine<>(
+            ProgressRuleSet.LORE_RECOGNITIONS, List.of(
+            // Nilfheim's Persistence: After 5+ curses survived
+            ProgressRule.of("Persevered through darkness",
+                    character -> character.getCursedBossFights() >= 5,
+                    ProgressCounter.CURSED_BOSS_FIGHTS, ProgressCounter.STORY_FLAGS),
+            // The Resurrected: After 3+ resurrections
+            ProgressRule.of("Death's familiar",
+                    character -> character.getTotalResurrections() >= 3,
+                    ProgressCounter.RESURRECTIONS_RECEIVED, ProgressCounter.STORY_FLAGS),
+            // The Rescuer (Priest only): After 5+ resurrections performed
+            ProgressRule.of("Savior of the fallen",
+                    character -> character.getCharacterClass() == CharacterClass.PRIEST
+                            && character.getTimesResurrectedOthers() >= 5,
+                    ProgressCounter.RESURRECTIONS_PERFORMED, ProgressCounter.STORY_FLAGS),
+            // Master of the Elements: After crafting all 5 base infusion types at least once
+            ProgressRule.of("Elemental master",
+                    character -> character.getInfusionsCrafted().containsAll(BASE_INFUSIONS),
+                    ProgressCounter.INFUSIONS_CRAFTED, ProgressCounter.STORY_FLAGS),
+            // Frostborne's Legacy: After 10+ boss victories
+            ProgressRule.of("Frostborne's chosen",
+                    character -> character.getBossesKilled() + character.getSuperBossesKilled() >= 10,
+                    ProgressCounter.BOSS_KILLS, ProgressCounter.SUPER_BOSS_KILLS, ProgressCounter.STORY_FLAGS),
+            // The Shattering's Echo: After reaching Level 20
+            ProgressRule.of("Echo of the Shattering",
+                    character -> character.getLevel() >= 20,
+                    ProgressCounter.LEVEL, ProgressCounter.STORY_FLAGS),
+            // Stormwarden's Respect (AGI-focused): After reaching 50+ AGI (base + crafted)
+            ProgressRule.of("Wind's chosen",
+                    character -> character.getStats().getAgility() >= 50,
+                    ProgressCounter.STATS, ProgressCounter.STORY_FLAGS),
+            // The Grand Library's Scholar (INT-focused): After reaching 50+ INT (base + crafted)
+            ProgressRule.of("Library's chosen",
+                    character -> character.getStats().getIntelligence() >= 50,
+                    ProgressCounter.STATS, ProgressCounter.STORY_FLAGS)));
+
     /**
-     * Checks all milestones for a character and awards story flags if conditions are met.
-     * Only awards flags if story flag slot is available (max 2).
+     * Checks the milestones whose counters changed since the last check and awards story flags if
+     * conditions are met. Only awards flags if story flag slot is available (max 2).
+     * Caller holds the character's lock.
      *
      * @param character the character to check
      */
     public void checkMilestones(RPGCharacter character) {
-        // Check each recognition type
-        checkNilfheimsPersistence(character);
-        checkTheResurrected(character);
-        checkTheRescuer(character);
-        checkMasterOfTheElements(character);
-        checkFrostbornesLegacy(character);
-        checkTheShatteringsEcho(character);
-        checkStormwardensRespect(character);
-        checkTheGrandLibrarysScholar(character);
-    }
-
-    /**
-     * Nilfheim's Persistence: After 5+ curses survived.
-     */
-    private void checkNilfheimsPersistence(RPGCharacter character) {
-        if (character.getCursedBossFights() >= 5) {
-            String flag = "Persevered through darkness";
-            if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
-                character.addStoryFlag(flag);
-                logger.info("Character {} earned story flag: {}", character.getName(), flag);
-            }
-        }
-    }
-
-    /**
-     * The Resurrected: After 3+ resurrections.
-     */
-    private void checkTheResurrected(RPGCharacter character) {
-        if (character.getTotalResurrections() >= 3) {
-            String flag = "Death's familiar";
-            if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
-                character.addStoryFlag(flag);
-                logger.info("Character {} earned story flag: {}", character.getName(), flag);
-            }
-        }
-    }
-
-    /**
-     * The Rescuer (Priest only): After 5+ resurrections performed.
-     */
-    private void checkTheRescuer(RPGCharacter character) {
-        if (character.getCharacterClass() == CharacterClass.PRIEST) {
-            if (character.getTimesResurrectedOthers() >= 5) {
-                String flag = "Savior of the fallen";
-                if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
-                    character.addStoryFlag(flag);
-                    logger.info("Character {} earned story flag: {}", character.getName(), flag);
-                }
-            }
-        }
-    }
-
-    /**
-     * Master of the Elements: After crafting all 5 base infusion types at least once.
-     */
-    private void checkMasterOfTheElements(RPGCharacter character) {
-        Set<InfusionType> infusionsCrafted = character.getInfusionsCrafted();
-        if (infusionsCrafted.size() >= 5) {
-            // Check if all 5 base infusion types are crafted (excluding Elemental Convergence)
-            boolean hasFrostClarity = infusionsCrafted.contains(InfusionType.FROST_CLARITY);
-            boolean hasGaleFortune = infusionsCrafted.contains(InfusionType.GALE_FORTUNE);
-            boolean hasEmberEndurance = infusionsCrafted.contains(InfusionType.EMBER_ENDURANCE);
-            boolean hasAstralInsight = infusionsCrafted.contains(InfusionType.ASTRAL_INSIGHT);
-            boolean hasVoidPrecision = infusionsCrafted.contains(InfusionType.VOID_PRECISION);
-            
-            if (hasFrostClarity && hasGaleFortune && hasEmberEndurance && hasAstralInsight && hasVoidPrecision) {
-                String flag = "Elemental master";
-                if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
-                    character.addStoryFlag(flag);
-                    logger.info("Character {} earned story flag: {}", character.getName(), flag);
-                }
-            }
-        }
-    }
-
-    /**
-     * Frostborne's Legacy: After 10+ boss victories.
-     */
-    private void checkFrostbornesLegacy(RPGCharacter character) {
-        int totalBossKills = character.getBossesKilled() + character.getSuperBossesKilled();
-        if (totalBossKills >= 10) {
-            String flag = "Frostborne's chosen";
-            if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
-                character.addStoryFlag(flag);
-                logger.info("Character {} earned story flag: {}", character.getName(), flag);
-            }
-        }
-    }
-
-    /**
-     * The Shattering's Echo: After reaching Level 20.
-     */
-    private void checkTheShatteringsEcho(RPGCharacter character) {
-        if (character.getLevel() >= 20) {
-            String flag = "Echo of the Shattering";
-            if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
-                character.addStoryFlag(flag);
-                logger.info("Character {} earned story flag: {}", character.getName(), flag);
-            }
-        }
-    }
-
-    /**
-     * Stormwarden's Respect (AGI-focused): After reaching 50+ AGI (base + crafted).
-     */
-    private void checkStormwardensRespect(RPGCharacter character) {
-        int totalAgi = character.getStats().getAgility();
-        if (totalAgi >= 50) {
-            String flag = "Wind's chosen";
-            if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
-                character.addStoryFlag(flag);
-                logger.info("Character {} earned story flag: {}", character.getName(), flag);
-            }
-        }
-    }
-
-    /**
-     * The Grand Library's Scholar (INT-focused): After reaching 50+ INT (base + crafted).
-     */
-    private void checkTheGrandLibrarysScholar(RPGCharacter character) {
-        int totalInt = character.getStats().getIntelligence();
-        if (totalInt >= 50) {
-            String flag = "Library's chosen";
+        for (String flag : RECOGNITIONS.evaluate(character)) {
             if (!character.getStoryFlags().contains(flag) && character.getStoryFlags().size() < 2) {
                 character.addStoryFlag(flag);
                 logger.info("Character {} earned story flag: {}", character.getName(), flag);
@@ -152,4 +85,3 @@ public class LoreRecognitionService {
         }
     }
 }
-
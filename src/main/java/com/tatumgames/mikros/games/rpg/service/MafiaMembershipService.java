@@ -0,0 +1,207 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Answers "is this user a MIKROS Mafia member?" for leaderboards without a REST call per user.
+ * <p>
+ * The configured Mafia guild is indexed from one member chunk at startup and kept current from
+ * join/leave events. Any other guild (or the Mafia guild before its chunk has arrived) is indexed
+ * lazily: unknown users are resolved with a single batched member lookup and the answers cached,
+ * with non-member answers expiring after {@link #NON_MEMBER_TTL}.
+ */
+public class MafiaMembershipService {
+    private static final Logger logger = LoggerFactory.getLogger(MafiaMembershipService.class);
+
+    // Join events correct negative answers anyway; the TTL only bounds how long they are kept
+    private static final Duration NON_MEMBER_TTL = Duration.ofHours(1);
+
+    // Discord accepts at most 100 user IDs per member request
+    private static final int MAX_IDS_PER_REQUEST = 100;
+
+    private final String mafiaGuildId;
+
+    // guildId -> membership known for that guild
+    private final Map<String, GuildMembership> guilds = new ConcurrentHashMap<>();
+
+    /**
+     * Membership known for one guild.
+     */
+    private static final class GuildMembership {
+        final Set<String> members = ConcurrentHashMap.newKeySet();
+        final Map<String, Instant> nonMembers = new ConcurrentHashMap<>();
+        // True once the full member list is loaded, so absence from members means non-member
+        volatile boolean complete;
+    }
+
+    /**
+     * Creates a new MafiaMembershipService.
+     *
+     * @param mafiaGuildId the configured MIKROS Mafia guild ID (null or blank if not configured)
+     */
+    public MafiaMembershipService(String mafiaGuildId) {
+        this.mafiaGuildId = mafiaGuildId != null && !mafiaGuildId.isBlank() ? mafiaGuildId : null;
+        logger.info("MafiaMembershipService initialized (mafia guild: {})",
+                this.mafiaGuildId != null ? this.mafiaGuildId : "not configured");
+    }
+
+    /**
+     * Gets the configured Mafia guild ID.
+     *
+     * @return the guild ID, or null if not configured
+     */
+    public String getMafiaGuildId() {
+        return mafiaGuildId;
+    }
+
+    /**
+     * Loads the full member list of the Mafia guild. Called when that guild becomes ready.
+     *
+     * @param guild the Mafia guild
+     */
+    public void loadGuild(Guild guild) {
+        guild.loadMembers().onSuccess(members -> {
+            GuildMembership membership = membership(guild.getId());
+            members.forEach(member -> membership.members.add(member.getId()));
+            membership.nonMembers.clear();
+            membership.complete = true;
+            logger.info("Indexed {} members of MIKROS Mafia guild {}", members.size(), guild.getId());
+        }).onError(error -> logger.warn("Failed to load members of MIKROS Mafia guild {}, resolving lazily",
+                guild.getId(), error));
+    }
+
+    /**
+     * Records that a user joined a guild.
+     *
+     * @param guildId the guild ID
+     * @param userId  the user ID
+     */
+    public void recordJoin(String guildId, String userId) {
+        GuildMembership membership = guilds.get(guildId);
+        if (membership != null) {
+            membership.members.add(userId);
+            membership.nonMembers.remove(userId);
+        }
+    }
+
+    /**
+     * Records that a user left (or was removed from) a guild.
+     *
+     * @param guildId the guild ID
+     * @param userId  the user ID
+     */
+    public void recordLeave(String guildId, String userId) {
+        GuildMembership membership = guilds.get(guildId);
+        if (membership != null) {
+            membership.members.remove(userId);
+            membership.nonMembers.put(userId, Instant.now());
+        }
+    }
+
+    /**
+     * Gets membership answers that are known without a REST call.
+     *
+     * @param guildId the guild ID
+     * @param userIds the users to check
+     * @return user ID -> member? for every user whose status is known
+     */
+    public Map<String, Boolean> getKnownMembership(String guildId, Collection<String> userIds) {
+        Map<String, Boolean> known = new HashMap<>();
+        GuildMembership membership = guilds.get(guildId);
+        if (membership == null) {
+            return known;
+        }
+
+        Instant cutoff = Instant.now().minus(NON_MEMBER_TTL);
+        for (String userId : userIds) {
+            if (membership.members.contains(userId)) {
+                known.put(userId, true);
+            } else if (membership.complete) {
+                known.put(userId, false);
+            } else {
+                Instant checkedAt = membership.nonMembers.get(userId);
+                if (checkedAt != null && checkedAt.isAfter(cutoff)) {
+                    known.put(userId, false);
+                }
+            }
+        }
+        return known;
+    }
+
+    /**
+     * Resolves membership for the given users, using the index first and one batched member lookup
+     * for the rest. The callback runs on the calling thread if no lookup is needed, otherwise on a
+     * JDA callback thread. Lookup failures count as "not a member".
+     *
+     * @param guild      the guild to check against
+     * @param userIds    the users to check
+     * @param onResolved receives the IDs of the users that are members
+     */
+    public void resolveMembers(Guild guild, Collection<String> userIds, Consumer<Set<String>> onResolved) {
+        Map<String, Boolean> known = getKnownMembership(guild.getId(), userIds);
+        Set<String> members = new HashSet<>();
+        known.forEach((userId, isMember) -> {
+            if (isMember) {
+                members.add(userId);
+            }
+        });
+
+        List<String> unknown = userIds.stream()
+                .filter(userId -> !known.containsKey(userId))
+                .distinct()
+                .limit(MAX_IDS_PER_REQUEST)
+                .toList();
+        if (unknown.isEmpty()) {
+            onResolved.accept(members);
+            return;
+        }
+
+        GuildMembership membership = membership(guild.getId());
+        guild.retrieveMembersByIds(unknown.toArray(String[]::new)).onSuccess(found -> {
+            Set<String> foundIds = new HashSet<>();
+            for (Member member : found) {
+                foundIds.add(member.getId());
+            }
+            Instant now = Instant.now();
+            for (String userId : unknown) {
+                if (foundIds.contains(userId)) {
+                    membership.members.add(userId);
+                    membership.nonMembers.remove(userId);
+                } else {
+                    membership.nonMembers.put(userId, now);
+                }
+            }
+            pruneNonMembers(membership, now);
+            members.addAll(foundIds);
+            logger.debug("Resolved {} unknown users against guild {} ({} members)",
+                    unknown.size(), guild.getId(), foundIds.size());
+            onResolved.accept(members);
+        }).onError(error -> {
+            logger.warn("Failed to resolve members of guild {}", guild.getId(), error);
+            onResolved.accept(members);
+        });
+    }
+
+    private GuildMembership membership(String guildId) {
+        return guilds.computeIfAbsent(guildId, id -> new GuildMembership());
+    }
+
+    private static void pruneNonMembers(GuildMembership membership, Instant now) {
+        Instant cutoff = now.minus(NON_MEMBER_TTL);
+        membership.nonMembers.values().removeIf(checkedAt -> checkedAt.isBefore(cutoff));
+    }
+}
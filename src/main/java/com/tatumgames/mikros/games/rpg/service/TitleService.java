@@ -7,69 +7,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Service for managing title definitions and unlock validation.
+ * Service for managing title definitions and bonuses.
  */
 public class TitleService {
 
-    /**
-     * Checks which titles a character has newly unlocked.
-     *
-     * @param character the character to check
-     * @return list of newly unlocked titles
-     */
-    public List<Title> checkTitleUnlocks(RPGCharacter character) {
-        List<Title> newlyUnlocked = new ArrayList<>();
-
-        // Check progress titles (level-based)
-        for (Title title : Title.values()) {
-            if (title.getType() == Title.TitleType.PROGRESS) {
-                if (character.getLevel() >= title.getRequiredLevel()) {
-                    // Check if character already has this title (we'll check this later when we add title storage)
-                    // For now, we'll return all eligible titles
-                    newlyUnlocked.add(title);
-                }
-            }
-        }
-
-        // Check feat titles
-        if (character.getTotalExplores() >= 500 && !hasTitle(character, Title.WANDERER)) {
-            newlyUnlocked.add(Title.WANDERER);
-        }
-
-        if (character.getTotalChargesDonated() >= 10 && !hasTitle(character, Title.BEARER_OF_BURDENS)) {
-            newlyUnlocked.add(Title.BEARER_OF_BURDENS);
-        }
-
-        // Pattern titles (checked separately via pattern detection)
-        if (character.getExploreStreak() >= 15 && !hasTitle(character, Title.THE_EXPLORER)) {
-            newlyUnlocked.add(Title.THE_EXPLORER);
-        }
-        if (character.getTrainStreak() >= 15 && !hasTitle(character, Title.THE_DISCIPLINED)) {
-            newlyUnlocked.add(Title.THE_DISCIPLINED);
-        }
-        if (character.getRestStreak() >= 10 && !hasTitle(character, Title.THE_RESTFUL)) {
-            newlyUnlocked.add(Title.THE_RESTFUL);
-        }
-        if (character.getBattleStreak() >= 15 && !hasTitle(character, Title.THE_WARRIOR)) {
-            newlyUnlocked.add(Title.THE_WARRIOR);
-        }
-
-        // Failure-based titles (cursed worlds)
-        if (character.getCursedBossFights() >= 5 && !hasTitle(character, Title.HOPE_UNBROKEN)) {
-            newlyUnlocked.add(Title.HOPE_UNBROKEN);
-        }
-        if (character.hasActedDuringBothCurses() && !hasTitle(character, Title.CURSEWALKER)) {
-            newlyUnlocked.add(Title.CURSEWALKER);
-        }
-        // Lightbearer (Priest) and Bound to Death (Necromancer) are checked separately
-        // when resurrections are performed or March of the Dead is active
-
-        // Note: First-to titles and feat titles like "The Unbroken" and "Gravecaller" are handled
-        // by achievement system and resurrection tracking, not here
-
-        return newlyUnlocked;
-    }
-
     /**
      * Gets all titles a character can equip (has unlocked).
      *
@@ -170,21 +111,4 @@ public class TitleService {
             return 0.0;
         }
     }
-
-    /**
-     * Checks if a character has a specific title.
-     *
-     * @param character the character
-     * @param title the title to check
-     * @return true if character has the title
-     */
-    private boolean hasTitle(RPGCharacter character, Title title) {
-        String currentTitle = character.getTitle();
-        if (currentTitle == null) {
-            return false;
-        }
-        return currentTitle.equalsIgnoreCase(title.getDisplayName()) ||
-               currentTitle.equalsIgnoreCase(title.name());
-    }
 }
-
@@ -1,20 +1,31 @@
 package com.tatumgames.mikros.games.rpg.service;
 
 import com.tatumgames.mikros.games.rpg.curse.WorldCurse;
+import com.tatumgames.mikros.services.RngService;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
 
 /**
  * Service for managing World Curses per guild.
  * Curses are applied when bosses despawn undefeated and affect all players.
+ * Active curses are kept in the guild's {@link GuildModifierSnapshot}.
  */
 public class WorldCurseService {
-    // Map: guildId -> List of active curses
-    private final Map<String, List<WorldCurse>> activeCurses;
+    private static final RandomGenerator random = RngService.current();
 
-    public WorldCurseService() {
-        this.activeCurses = new ConcurrentHashMap<>();
+    private final GuildModifierService guildModifierService;
+
+    /**
+     * Creates a new WorldCurseService.
+     *
+     * @param guildModifierService where active curses are kept and published
+     */
+    public WorldCurseService(GuildModifierService guildModifierService) {
+        this.guildModifierService = guildModifierService;
     }
 
     /**
@@ -26,28 +37,17 @@ public class WorldCurseService {
      * @return true if curse was applied, false if max limit reached
      */
     public boolean applyCurse(String guildId, WorldCurse curse) {
-        List<WorldCurse> guildCurses = activeCurses.computeIfAbsent(guildId, k -> new ArrayList<>());
-
-        // Check max limits
-        long minorCount = guildCurses.stream()
-                .filter(c -> c.getType() == WorldCurse.CurseType.MINOR)
-                .count();
-        long majorCount = guildCurses.stream()
-                .filter(c -> c.getType() == WorldCurse.CurseType.MAJOR)
-                .count();
-
-        // If trying to add minor curse and one already exists, replace it
-        if (curse.getType() == WorldCurse.CurseType.MINOR && minorCount >= 1) {
-            guildCurses.removeIf(c -> c.getType() == WorldCurse.CurseType.MINOR);
-        }
-
-        // If trying to add major curse and one already exists, replace it
-        if (curse.getType() == WorldCurse.CurseType.MAJOR && majorCount >= 1) {
-            guildCurses.removeIf(c -> c.getType() == WorldCurse.CurseType.MAJOR);
-        }
-
-        // Add the new curse
-        guildCurses.add(curse);
+        guildModifierService.update(guildId, snapshot -> {
+            // An existing curse of the same type is replaced
+            EnumSet<WorldCurse> curses = EnumSet.noneOf(WorldCurse.class);
+            for (WorldCurse active : snapshot.getCurses()) {
+                if (active.getType() != curse.getType()) {
+                    curses.add(active);
+                }
+            }
+            curses.add(curse);
+            return snapshot.withCurses(curses);
+        });
         return true;
     }
 
@@ -58,13 +58,7 @@ public class WorldCurseService {
      * @param curse the curse to remove
      */
     public void removeCurse(String guildId, WorldCurse curse) {
-        List<WorldCurse> guildCurses = activeCurses.get(guildId);
-        if (guildCurses != null) {
-            guildCurses.remove(curse);
-            if (guildCurses.isEmpty()) {
-                activeCurses.remove(guildId);
-            }
-        }
+        removeCursesIf(guildId, c -> c == curse);
     }
 
     /**
@@ -73,7 +67,7 @@ public class WorldCurseService {
      * @param guildId the guild ID
      */
     public void clearAllCurses(String guildId) {
-        activeCurses.remove(guildId);
+        removeCursesIf(guildId, c -> true);
     }
 
     /**
@@ -82,13 +76,7 @@ public class WorldCurseService {
      * @param guildId the guild ID
      */
     public void clearCursesOnSpawn(String guildId) {
-        List<WorldCurse> guildCurses = activeCurses.get(guildId);
-        if (guildCurses != null) {
-            guildCurses.removeIf(c -> c.getDuration() == WorldCurse.CurseDuration.UNTIL_NEXT_SPAWN);
-            if (guildCurses.isEmpty()) {
-                activeCurses.remove(guildId);
-            }
-        }
+        removeCursesIf(guildId, c -> c.getDuration() == WorldCurse.CurseDuration.UNTIL_NEXT_SPAWN);
     }
 
     /**
@@ -97,24 +85,17 @@ public class WorldCurseService {
      * @param guildId the guild ID
      */
     public void clearCursesOnDefeat(String guildId) {
-        List<WorldCurse> guildCurses = activeCurses.get(guildId);
-        if (guildCurses != null) {
-            guildCurses.removeIf(c -> c.getDuration() == WorldCurse.CurseDuration.UNTIL_NEXT_DEFEAT);
-            if (guildCurses.isEmpty()) {
-                activeCurses.remove(guildId);
-            }
-        }
+        removeCursesIf(guildId, c -> c.getDuration() == WorldCurse.CurseDuration.UNTIL_NEXT_DEFEAT);
     }
 
     /**
      * Gets all active curses for a guild.
      *
      * @param guildId the guild ID
-     * @return list of active curses (empty if none)
+     * @return list of active curses (empty if none, unmodifiable)
      */
     public List<WorldCurse> getActiveCurses(String guildId) {
-        List<WorldCurse> guildCurses = activeCurses.get(guildId);
-        return guildCurses != null ? new ArrayList<>(guildCurses) : Collections.emptyList();
+        return guildModifierService.getSnapshot(guildId).getActiveCurses();
     }
 
     /**
@@ -125,8 +106,19 @@ public class WorldCurseService {
      * @return true if the curse is active
      */
     public boolean hasCurse(String guildId, WorldCurse curse) {
-        List<WorldCurse> guildCurses = activeCurses.get(guildId);
-        return guildCurses != null && guildCurses.contains(curse);
+        return guildModifierService.getSnapshot(guildId).hasCurse(curse);
+    }
+
+    private void removeCursesIf(String guildId, Predicate<WorldCurse> filter) {
+        if (!guildModifierService.getSnapshot(guildId).isCursed()) {
+            return;
+        }
+        guildModifierService.update(guildId, snapshot -> {
+            EnumSet<WorldCurse> curses = EnumSet.noneOf(WorldCurse.class);
+            curses.addAll(snapshot.getCurses());
+            curses.removeIf(filter);
+            return snapshot.withCurses(curses);
+        });
     }
 
     /**
@@ -138,7 +130,7 @@ public class WorldCurseService {
         List<WorldCurse> minorCurses = Arrays.stream(WorldCurse.values())
                 .filter(c -> c.getType() == WorldCurse.CurseType.MINOR)
                 .toList();
-        return minorCurses.get(new Random().nextInt(minorCurses.size()));
+        return minorCurses.get(random.nextInt(minorCurses.size()));
     }
 
     /**
@@ -150,7 +142,7 @@ public class WorldCurseService {
         List<WorldCurse> majorCurses = Arrays.stream(WorldCurse.values())
                 .filter(c -> c.getType() == WorldCurse.CurseType.MAJOR)
                 .toList();
-        return majorCurses.get(new Random().nextInt(majorCurses.size()));
+        return majorCurses.get(random.nextInt(majorCurses.size()));
     }
 }
 
@@ -0,0 +1,36 @@
+package com.tatumgames.mikros.games.rpg.simulation;
+
+/**
+ * How often a synthetic player checks in to play.
+ */
+public enum ActivityPattern {
+    /**
+     * Plays once a day.
+     */
+    CASUAL(24),
+
+    /**
+     * Plays every 8 hours.
+     */
+    REGULAR(8),
+
+    /**
+     * Plays every 2 hours, as soon as charges or recovery allow.
+     */
+    HARDCORE(2);
+
+    private final int checkInHours;
+
+    ActivityPattern(int checkInHours) {
+        this.checkInHours = checkInHours;
+    }
+
+    /**
+     * Gets the hours between check-ins.
+     *
+     * @return the check-in period in hours
+     */
+    public int getCheckInHours() {
+        return checkInHours;
+    }
+}
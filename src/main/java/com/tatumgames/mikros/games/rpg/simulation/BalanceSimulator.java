@@ -0,0 +1,88 @@
+package com.tatumgames.mikros.games.rpg.simulation;
+
+import ch.qos.logback.classic.Level;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless Monte Carlo simulator for RPG balance.
+ * <p>
+ * Plays synthetic guilds through the real actions and {@link com.tatumgames.mikros.games.rpg.service.BossService}
+ * on a simulated clock and seeded random streams, one guild per fork-join task, and reports level
+ * progression, deaths, boss kill times and the essence/catalyst economy. Run it with
+ * {@code ./gradlew simulateBalance -PsimArgs="--guilds=128 --weeks=8"}; see
+ * {@link SimulationConfig#fromArgs} for the options.
+ */
+public class BalanceSimulator {
+    private final SimulationConfig config;
+
+    /**
+     * Creates a new BalanceSimulator.
+     *
+     * @param config the simulation settings
+     */
+    public BalanceSimulator(SimulationConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Simulates every guild and merges their reports.
+     *
+     * @return the combined report
+     */
+    public SimulationReport run() {
+        ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+        try {
+            return pool.invoke(new GuildRange(0, config.guilds()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Simulates a range of guilds, splitting it in half until one guild is left.
+     * Never serialized; ForkJoinTask is Serializable only for historical reasons.
+     */
+    @SuppressWarnings("serial")
+    private final class GuildRange extends RecursiveTask<SimulationReport> {
+        private final int from;
+        private final int to;
+
+        GuildRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (to - from == 1) {
+                return new SimulatedGuild(config, from).run();
+            }
+            int middle = (from + to) >>> 1;
+            GuildRange left = new GuildRange(from, middle);
+            left.fork();
+            SimulationReport right = new GuildRange(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    public static void main(String[] args) {
+        SimulationConfig config = SimulationConfig.fromArgs(args);
+
+        // Per-action logging would dominate the run time
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.tatumgames.mikros")).setLevel(Level.WARN);
+
+        long started = System.nanoTime();
+        SimulationReport report = new BalanceSimulator(config).run();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        long actions = report.getTotalActions();
+        System.out.printf("Simulated %d guilds x %d players x %d weeks (seed %d) in %.1fs: %,d actions, %,.0f actions/min%n",
+                config.guilds(), config.playersPerGuild(), config.weeks(), config.seed(),
+                elapsed.toMillis() / 1000.0, actions, actions * 60_000.0 / Math.max(1, elapsed.toMillis()));
+        report.print(System.out);
+    }
+}
@@ -0,0 +1,319 @@
+package com.tatumgames.mikros.games.rpg.simulation;
+
+import com.tatumgames.mikros.games.rpg.actions.ResurrectAction;
+import com.tatumgames.mikros.games.rpg.config.RPGConfig;
+import com.tatumgames.mikros.games.rpg.curse.WorldCurse;
+import com.tatumgames.mikros.games.rpg.model.Boss;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.games.rpg.model.SuperBoss;
+import com.tatumgames.mikros.games.rpg.service.ActionService;
+import com.tatumgames.mikros.games.rpg.service.BossService;
+import com.tatumgames.mikros.games.rpg.service.CharacterService;
+import com.tatumgames.mikros.games.rpg.service.GuildModifierService;
+import com.tatumgames.mikros.games.rpg.service.LoreRecognitionService;
+import com.tatumgames.mikros.games.rpg.service.WorldCurseService;
+import com.tatumgames.mikros.services.GameClock;
+import com.tatumgames.mikros.services.RngService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * One guild of synthetic players, played hour by hour on a simulated clock.
+ * <p>
+ * The guild has its own services, wired as in the bot, and drives them the way the slash commands do:
+ * players check in on their activity pattern, Priests resurrect dead guildmates, everyone spends their
+ * heroic charges on the boss and then their action charges on explore, train, battle or rest. Bosses
+ * spawn once a day and expire into curses as in {@code BossScheduler}. Defeats are handled inline.
+ * <p>
+ * Not thread-safe: a guild is simulated on one thread, with the simulated clock bound to it.
+ */
+class SimulatedGuild {
+    private static final Instant START = Instant.parse("2025-01-06T00:00:00Z");
+    private static final int HOURS_PER_WEEK = 7 * 24;
+
+    // Players rest below this share of max HP; otherwise they pick by ACTION_WEIGHTS
+    private static final double REST_BELOW_HP = 0.35;
+    private static final Map<String, Integer> ACTION_WEIGHTS = Map.of("explore", 40, "train", 25, "battle", 35);
+    private static final List<String> ACTIONS = List.of("explore", "train", "battle");
+
+    private final SimulationConfig config;
+    private final String guildId;
+    private final int spawnHour;
+    private final SimulationClock clock = new SimulationClock(START);
+    private final SimulationReport report;
+
+    private final RngService rngService;
+    private final RandomGenerator policy;
+    private final CharacterService characterService;
+    private final WorldCurseService worldCurseService;
+    private final ActionService actionService;
+    private final BossService bossService;
+    private final ResurrectAction resurrectAction;
+    private final RPGConfig rpgConfig;
+    private final List<Player> players = new ArrayList<>();
+
+    // The boss being fought, so its defeat can be timed once the defeat handler has cleared it
+    private Fight fight;
+
+    private static final class Player {
+        final RPGCharacter character;
+        final ActivityPattern pattern;
+        final int checkInOffset;
+        int deaths;
+
+        Player(RPGCharacter character, ActivityPattern pattern, int checkInOffset) {
+            this.character = character;
+            this.pattern = pattern;
+            this.checkInOffset = checkInOffset;
+        }
+    }
+
+    private record Fight(Boss boss, SuperBoss superBoss, Instant spawnTime) {
+        boolean isDefeated() {
+            return boss != null ? boss.isDefeated() : superBoss.isDefeated();
+        }
+    }
+
+    /**
+     * Creates a guild and its population.
+     *
+     * @param config     the simulation settings
+     * @param guildIndex the guild's index in the run
+     */
+    SimulatedGuild(SimulationConfig config, int guildIndex) {
+        this.config = config;
+        this.guildId = "sim-guild-" + guildIndex;
+        this.spawnHour = guildIndex % 24;
+        this.report = new SimulationReport(config.weeks());
+
+        this.rngService = new RngService(config.seed());
+        this.policy = rngService.streamFor("simulation:" + guildId, 0);
+        this.characterService = new CharacterService(rngService);
+        GuildModifierService guildModifierService = new GuildModifierService();
+        this.worldCurseService = new WorldCurseService(guildModifierService);
+        LoreRecognitionService loreRecognitionService = new LoreRecognitionService();
+        this.actionService = new ActionService(characterService, guildModifierService, loreRecognitionService);
+        this.bossService = new BossService(characterService, guildModifierService, worldCurseService,
+                loreRecognitionService, Runnable::run);
+        this.resurrectAction = new ResurrectAction(worldCurseService, loreRecognitionService);
+
+        this.rpgConfig = new RPGConfig(guildId);
+        rpgConfig.setChargeRefreshHours(config.chargeRefreshHours());
+        characterService.updateConfig(rpgConfig);
+
+        GameClock.withClock(clock, () -> {
+            for (int i = 0; i < config.playersPerGuild(); i++) {
+                CharacterClass characterClass = pick(config.classMix());
+                ActivityPattern pattern = pick(config.activityMix());
+                RPGCharacter character = characterService.registerCharacter(
+                        guildId + "-player-" + i, "Player " + i, characterClass);
+                players.add(new Player(character, pattern, policy.nextInt(pattern.getCheckInHours())));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Plays the configured number of weeks.
+     *
+     * @return the guild's report
+     */
+    SimulationReport run() {
+        return GameClock.withClock(clock, () -> {
+            int hours = config.weeks() * HOURS_PER_WEEK;
+            for (int hour = 0; hour < hours; hour++) {
+                clock.advance(Duration.ofHours(1));
+                tickBoss(hour);
+                for (Player player : players) {
+                    int period = player.pattern.getCheckInHours();
+                    if (hour % period == player.checkInOffset) {
+                        play(player);
+                    }
+                }
+                recordBossDefeat();
+                if ((hour + 1) % HOURS_PER_WEEK == 0) {
+                    int week = hour / HOURS_PER_WEEK;
+                    players.forEach(player -> report.recordWeekLevel(week, player.character.getLevel()));
+                }
+            }
+
+            for (Player player : players) {
+                RPGCharacter character = player.character;
+                report.recordFinalCharacter(character.getCharacterClass(), character.getLevel(), player.deaths,
+                        character.getInventory().getEssences(), character.getInventory().getCatalysts());
+            }
+            return report;
+        });
+    }
+
+    /**
+     * Expires the current boss into a curse, or spawns one at the guild's daily slot.
+     */
+    private void tickBoss(int hour) {
+        BossService.ServerBossState state = bossService.getOrCreateState(guildId);
+        Boss boss = state.getCurrentBoss();
+        SuperBoss superBoss = state.getCurrentSuperBoss();
+        Instant now = clock.instant();
+
+        if (boss != null || superBoss != null) {
+            boolean isSuper = boss == null;
+            Instant expiresAt = isSuper ? superBoss.getExpiresAt() : boss.getExpiresAt();
+            boolean defeated = isSuper ? superBoss.isDefeated() : boss.isDefeated();
+            if (!defeated && !now.isBefore(expiresAt)) {
+                report.recordBossEscape();
+                rngService.withStream("boss-expiry:" + guildId, state.getBossEpoch(), () -> {
+                    WorldCurse curse = isSuper ? worldCurseService.getRandomMajorCurse()
+                            : worldCurseService.getRandomMinorCurse();
+                    worldCurseService.applyCurse(guildId, curse);
+                    return null;
+                });
+                spawnBoss(state);
+            }
+        } else if (hour % 24 == spawnHour) {
+            spawnBoss(state);
+        }
+    }
+
+    private void spawnBoss(BossService.ServerBossState state) {
+        worldCurseService.clearCursesOnSpawn(guildId);
+        if (state.getNormalBossesSinceSuper() >= 3) {
+            SuperBoss superBoss = bossService.spawnSuperBoss(guildId);
+            fight = new Fight(null, superBoss, superBoss.getSpawnTime());
+        } else {
+            Boss boss = bossService.spawnNormalBoss(guildId);
+            fight = new Fight(boss, null, boss.getSpawnTime());
+        }
+    }
+
+    private void recordBossDefeat() {
+        if (fight != null && fight.isDefeated()) {
+            long hours = Duration.between(fight.spawnTime(), clock.instant()).toHours();
+            report.recordBossKill(fight.superBoss() != null, hours);
+            fight = null;
+        }
+    }
+
+    /**
+     * One check-in: the same checks and order as the slash commands.
+     */
+    private void play(Player player) {
+        RPGCharacter character = player.character;
+        String discordId = character.getDiscordId();
+        characterService.recordGuildActivity(discordId, guildId);
+        characterService.withCharacterLock(discordId, character::checkRecovery);
+        if (character.isDead() || character.isRecovering()) {
+            return;
+        }
+
+        if (character.getCharacterClass() == CharacterClass.PRIEST) {
+            resurrectGuildmate(character);
+        }
+
+        bossService.applyHeroicRefresh(guildId, character);
+        while (character.canPerformHeroicAction() && bossService.attackBoss(guildId, character) > 0) {
+            report.recordBossAttack();
+        }
+
+        int refreshHours = rpgConfig.getChargeRefreshHours();
+        while (characterService.withCharacterLock(discordId, () -> character.canPerformAction(refreshHours))) {
+            int chargesBefore = character.getActionCharges();
+            String action = chooseAction(character);
+            actionService.executeAction(action, character, rpgConfig);
+            report.recordAction(action);
+            if (character.isDead()) {
+                player.deaths++;
+                return;
+            }
+            if (character.getActionCharges() >= chargesBefore) {
+                return; // The action did not spend a charge; stop rather than loop
+            }
+        }
+    }
+
+    private void resurrectGuildmate(RPGCharacter priest) {
+        for (Player player : players) {
+            RPGCharacter target = player.character;
+            if (target.isDead()) {
+                characterService.withCharacterLocks(List.of(priest.getDiscordId(), target.getDiscordId()),
+                        () -> characterService.withActionStream(priest,
+                                () -> resurrectAction.executeWithTarget(priest, target, rpgConfig)));
+                report.recordResurrection();
+                return;
+            }
+        }
+    }
+
+    private String chooseAction(RPGCharacter character) {
+        int maxHp = character.getStats().getMaxHp();
+        if (character.getStats().getCurrentHp() < maxHp * REST_BELOW_HP) {
+            return "rest";
+        }
+        int total = ACTION_WEIGHTS.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = policy.nextInt(total);
+        for (String action : ACTIONS) {
+            roll -= ACTION_WEIGHTS.get(action);
+            if (roll < 0) {
+                return action;
+            }
+        }
+        return ACTIONS.get(ACTIONS.size() - 1);
+    }
+
+    /**
+     * Picks a key with probability proportional to its weight, iterating in key order so runs repeat.
+     */
+    private <K extends Enum<K>> K pick(Map<K, Integer> weights) {
+        List<K> keys = weights.keySet().stream().sorted().toList();
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = policy.nextInt(total);
+        for (K key : keys) {
+            roll -= weights.get(key);
+            if (roll < 0) {
+                return key;
+            }
+        }
+        return keys.get(keys.size() - 1);
+    }
+
+    /**
+     * A clock that only moves when the simulation advances it.
+     */
+    private static final class SimulationClock extends Clock {
+        private Instant now;
+
+        SimulationClock(Instant start) {
+            this.now = start;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (!ZoneOffset.UTC.equals(zone)) {
+                throw new UnsupportedOperationException("The simulation clock is UTC only");
+            }
+            return this;
+        }
+    }
+}
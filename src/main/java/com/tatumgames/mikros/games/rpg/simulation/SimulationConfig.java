@@ -0,0 +1,126 @@
+package com.tatumgames.mikros.games.rpg.simulation;
+
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for a balance simulation run.
+ *
+ * @param guilds             number of simulated guilds (each is simulated independently)
+ * @param playersPerGuild    synthetic players per guild
+ * @param weeks              simulated weeks of play
+ * @param classMix           relative weight of each character class in the population
+ * @param activityMix        relative weight of each activity pattern in the population
+ * @param chargeRefreshHours the guilds' action charge refresh period
+ * @param seed               seed for every random draw; the same settings and seed give the same report
+ * @param parallelism        fork-join pool parallelism
+ */
+public record SimulationConfig(
+        int guilds,
+        int playersPerGuild,
+        int weeks,
+        Map<CharacterClass, Integer> classMix,
+        Map<ActivityPattern, Integer> activityMix,
+        int chargeRefreshHours,
+        long seed,
+        int parallelism
+) {
+    public SimulationConfig {
+        if (guilds < 1 || playersPerGuild < 1 || weeks < 1) {
+            throw new IllegalArgumentException("guilds, playersPerGuild and weeks must be positive");
+        }
+        if (chargeRefreshHours < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("chargeRefreshHours and parallelism must be positive");
+        }
+        classMix = Map.copyOf(requirePositiveTotal(classMix, "classMix"));
+        activityMix = Map.copyOf(requirePositiveTotal(activityMix, "activityMix"));
+    }
+
+    /**
+     * Gets the default settings: 64 guilds of 50 players over 4 weeks, an even class mix and
+     * mostly casual players.
+     *
+     * @return the default settings
+     */
+    public static SimulationConfig defaults() {
+        Map<CharacterClass, Integer> classMix = new EnumMap<>(CharacterClass.class);
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            classMix.put(characterClass, 1);
+        }
+        Map<ActivityPattern, Integer> activityMix = new EnumMap<>(ActivityPattern.class);
+        activityMix.put(ActivityPattern.CASUAL, 50);
+        activityMix.put(ActivityPattern.REGULAR, 35);
+        activityMix.put(ActivityPattern.HARDCORE, 15);
+        return new SimulationConfig(64, 50, 4, classMix, activityMix, 12, 42L,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Parses command-line options over the defaults. Options are {@code --name=value}:
+     * {@code guilds}, {@code players}, {@code weeks}, {@code refresh-hours}, {@code seed},
+     * {@code parallelism}, {@code classes} and {@code activity}. The last two take weights such as
+     * {@code WARRIOR:2,PRIEST:1}.
+     *
+     * @param args the options
+     * @return the settings
+     * @throws IllegalArgumentException if an option is unknown or malformed
+     */
+    public static SimulationConfig fromArgs(String[] args) {
+        SimulationConfig defaults = defaults();
+        int guilds = defaults.guilds();
+        int players = defaults.playersPerGuild();
+        int weeks = defaults.weeks();
+        Map<CharacterClass, Integer> classMix = defaults.classMix();
+        Map<ActivityPattern, Integer> activityMix = defaults.activityMix();
+        int refreshHours = defaults.chargeRefreshHours();
+        long seed = defaults.seed();
+        int parallelism = defaults.parallelism();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            try {
+                switch (name) {
+                    case "guilds" -> guilds = Integer.parseInt(value);
+                    case "players" -> players = Integer.parseInt(value);
+                    case "weeks" -> weeks = Integer.parseInt(value);
+                    case "refresh-hours" -> refreshHours = Integer.parseInt(value);
+                    case "seed" -> seed = Long.parseLong(value);
+                    case "parallelism" -> parallelism = Integer.parseInt(value);
+                    case "classes" -> classMix = parseWeights(value, CharacterClass.class);
+                    case "activity" -> activityMix = parseWeights(value, ActivityPattern.class);
+                    default -> throw new IllegalArgumentException("Unknown option: --" + name);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for --" + name + ": " + value, e);
+            }
+        }
+        return new SimulationConfig(guilds, players, weeks, classMix, activityMix, refreshHours, seed, parallelism);
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> parseWeights(String value, Class<E> type) {
+        Map<E, Integer> weights = new EnumMap<>(type);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected NAME:weight but got: " + entry);
+            }
+            weights.put(Enum.valueOf(type, parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static <K> Map<K, Integer> requirePositiveTotal(Map<K, Integer> weights, String name) {
+        if (weights == null || weights.values().stream().anyMatch(w -> w < 0)
+                || weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException(name + " needs non-negative weights with a positive total");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,218 @@
+package com.tatumgames.mikros.games.rpg.simulation;
+
+import com.tatumgames.mikros.games.rpg.model.CatalystType;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.EssenceType;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome distributions of a balance simulation. Each guild fills its own report; reports from
+ * parallel guilds are combined with {@link #merge}.
+ */
+public class SimulationReport {
+    private final Histogram[] weeklyLevels;
+    private final Map<CharacterClass, Histogram> finalLevelsByClass = new EnumMap<>(CharacterClass.class);
+    private final Histogram deathsPerPlayer = new Histogram();
+    private final Histogram normalBossKillHours = new Histogram();
+    private final Histogram superBossKillHours = new Histogram();
+    private final Histogram essencesPerPlayer = new Histogram();
+    private final Histogram catalystsPerPlayer = new Histogram();
+    private final Map<EssenceType, Long> essenceTotals = new EnumMap<>(EssenceType.class);
+    private final Map<CatalystType, Long> catalystTotals = new EnumMap<>(CatalystType.class);
+    private final Map<String, Long> actionCounts = new TreeMap<>();
+    private long bossAttacks;
+    private long resurrections;
+    private long bossesEscaped;
+
+    /**
+     * Creates an empty report.
+     *
+     * @param weeks the number of simulated weeks
+     */
+    public SimulationReport(int weeks) {
+        this.weeklyLevels = new Histogram[weeks];
+        for (int i = 0; i < weeks; i++) {
+            weeklyLevels[i] = new Histogram();
+        }
+    }
+
+    void recordWeekLevel(int week, int level) {
+        weeklyLevels[week].add(level);
+    }
+
+    void recordFinalCharacter(CharacterClass characterClass, int level, int deaths,
+                              Map<EssenceType, Integer> essences, Map<CatalystType, Integer> catalysts) {
+        finalLevelsByClass.computeIfAbsent(characterClass, c -> new Histogram()).add(level);
+        deathsPerPlayer.add(deaths);
+        int essenceCount = 0;
+        for (Map.Entry<EssenceType, Integer> entry : essences.entrySet()) {
+            essenceTotals.merge(entry.getKey(), (long) entry.getValue(), Long::sum);
+            essenceCount += entry.getValue();
+        }
+        int catalystCount = 0;
+        for (Map.Entry<CatalystType, Integer> entry : catalysts.entrySet()) {
+            catalystTotals.merge(entry.getKey(), (long) entry.getValue(), Long::sum);
+            catalystCount += entry.getValue();
+        }
+        essencesPerPlayer.add(essenceCount);
+        catalystsPerPlayer.add(catalystCount);
+    }
+
+    void recordAction(String actionName) {
+        actionCounts.merge(actionName, 1L, Long::sum);
+    }
+
+    void recordBossAttack() {
+        bossAttacks++;
+    }
+
+    void recordResurrection() {
+        resurrections++;
+    }
+
+    void recordBossKill(boolean superBoss, long hours) {
+        (superBoss ? superBossKillHours : normalBossKillHours).add((int) hours);
+    }
+
+    void recordBossEscape() {
+        bossesEscaped++;
+    }
+
+    /**
+     * Gets the number of actions and boss attacks simulated.
+     *
+     * @return the total simulated actions
+     */
+    public long getTotalActions() {
+        return actionCounts.values().stream().mapToLong(Long::longValue).sum() + bossAttacks + resurrections;
+    }
+
+    /**
+     * Adds another report's outcomes to this one.
+     *
+     * @param other a report for the same number of weeks
+     * @return this report
+     */
+    public SimulationReport merge(SimulationReport other) {
+        for (int i = 0; i < weeklyLevels.length; i++) {
+            weeklyLevels[i].merge(other.weeklyLevels[i]);
+        }
+        other.finalLevelsByClass.forEach((characterClass, histogram) ->
+                finalLevelsByClass.computeIfAbsent(characterClass, c -> new Histogram()).merge(histogram));
+        deathsPerPlayer.merge(other.deathsPerPlayer);
+        normalBossKillHours.merge(other.normalBossKillHours);
+        superBossKillHours.merge(other.superBossKillHours);
+        essencesPerPlayer.merge(other.essencesPerPlayer);
+        catalystsPerPlayer.merge(other.catalystsPerPlayer);
+        other.essenceTotals.forEach((type, count) -> essenceTotals.merge(type, count, Long::sum));
+        other.catalystTotals.forEach((type, count) -> catalystTotals.merge(type, count, Long::sum));
+        other.actionCounts.forEach((name, count) -> actionCounts.merge(name, count, Long::sum));
+        bossAttacks += other.bossAttacks;
+        resurrections += other.resurrections;
+        bossesEscaped += other.bossesEscaped;
+        return this;
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param out where to print
+     */
+    public void print(PrintStream out) {
+        out.println("== Level progression (end of week) ==");
+        for (int i = 0; i < weeklyLevels.length; i++) {
+            out.printf("  week %-3d %s%n", i + 1, weeklyLevels[i].summary());
+        }
+
+        out.println("== Final level by class ==");
+        finalLevelsByClass.forEach((characterClass, histogram) ->
+                out.printf("  %-12s %s%n", characterClass.getDisplayName(), histogram.summary()));
+
+        long players = deathsPerPlayer.count();
+        out.println("== Deaths ==");
+        out.printf("  per player %s%n", deathsPerPlayer.summary());
+        out.printf("  per player-week %.3f, resurrections %d%n",
+                players == 0 ? 0.0 : (double) deathsPerPlayer.sum() / players / weeklyLevels.length, resurrections);
+
+        out.println("== Bosses ==");
+        out.printf("  normal kills %d, time to kill (h) %s%n",
+                normalBossKillHours.count(), normalBossKillHours.summary());
+        out.printf("  super kills  %d, time to kill (h) %s%n",
+                superBossKillHours.count(), superBossKillHours.summary());
+        out.printf("  escaped %d, attacks %d%n", bossesEscaped, bossAttacks);
+
+        out.println("== Economy (held at end) ==");
+        out.printf("  essences per player  %s%n", essencesPerPlayer.summary());
+        out.printf("  catalysts per player %s%n", catalystsPerPlayer.summary());
+        out.printf("  essences  %s%n", essenceTotals);
+        out.printf("  catalysts %s%n", catalystTotals);
+
+        out.println("== Actions ==");
+        out.printf("  %s%n", actionCounts);
+    }
+
+    /**
+     * Counts of non-negative integer samples, indexed by value.
+     */
+    static final class Histogram {
+        private long[] counts = new long[16];
+        private long count;
+        private long sum;
+
+        void add(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Histogram values must be non-negative: " + value);
+            }
+            if (value >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(value + 1, counts.length * 2));
+            }
+            counts[value]++;
+            count++;
+            sum += value;
+        }
+
+        void merge(Histogram other) {
+            if (other.counts.length > counts.length) {
+                counts = Arrays.copyOf(counts, other.counts.length);
+            }
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            sum += other.sum;
+        }
+
+        long count() {
+            return count;
+        }
+
+        long sum() {
+            return sum;
+        }
+
+        int percentile(double fraction) {
+            long rank = (long) Math.ceil(fraction * count);
+            long seen = 0;
+            for (int value = 0; value < counts.length; value++) {
+                seen += counts[value];
+                if (seen >= Math.max(1, rank)) {
+                    return value;
+                }
+            }
+            return 0;
+        }
+
+        String summary() {
+            if (count == 0) {
+                return "n=0";
+            }
+            return String.format("n=%d mean=%.1f p10=%d p50=%d p90=%d max=%d",
+                    count, (double) sum / count, percentile(0.1), percentile(0.5), percentile(0.9), percentile(1.0));
+        }
+    }
+}
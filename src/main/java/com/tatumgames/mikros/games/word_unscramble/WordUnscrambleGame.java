@@ -4,11 +4,14 @@ import com.tatumgames.mikros.games.word_unscramble.interfaces.WordUnscrambleInte
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleResult;
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleSession;
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleType;
+import com.tatumgames.mikros.services.RngService;
+import com.tatumgames.mikros.services.TextTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Word unscramble game implementation with 20-level progression system.
@@ -19,9 +22,16 @@ import java.util.*;
  */
 public class WordUnscrambleGame implements WordUnscrambleInterface {
     private static final Logger logger = LoggerFactory.getLogger(WordUnscrambleGame.class);
-    private static final Random random = new Random();
+    private static final RandomGenerator random = RngService.current();
     private static final int MAX_LEVEL = 20;
 
+    private static final TextTemplate CHALLENGE_ANNOUNCEMENT = TextTemplate.compile(
+            "⏰ **It's that time again!** ⏰\n\n" +
+                    "🔤 **New Unscramble Challenge!**\n\n" +
+                    "**Level %d** | Unscramble this %s: **%s** (%d letters)\n\n" +
+                    "Use `/scramble-guess` to submit your answer!\n" +
+                    "First correct player wins! 🏆");
+
     // 20 levels of words and phrases
     private static final Map<Integer, List<String>> LEVEL_WORDS = new HashMap<>();
 
@@ -338,17 +348,12 @@ public class WordUnscrambleGame implements WordUnscrambleInterface {
         String contentType = isPhrase ? "phrase" : "word";
         int length = word.replaceAll(" ", "").length(); // Total character count
 
-        return String.format(
-                "⏰ **It's that time again!** ⏰\n\n" +
-                        "🔤 **New Unscramble Challenge!**\n\n" +
-                        "**Level %d** | Unscramble this %s: **%s** (%d letters)\n\n" +
-                        "Use `/scramble-guess` to submit your answer!\n" +
-                        "First correct player wins! 🏆",
-                level,
-                contentType,
-                scrambled,
-                length
-        );
+        return CHALLENGE_ANNOUNCEMENT.with()
+                .arg(level)
+                .arg(contentType)
+                .arg(scrambled)
+                .arg(length)
+                .render();
     }
 
     @Override
@@ -4,6 +4,7 @@ import com.tatumgames.mikros.admin.handler.CommandHandler;
 import com.tatumgames.mikros.admin.utils.AdminUtils;
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleConfig;
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleType;
+import com.tatumgames.mikros.games.word_unscramble.service.WordUnscrambleResetScheduler;
 import com.tatumgames.mikros.games.word_unscramble.service.WordUnscrambleService;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.Permission;
@@ -30,14 +31,18 @@ import java.time.LocalTime;
 public class GameConfigCommand implements CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(GameConfigCommand.class);
     private final WordUnscrambleService wordUnscrambleService;
+    private final WordUnscrambleResetScheduler wordUnscrambleResetScheduler;
 
     /**
      * Creates a new GameConfigCommand handler.
      *
-     * @param wordUnscrambleService the Word Unscramble service
+     * @param wordUnscrambleService        the Word Unscramble service
+     * @param wordUnscrambleResetScheduler the reset scheduler (re-keyed when the reset time changes)
      */
-    public GameConfigCommand(WordUnscrambleService wordUnscrambleService) {
+    public GameConfigCommand(WordUnscrambleService wordUnscrambleService,
+                             WordUnscrambleResetScheduler wordUnscrambleResetScheduler) {
         this.wordUnscrambleService = wordUnscrambleService;
+        this.wordUnscrambleResetScheduler = wordUnscrambleResetScheduler;
     }
 
     @Override
@@ -47,8 +52,9 @@ public class GameConfigCommand implements CommandHandler {
                         new SubcommandData("view", "View current game configuration"),
                         new SubcommandData("update-channel", "Update the game channel")
                                 .addOption(OptionType.CHANNEL, "channel", "New game channel", true),
-                        new SubcommandData("set-reset-time", "Change daily reset time")
-                                .addOption(OptionType.INTEGER, "hour", "Reset hour (0-23 UTC)", true),
+                        new SubcommandData("set-reset-time", "Change reset time and interval")
+                                .addOption(OptionType.INTEGER, "hour", "Reset hour (0-23 UTC)", true)
+                                .addOption(OptionType.INTEGER, "interval_hours", "Hours between resets (1-24, default: keep current)", false),
                         new SubcommandData("enable-game", "Enable a specific game")
                                 .addOption(OptionType.STRING, "game", "Game to enable", true),
                         new SubcommandData("disable-game", "Disable a specific game")
@@ -109,6 +115,7 @@ public class GameConfigCommand implements CommandHandler {
 
         embed.addField("Game Channel", "<#" + config.getGameChannelId() + ">", true);
         embed.addField("Reset Time", config.getResetTime().toString() + " UTC", true);
+        embed.addField("Reset Interval", config.getResetIntervalHours() + " hours", true);
         embed.addField("Enabled Games", String.valueOf(config.getEnabledGames().size()), true);
         embed.addField("Allow No-Role Users", config.isAllowNoRoleUsers() ? "✅ Enabled" : "❌ Disabled", true);
 
@@ -165,11 +172,25 @@ public class GameConfigCommand implements CommandHandler {
             return;
         }
 
+        Integer intervalHours = event.getOption("interval_hours", OptionMapping::getAsInt);
+        if (intervalHours != null && (intervalHours < 1 || intervalHours > 24)) {
+            event.reply("❌ Reset interval must be between 1 and 24 hours.")
+                    .setEphemeral(true)
+                    .queue();
+            return;
+        }
+
         config.setResetTime(LocalTime.of(hour, 0));
+        if (intervalHours != null) {
+            config.setResetIntervalHours(intervalHours);
+        }
         wordUnscrambleService.updateConfig(guildId, config);
+        wordUnscrambleResetScheduler.rescheduleGuild(guildId);
 
-        event.reply(String.format("✅ Reset time updated to %02d:00 UTC", hour)).queue();
-        logger.info("Word Unscramble reset time updated to {}:00 for guild {}", hour, guildId);
+        event.reply(String.format("✅ Reset time updated to %02d:00 UTC, every %d hours",
+                hour, config.getResetIntervalHours())).queue();
+        logger.info("Word Unscramble reset time updated to {}:00 every {}h for guild {}",
+                hour, config.getResetIntervalHours(), guildId);
     }
 
     private void handleEnableGame(SlashCommandInteractionEvent event, String guildId) {
@@ -28,16 +28,17 @@ import java.util.Set;
 public class GameSetupCommand implements CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(GameSetupCommand.class);
     private final WordUnscrambleService wordUnscrambleService;
+    private final WordUnscrambleResetScheduler wordUnscrambleResetScheduler;
 
     /**
      * Creates a new GameSetupCommand handler.
      *
      * @param wordUnscrambleService        the Word Unscramble service
-     * @param wordUnscrambleResetScheduler the reset scheduler (unused, kept for future use)
+     * @param wordUnscrambleResetScheduler the reset scheduler (registers the guild's reset task)
      */
     public GameSetupCommand(WordUnscrambleService wordUnscrambleService, WordUnscrambleResetScheduler wordUnscrambleResetScheduler) {
         this.wordUnscrambleService = wordUnscrambleService;
-        // wordUnscrambleResetScheduler reserved for future manual reset functionality
+        this.wordUnscrambleResetScheduler = wordUnscrambleResetScheduler;
     }
 
     @Override
@@ -94,6 +95,7 @@ public class GameSetupCommand implements CommandHandler {
         LocalTime resetTime = LocalTime.of(resetHour, 0);
 
         wordUnscrambleService.setupGames(guildId, channel.getId(), allGames, resetTime);
+        wordUnscrambleResetScheduler.rescheduleGuild(guildId);
 
         // Start the first game immediately
         wordUnscrambleService.startRandomEnabledGame(guildId);
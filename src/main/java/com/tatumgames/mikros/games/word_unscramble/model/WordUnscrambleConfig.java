@@ -19,6 +19,7 @@ public class WordUnscrambleConfig {
     private String gameChannelId;
     private Set<WordUnscrambleType> enabledGames;
     private LocalTime resetTime;
+    private int resetIntervalHours; // Hours between resets, counted from resetTime (default: 1)
     private WordUnscrambleType activeGameType;
     private boolean allowNoRoleUsers; // Whether users without roles can play (default: true)
 
@@ -35,6 +36,7 @@ public class WordUnscrambleConfig {
         this.gameChannelId = Objects.requireNonNull(gameChannelId);
         this.enabledGames = new HashSet<>(enabledGames);
         this.resetTime = resetTime != null ? resetTime : LocalTime.of(0, 0); // Default midnight UTC
+        this.resetIntervalHours = 1; // Hourly games by default
         this.activeGameType = enabledGames.isEmpty() ? null : enabledGames.iterator().next();
         this.allowNoRoleUsers = true; // Allow users without roles by default
     }
@@ -89,6 +91,27 @@ public class WordUnscrambleConfig {
         this.resetTime = resetTime;
     }
 
+    /**
+     * Gets the number of hours between resets. Resets happen at resetTime and every interval after it.
+     *
+     * @return the reset interval in hours
+     */
+    public int getResetIntervalHours() {
+        return resetIntervalHours;
+    }
+
+    /**
+     * Sets the number of hours between resets.
+     *
+     * @param resetIntervalHours the reset interval in hours (1-24)
+     */
+    public void setResetIntervalHours(int resetIntervalHours) {
+        if (resetIntervalHours < 1 || resetIntervalHours > 24) {
+            throw new IllegalArgumentException("Reset interval must be between 1 and 24 hours");
+        }
+        this.resetIntervalHours = resetIntervalHours;
+    }
+
     public WordUnscrambleType getActiveGameType() {
         return activeGameType;
     }
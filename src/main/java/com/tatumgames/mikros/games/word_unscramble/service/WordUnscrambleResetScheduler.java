@@ -3,19 +3,35 @@ package com.tatumgames.mikros.games.word_unscramble.service;
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleConfig;
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleResult;
 import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleSession;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
+import com.tatumgames.mikros.services.TextTemplate;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import com.tatumgames.mikros.services.dispatch.AnnouncementJob;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.requests.RestAction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Scheduler for hourly Word Unscramble game resets.
- * Resets games every hour for all configured guilds.
+ * Scheduler for Word Unscramble game resets.
+ * Each configured guild has its own reset task, firing every resetIntervalHours on a grid anchored at the
+ * guild's resetTime (UTC) on 1970-01-01. A fixed anchor keeps the reset slots the same whenever the task
+ * is (re)scheduled, even for intervals that do not divide 24 hours. The reset announcements of a guild
+ * are queued as one ordered job on the {@link AnnouncementDispatcher}, so guilds sharing a reset time do
+ * not post in one burst.
  * <p>
  * TODO: Reward System Integration
  * - Award MIKROS discounts to winners
@@ -26,63 +42,104 @@ import java.util.concurrent.TimeUnit;
 public class WordUnscrambleResetScheduler {
     private static final Logger logger = LoggerFactory.getLogger(WordUnscrambleResetScheduler.class);
 
+    private static final String SUBSYSTEM = "word-unscramble-reset";
+
+    // Reset announcements are spread over this window; short, since the new puzzle is only playable once posted
+    private static final Duration ANNOUNCEMENT_SPREAD = Duration.ofMinutes(1);
+
+    private static final TextTemplate WINNER_ANNOUNCEMENT = TextTemplate.compile("""
+            %s **%s Winner**
+
+            🏆 **%s** solved it first!
+
+            Congratulations!
+            """);
+
+    private static final TextTemplate NO_WINNER_ANNOUNCEMENT = TextTemplate.compile(
+            "%s **%s Ended**\n\nNo one solved it this round!\nAnswer was: **%s**");
+
+    private static final TextTemplate LEVEL_UP_ANNOUNCEMENT = TextTemplate.compile("""
+            🎉 **Your community leveled up!** 🎉
+
+            Welcome to **Level %d** — expect more challenging words!
+
+            Keep solving to reach the next level! 🚀
+            """);
+
     private final WordUnscrambleService wordUnscrambleService;
-    private final ScheduledExecutorService scheduler;
+    private final AnnouncementDispatcher announcementDispatcher;
+    private final SchedulingRuntime schedulingRuntime;
     private JDA jda;
 
     /**
      * Creates a new WordUnscrambleResetScheduler.
      *
-     * @param wordUnscrambleService the Word Unscramble service
+     * @param wordUnscrambleService  the Word Unscramble service
+     * @param announcementDispatcher the shared dispatcher that paces reset announcements across guilds
+     * @param schedulingRuntime      the shared scheduling runtime
      */
-    public WordUnscrambleResetScheduler(WordUnscrambleService wordUnscrambleService) {
+    public WordUnscrambleResetScheduler(WordUnscrambleService wordUnscrambleService,
+                                        AnnouncementDispatcher announcementDispatcher,
+                                        SchedulingRuntime schedulingRuntime) {
         this.wordUnscrambleService = wordUnscrambleService;
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.announcementDispatcher = announcementDispatcher;
+        this.schedulingRuntime = schedulingRuntime;
         logger.info("WordUnscrambleResetScheduler initialized");
     }
 
     /**
      * Starts the reset scheduler.
-     * Resets games every hour for all configured guilds.
+     * Registers a reset task for every configured guild.
      *
      * @param jda the JDA instance
      */
     public void start(JDA jda) {
         this.jda = jda;
 
-        // Reset games every hour
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                checkAndResetGames();
-            } catch (Exception e) {
-                logger.error("Error in Word Unscramble reset scheduler", e);
-            }
-        }, 0, 1, TimeUnit.HOURS);
+        for (String guildId : wordUnscrambleService.getConfiguredGuilds()) {
+            rescheduleGuild(guildId);
+        }
 
-        logger.info("Word Unscramble reset scheduler started (hourly resets)");
+        logger.info("Word Unscramble reset scheduler started (per-guild resets from each guild's reset time)");
     }
 
     /**
-     * Checks all guilds and resets games hourly.
+     * Re-keys a guild's reset task after its configuration changed (setup, reset time or interval).
+     * Cancels the task if the guild is no longer configured.
+     *
+     * @param guildId the guild ID
      */
-    private void checkAndResetGames() {
-        if (jda == null) {
+    public void rescheduleGuild(String guildId) {
+        TaskKey key = TaskKey.of(SUBSYSTEM, guildId);
+        WordUnscrambleConfig config = wordUnscrambleService.getConfig(guildId);
+        if (config == null) {
+            schedulingRuntime.cancel(key);
             return;
         }
 
-        for (String guildId : wordUnscrambleService.getConfiguredGuilds()) {
+        Duration interval = Duration.ofHours(config.getResetIntervalHours());
+        Instant now = Instant.now();
+        Instant nextReset = nextResetAfter(config, interval, now);
+        schedulingRuntime.schedule(key, Trigger.every(interval, Duration.between(now, nextReset)), () -> {
             try {
-                WordUnscrambleConfig config = wordUnscrambleService.getConfig(guildId);
-                if (config == null) {
-                    continue;
-                }
-
-                // Reset game every hour
                 resetAndStartNewGame(guildId);
             } catch (Exception e) {
                 logger.error("Error resetting Word Unscramble game for guild {}", guildId, e);
             }
-        }
+        });
+        logger.debug("Word Unscramble reset for guild {} scheduled at {} (every {}h)",
+                guildId, nextReset, config.getResetIntervalHours());
+    }
+
+    /**
+     * Gets the first reset strictly after now on the grid anchored at resetTime (UTC) on epoch day 0.
+     * Anchoring at today's resetTime would shift the grid every day when the interval does not divide
+     * 24 hours (e.g. 7h), so a restart or config change could move the reset.
+     */
+    static Instant nextResetAfter(WordUnscrambleConfig config, Duration interval, Instant now) {
+        Instant anchor = LocalDate.EPOCH.atTime(config.getResetTime()).toInstant(ZoneOffset.UTC);
+        long periods = Math.floorDiv(Duration.between(anchor, now).toMillis(), interval.toMillis()) + 1;
+        return anchor.plus(interval.multipliedBy(periods));
     }
 
     /**
@@ -91,6 +148,9 @@ public class WordUnscrambleResetScheduler {
      * @param guildId the guild ID
      */
     public void resetAndStartNewGame(String guildId) {
+        if (jda == null) {
+            return;
+        }
         Guild guild = jda.getGuildById(guildId);
         if (guild == null) {
             logger.warn("Guild {} not found for Word Unscramble reset", guildId);
@@ -99,6 +159,7 @@ public class WordUnscrambleResetScheduler {
 
         WordUnscrambleConfig config = wordUnscrambleService.getConfig(guildId);
         if (config == null) {
+            schedulingRuntime.cancel(TaskKey.of(SUBSYSTEM, guildId));
             return;
         }
 
@@ -113,10 +174,13 @@ public class WordUnscrambleResetScheduler {
         com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleProgression progression = wordUnscrambleService.getProgression(guildId);
         int previousLevel = progression != null ? progression.getLevel() : 1;
 
+        // Announcements go out in order as a single dispatcher job
+        List<String> announcements = new ArrayList<>();
+
         // Announce winner of previous game (if any)
         WordUnscrambleSession previousSession = wordUnscrambleService.getActiveSession(guildId);
         if (previousSession != null && previousSession.isActive()) {
-            announceWinner(channel, previousSession);
+            announcements.add(formatWinner(previousSession));
         }
 
         // Reset the game
@@ -125,81 +189,79 @@ public class WordUnscrambleResetScheduler {
         // Check for level-up after reset (level-up happens during handleAttempt, so check now)
         progression = wordUnscrambleService.getProgression(guildId);
         if (progression != null && progression.getLevel() > previousLevel) {
-            announceLevelUp(channel, progression.getLevel());
+            announcements.add(formatLevelUp(progression.getLevel()));
         }
 
         // Start a new game
         WordUnscrambleSession newSession = wordUnscrambleService.startRandomEnabledGame(guildId);
         if (newSession != null) {
-            announceNewGame(channel, newSession);
+            String announcement = wordUnscrambleService.getGameAnnouncementWithLevel(newSession.getGuildId());
+            if (announcement != null) {
+                announcements.add(announcement);
+            }
         }
 
+        postAnnouncements(guildId, channel, announcements);
         logger.info("Reset and started new Word Unscramble game for guild {}", guildId);
     }
 
     /**
-     * Announces the winner of the previous game.
+     * Queues a guild's reset announcements as one job that sends them in order.
+     *
+     * @param guildId       the guild ID
+     * @param channel       the game channel
+     * @param announcements the messages, in posting order
      */
-    private void announceWinner(TextChannel channel, WordUnscrambleSession session) {
-        String announcement;
-
-        WordUnscrambleResult winner = session.getWinner();
-        if (winner != null) {
-            announcement = String.format("""
-                            %s **%s Winner**
-                            
-                            🏆 **%s** solved it first!
-                            
-                            Congratulations!
-                            """,
-                    session.getGameType().getEmoji(),
-                    session.getGameType().getDisplayName(),
-                    winner.username()
-            );
-        } else {
-            announcement = String.format(
-                    "%s **%s Ended**\n\nNo one solved it this hour!\nAnswer was: **%s**",
-                    session.getGameType().getEmoji(),
-                    session.getGameType().getDisplayName(),
-                    session.getCorrectAnswer() != null ? session.getCorrectAnswer() : "N/A"
-            );
+    private void postAnnouncements(String guildId, TextChannel channel, List<String> announcements) {
+        if (announcements.isEmpty()) {
+            return;
         }
-
-        channel.sendMessage(announcement).queue();
+        String key = "word-unscramble-reset:" + Instant.now().truncatedTo(ChronoUnit.MINUTES).getEpochSecond();
+        announcementDispatcher.submit(new AnnouncementJob(guildId, key, channel.getId(), () -> {
+            RestAction<Message> chain = channel.sendMessage(announcements.getFirst());
+            for (String announcement : announcements.subList(1, announcements.size())) {
+                chain = chain.flatMap(previous -> channel.sendMessage(announcement));
+            }
+            return chain;
+        }), ANNOUNCEMENT_SPREAD);
     }
 
     /**
-     * Announces a new game in the channel.
+     * Formats the announcement for the winner of the previous game.
      */
-    private void announceNewGame(TextChannel channel, WordUnscrambleSession session) {
-        String announcement = wordUnscrambleService.getGameAnnouncementWithLevel(session.getGuildId());
+    private String formatWinner(WordUnscrambleSession session) {
+        String announcement;
 
-        if (announcement != null) {
-            channel.sendMessage(announcement).queue();
+        WordUnscrambleResult winner = session.getWinner();
+        if (winner != null) {
+            announcement = WINNER_ANNOUNCEMENT.with()
+                    .arg(session.getGameType().getEmoji())
+                    .arg(session.getGameType().getDisplayName())
+                    .arg(winner.username())
+                    .render();
+        } else {
+            announcement = NO_WINNER_ANNOUNCEMENT.with()
+                    .arg(session.getGameType().getEmoji())
+                    .arg(session.getGameType().getDisplayName())
+                    .arg(session.getCorrectAnswer() != null ? session.getCorrectAnswer() : "N/A")
+                    .render();
         }
+
+        return announcement;
     }
 
     /**
-     * Announces a level-up for Word Unscramble.
+     * Formats the level-up announcement for Word Unscramble.
      */
-    private void announceLevelUp(TextChannel channel, int level) {
-        String announcement = String.format("""
-                        🎉 **Your community leveled up!** 🎉
-                        
-                        Welcome to **Level %d** — expect more challenging words!
-                        
-                        Keep solving to reach the next level! 🚀
-                        """,
-                level
-        );
-        channel.sendMessage(announcement).queue();
+    private String formatLevelUp(int level) {
+        return LEVEL_UP_ANNOUNCEMENT.with().arg(level).render();
     }
 
     /**
      * Stops the scheduler.
      */
     public void shutdown() {
-        scheduler.shutdown();
+        schedulingRuntime.cancelSubsystem(SUBSYSTEM);
         logger.info("Word Unscramble reset scheduler stopped");
     }
 }
@@ -3,12 +3,14 @@ package com.tatumgames.mikros.games.word_unscramble.service;
 import com.tatumgames.mikros.games.word_unscramble.WordUnscrambleGame;
 import com.tatumgames.mikros.games.word_unscramble.interfaces.WordUnscrambleInterface;
 import com.tatumgames.mikros.games.word_unscramble.model.*;
+import com.tatumgames.mikros.services.RngService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +25,7 @@ import java.util.stream.Collectors;
  */
 public class WordUnscrambleService {
     private static final Logger logger = LoggerFactory.getLogger(WordUnscrambleService.class);
+    private static final RandomGenerator random = RngService.current();
 
     // Game implementation
     private final WordUnscrambleInterface game;
@@ -206,7 +209,7 @@ public class WordUnscrambleService {
 
         // Pick a random enabled game (currently only WORD_UNSCRAMBLE)
         List<WordUnscrambleType> enabledList = new ArrayList<>(config.getEnabledGames());
-        WordUnscrambleType randomType = enabledList.get(new Random().nextInt(enabledList.size()));
+        WordUnscrambleType randomType = enabledList.get(random.nextInt(enabledList.size()));
 
         return startNewGame(guildId, randomType);
     }
@@ -0,0 +1,65 @@
+package com.tatumgames.mikros.models;
+
+import java.util.List;
+
+/**
+ * Result of fetching the /getAllApps catalog.
+ * Carries the HTTP cache validators so the next fetch can be made conditional.
+ */
+public class AppCatalogFetch {
+    private final List<AppPromotion> apps;
+    private final String etag;
+    private final String lastModified;
+    private final boolean notModified;
+
+    private AppCatalogFetch(List<AppPromotion> apps, String etag, String lastModified, boolean notModified) {
+        this.apps = apps;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.notModified = notModified;
+    }
+
+    /**
+     * Creates a result holding a freshly downloaded catalog.
+     *
+     * @param apps         the apps
+     * @param etag         the ETag validator (can be null)
+     * @param lastModified the Last-Modified validator (can be null)
+     * @return the fetch result
+     */
+    public static AppCatalogFetch modified(List<AppPromotion> apps, String etag, String lastModified) {
+        return new AppCatalogFetch(apps != null ? List.copyOf(apps) : List.of(), etag, lastModified, false);
+    }
+
+    /**
+     * Creates a result signalling that the previously fetched catalog is still current.
+     *
+     * @param etag         the ETag validator (can be null)
+     * @param lastModified the Last-Modified validator (can be null)
+     * @return the fetch result
+     */
+    public static AppCatalogFetch notModified(String etag, String lastModified) {
+        return new AppCatalogFetch(List.of(), etag, lastModified, true);
+    }
+
+    /**
+     * Gets the fetched apps. Empty when {@link #isNotModified()} is true.
+     *
+     * @return the apps
+     */
+    public List<AppPromotion> getApps() {
+        return apps;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+}
@@ -0,0 +1,218 @@
+package com.tatumgames.mikros.promo.manager;
+
+import com.tatumgames.mikros.models.AppPromotion;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable index of campaign windows and promotion step target times, built once per catalog refresh.
+ * <p>
+ * Campaign start/end instants are kept as a sorted boundary array; the set of active apps between
+ * each pair of boundaries is precomputed, so "which campaigns are active now" is a binary search.
+ * Step target instants (see {@link PromotionStepManager#calculateStepTargetTime}) are precomputed per app
+ * and kept as a sorted event list, so "what becomes due next" is also a lookup.
+ * <p>
+ * A campaign counts as active strictly after its start and strictly before its end.
+ */
+public final class CampaignTimeline {
+    private static final CampaignTimeline EMPTY = new CampaignTimeline(
+            new Instant[0], List.of(), List.of(), Map.of(), new Instant[0]);
+
+    private final Instant[] boundaries;
+    private final List<List<AppPromotion>> activeAtBoundary;
+    private final List<List<AppPromotion>> activeBetween;
+    private final Map<String, Instant[]> stepTargets;
+    private final Instant[] stepEvents;
+
+    private CampaignTimeline(Instant[] boundaries, List<List<AppPromotion>> activeAtBoundary,
+                             List<List<AppPromotion>> activeBetween, Map<String, Instant[]> stepTargets,
+                             Instant[] stepEvents) {
+        this.boundaries = boundaries;
+        this.activeAtBoundary = activeAtBoundary;
+        this.activeBetween = activeBetween;
+        this.stepTargets = stepTargets;
+        this.stepEvents = stepEvents;
+    }
+
+    /**
+     * Gets an empty timeline.
+     *
+     * @return a timeline with no campaigns
+     */
+    public static CampaignTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a timeline from the app catalog.
+     * Apps without a campaign or without start/end dates are ignored.
+     *
+     * @param apps        the app catalog
+     * @param stepManager the step manager used to compute step target times
+     * @return the timeline
+     */
+    public static CampaignTimeline build(List<AppPromotion> apps, PromotionStepManager stepManager) {
+        List<AppPromotion> scheduled = new ArrayList<>();
+        TreeSet<Instant> boundarySet = new TreeSet<>();
+        TreeSet<Instant> stepEventSet = new TreeSet<>();
+        Map<String, Instant[]> targets = new HashMap<>();
+
+        for (AppPromotion app : apps) {
+            if (app.getCampaign() == null) {
+                continue;
+            }
+            Instant start = app.getCampaign().getStartDate();
+            Instant end = app.getCampaign().getEndDate();
+            if (start == null || end == null || !end.isAfter(start)) {
+                continue;
+            }
+
+            scheduled.add(app);
+            boundarySet.add(start);
+            boundarySet.add(end);
+
+            // Index 0 unused so steps map directly to indices 1-4
+            Instant[] appTargets = new Instant[5];
+            for (int step = 1; step <= 4; step++) {
+                appTargets[step] = stepManager.calculateStepTargetTime(start, end, step);
+                stepEventSet.add(appTargets[step]);
+            }
+            if (app.getAppId() != null) {
+                targets.putIfAbsent(app.getAppId(), appTargets);
+            }
+        }
+
+        if (scheduled.isEmpty()) {
+            return EMPTY;
+        }
+
+        Instant[] boundaries = boundarySet.toArray(new Instant[0]);
+        List<List<AppPromotion>> atBoundary = new ArrayList<>(boundaries.length);
+        List<List<AppPromotion>> between = new ArrayList<>(boundaries.length);
+
+        for (int i = 0; i < boundaries.length; i++) {
+            Instant boundary = boundaries[i];
+            Instant nextBoundary = i + 1 < boundaries.length ? boundaries[i + 1] : null;
+            List<AppPromotion> onBoundary = new ArrayList<>();
+            List<AppPromotion> afterBoundary = new ArrayList<>();
+
+            for (AppPromotion app : scheduled) {
+                Instant start = app.getCampaign().getStartDate();
+                Instant end = app.getCampaign().getEndDate();
+                if (start.isBefore(boundary) && end.isAfter(boundary)) {
+                    onBoundary.add(app);
+                }
+                // Open interval (boundary, nextBoundary): no start/end falls strictly inside it
+                if (nextBoundary != null && !start.isAfter(boundary) && !end.isBefore(nextBoundary)) {
+                    afterBoundary.add(app);
+                }
+            }
+
+            atBoundary.add(List.copyOf(onBoundary));
+            between.add(List.copyOf(afterBoundary));
+        }
+
+        return new CampaignTimeline(boundaries, Collections.unmodifiableList(atBoundary),
+                Collections.unmodifiableList(between), Collections.unmodifiableMap(targets),
+                stepEventSet.toArray(new Instant[0]));
+    }
+
+    /**
+     * Gets the apps whose campaign is active at the given time.
+     *
+     * @param now the time to evaluate
+     * @return immutable list of active apps
+     */
+    public List<AppPromotion> getActiveApps(Instant now) {
+        int index = Arrays.binarySearch(boundaries, now);
+        if (index >= 0) {
+            return activeAtBoundary.get(index);
+        }
+
+        int insertionPoint = -index - 1;
+        if (insertionPoint == 0 || insertionPoint == boundaries.length) {
+            return List.of();
+        }
+        return activeBetween.get(insertionPoint - 1);
+    }
+
+    /**
+     * Gets the precomputed target time for a promotion step.
+     *
+     * @param appId the app ID
+     * @param step  the promotion step (1-4)
+     * @return the target time, or null if the app has no scheduled campaign
+     */
+    public Instant getStepTargetTime(String appId, int step) {
+        if (step < 1 || step > 4) {
+            throw new IllegalArgumentException("Invalid step: " + step);
+        }
+        Instant[] targets = appId != null ? stepTargets.get(appId) : null;
+        return targets != null ? targets[step] : null;
+    }
+
+    /**
+     * Gets when the step following {@code lastStep} becomes due for an app.
+     *
+     * @param appId    the app ID
+     * @param lastStep the last step posted (0 if never posted)
+     * @return the target time of the next step, or null if none remains
+     */
+    public Instant getNextStepDue(String appId, int lastStep) {
+        if (lastStep < 0 || lastStep >= 4) {
+            return null;
+        }
+        return getStepTargetTime(appId, lastStep + 1);
+    }
+
+    /**
+     * Gets the first instant after {@code now} at which the promotion picture changes:
+     * a campaign starts or ends, or a step target time passes.
+     *
+     * @param now the current time
+     * @return the next event instant, or null if nothing further is scheduled
+     */
+    public Instant getNextEventAfter(Instant now) {
+        Instant nextBoundary = firstAfter(boundaries, now);
+        Instant nextStep = firstAfter(stepEvents, now);
+        if (nextBoundary == null) {
+            return nextStep;
+        }
+        if (nextStep == null) {
+            return nextBoundary;
+        }
+        return nextBoundary.isBefore(nextStep) ? nextBoundary : nextStep;
+    }
+
+    /**
+     * Gets the first instant after {@code now} at which a campaign starts or ends.
+     *
+     * @param now the current time
+     * @return the next campaign boundary, or null if none remains
+     */
+    public Instant getNextBoundaryAfter(Instant now) {
+        return firstAfter(boundaries, now);
+    }
+
+    /**
+     * Checks whether the timeline has any scheduled campaigns.
+     *
+     * @return true if no campaigns are indexed
+     */
+    public boolean isEmpty() {
+        return boundaries.length == 0;
+    }
+
+    private static Instant firstAfter(Instant[] sorted, Instant now) {
+        int index = Arrays.binarySearch(sorted, now);
+        int next = index >= 0 ? index + 1 : -index - 1;
+        return next < sorted.length ? sorted[next] : null;
+    }
+}
@@ -41,6 +41,52 @@ public class PromotionStepManager {
 
         Instant campaignStart = app.getCampaign().getStartDate();
         Instant campaignEnd = app.getCampaign().getEndDate();
+        long activeAppCount = allActiveApps.stream()
+                .filter(AppPromotion::isCampaignActive)
+                .count();
+
+        return determineNextStep(app, lastStep, lastPostTime, activeAppCount, now,
+                calculateStepTargetTime(campaignStart, campaignEnd, 1),
+                calculateStepTargetTime(campaignStart, campaignEnd, 2),
+                calculateStepTargetTime(campaignStart, campaignEnd, 3),
+                calculateStepTargetTime(campaignStart, campaignEnd, 4));
+    }
+
+    /**
+     * Determines which promotion step should be posted next, using step target times
+     * precomputed on the campaign timeline instead of recalculating them.
+     *
+     * @param app          the app promotion
+     * @param lastStep     the last step posted (0 if never posted)
+     * @param lastPostTime the time when the last step was posted (null if never posted)
+     * @param activeApps   apps active at {@code now} (already filtered by the timeline)
+     * @param now          current time
+     * @param timeline     the campaign timeline built for the current catalog
+     * @return the step to post (1-4), or 0 if none should be posted yet
+     */
+    public int determineNextStep(AppPromotion app, int lastStep, Instant lastPostTime,
+                                 List<AppPromotion> activeApps, Instant now, CampaignTimeline timeline) {
+        String appId = app.getAppId();
+        if (app.getCampaign() == null || timeline.getStepTargetTime(appId, 1) == null) {
+            logger.debug("App {} has no campaign", appId);
+            return 0;
+        }
+
+        return determineNextStep(app, lastStep, lastPostTime, activeApps.size(), now,
+                timeline.getStepTargetTime(appId, 1),
+                timeline.getStepTargetTime(appId, 2),
+                timeline.getStepTargetTime(appId, 3),
+                timeline.getStepTargetTime(appId, 4));
+    }
+
+    /**
+     * Core step decision shared by both entry points.
+     */
+    private int determineNextStep(AppPromotion app, int lastStep, Instant lastPostTime, long activeAppCount,
+                                  Instant now, Instant step1Time, Instant step2Time, Instant step3Time,
+                                  Instant step4Time) {
+        Instant campaignStart = app.getCampaign().getStartDate();
+        Instant campaignEnd = app.getCampaign().getEndDate();
 
         // Check if campaign is active
         if (now.isBefore(campaignStart) || now.isAfter(campaignEnd)) {
@@ -59,12 +105,6 @@ public class PromotionStepManager {
             }
         }
 
-        // Determine which step should be posted
-        Instant step1Time = calculateStepTargetTime(campaignStart, campaignEnd, 1);
-        Instant step2Time = calculateStepTargetTime(campaignStart, campaignEnd, 2);
-        Instant step3Time = calculateStepTargetTime(campaignStart, campaignEnd, 3);
-        Instant step4Time = calculateStepTargetTime(campaignStart, campaignEnd, 4);
-
         // Check if we should post step 1
         if (lastStep == 0 && now.isAfter(step1Time)) {
             return 1;
@@ -78,9 +118,6 @@ public class PromotionStepManager {
         // Check if we should post step 3 (only if multiple games exist)
         if (lastStep == 2 && now.isAfter(step3Time)) {
             // Step 3 requires multiple active apps
-            long activeAppCount = allActiveApps.stream()
-                    .filter(AppPromotion::isCampaignActive)
-                    .count();
             if (activeAppCount >= 2) {
                 return 3;
             } else {
@@ -93,9 +130,7 @@ public class PromotionStepManager {
         }
 
         // Check if we should post step 4
-        if ((lastStep == 3 || (lastStep == 2 && allActiveApps.stream()
-                .filter(AppPromotion::isCampaignActive)
-                .count() < 2)) && now.isAfter(step4Time)) {
+        if ((lastStep == 3 || (lastStep == 2 && activeAppCount < 2)) && now.isAfter(step4Time)) {
             return 4;
         }
 
@@ -103,6 +138,30 @@ public class PromotionStepManager {
         return 0;
     }
 
+    /**
+     * Gets when the step following {@code lastStep} can next be posted for an app: its target time on
+     * the timeline, pushed past the minimum interval since the app's last post. Step 3 is skipped the
+     * same way {@link #determineNextStep} skips it when fewer than two apps are active.
+     *
+     * @param appId          the app ID
+     * @param lastStep       the last step posted (0 if never posted)
+     * @param lastPostTime   the time when the last step was posted (null if never posted)
+     * @param activeAppCount the number of apps currently in campaign
+     * @param timeline       the campaign timeline built for the current catalog
+     * @return the instant the next step becomes due, or null if no step remains
+     */
+    public Instant getNextStepDue(String appId, int lastStep, Instant lastPostTime, int activeAppCount,
+                                  CampaignTimeline timeline) {
+        int step = lastStep == 2 && activeAppCount < 2 ? 3 : lastStep;
+        Instant due = timeline.getNextStepDue(appId, step);
+        if (due == null || lastPostTime == null) {
+            return due;
+        }
+
+        Instant nextAllowedTime = lastPostTime.plus(MIN_INTERVAL_HOURS, ChronoUnit.HOURS);
+        return nextAllowedTime.isAfter(due) ? nextAllowedTime : due;
+    }
+
     /**
      * Calculates when a promotion step should be posted.
      * Distributes 4 promotions across the campaign period.
@@ -155,5 +214,25 @@ public class PromotionStepManager {
         Instant step3Time = calculateStepTargetTime(campaignStartDate, campaignEndDate, 3);
         return now.isAfter(step3Time);
     }
+
+    /**
+     * Determines if step 3 (multi-game promotion) should be posted, reading the step 3
+     * target time of the representative app from the campaign timeline.
+     *
+     * @param allActiveApps   all apps currently in campaign
+     * @param lastStepForApps the last step posted for the representative (first) app
+     * @param timeline        the campaign timeline built for the current catalog
+     * @param now             current time
+     * @return true if step 3 should be posted
+     */
+    public boolean shouldPostStep3(List<AppPromotion> allActiveApps, int lastStepForApps,
+                                   CampaignTimeline timeline, Instant now) {
+        if (allActiveApps.size() < 2 || lastStepForApps < 2 || lastStepForApps >= 3) {
+            return false;
+        }
+
+        Instant step3Time = timeline.getStepTargetTime(allActiveApps.getFirst().getAppId(), 3);
+        return step3Time != null && now.isAfter(step3Time);
+    }
 }
 
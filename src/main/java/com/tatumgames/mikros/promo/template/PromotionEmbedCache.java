@@ -0,0 +1,203 @@
+package com.tatumgames.mikros.promo.template;
+
+import com.tatumgames.mikros.models.AppPromotion;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of pre-rendered promotion embeds.
+ * <p>
+ * Embeds are keyed by (appId, step, variant, catalog version). Each variant is rendered once with a
+ * random source seeded from its key, so the wording, CTA selection, social link and footer stay varied
+ * across variants but identical for every guild that draws the same variant. The whole cache is dropped
+ * when a new catalog version is seen.
+ * <p>
+ * Cached embeds carry no timestamp, since a timestamp would differ per post.
+ */
+public class PromotionEmbedCache {
+    private static final Logger logger = LoggerFactory.getLogger(PromotionEmbedCache.class);
+
+    /**
+     * Number of distinct renders kept per (app, step).
+     */
+    public static final int VARIANTS_PER_STEP = 8;
+
+    private final Map<RenderKey, MessageEmbed> embeds = new ConcurrentHashMap<>();
+    private volatile long catalogVersion = -1;
+
+    /**
+     * Cache key for one rendered embed.
+     *
+     * @param subject        the appId, or the joined appIds for a multi-game embed
+     * @param step           the promotion step (1-4)
+     * @param variant        the template variant (0 to VARIANTS_PER_STEP - 1)
+     * @param catalogVersion the catalog version the embed was rendered from
+     */
+    private record RenderKey(String subject, int step, int variant, long catalogVersion) {
+    }
+
+    /**
+     * Drops every embed rendered from a catalog version older than the given one.
+     *
+     * @param newCatalogVersion the catalog version now in effect
+     */
+    public synchronized void invalidate(long newCatalogVersion) {
+        if (newCatalogVersion <= catalogVersion) {
+            return;
+        }
+        int dropped = embeds.size();
+        catalogVersion = newCatalogVersion;
+        embeds.keySet().removeIf(key -> key.catalogVersion() < newCatalogVersion);
+        logger.debug("Promotion embed cache invalidated for catalog version {} ({} embeds dropped)",
+                newCatalogVersion, dropped);
+    }
+
+    /**
+     * Gets the embed for a single app promotion (steps 1, 2 and 4), rendering it on first use.
+     *
+     * @param catalogVersion the catalog version the app came from
+     * @param app            the app promotion
+     * @param step           the promotion step
+     * @param variant        the template variant
+     * @return the immutable embed
+     */
+    public MessageEmbed getAppEmbed(long catalogVersion, AppPromotion app, int step, int variant) {
+        invalidate(catalogVersion);
+        RenderKey key = new RenderKey(app.getAppId(), step, Math.floorMod(variant, VARIANTS_PER_STEP), catalogVersion);
+        return embeds.computeIfAbsent(key, k -> renderAppEmbed(app, k.step(), seedFor(k)));
+    }
+
+    /**
+     * Gets the embed for a multi-game promotion (step 3), rendering it on first use.
+     *
+     * @param catalogVersion the catalog version the apps came from
+     * @param apps           the active apps to promote, in display order
+     * @param variant        the template variant
+     * @return the immutable embed
+     */
+    public MessageEmbed getMultiGameEmbed(long catalogVersion, List<AppPromotion> apps, int variant) {
+        invalidate(catalogVersion);
+        String subject = apps.stream()
+                .map(AppPromotion::getAppId)
+                .collect(Collectors.joining(","));
+        RenderKey key = new RenderKey(subject, 3, Math.floorMod(variant, VARIANTS_PER_STEP), catalogVersion);
+        return embeds.computeIfAbsent(key, k -> renderMultiGameEmbed(apps, seedFor(k)));
+    }
+
+    /**
+     * Gets the number of embeds currently cached.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return embeds.size();
+    }
+
+    private static long seedFor(RenderKey key) {
+        return Objects.hash(key.subject(), key.step(), key.variant());
+    }
+
+    private static MessageEmbed renderAppEmbed(AppPromotion app, int step, long seed) {
+        Random random = new Random(seed);
+        PromotionMessageTemplates templates = new PromotionMessageTemplates(random);
+
+        EmbedBuilder embed = new EmbedBuilder();
+        embed.setTitle("🎮 " + app.getAppName());
+        embed.setColor(Color.CYAN);
+
+        // Format the message for this step from a random template
+        embed.setDescription(templates.formatMessage(step, app, null));
+
+        // Add CTAs (at least one required)
+        List<String> availableCtas = templates.getAvailableCtas(app);
+        if (!availableCtas.isEmpty()) {
+            String ctaText = templates.getRandomCta();
+            StringBuilder ctaSection = new StringBuilder(ctaText + "\n");
+
+            // Include at least one CTA, randomly select from available
+            int ctaCount = Math.min(availableCtas.size(), random.nextInt(3) + 1); // 1-3 CTAs
+            for (int i = 0; i < ctaCount; i++) {
+                ctaSection.append(availableCtas.get(i));
+                if (i < ctaCount - 1) {
+                    ctaSection.append(" | ");
+                }
+            }
+
+            embed.addField("🔗 Links", ctaSection.toString(), false);
+        }
+
+        // Optionally add social media links (~30% chance)
+        if (app.getCampaign() != null && app.getCampaign().getSocialMedia() != null) {
+            String socialLink = templates.getRandomSocialMediaLink(app.getCampaign().getSocialMedia());
+            if (socialLink != null) {
+                embed.addField("📱 Follow Us", socialLink, false);
+            }
+        }
+
+        // Add image if available
+        if (app.getCampaign() != null &&
+                app.getCampaign().getImages() != null &&
+                !app.getCampaign().getImages().isEmpty()) {
+            String imageUrl = app.getCampaign().getImages().getFirst().getAppLogo();
+            if (imageUrl != null && !imageUrl.isBlank() && !imageUrl.contains("...")) {
+                embed.setImage(imageUrl);
+            }
+        }
+
+        // Add MIKROS Marketing footer (always on step 4, randomly on steps 1-2)
+        if (templates.shouldShowMikrosFooter(step)) {
+            embed.setFooter(templates.getRandomMikrosFooter());
+        } else {
+            embed.setFooter("Powered by MIKROS Marketing");
+        }
+
+        return embed.build();
+    }
+
+    private static MessageEmbed renderMultiGameEmbed(List<AppPromotion> apps, long seed) {
+        PromotionMessageTemplates templates = new PromotionMessageTemplates(new Random(seed));
+
+        EmbedBuilder embed = new EmbedBuilder();
+        embed.setTitle("🌟 MIKROS Top Picks for this month");
+        embed.setColor(Color.MAGENTA);
+
+        embed.setDescription(templates.formatMessage(3, null, apps));
+
+        // Add each app with its description and CTA
+        for (AppPromotion app : apps) {
+            StringBuilder appInfo = new StringBuilder(app.getShortDescription());
+
+            // Add primary CTA for this app
+            List<String> ctas = templates.getAvailableCtas(app);
+            if (!ctas.isEmpty()) {
+                appInfo.append("\n").append(ctas.getFirst()); // Use first available CTA
+            }
+
+            embed.addField(app.getAppName(), appInfo.toString(), false);
+        }
+
+        // Add social media links if available (from first app)
+        if (!apps.isEmpty() && apps.getFirst().getCampaign() != null &&
+                apps.getFirst().getCampaign().getSocialMedia() != null) {
+            String socialLink = templates.getRandomSocialMediaLink(apps.getFirst().getCampaign().getSocialMedia());
+            if (socialLink != null) {
+                embed.addField("📱 Follow Us", socialLink, false);
+            }
+        }
+
+        // Always show MIKROS Marketing footer on step 3 (multi-game promotion)
+        embed.setFooter(templates.getRandomMikrosFooter());
+
+        return embed.build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.tatumgames.mikros.promo.template;
 
 import com.tatumgames.mikros.models.AppPromotion;
+import com.tatumgames.mikros.services.TextTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,41 +19,41 @@ public class PromotionMessageTemplates {
     private static final Logger logger = LoggerFactory.getLogger(PromotionMessageTemplates.class);
     private final Random random;
 
-    // Step 1: Introduce the game (5 templates total)
-    private static final String[] STEP_1_TEMPLATES = {
-            "🎮 Introducing <app_name>! <short_description>",
-            "Have you heard about <app_name>? <short_description>",
-            "Let's all support <app_name>! <short_description>",
-            "This game really impressed us - <app_name>! <short_description>",
-            "You're going to love <app_name>! <short_description>"
-    };
+    // Step 1: Introduce the game (5 templates total); takes the app name and short description
+    private static final List<TextTemplate> STEP_1_TEMPLATES = TextTemplate.compileAll(
+            "🎮 Introducing %s! %s",
+            "Have you heard about %s? %s",
+            "Let's all support %s! %s",
+            "This game really impressed us - %s! %s",
+            "You're going to love %s! %s"
+    );
 
-    // Step 2: Add more details (5 templates total)
-    private static final String[] STEP_2_TEMPLATES = {
-            "Dive deeper into <app_name>: <long_description>",
-            "Want to know more about <app_name>? <long_description>",
-            "Let's rally behind <app_name> and discover what makes it special: <long_description>",
-            "This project put a smile on our face. Here's why <app_name> stands out: <long_description>",
-            "Join us in supporting <app_name> - <long_description>"
-    };
+    // Step 2: Add more details (5 templates total); takes the app name and long description
+    private static final List<TextTemplate> STEP_2_TEMPLATES = TextTemplate.compileAll(
+            "Dive deeper into %s: %s",
+            "Want to know more about %s? %s",
+            "Let's rally behind %s and discover what makes it special: %s",
+            "This project put a smile on our face. Here's why %s stands out: %s",
+            "Join us in supporting %s - %s"
+    );
 
-    // Step 3: Multiple games promotion (5 templates total)
-    private static final String[] STEP_3_TEMPLATES = {
-            "🌟 MIKROS Top Picks for this month: <game_list>",
-            "This month's featured games: <game_list>",
-            "Don't miss these MIKROS favorites: <game_list>",
-            "Let's rally behind these amazing developers! This month's highlights: <game_list>",
-            "These games really impressed us - check them out: <game_list>"
-    };
+    // Step 3: Multiple games promotion (5 templates total); takes the game list
+    private static final List<TextTemplate> STEP_3_TEMPLATES = TextTemplate.compileAll(
+            "🌟 MIKROS Top Picks for this month: %s",
+            "This month's featured games: %s",
+            "Don't miss these MIKROS favorites: %s",
+            "Let's rally behind these amazing developers! This month's highlights: %s",
+            "These games really impressed us - check them out: %s"
+    );
 
-    // Step 4: Final chance (5 templates total)
-    private static final String[] STEP_4_TEMPLATES = {
-            "⏰ Last chance to check out <app_name>! <short_description>",
-            "Don't miss out on <app_name>! <short_description>",
-            "Final opportunity: <app_name> - <short_description>",
-            "One final rally for <app_name>! <short_description>",
-            "Last call to support <app_name> - <short_description>"
-    };
+    // Step 4: Final chance (5 templates total); takes the app name and short description
+    private static final List<TextTemplate> STEP_4_TEMPLATES = TextTemplate.compileAll(
+            "⏰ Last chance to check out %s! %s",
+            "Don't miss out on %s! %s",
+            "Final opportunity: %s - %s",
+            "One final rally for %s! %s",
+            "Last call to support %s - %s"
+    );
 
     // MIKROS Marketing footer messages
     private static final String[] MIKROS_FOOTER_MESSAGES = {
@@ -69,60 +70,52 @@ public class PromotionMessageTemplates {
     };
 
     public PromotionMessageTemplates() {
-        this.random = new Random();
+        this(new Random());
     }
 
     /**
-     * Gets a random template for a promotion step.
+     * Creates templates that draw from the given random source, so a seeded source
+     * always produces the same wording.
      *
-     * @param step the promotion step (1-4)
-     * @return a template string
+     * @param random the random source
      */
-    public String getTemplate(int step) {
-        String[] templates = switch (step) {
-            case 1 -> STEP_1_TEMPLATES;
-            case 2 -> STEP_2_TEMPLATES;
-            case 3 -> STEP_3_TEMPLATES;
-            case 4 -> STEP_4_TEMPLATES;
-            default -> throw new IllegalArgumentException("Invalid step: " + step);
-        };
-
-        if (templates.length == 0) {
-            logger.warn("No templates available for step {}", step);
-            return "";
-        }
-
-        return templates[random.nextInt(templates.length)];
+    public PromotionMessageTemplates(Random random) {
+        this.random = random;
     }
 
     /**
-     * Formats a template message by replacing placeholders with actual values.
+     * Formats the message for a promotion step from a randomly chosen template.
+     * The app name is shown in bold.
      *
-     * @param template the template string
-     * @param app      the app promotion (can be null for step 3)
-     * @param allApps  all apps for step 3 (can be null for other steps)
+     * @param step    the promotion step (1-4)
+     * @param app     the app promotion (can be null for step 3)
+     * @param allApps all apps for step 3 (can be null for other steps)
      * @return formatted message
      */
-    public String formatMessage(String template, AppPromotion app, List<AppPromotion> allApps) {
-        String message = template;
-
-        // Replace app-specific placeholders
-        if (app != null) {
-            // Make app name bold when it appears in the message
-            message = message.replace("<app_name>", "**" + app.getAppName() + "**");
-            message = message.replace("<short_description>", app.getShortDescription());
-            message = message.replace("<long_description>", app.getLongDescription());
-        }
+    public String formatMessage(int step, AppPromotion app, List<AppPromotion> allApps) {
+        List<TextTemplate> templates = switch (step) {
+            case 1 -> STEP_1_TEMPLATES;
+            case 2 -> STEP_2_TEMPLATES;
+            case 3 -> STEP_3_TEMPLATES;
+            case 4 -> STEP_4_TEMPLATES;
+            default -> throw new IllegalArgumentException("Invalid step: " + step);
+        };
+        TextTemplate template = templates.get(random.nextInt(templates.size()));
 
-        // Replace game list placeholder (for step 3)
-        if (message.contains("<game_list>") && allApps != null && !allApps.isEmpty()) {
-            String gameList = allApps.stream()
+        if (step == 3) {
+            String gameList = allApps == null ? "" : allApps.stream()
                     .map(appPromotion -> "**" + appPromotion.getAppName() + "**")
                     .collect(Collectors.joining(", "));
-            message = message.replace("<game_list>", gameList);
+            return template.with().arg(gameList).render();
         }
 
-        return message;
+        if (app == null) {
+            throw new IllegalArgumentException("Step " + step + " promotes a single app, but none was given");
+        }
+        return template.with()
+                .arg("**" + app.getAppName() + "**")
+                .arg(step == 2 ? app.getLongDescription() : app.getShortDescription())
+                .render();
     }
 
     /**
@@ -0,0 +1,108 @@
+package com.tatumgames.mikros.scheduling;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Trigger for a fixed list of calendar dates, repeated every year at one time of day.
+ * <p>
+ * Suited to event calendars such as "February 6th and August 28th at 18:00 UTC", which a cron expression
+ * can only express as one expression per date. February 29th fires in leap years only.
+ */
+public final class CalendarTrigger implements Trigger {
+    // Long enough to reach the next February 29th across a skipped century leap year
+    private static final int MAX_SEARCH_YEARS = 8;
+
+    private final List<MonthDay> dates;
+    private final LocalTime time;
+    private final ZoneId zone;
+
+    private CalendarTrigger(List<MonthDay> dates, LocalTime time, ZoneId zone) {
+        this.dates = dates;
+        this.time = time;
+        this.zone = zone;
+    }
+
+    /**
+     * Creates a calendar trigger.
+     *
+     * @param dates the dates to fire on, every year
+     * @param time  the time of day to fire at
+     * @param zone  the zone the dates and time are evaluated in
+     * @return the trigger
+     * @throws IllegalArgumentException if no dates are given
+     */
+    public static CalendarTrigger of(Collection<MonthDay> dates, LocalTime time, ZoneId zone) {
+        if (dates == null || dates.isEmpty() || time == null || zone == null) {
+            throw new IllegalArgumentException("Calendar trigger needs at least one date, a time and a zone");
+        }
+        return new CalendarTrigger(dates.stream().distinct().sorted().toList(), time, zone);
+    }
+
+    @Override
+    public Instant nextFireTime(Instant after) {
+        int startYear = after.atZone(zone).getYear();
+        for (int year = startYear; year <= startYear + MAX_SEARCH_YEARS; year++) {
+            for (MonthDay date : dates) {
+                if (!date.isValidYear(year)) {
+                    continue;
+                }
+                Instant fireAt = fireTime(date, year);
+                if (fireAt.isAfter(after)) {
+                    return fireAt;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the latest fire time at or before the given instant. Lets a task work out which occurrence
+     * it is running for, including a catch-up run after the scheduled instant.
+     *
+     * @param atOrBefore the instant
+     * @return the previous fire time, or null if there is none within the search range
+     */
+    public Instant previousFireTime(Instant atOrBefore) {
+        int startYear = atOrBefore.atZone(zone).getYear();
+        for (int year = startYear; year >= startYear - MAX_SEARCH_YEARS; year--) {
+            for (int i = dates.size() - 1; i >= 0; i--) {
+                MonthDay date = dates.get(i);
+                if (!date.isValidYear(year)) {
+                    continue;
+                }
+                Instant fireAt = fireTime(date, year);
+                if (!fireAt.isAfter(atOrBefore)) {
+                    return fireAt;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Instant fireTime(MonthDay date, int year) {
+        return ZonedDateTime.of(date.atYear(year), time, zone).toInstant();
+    }
+
+    public List<MonthDay> getDates() {
+        return dates;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public String toString() {
+        return "calendar(" + dates + " at " + time + " " + zone + ")";
+    }
+}
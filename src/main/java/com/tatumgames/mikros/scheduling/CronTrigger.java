@@ -0,0 +1,222 @@
+package com.tatumgames.mikros.scheduling;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Trigger for a standard 5-field cron expression: {@code minute hour day-of-month month day-of-week}.
+ * <p>
+ * Each field accepts {@code *}, single values, ranges ({@code 1-5}), lists ({@code 1,15}) and steps
+ * ({@code *}{@code /6}, {@code 0-30/10}). Day-of-week is 0-7 with both 0 and 7 meaning Sunday. As in
+ * classic cron, when both day-of-month and day-of-week are restricted a day matches if either does.
+ * <p>
+ * Across daylight saving changes, an expression that restricts the hour fires at most once per wall-clock
+ * time: a time skipped by a spring-forward gap fires at the transition, and a time repeated by a fall-back
+ * overlap fires only on its first occurrence. An expression that runs every hour follows real time
+ * instead, so it keeps its cadence through both passes of an overlap and has nothing to make up in a gap.
+ */
+public final class CronTrigger implements Trigger {
+    // Give up after this many years without a match (e.g. "0 0 31 2 *")
+    private static final int MAX_SEARCH_YEARS = 5;
+
+    private final String expression;
+    private final ZoneId zone;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek;
+    private final boolean dayOfMonthRestricted;
+    private final boolean dayOfWeekRestricted;
+    private final boolean everyHour;
+
+    private CronTrigger(String expression, ZoneId zone, String[] fields) {
+        this.expression = expression;
+        this.zone = zone;
+        this.minutes = parseField(fields[0], 0, 59, "minute");
+        this.hours = parseField(fields[1], 0, 23, "hour");
+        this.daysOfMonth = parseField(fields[2], 1, 31, "day-of-month");
+        this.months = parseField(fields[3], 1, 12, "month");
+        this.daysOfWeek = parseField(fields[4], 0, 7, "day-of-week");
+        if (daysOfWeek.get(7)) {
+            daysOfWeek.set(0);
+        }
+        this.dayOfMonthRestricted = !fields[2].equals("*");
+        this.dayOfWeekRestricted = !fields[4].equals("*");
+        this.everyHour = hours.cardinality() == 24;
+    }
+
+    /**
+     * Parses a cron expression.
+     *
+     * @param expression the expression
+     * @param zone       the zone the expression is evaluated in
+     * @return the trigger
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static CronTrigger parse(String expression, ZoneId zone) {
+        if (expression == null || zone == null) {
+            throw new IllegalArgumentException("Cron expression and zone are required");
+        }
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Cron expression must have 5 fields: " + expression);
+        }
+        return new CronTrigger(expression.trim(), zone, fields);
+    }
+
+    @Override
+    public Instant nextFireTime(Instant after) {
+        return everyHour ? nextOnTimeline(after) : nextOnWallClock(after);
+    }
+
+    /**
+     * Steps through real time, so repeated wall-clock hours are visited twice and skipped ones not at all.
+     */
+    private Instant nextOnTimeline(Instant after) {
+        ZonedDateTime time = after.atZone(zone).truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        int yearLimit = time.getYear() + MAX_SEARCH_YEARS;
+
+        while (time.getYear() <= yearLimit) {
+            if (!months.get(time.getMonthValue())) {
+                time = time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1).plusMonths(1);
+                continue;
+            }
+            if (!dayMatches(time.toLocalDateTime())) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+                continue;
+            }
+            if (!hours.get(time.getHour())) {
+                time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+                continue;
+            }
+            if (!minutes.get(time.getMinute())) {
+                time = time.plusMinutes(1);
+                continue;
+            }
+            return time.toInstant();
+        }
+        return null;
+    }
+
+    /**
+     * Steps through wall-clock times, each visited once, and resolves each match to an instant. The
+     * resolution never goes backwards as the wall-clock time advances, so the first match after the given
+     * instant is the earliest.
+     */
+    private Instant nextOnWallClock(Instant after) {
+        LocalDateTime time = after.atZone(zone).toLocalDateTime().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        int yearLimit = time.getYear() + MAX_SEARCH_YEARS;
+
+        while (time.getYear() <= yearLimit) {
+            if (!months.get(time.getMonthValue())) {
+                time = time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1).plusMonths(1);
+                continue;
+            }
+            if (!dayMatches(time)) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+                continue;
+            }
+            if (!hours.get(time.getHour())) {
+                time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+                continue;
+            }
+            if (!minutes.get(time.getMinute())) {
+                time = time.plusMinutes(1);
+                continue;
+            }
+            Instant fireAt = resolve(time);
+            // A time in the second pass of an overlap maps back to its first pass, already behind us
+            if (fireAt.isAfter(after)) {
+                return fireAt;
+            }
+            time = time.plusMinutes(1);
+        }
+        return null;
+    }
+
+    /**
+     * Maps a wall-clock time to an instant: the transition for a time inside a gap, the earlier offset
+     * for a time inside an overlap.
+     */
+    private Instant resolve(LocalDateTime time) {
+        ZoneOffsetTransition transition = zone.getRules().getTransition(time);
+        if (transition != null && transition.isGap()) {
+            return transition.getInstant();
+        }
+        return time.atZone(zone).toInstant();
+    }
+
+    private boolean dayMatches(LocalDateTime time) {
+        boolean domMatch = daysOfMonth.get(time.getDayOfMonth());
+        boolean dowMatch = daysOfWeek.get(time.getDayOfWeek().getValue() % 7);
+        if (dayOfMonthRestricted && dayOfWeekRestricted) {
+            return domMatch || dowMatch;
+        }
+        return domMatch && dowMatch;
+    }
+
+    private static BitSet parseField(String field, int min, int max, String name) {
+        BitSet values = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(part.substring(slash + 1), name);
+                range = part.substring(0, slash);
+                if (step < 1) {
+                    throw new IllegalArgumentException("Invalid step in " + name + " field: " + part);
+                }
+            }
+
+            int start;
+            int end;
+            if (range.equals("*")) {
+                start = min;
+                end = max;
+            } else if (range.contains("-")) {
+                String[] bounds = range.split("-", 2);
+                start = parseNumber(bounds[0], name);
+                end = parseNumber(bounds[1], name);
+            } else {
+                start = parseNumber(range, name);
+                end = slash >= 0 ? max : start;
+            }
+
+            if (start < min || end > max || start > end) {
+                throw new IllegalArgumentException("Value out of range in " + name + " field: " + part);
+            }
+            for (int value = start; value <= end; value += step) {
+                values.set(value);
+            }
+        }
+        return values;
+    }
+
+    private static int parseNumber(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in " + name + " field: " + value, e);
+        }
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public String toString() {
+        return "cron(" + expression + " " + zone + ")";
+    }
+}
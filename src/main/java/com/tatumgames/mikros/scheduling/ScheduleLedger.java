@@ -0,0 +1,314 @@
+package com.tatumgames.mikros.scheduling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Durable record of scheduled work, kept as a JSON file.
+ * <p>
+ * For every {@link TaskKey} the ledger stores when the task last fired and when it is next due, which
+ * lets the {@link SchedulingRuntime} resume a task's cadence after a restart instead of firing it
+ * immediately, and run a single (deduplicated) catch-up for fires missed while the bot was down.
+ * Each key also carries named marks (name -> instant) that subsystems use for their own durable state,
+ * such as "posted this event today" or "first seen at".
+ * <p>
+ * Changes are held in memory and written by {@link #flush()}, atomically via a temp file.
+ */
+public class ScheduleLedger {
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleLedger.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final Map<TaskKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    /**
+     * Mutable ledger entry for one task key.
+     */
+    private static final class Entry {
+        volatile Instant lastFiredAt;
+        volatile Instant nextDueAt;
+        final Map<String, Instant> marks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * On-disk form of an entry.
+     */
+    private record EntryData(Instant lastFiredAt, Instant nextDueAt, Map<String, Instant> marks) {
+    }
+
+    /**
+     * On-disk form of the ledger.
+     */
+    private record LedgerData(int version, Map<String, EntryData> tasks) {
+    }
+
+    private ScheduleLedger(Path path) {
+        this.path = path;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Creates a ledger that is never persisted.
+     *
+     * @return an empty in-memory ledger
+     */
+    public static ScheduleLedger inMemory() {
+        return new ScheduleLedger(null);
+    }
+
+    /**
+     * Loads the ledger from a file. A missing file yields an empty ledger; an unreadable file is
+     * moved aside and an empty ledger is used.
+     *
+     * @param path the ledger file
+     * @return the ledger
+     */
+    public static ScheduleLedger load(Path path) {
+        ScheduleLedger ledger = new ScheduleLedger(path);
+        if (!Files.exists(path)) {
+            logger.info("No schedule ledger at {}, starting fresh", path);
+            return ledger;
+        }
+
+        try {
+            LedgerData data = ledger.objectMapper.readValue(path.toFile(), LedgerData.class);
+            if (data.tasks() != null) {
+                data.tasks().forEach((key, value) -> {
+                    TaskKey taskKey = parseKey(key);
+                    if (taskKey == null || value == null) {
+                        return;
+                    }
+                    Entry entry = new Entry();
+                    entry.lastFiredAt = value.lastFiredAt();
+                    entry.nextDueAt = value.nextDueAt();
+                    if (value.marks() != null) {
+                        value.marks().forEach((name, at) -> {
+                            if (name != null && at != null) {
+                                entry.marks.put(name, at);
+                            }
+                        });
+                    }
+                    ledger.entries.put(taskKey, entry);
+                });
+            }
+            logger.info("Loaded schedule ledger from {} ({} tasks)", path, ledger.entries.size());
+        } catch (IOException e) {
+            Path corrupt = path.resolveSibling(path.getFileName() + ".corrupt");
+            logger.error("Could not read schedule ledger {}, moving it to {} and starting fresh", path, corrupt, e);
+            try {
+                Files.move(path, corrupt, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException moveError) {
+                logger.warn("Could not move unreadable ledger aside", moveError);
+            }
+        }
+        return ledger;
+    }
+
+    private static TaskKey parseKey(String key) {
+        int slash = key.lastIndexOf('/');
+        if (slash <= 0 || slash == key.length() - 1) {
+            return null;
+        }
+        return new TaskKey(key.substring(0, slash), key.substring(slash + 1));
+    }
+
+    /**
+     * Gets when a task last fired.
+     *
+     * @param key the task key
+     * @return the last fire time, or null if never recorded
+     */
+    public Instant getLastFiredAt(TaskKey key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.lastFiredAt : null;
+    }
+
+    /**
+     * Gets when a task is next due.
+     *
+     * @param key the task key
+     * @return the next due time, or null if not recorded
+     */
+    public Instant getNextDueAt(TaskKey key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.nextDueAt : null;
+    }
+
+    /**
+     * Records that a task fired.
+     *
+     * @param key       the task key
+     * @param firedAt   when the run started
+     * @param nextDueAt when it is next due (null if not rescheduled)
+     */
+    public void recordFire(TaskKey key, Instant firedAt, Instant nextDueAt) {
+        entries.compute(key, (k, entry) -> {
+            Entry target = entry != null ? entry : new Entry();
+            target.lastFiredAt = firedAt;
+            target.nextDueAt = nextDueAt;
+            return target;
+        });
+        dirty.set(true);
+    }
+
+    /**
+     * Records when a task is next due.
+     *
+     * @param key       the task key
+     * @param nextDueAt the next due time (null to clear)
+     */
+    public void recordNextDue(TaskKey key, Instant nextDueAt) {
+        entries.compute(key, (k, entry) -> {
+            if (entry == null && nextDueAt == null) {
+                return null;
+            }
+            Entry target = entry != null ? entry : new Entry();
+            target.nextDueAt = nextDueAt;
+            dirty.set(true);
+            return target;
+        });
+    }
+
+    /**
+     * Forgets a task's fire times once it is cancelled or has no fires left, and drops its entry if it
+     * holds no marks, so keys that come and go do not accumulate in the file. Marks are kept; subsystems
+     * prune them with {@link #pruneMarks} or {@link #removeMark}.
+     *
+     * @param key the task key
+     */
+    public void forget(TaskKey key) {
+        // Under the map's bin lock so a mark set concurrently is never dropped with the entry
+        entries.computeIfPresent(key, (k, entry) -> {
+            entry.lastFiredAt = null;
+            entry.nextDueAt = null;
+            dirty.set(true);
+            return entry.marks.isEmpty() ? null : entry;
+        });
+    }
+
+    /**
+     * Gets a named mark.
+     *
+     * @param key  the task key
+     * @param name the mark name
+     * @return the instant stored under the mark, or null if absent
+     */
+    public Instant getMark(TaskKey key, String name) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.marks.get(name) : null;
+    }
+
+    /**
+     * Sets (or overwrites) a named mark.
+     *
+     * @param key  the task key
+     * @param name the mark name
+     * @param at   the instant to store
+     */
+    public void setMark(TaskKey key, String name, Instant at) {
+        entries.compute(key, (k, entry) -> {
+            Entry target = entry != null ? entry : new Entry();
+            target.marks.put(name, at);
+            return target;
+        });
+        dirty.set(true);
+    }
+
+    /**
+     * Sets a named mark only if it is absent. Used as an idempotency check.
+     *
+     * @param key  the task key
+     * @param name the mark name
+     * @param at   the instant to store
+     * @return true if the mark was set, false if it already existed
+     */
+    public boolean markOnce(TaskKey key, String name, Instant at) {
+        boolean[] added = new boolean[1];
+        entries.compute(key, (k, entry) -> {
+            Entry target = entry != null ? entry : new Entry();
+            added[0] = target.marks.putIfAbsent(name, at) == null;
+            return target;
+        });
+        if (added[0]) {
+            dirty.set(true);
+        }
+        return added[0];
+    }
+
+    /**
+     * Removes a named mark.
+     *
+     * @param key  the task key
+     * @param name the mark name
+     */
+    public void removeMark(TaskKey key, String name) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.marks.remove(name) != null) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * Removes marks of a task that were set before the cutoff.
+     *
+     * @param key    the task key
+     * @param cutoff marks older than this are removed
+     */
+    public void pruneMarks(TaskKey key, Instant cutoff) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.marks.values().removeIf(at -> at.isBefore(cutoff))) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * Writes the ledger to disk if it changed since the last flush.
+     */
+    public void flush() {
+        if (path == null || !dirty.getAndSet(false)) {
+            return;
+        }
+
+        Map<String, EntryData> tasks = new TreeMap<>();
+        entries.forEach((key, entry) -> {
+            if (entry.lastFiredAt != null || entry.nextDueAt != null || !entry.marks.isEmpty()) {
+                tasks.put(key.toString(), new EntryData(entry.lastFiredAt, entry.nextDueAt,
+                        new TreeMap<>(new HashMap<>(entry.marks))));
+            }
+        });
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), new LedgerData(FORMAT_VERSION, tasks));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Schedule ledger written ({} tasks)", tasks.size());
+        } catch (IOException e) {
+            dirty.set(true);
+            logger.error("Failed to write schedule ledger {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package com.tatumgames.mikros.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Single scheduling runtime shared by every timed subsystem.
+ * <p>
+ * Tasks are registered under a {@link TaskKey} (subsystem, guildId) with a {@link Trigger} and kept in a
+ * hierarchical {@link TimingWheel}. One ticker thread advances the wheel and sleeps until the next
+ * occupied slot; due tasks run on virtual threads. A task never overlaps with itself: the next fire time
+ * of a recurring task is computed when its run finishes, and fire times missed while it ran are skipped.
+ * <p>
+ * Every task records run count, failures, run time and lateness (actual start minus scheduled time),
+ * available through {@link #getStats()} and logged hourly per subsystem.
+ * <p>
+ * Fire times are recorded in a {@link ScheduleLedger}. The first time a key is registered after a restart,
+ * a recurring task whose recorded next fire is still ahead resumes that cadence instead of starting over,
+ * and a recurring task whose recorded fire was missed while the bot was down runs once (however many fires
+ * were missed), at a per-key offset within {@link #CATCH_UP_WINDOW} so catch-up work does not land all at
+ * once. One-shot tasks keep their own fire time. Fire times of cancelled and finished tasks are dropped
+ * from the ledger.
+ */
+public class SchedulingRuntime {
+    private static final Logger logger = LoggerFactory.getLogger(SchedulingRuntime.class);
+
+    private static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+    private static final TaskKey METRICS_TASK = TaskKey.global("scheduling-metrics");
+    private static final TaskKey LEDGER_FLUSH_TASK = TaskKey.global("scheduling-ledger");
+    private static final Duration LEDGER_FLUSH_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * Window over which catch-up runs for missed fires are spread after a restart.
+     */
+    public static final Duration CATCH_UP_WINDOW = Duration.ofMinutes(5);
+
+    private final Clock clock;
+    private final long tickMillis;
+    private final ScheduleLedger ledger;
+    private final Set<TaskKey> restoredKeys = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeup = lock.newCondition();
+    private final TimingWheel<TaskHandle> wheel;
+    private final Map<TaskKey, TaskHandle> tasks = new ConcurrentHashMap<>();
+    private final Map<TaskKey, TaskMetrics> metrics = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final Thread ticker;
+    private volatile boolean running;
+
+    /**
+     * A registered task. Replaced (not mutated) when the same key is scheduled again.
+     */
+    private static final class TaskHandle {
+        final TaskKey key;
+        final Trigger trigger;
+        final Runnable action;
+        volatile Instant nextFireAt;
+        volatile boolean cancelled;
+
+        TaskHandle(TaskKey key, Trigger trigger, Runnable action) {
+            this.key = key;
+            this.trigger = trigger;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Run-time and lateness counters for one task key.
+     */
+    private static final class TaskMetrics {
+        final LongAdder runs = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder totalRunNanos = new LongAdder();
+        final AtomicLong maxRunNanos = new AtomicLong();
+        final AtomicLong maxLatenessMillis = new AtomicLong();
+        volatile long lastLatenessMillis;
+        volatile Instant lastRunAt;
+    }
+
+    /**
+     * Creates a new SchedulingRuntime on the system clock with one-second ticks and an in-memory ledger.
+     */
+    public SchedulingRuntime() {
+        this(ScheduleLedger.inMemory());
+    }
+
+    /**
+     * Creates a new SchedulingRuntime on the system clock with one-second ticks.
+     *
+     * @param ledger the ledger fire times are recorded in
+     */
+    public SchedulingRuntime(ScheduleLedger ledger) {
+        this(Clock.systemUTC(), DEFAULT_TICK, ledger);
+    }
+
+    /**
+     * Creates a new SchedulingRuntime.
+     *
+     * @param clock  the clock fire times are measured against
+     * @param tick   the wheel resolution
+     * @param ledger the ledger fire times are recorded in
+     */
+    public SchedulingRuntime(Clock clock, Duration tick, ScheduleLedger ledger) {
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("tick must be at least 1 ms");
+        }
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.ledger = ledger;
+        this.wheel = new TimingWheel<>(clock.millis() / tickMillis);
+        this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("scheduled-task-", 0).factory());
+        this.ticker = Thread.ofPlatform().name("scheduling-ticker").daemon(true).unstarted(this::runTicker);
+        logger.info("SchedulingRuntime initialized (tick: {} ms)", tickMillis);
+    }
+
+    /**
+     * Starts the ticker. Tasks may be registered before or after starting.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        ticker.start();
+        schedule(METRICS_TASK, Trigger.every(Duration.ofHours(1)), this::logStats);
+        schedule(LEDGER_FLUSH_TASK, Trigger.every(LEDGER_FLUSH_INTERVAL), ledger::flush);
+        logger.info("Scheduling runtime started");
+    }
+
+    /**
+     * Registers a task, replacing any task already registered under the same key.
+     *
+     * @param key     the task key
+     * @param trigger when the task fires
+     * @param action  the work to run
+     * @return the first fire time, or null if the trigger never fires
+     */
+    public Instant schedule(TaskKey key, Trigger trigger, Runnable action) {
+        TaskHandle handle = new TaskHandle(key, trigger, action);
+        TaskHandle previous = tasks.put(key, handle);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        metrics.computeIfAbsent(key, k -> new TaskMetrics());
+
+        Instant now = clock.instant();
+        Instant first = trigger.firstFireTime(now);
+        if (first == null) {
+            tasks.remove(key, handle);
+            return null;
+        }
+        if (restoredKeys.add(key)) {
+            first = restoreFireTime(key, trigger, first, now);
+        }
+        arm(handle, first);
+        logger.debug("Scheduled task {} (first fire at {})", key, first);
+        return first;
+    }
+
+    /**
+     * Applies the ledger to the first registration of a key in this process.
+     *
+     * @return the fire time to use
+     */
+    private Instant restoreFireTime(TaskKey key, Trigger trigger, Instant first, Instant now) {
+        Instant recordedDue = ledger.getNextDueAt(key);
+        if (recordedDue == null) {
+            return first;
+        }
+        if (recordedDue.isAfter(now)) {
+            // Still ahead: keep the recorded cadence rather than restarting it (e.g. an initial delay of zero)
+            return trigger.isRecurring() ? recordedDue : first;
+        }
+        if (!trigger.isRecurring()) {
+            // A one-shot keeps its own time; one already due fires straight away, not after an offset
+            return first;
+        }
+
+        // Missed while down: one catch-up run, however many fires were missed, spread across the window
+        long offsetMillis = Math.floorMod(key.hashCode(), CATCH_UP_WINDOW.toMillis());
+        Instant catchUp = now.plusMillis(offsetMillis);
+        logger.info("Task {} missed its run at {} while stopped; catching up at {}", key, recordedDue, catchUp);
+        return catchUp;
+    }
+
+    /**
+     * Cancels the task registered under a key. A run already in progress is allowed to finish.
+     * The task's fire times are dropped from the ledger; its marks are kept.
+     *
+     * @param key the task key
+     * @return true if a task was registered
+     */
+    public boolean cancel(TaskKey key) {
+        TaskHandle handle = tasks.remove(key);
+        metrics.remove(key);
+        ledger.forget(key);
+        if (handle == null) {
+            return false;
+        }
+        handle.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Cancels every task of a subsystem.
+     *
+     * @param subsystem the subsystem
+     * @return number of tasks cancelled
+     */
+    public int cancelSubsystem(String subsystem) {
+        int cancelled = 0;
+        for (TaskKey key : tasks.keySet()) {
+            if (key.subsystem().equals(subsystem) && cancel(key)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Gets when a task fires next.
+     *
+     * @param key the task key
+     * @return the next fire time, or null if the task is not registered
+     */
+    public Instant getNextFireTime(TaskKey key) {
+        TaskHandle handle = tasks.get(key);
+        return handle != null ? handle.nextFireAt : null;
+    }
+
+    /**
+     * Checks whether a task is registered.
+     *
+     * @param key the task key
+     * @return true if registered
+     */
+    public boolean isScheduled(TaskKey key) {
+        return tasks.containsKey(key);
+    }
+
+    /**
+     * Gets the ledger fire times are recorded in. Subsystems keep their own durable marks there.
+     *
+     * @return the ledger
+     */
+    public ScheduleLedger getLedger() {
+        return ledger;
+    }
+
+    private void arm(TaskHandle handle, Instant fireAt) {
+        handle.nextFireAt = fireAt;
+        if (!handle.key.equals(LEDGER_FLUSH_TASK)) {
+            ledger.recordNextDue(handle.key, fireAt);
+        }
+        // Round up so a task never fires before its instant
+        long expiryTick = Math.floorDiv(fireAt.toEpochMilli() + tickMillis - 1, tickMillis);
+        lock.lock();
+        try {
+            // Catch the wheel up first so an idle ticker's stale position does not skew placement
+            wheel.advanceTo(clock.millis() / tickMillis, this::dispatch);
+            wheel.add(expiryTick, handle);
+            wakeup.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runTicker() {
+        while (running) {
+            lock.lock();
+            try {
+                wheel.advanceTo(clock.millis() / tickMillis, this::dispatch);
+
+                long nextTick = wheel.nextWorkTick();
+                if (nextTick == Long.MAX_VALUE) {
+                    wakeup.await();
+                } else {
+                    long waitMillis = nextTick * tickMillis - clock.millis();
+                    if (waitMillis > 0) {
+                        wakeup.await(waitMillis, TimeUnit.MILLISECONDS);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Scheduling ticker error", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Hands an expired wheel entry to a worker, unless it was cancelled or replaced. Called under the lock.
+     */
+    private void dispatch(TaskHandle handle) {
+        if (handle.cancelled || tasks.get(handle.key) != handle) {
+            return;
+        }
+        Instant scheduledAt = handle.nextFireAt;
+        try {
+            workers.execute(() -> runTask(handle, scheduledAt));
+        } catch (Exception e) {
+            logger.warn("Could not start task {}", handle.key, e);
+        }
+    }
+
+    private void runTask(TaskHandle handle, Instant scheduledAt) {
+        TaskMetrics taskMetrics = metrics.computeIfAbsent(handle.key, k -> new TaskMetrics());
+        Instant startedAt = clock.instant();
+        long latenessMillis = Math.max(0, Duration.between(scheduledAt, startedAt).toMillis());
+        taskMetrics.lastLatenessMillis = latenessMillis;
+        taskMetrics.maxLatenessMillis.accumulateAndGet(latenessMillis, Math::max);
+        taskMetrics.lastRunAt = startedAt;
+
+        long startNanos = System.nanoTime();
+        try {
+            handle.action.run();
+        } catch (Exception e) {
+            taskMetrics.failures.increment();
+            logger.error("Scheduled task {} failed", handle.key, e);
+        } finally {
+            long runNanos = System.nanoTime() - startNanos;
+            taskMetrics.runs.increment();
+            taskMetrics.totalRunNanos.add(runNanos);
+            taskMetrics.maxRunNanos.accumulateAndGet(runNanos, Math::max);
+            Instant next = rearm(handle, scheduledAt);
+            // A task stopped by shutdown keeps its next due time so the cadence survives the restart
+            if (!handle.key.equals(LEDGER_FLUSH_TASK) && (!handle.cancelled || !running)) {
+                if (next != null) {
+                    ledger.recordFire(handle.key, startedAt, next);
+                } else {
+                    // One-shot done or trigger exhausted: nothing left to resume
+                    ledger.forget(handle.key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-arms a recurring task after a run.
+     *
+     * @return the next fire time, or null if the trigger is exhausted
+     */
+    private Instant rearm(TaskHandle handle, Instant scheduledAt) {
+        Instant next = handle.trigger.nextFireTime(scheduledAt);
+        Instant now = clock.instant();
+        if (next != null && !next.isAfter(now)) {
+            // Fell behind (long run or downtime): skip missed fires instead of replaying them
+            next = handle.trigger.nextFireTime(now);
+        }
+        if (handle.cancelled || !running) {
+            return next;
+        }
+
+        if (next == null) {
+            tasks.remove(handle.key, handle);
+            return null;
+        }
+        if (tasks.get(handle.key) == handle) {
+            arm(handle, next);
+        }
+        return next;
+    }
+
+    /**
+     * Gets a snapshot of per-task metrics.
+     *
+     * @return stats keyed by task
+     */
+    public Map<TaskKey, TaskStats> getStats() {
+        Map<TaskKey, TaskStats> stats = new TreeMap<>(
+                (a, b) -> a.subsystem().equals(b.subsystem())
+                        ? a.guildId().compareTo(b.guildId())
+                        : a.subsystem().compareTo(b.subsystem()));
+        metrics.forEach((key, m) -> {
+            long runs = m.runs.sum();
+            TaskHandle handle = tasks.get(key);
+            stats.put(key, new TaskStats(
+                    runs,
+                    m.failures.sum(),
+                    runs > 0 ? TimeUnit.NANOSECONDS.toMillis(m.totalRunNanos.sum() / runs) : 0,
+                    TimeUnit.NANOSECONDS.toMillis(m.maxRunNanos.get()),
+                    m.lastLatenessMillis,
+                    m.maxLatenessMillis.get(),
+                    m.lastRunAt,
+                    handle != null ? handle.nextFireAt : null));
+        });
+        return stats;
+    }
+
+    /**
+     * Metrics for one task.
+     *
+     * @param runs              completed runs
+     * @param failures          runs that threw
+     * @param avgRunMillis      mean run time
+     * @param maxRunMillis      longest run time
+     * @param lastLatenessMillis delay between scheduled and actual start of the last run
+     * @param maxLatenessMillis worst start delay observed
+     * @param lastRunAt         start of the last run (null if never run)
+     * @param nextFireAt        next scheduled fire (null if not scheduled)
+     */
+    public record TaskStats(long runs, long failures, long avgRunMillis, long maxRunMillis,
+                            long lastLatenessMillis, long maxLatenessMillis, Instant lastRunAt, Instant nextFireAt) {
+    }
+
+    /**
+     * Logs a per-subsystem summary of task metrics.
+     */
+    public void logStats() {
+        Map<String, long[]> bySubsystem = new TreeMap<>();
+        for (Map.Entry<TaskKey, TaskStats> entry : getStats().entrySet()) {
+            TaskStats s = entry.getValue();
+            long[] totals = bySubsystem.computeIfAbsent(entry.getKey().subsystem(), k -> new long[5]);
+            totals[0]++;
+            totals[1] += s.runs();
+            totals[2] += s.failures();
+            totals[3] = Math.max(totals[3], s.maxRunMillis());
+            totals[4] = Math.max(totals[4], s.maxLatenessMillis());
+        }
+        bySubsystem.forEach((subsystem, t) -> logger.info(
+                "Scheduler metrics [{}]: {} task(s), {} run(s), {} failure(s), max run {} ms, max lateness {} ms",
+                subsystem, t[0], t[1], t[2], t[3], t[4]));
+    }
+
+    /**
+     * Stops the runtime: cancels every task, stops the ticker, waits briefly for running tasks and
+     * flushes the ledger. Recorded next fire times are kept so the next start can resume them.
+     */
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        logStats();
+        for (TaskHandle handle : tasks.values()) {
+            handle.cancelled = true;
+        }
+        tasks.clear();
+        ticker.interrupt();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        ledger.flush();
+        logger.info("Scheduling runtime stopped");
+    }
+}
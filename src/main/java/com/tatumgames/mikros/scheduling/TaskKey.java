@@ -0,0 +1,57 @@
+package com.tatumgames.mikros.scheduling;
+
+import java.util.Objects;
+
+/**
+ * Identifies a task registered with the {@link SchedulingRuntime}.
+ * Scheduling a task under a key that is already registered replaces the earlier task.
+ *
+ * @param subsystem the owning subsystem (e.g. "game-promotion", "boss-spawn")
+ * @param guildId   the guild the task belongs to, or {@link #GLOBAL} for subsystem-wide tasks
+ */
+public record TaskKey(String subsystem, String guildId) {
+    /**
+     * Guild ID used for tasks that are not tied to a single guild.
+     */
+    public static final String GLOBAL = "*";
+
+    public TaskKey {
+        Objects.requireNonNull(subsystem, "subsystem cannot be null");
+        Objects.requireNonNull(guildId, "guildId cannot be null");
+    }
+
+    /**
+     * Creates a key for a per-guild task.
+     *
+     * @param subsystem the owning subsystem
+     * @param guildId   the guild ID
+     * @return the key
+     */
+    public static TaskKey of(String subsystem, String guildId) {
+        return new TaskKey(subsystem, guildId);
+    }
+
+    /**
+     * Creates a key for a subsystem-wide task.
+     *
+     * @param subsystem the owning subsystem
+     * @return the key
+     */
+    public static TaskKey global(String subsystem) {
+        return new TaskKey(subsystem, GLOBAL);
+    }
+
+    /**
+     * Checks whether this is a subsystem-wide task.
+     *
+     * @return true if the task is not tied to a guild
+     */
+    public boolean isGlobal() {
+        return GLOBAL.equals(guildId);
+    }
+
+    @Override
+    public String toString() {
+        return subsystem + "/" + guildId;
+    }
+}
@@ -0,0 +1,154 @@
+package com.tatumgames.mikros.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel keyed by absolute tick numbers.
+ * <p>
+ * Four levels of 64 slots each cover 64, 64^2, 64^3 and 64^4 ticks. An entry is placed in the lowest
+ * level whose span covers its delay and is cascaded one level down each time the level below wraps, so
+ * insertion is O(1) and each tick only touches one level-0 slot (plus a cascade every 64 ticks).
+ * Entries further out than the top level are parked in the top level and re-placed when it cascades.
+ * <p>
+ * Not thread-safe; the {@link SchedulingRuntime} guards it with its own lock.
+ *
+ * @param <T> the entry payload
+ */
+final class TimingWheel<T> {
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = 1L << (LEVEL_BITS * LEVELS);
+
+    private final List<List<List<Entry<T>>>> levels = new ArrayList<>(LEVELS);
+    private long currentTick;
+    private int size;
+
+    private record Entry<T>(long expiryTick, T value) {
+    }
+
+    /**
+     * Creates a new TimingWheel.
+     *
+     * @param startTick the tick considered already processed
+     */
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        for (int level = 0; level < LEVELS; level++) {
+            List<List<Entry<T>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new ArrayList<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Adds an entry. Ticks at or before the current tick expire on the next tick.
+     *
+     * @param expiryTick the tick at which the entry expires
+     * @param value      the payload
+     */
+    void add(long expiryTick, T value) {
+        place(new Entry<>(Math.max(expiryTick, currentTick + 1), value));
+        size++;
+    }
+
+    /**
+     * Advances the wheel up to and including the given tick, handing every expired entry to the consumer
+     * in tick order.
+     *
+     * @param tick    the tick to advance to
+     * @param expired receives expired payloads
+     */
+    void advanceTo(long tick, Consumer<T> expired) {
+        if (size == 0) {
+            currentTick = Math.max(currentTick, tick);
+            return;
+        }
+        while (currentTick < tick) {
+            currentTick++;
+            cascade();
+
+            List<Entry<T>> slot = levels.get(0).get((int) (currentTick & SLOT_MASK));
+            if (!slot.isEmpty()) {
+                List<Entry<T>> due = new ArrayList<>(slot);
+                slot.clear();
+                size -= due.size();
+                for (Entry<T> entry : due) {
+                    expired.accept(entry.value());
+                }
+            }
+            if (size == 0) {
+                currentTick = tick;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the earliest tick at which {@link #advanceTo} may have work: the next occupied level-0 slot,
+     * or the next level-0 wrap (where higher levels cascade).
+     *
+     * @return the tick, or {@link Long#MAX_VALUE} if the wheel is empty
+     */
+    long nextWorkTick() {
+        if (size == 0) {
+            return Long.MAX_VALUE;
+        }
+        List<List<Entry<T>>> level0 = levels.get(0);
+        for (long tick = currentTick + 1; ; tick++) {
+            if ((tick & SLOT_MASK) == 0 || !level0.get((int) (tick & SLOT_MASK)).isEmpty()) {
+                return tick;
+            }
+        }
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Moves entries from higher levels down when the level below has wrapped around.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if (((currentTick >> (LEVEL_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                return;
+            }
+            int index = (int) ((currentTick >> (LEVEL_BITS * level)) & SLOT_MASK);
+            List<Entry<T>> slot = levels.get(level).get(index);
+            if (!slot.isEmpty()) {
+                List<Entry<T>> moved = new ArrayList<>(slot);
+                slot.clear();
+                for (Entry<T> entry : moved) {
+                    place(entry);
+                }
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = Math.max(0, entry.expiryTick() - currentTick);
+        long placementTick = entry.expiryTick();
+        if (delta >= MAX_DELTA) {
+            // Park in the top level; it is re-placed by its real expiry when that slot cascades
+            placementTick = currentTick + MAX_DELTA - 1;
+            delta = MAX_DELTA - 1;
+        }
+
+        int level = 0;
+        while (delta >= 1L << (LEVEL_BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((placementTick >> (LEVEL_BITS * level)) & SLOT_MASK);
+        levels.get(level).get(index).add(entry);
+    }
+}
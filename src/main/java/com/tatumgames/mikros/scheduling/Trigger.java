@@ -0,0 +1,158 @@
+package com.tatumgames.mikros.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Computes when a scheduled task fires.
+ * <p>
+ * Recurring triggers are evaluated from the previous <em>scheduled</em> fire time, so a task keeps
+ * its cadence regardless of how long each run takes.
+ */
+@FunctionalInterface
+public interface Trigger {
+
+    /**
+     * Gets the next fire time strictly after the given instant.
+     *
+     * @param after the previous scheduled fire time
+     * @return the next fire time, or null if the trigger is exhausted
+     */
+    Instant nextFireTime(Instant after);
+
+    /**
+     * Gets the first fire time when the task is registered.
+     *
+     * @param now the registration time
+     * @return the first fire time, or null if the trigger never fires
+     */
+    default Instant firstFireTime(Instant now) {
+        return nextFireTime(now);
+    }
+
+    /**
+     * Checks whether the trigger fires more than once. A recurring task restored from the
+     * {@link ScheduleLedger} resumes its recorded cadence; a one-shot task keeps its own fire time.
+     *
+     * @return true for recurring triggers
+     */
+    default boolean isRecurring() {
+        return true;
+    }
+
+    /**
+     * Creates a one-shot trigger. An instant in the past fires as soon as possible.
+     *
+     * @param instant the fire time
+     * @return the trigger
+     */
+    static Trigger at(Instant instant) {
+        return new Trigger() {
+            @Override
+            public Instant nextFireTime(Instant after) {
+                return null;
+            }
+
+            @Override
+            public Instant firstFireTime(Instant now) {
+                return instant;
+            }
+
+            @Override
+            public boolean isRecurring() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates a trigger that fires once at each of the given instants. Instants already in the past
+     * when the task is registered are skipped.
+     *
+     * @param instants the fire times
+     * @return the trigger
+     */
+    static Trigger atTimes(Collection<Instant> instants) {
+        List<Instant> times = instants.stream().sorted().toList();
+        return new Trigger() {
+            @Override
+            public Instant nextFireTime(Instant after) {
+                return times.stream().filter(time -> time.isAfter(after)).findFirst().orElse(null);
+            }
+
+            @Override
+            public Instant firstFireTime(Instant now) {
+                return times.stream().filter(time -> !time.isBefore(now)).findFirst().orElse(null);
+            }
+
+            @Override
+            public boolean isRecurring() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates a fixed-rate trigger whose first fire is one period after registration.
+     *
+     * @param period the period
+     * @return the trigger
+     */
+    static Trigger every(Duration period) {
+        return every(period, period);
+    }
+
+    /**
+     * Creates a fixed-rate trigger.
+     *
+     * @param period       the period
+     * @param initialDelay delay before the first fire ({@link Duration#ZERO} fires immediately)
+     * @return the trigger
+     */
+    static Trigger every(Duration period, Duration initialDelay) {
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        return new Trigger() {
+            @Override
+            public Instant nextFireTime(Instant after) {
+                return after.plus(period);
+            }
+
+            @Override
+            public Instant firstFireTime(Instant now) {
+                return now.plus(initialDelay);
+            }
+        };
+    }
+
+    /**
+     * Creates a cron trigger from a standard 5-field expression.
+     *
+     * @param expression the cron expression (minute hour day-of-month month day-of-week)
+     * @param zone       the zone the expression is evaluated in
+     * @return the trigger
+     * @see CronTrigger
+     */
+    static Trigger cron(String expression, ZoneId zone) {
+        return CronTrigger.parse(expression, zone);
+    }
+
+    /**
+     * Creates a trigger that fires on a list of dates every year at a fixed time of day.
+     *
+     * @param dates the dates to fire on
+     * @param time  the time of day
+     * @param zone  the zone the dates and time are evaluated in
+     * @return the trigger
+     * @see CalendarTrigger
+     */
+    static Trigger onDates(Collection<MonthDay> dates, LocalTime time, ZoneId zone) {
+        return CalendarTrigger.of(dates, time, zone);
+    }
+}
@@ -0,0 +1,331 @@
+package com.tatumgames.mikros.services;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tatumgames.mikros.models.AppCatalogFetch;
+import com.tatumgames.mikros.models.AppPromotion;
+import com.tatumgames.mikros.promo.manager.CampaignTimeline;
+import com.tatumgames.mikros.promo.manager.PromotionStepManager;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Shared, TTL-cached view of the /getAllApps catalog.
+ * <p>
+ * The catalog is refreshed once in the background (conditionally, using ETag / Last-Modified) by a
+ * recurring task on the shared {@link SchedulingRuntime}, and published as an immutable {@link Snapshot}
+ * together with its {@link CampaignTimeline}. Readers never block on the network once the first snapshot
+ * is loaded: a stale snapshot is served while the refresh task is re-armed to run now on the runtime's
+ * workers (stale-while-revalidate), so every guild's promotion tick shares one fetch.
+ * <p>
+ * A full response whose content matches the current snapshot (a server that ignores the validators, or
+ * a new ETag for the same catalog) renews the snapshot instead of publishing a new version, so change
+ * listeners only hear about real changes.
+ */
+public class AppCatalogCache {
+    private static final Logger logger = LoggerFactory.getLogger(AppCatalogCache.class);
+
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(15);
+    private static final TaskKey REFRESH_TASK = TaskKey.global("app-catalog");
+    private static final PromotionStepManager STEP_MANAGER = new PromotionStepManager();
+
+    // Serializes the apps' fields only; derived getters such as isCampaignActive() change with the time
+    private static final ObjectMapper CONTENT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+    private final GamePromotionService gamePromotionService;
+    private final Duration refreshInterval;
+    private final SchedulingRuntime schedulingRuntime;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean(false);
+    private final Object loadLock = new Object();
+    private final List<Consumer<Snapshot>> changeListeners = new CopyOnWriteArrayList<>();
+
+    // Validators from the last successful fetch (guarded by loadLock)
+    private AppCatalogFetch lastFetch;
+    private byte[] lastContentHash;
+    private long version;
+
+    /**
+     * Creates a new AppCatalogCache with the default refresh interval.
+     *
+     * @param gamePromotionService the service used to fetch the catalog
+     * @param schedulingRuntime    the shared scheduling runtime refreshes run on
+     */
+    public AppCatalogCache(GamePromotionService gamePromotionService, SchedulingRuntime schedulingRuntime) {
+        this(gamePromotionService, schedulingRuntime, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Creates a new AppCatalogCache.
+     *
+     * @param gamePromotionService the service used to fetch the catalog
+     * @param schedulingRuntime    the shared scheduling runtime refreshes run on
+     * @param refreshInterval      how long a snapshot stays fresh
+     */
+    public AppCatalogCache(GamePromotionService gamePromotionService, SchedulingRuntime schedulingRuntime,
+                           Duration refreshInterval) {
+        this.gamePromotionService = gamePromotionService;
+        this.schedulingRuntime = schedulingRuntime;
+        this.refreshInterval = refreshInterval;
+        logger.info("AppCatalogCache initialized (refresh every {} minutes)", refreshInterval.toMinutes());
+    }
+
+    /**
+     * Starts periodic background refresh of the catalog.
+     */
+    public void start() {
+        scheduleRefresh();
+        logger.info("App catalog background refresh started");
+    }
+
+    /**
+     * Registers the refresh task to run now and every refresh interval after that, replacing the
+     * current registration so a forced refresh also restarts the cadence.
+     */
+    private void scheduleRefresh() {
+        schedulingRuntime.schedule(REFRESH_TASK, Trigger.every(refreshInterval, Duration.ZERO), this::refreshQuietly);
+    }
+
+    /**
+     * Registers a listener called after a new catalog version is published.
+     * Not called when the server reports the catalog unchanged.
+     *
+     * @param listener the listener
+     */
+    public void addChangeListener(Consumer<Snapshot> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Gets the current catalog snapshot.
+     * Loads synchronously only if no snapshot exists yet; otherwise returns immediately and, when the
+     * snapshot has gone stale, re-arms the refresh task to run now on the scheduling runtime.
+     *
+     * @return the current snapshot (never null)
+     */
+    public Snapshot getSnapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            synchronized (loadLock) {
+                snapshot = current.get();
+                return snapshot != null ? snapshot : refresh();
+            }
+        }
+
+        if (Duration.between(snapshot.getFetchedAt(), Instant.now()).compareTo(refreshInterval) > 0
+                && refreshInFlight.compareAndSet(false, true)) {
+            scheduleRefresh();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Fetches the catalog now and publishes a new snapshot if it changed.
+     *
+     * @return the snapshot in effect after the refresh
+     */
+    public Snapshot refresh() {
+        synchronized (loadLock) {
+            Snapshot previous = current.get();
+            AppCatalogFetch fetch = gamePromotionService.fetchAllAppsIfModified(previous != null ? lastFetch : null);
+            Instant now = Instant.now();
+
+            if (fetch.isNotModified() && previous != null) {
+                Snapshot renewed = previous.renew(now);
+                current.set(renewed);
+                lastFetch = mergeValidators(lastFetch, fetch);
+                return renewed;
+            }
+
+            byte[] contentHash = contentHash(fetch.getApps());
+            if (previous != null && contentHash != null && Arrays.equals(contentHash, lastContentHash)) {
+                // Same catalog sent in full: keep the version so guild tasks and cached embeds stay valid
+                Snapshot renewed = previous.renew(now);
+                current.set(renewed);
+                lastFetch = fetch;
+                logger.debug("App catalog unchanged at version {}", renewed.getVersion());
+                return renewed;
+            }
+
+            version++;
+            Snapshot snapshot = Snapshot.build(version, now, fetch.getApps());
+            current.set(snapshot);
+            lastFetch = fetch;
+            lastContentHash = contentHash;
+            logger.info("App catalog refreshed: version {}, {} apps, {} active campaigns",
+                    snapshot.getVersion(), snapshot.getApps().size(), snapshot.getActiveApps(now).size());
+            notifyChangeListeners(snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Notifies change listeners; a failing listener does not affect the others.
+     *
+     * @param snapshot the newly published snapshot
+     */
+    private void notifyChangeListeners(Snapshot snapshot) {
+        for (Consumer<Snapshot> listener : changeListeners) {
+            try {
+                listener.accept(snapshot);
+            } catch (Exception e) {
+                logger.error("App catalog change listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Refresh entry point for the background task; never throws.
+     */
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("Error refreshing app catalog", e);
+        } finally {
+            refreshInFlight.set(false);
+        }
+    }
+
+    /**
+     * Hashes the catalog content.
+     *
+     * @return the SHA-256 of the apps' fields, or null if they could not be serialized (treated as changed)
+     */
+    private static byte[] contentHash(List<AppPromotion> apps) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(CONTENT_MAPPER.writeValueAsBytes(apps));
+        } catch (Exception e) {
+            logger.warn("Could not hash app catalog content", e);
+            return null;
+        }
+    }
+
+    /**
+     * Keeps the catalog from the previous fetch but adopts any validators the server re-sent.
+     */
+    private static AppCatalogFetch mergeValidators(AppCatalogFetch previous, AppCatalogFetch notModified) {
+        if (previous == null) {
+            return notModified;
+        }
+        String etag = notModified.getEtag() != null ? notModified.getEtag() : previous.getEtag();
+        String lastModified = notModified.getLastModified() != null
+                ? notModified.getLastModified()
+                : previous.getLastModified();
+        return AppCatalogFetch.modified(previous.getApps(), etag, lastModified);
+    }
+
+    /**
+     * Stops background refresh.
+     */
+    public void shutdown() {
+        schedulingRuntime.cancel(REFRESH_TASK);
+        logger.info("App catalog cache stopped");
+    }
+
+    /**
+     * Immutable view of the catalog at one fetch.
+     * Holds the app list, an index by appId and the campaign timeline built at refresh time.
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final Instant fetchedAt;
+        private final List<AppPromotion> apps;
+        private final Map<String, AppPromotion> appsById;
+        private final CampaignTimeline timeline;
+
+        private Snapshot(long version, Instant fetchedAt, List<AppPromotion> apps, Map<String, AppPromotion> appsById,
+                         CampaignTimeline timeline) {
+            this.version = version;
+            this.fetchedAt = fetchedAt;
+            this.apps = apps;
+            this.appsById = appsById;
+            this.timeline = timeline;
+        }
+
+        static Snapshot build(long version, Instant now, List<AppPromotion> apps) {
+            Map<String, AppPromotion> byId = new LinkedHashMap<>();
+            for (AppPromotion app : apps) {
+                if (app.getAppId() != null) {
+                    byId.putIfAbsent(app.getAppId(), app);
+                }
+            }
+
+            return new Snapshot(version, now, List.copyOf(apps), Collections.unmodifiableMap(byId),
+                    CampaignTimeline.build(apps, STEP_MANAGER));
+        }
+
+        Snapshot renew(Instant now) {
+            return new Snapshot(version, now, apps, appsById, timeline);
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public Instant getFetchedAt() {
+            return fetchedAt;
+        }
+
+        public List<AppPromotion> getApps() {
+            return apps;
+        }
+
+        /**
+         * Looks up an app whose campaign is running at the given time.
+         *
+         * @param appId the app ID
+         * @param now   the time to evaluate
+         * @return the app, or null if it is not in the catalog or its campaign is not active
+         */
+        public AppPromotion getActiveApp(String appId, Instant now) {
+            AppPromotion app = appId != null ? appsById.get(appId) : null;
+            return app != null && timeline.getActiveApps(now).contains(app) ? app : null;
+        }
+
+        /**
+         * Gets the apps whose campaign is running at the given time
+         * (strictly after start and strictly before end).
+         *
+         * @param now the time to evaluate
+         * @return immutable list of active apps
+         */
+        public List<AppPromotion> getActiveApps(Instant now) {
+            return timeline.getActiveApps(now);
+        }
+
+        /**
+         * Gets the campaign timeline indexed for this catalog version.
+         *
+         * @return the campaign timeline
+         */
+        public CampaignTimeline getTimeline() {
+            return timeline;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.tatumgames.mikros.services;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Source of the current time for game rules (charge refreshes, recovery, boss expiry, infusions).
+ * <p>
+ * Game code reads the time through {@link #now()}, which uses the clock bound to the calling thread
+ * by {@link #withClock}, or the system clock if none is bound. The bot never binds one; tools such as
+ * the balance simulator bind a simulated clock so days of play run in milliseconds.
+ */
+public final class GameClock {
+    private static final ThreadLocal<Clock> bound = new ThreadLocal<>();
+
+    private GameClock() {
+    }
+
+    /**
+     * Gets the current game time.
+     *
+     * @return the bound clock's instant, or the system time if no clock is bound
+     */
+    public static Instant now() {
+        Clock clock = bound.get();
+        return clock != null ? clock.instant() : Instant.now();
+    }
+
+    /**
+     * Runs work with a clock bound to the calling thread.
+     * Bindings nest: the previous clock is restored afterwards.
+     *
+     * @param clock the clock game rules should read
+     * @param work  the work
+     * @param <T>   the result type
+     * @return the work's result
+     */
+    public static <T> T withClock(Clock clock, Supplier<T> work) {
+        Clock previous = bound.get();
+        bound.set(clock);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                bound.set(previous);
+            } else {
+                bound.remove();
+            }
+        }
+    }
+}
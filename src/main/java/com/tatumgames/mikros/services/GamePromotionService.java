@@ -1,5 +1,6 @@
 package com.tatumgames.mikros.services;
 
+import com.tatumgames.mikros.models.AppCatalogFetch;
 import com.tatumgames.mikros.models.AppPromotion;
 import com.tatumgames.mikros.models.PromotionVerbosity;
 
@@ -51,6 +52,17 @@ public interface GamePromotionService {
      */
     List<AppPromotion> fetchAllApps();
 
+    /**
+     * Fetches the app catalog, passing the validators from a previous fetch so an unchanged
+     * catalog can be skipped. Implementations without HTTP validators always return the full catalog.
+     *
+     * @param previous the previous fetch result (null on first fetch)
+     * @return the fetch result, marked not-modified when the previous catalog is still current
+     */
+    default AppCatalogFetch fetchAllAppsIfModified(AppCatalogFetch previous) {
+        return AppCatalogFetch.modified(fetchAllApps(), null, null);
+    }
+
     /**
      * Gets the last promotion step posted for an app in a guild.
      * Returns 0 if never promoted, or 1-4 for the last step posted.
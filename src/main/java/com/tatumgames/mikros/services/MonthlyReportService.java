@@ -3,9 +3,15 @@ package com.tatumgames.mikros.services;
 import com.tatumgames.mikros.config.ModerationConfig;
 import com.tatumgames.mikros.models.ActionType;
 import com.tatumgames.mikros.models.ModerationAction;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import com.tatumgames.mikros.services.dispatch.AnnouncementJob;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,25 +19,30 @@ import org.slf4j.LoggerFactory;
 import java.awt.*;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Service for generating and scheduling monthly moderation reports.
  * <p>
- * TODO: Upgrade with database persistence or cron-style configuration
+ * Reports go out on a cron trigger at {@link ModerationConfig#MONTHLY_REPORT_DAY} /
+ * {@link ModerationConfig#MONTHLY_REPORT_HOUR} in the server's time zone.
+ * <p>
+ * TODO: Upgrade with database persistence
  */
 public class MonthlyReportService {
     private static final Logger logger = LoggerFactory.getLogger(MonthlyReportService.class);
 
+    private static final TaskKey REPORT_TASK = TaskKey.global("monthly-report");
+
     private final ModerationLogService moderationLogService;
     private final ActivityTrackingService activityTrackingService;
-    private final ScheduledExecutorService scheduler;
+    private final AnnouncementDispatcher announcementDispatcher;
+    private final SchedulingRuntime schedulingRuntime;
 
     // Key: guildId -> report channel ID
     private final Map<String, String> reportChannels;
@@ -41,53 +52,51 @@ public class MonthlyReportService {
      *
      * @param moderationLogService    the moderation log service
      * @param activityTrackingService the activity tracking service
+     * @param announcementDispatcher  the shared dispatcher that spreads reports across guilds
+     * @param schedulingRuntime       the shared scheduling runtime
      */
     public MonthlyReportService(ModerationLogService moderationLogService,
-                                ActivityTrackingService activityTrackingService) {
+                                ActivityTrackingService activityTrackingService,
+                                AnnouncementDispatcher announcementDispatcher,
+                                SchedulingRuntime schedulingRuntime) {
         this.moderationLogService = moderationLogService;
         this.activityTrackingService = activityTrackingService;
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.announcementDispatcher = announcementDispatcher;
+        this.schedulingRuntime = schedulingRuntime;
         this.reportChannels = new ConcurrentHashMap<>();
         logger.info("MonthlyReportService initialized");
     }
 
     /**
      * Starts the monthly report scheduler.
-     * Checks every hour if it's time to send reports.
+     * Fires once a month at the configured day and hour.
      *
      * @param jda the JDA instance
      */
     public void startScheduler(JDA jda) {
-        // Check every hour if we need to send reports
-        scheduler.scheduleAtFixedRate(() -> {
+        String cron = "0 " + ModerationConfig.MONTHLY_REPORT_HOUR + " " + ModerationConfig.MONTHLY_REPORT_DAY + " * *";
+        Instant firstRun = schedulingRuntime.schedule(REPORT_TASK, Trigger.cron(cron, ZoneId.systemDefault()), () -> {
             try {
-                checkAndSendReports(jda);
+                sendReports(jda);
             } catch (Exception e) {
                 logger.error("Error in monthly report scheduler", e);
             }
-        }, 0, 1, TimeUnit.HOURS);
+        });
 
-        logger.info("Monthly report scheduler started");
+        logger.info("Monthly report scheduler started (next run at {})", firstRun);
     }
 
     /**
-     * Checks if it's time to send monthly reports and sends them if needed.
+     * Sends monthly reports to every guild.
      */
-    private void checkAndSendReports(JDA jda) {
-        LocalDateTime now = LocalDateTime.now();
-
-        // Check if it's the configured day and hour
-        if (now.getDayOfMonth() == ModerationConfig.MONTHLY_REPORT_DAY &&
-                now.getHour() == ModerationConfig.MONTHLY_REPORT_HOUR) {
-
-            logger.info("Sending monthly reports...");
+    private void sendReports(JDA jda) {
+        logger.info("Sending monthly reports...");
 
-            for (Guild guild : jda.getGuilds()) {
-                try {
-                    generateAndSendReport(guild);
-                } catch (Exception e) {
-                    logger.error("Failed to send monthly report for guild {}", guild.getId(), e);
-                }
+        for (Guild guild : jda.getGuilds()) {
+            try {
+                generateAndSendReport(guild);
+            } catch (Exception e) {
+                logger.error("Failed to send monthly report for guild {}", guild.getId(), e);
             }
         }
     }
@@ -121,12 +130,14 @@ public class MonthlyReportService {
         // Generate report embed
         EmbedBuilder embed = generateReportEmbed(guild);
 
-        // Send report
-        reportChannel.sendMessageEmbeds(embed.build())
-                .queue(
-                        success -> logger.info("Monthly report sent for guild {}", guildId),
-                        error -> logger.error("Failed to send monthly report for guild {}", guildId, error)
-                );
+        // Send report (at most once per guild per month)
+        MessageEmbed report = embed.build();
+        TextChannel channel = reportChannel;
+        YearMonth month = YearMonth.now();
+        if (announcementDispatcher.submit(new AnnouncementJob(guildId, "monthly-report:" + month, channel.getId(),
+                () -> channel.sendMessageEmbeds(report)))) {
+            logger.info("Monthly report queued for guild {}", guildId);
+        }
     }
 
     /**
@@ -229,7 +240,7 @@ public class MonthlyReportService {
      * Stops the scheduler.
      */
     public void shutdown() {
-        scheduler.shutdown();
+        schedulingRuntime.cancel(REPORT_TASK);
         logger.info("Monthly report scheduler stopped");
     }
 }
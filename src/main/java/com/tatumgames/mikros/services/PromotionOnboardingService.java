@@ -63,6 +63,20 @@ public class PromotionOnboardingService {
         logger.debug("Recorded first seen time for guild {}", guildId);
     }
 
+    /**
+     * Restores a guild's first seen time from persisted state, replacing any time recorded since startup.
+     *
+     * @param guildId   the guild ID
+     * @param firstSeen the persisted first seen time
+     */
+    public void restoreGuildFirstSeen(String guildId, Instant firstSeen) {
+        if (guildId == null || guildId.isBlank() || firstSeen == null) {
+            return;
+        }
+
+        guildFirstSeen.put(guildId, firstSeen);
+    }
+
     /**
      * Gets the first seen time for a guild.
      *
@@ -3,6 +3,7 @@ package com.tatumgames.mikros.services;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.tatumgames.mikros.api.TatumGamesApiClient;
+import com.tatumgames.mikros.models.AppCatalogFetch;
 import com.tatumgames.mikros.models.AppPromotion;
 import com.tatumgames.mikros.models.GetAllAppsResponse;
 import com.tatumgames.mikros.models.PromotionVerbosity;
@@ -182,6 +183,50 @@ public class RealGamePromotionService implements GamePromotionService {
         }
     }
 
+    @Override
+    public AppCatalogFetch fetchAllAppsIfModified(AppCatalogFetch previous) {
+        if (promotionApiKey == null || promotionApiKey.isBlank()) {
+            logger.warn("Promotion API key not configured, using stub response");
+            return AppCatalogFetch.modified(loadStubApps(), null, null);
+        }
+
+        String etag = previous != null ? previous.getEtag() : null;
+        String lastModified = previous != null ? previous.getLastModified() : null;
+
+        try {
+            TatumGamesApiClient.ConditionalResponse<GetAllAppsResponse> response = apiClient.getWithApiKeyConditional(
+                    PROMOTION_API_URL,
+                    "/getAllApps",
+                    promotionApiKey,
+                    etag,
+                    lastModified,
+                    GetAllAppsResponse.class
+            );
+            if (response.isNotModified()) {
+                logger.debug("App catalog not modified since last fetch");
+                return AppCatalogFetch.notModified(response.getEtag(), response.getLastModified());
+            }
+
+            GetAllAppsResponse body = response.getBody();
+            if (body != null && body.getData() != null && body.getData().getApps() != null) {
+                List<AppPromotion> apps = body.getData().getApps();
+                logger.info("Fetched {} apps from API", apps.size());
+                return AppCatalogFetch.modified(apps, response.getEtag(), response.getLastModified());
+            }
+            logger.warn("API returned empty or invalid response, falling back to stub");
+        } catch (TatumGamesApiClient.ApiException e) {
+            logger.error("Failed to fetch apps from API (status: {}): {}", e.getStatusCode(), e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching apps from API", e);
+        }
+
+        // Keep serving the last good catalog rather than replacing it with the stub
+        if (previous != null) {
+            return AppCatalogFetch.notModified(etag, lastModified);
+        }
+        return AppCatalogFetch.modified(loadStubApps(), null, null);
+    }
+
     @Override
     public int getLastPromotionStep(String guildId, String appId) {
         if (guildId == null || guildId.isBlank() || appId == null || appId.isBlank()) {
@@ -0,0 +1,123 @@
+package com.tatumgames.mikros.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Source of game randomness that can be replayed.
+ * <p>
+ * Each game invocation (a character action, a boss attack, a spawn) runs with its own random stream,
+ * seeded from the service seed, a subject (usually the character's Discord ID) and the subject's
+ * sequence number for that invocation. Code draws through {@link #current()}, which forwards to the
+ * stream bound to the calling thread, so draws never contend across threads and the same
+ * (seed, subject, sequence) always yields the same outcome. Outside a bound invocation, {@link #current()}
+ * falls back to an unseeded generator per thread.
+ */
+public class RngService {
+    private static final Logger logger = LoggerFactory.getLogger(RngService.class);
+
+    private static final RandomGeneratorFactory<RandomGenerator> STREAMS =
+            RandomGeneratorFactory.of("L64X128MixRandom");
+
+    private static final ThreadLocal<RandomGenerator> bound = new ThreadLocal<>();
+    private static final ThreadLocal<RandomGenerator> unbound = ThreadLocal.withInitial(STREAMS::create);
+
+    private static final RandomGenerator CURRENT = () -> stream().nextLong();
+
+    private final long seed;
+
+    /**
+     * Creates a new RngService with a random seed.
+     */
+    public RngService() {
+        this(new SecureRandom().nextLong());
+    }
+
+    /**
+     * Creates a new RngService.
+     *
+     * @param seed the seed every stream is derived from
+     */
+    public RngService(long seed) {
+        this.seed = seed;
+        logger.info("RngService initialized (seed: {})", seed);
+    }
+
+    /**
+     * Gets the seed every stream is derived from. Needed, with a subject and sequence number, to replay
+     * an outcome.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the generator for game code. Draws go to the stream bound to the calling thread by
+     * {@link #withStream}, or to the thread's unseeded generator if none is bound.
+     *
+     * @return the forwarding generator (safe to keep in a static field)
+     */
+    public static RandomGenerator current() {
+        return CURRENT;
+    }
+
+    private static RandomGenerator stream() {
+        RandomGenerator stream = bound.get();
+        return stream != null ? stream : unbound.get();
+    }
+
+    /**
+     * Creates the stream for one invocation.
+     *
+     * @param subject  what the invocation belongs to (e.g. a character's Discord ID)
+     * @param sequence the subject's sequence number for the invocation
+     * @return a new generator; equal arguments always give the same draws
+     */
+    public RandomGenerator streamFor(String subject, long sequence) {
+        long subjectHash = 0xcbf29ce484222325L; // 64-bit FNV-1a; String.hashCode is only 32 bits
+        for (int i = 0; i < subject.length(); i++) {
+            subjectHash = (subjectHash ^ subject.charAt(i)) * 0x100000001b3L;
+        }
+        return STREAMS.create(mix(mix(seed ^ subjectHash) + sequence));
+    }
+
+    /**
+     * Runs work with the stream for (subject, sequence) bound to the calling thread.
+     * Bindings nest: the previous stream is restored afterwards.
+     *
+     * @param subject  what the invocation belongs to
+     * @param sequence the subject's sequence number for the invocation
+     * @param work     the work
+     * @param <T>      the result type
+     * @return the work's result
+     */
+    public <T> T withStream(String subject, long sequence, Supplier<T> work) {
+        RandomGenerator previous = bound.get();
+        bound.set(streamFor(subject, sequence));
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                bound.set(previous);
+            } else {
+                bound.remove();
+            }
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
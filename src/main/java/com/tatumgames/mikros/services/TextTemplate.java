@@ -0,0 +1,373 @@
+package com.tatumgames.mikros.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A message template compiled once into literal segments and typed placeholders.
+ * <p>
+ * Templates use the {@link String#format} subset the bot's messages need: {@code %s} (text),
+ * {@code %d} (integer), {@code %,d} (integer with thousands separators), {@code %.Nf} (decimal with N
+ * places, N up to 9) and {@code %%}. Anything else is rejected at compile time, so a bad template
+ * fails when its class loads rather than when the message is first sent.
+ * <p>
+ * Rendering fills the placeholders in order and writes into a builder reused per thread, so a
+ * render allocates only the resulting string:
+ * <pre>{@code
+ * String text = ANNOUNCEMENT.with().arg(boss.getName()).arg(boss.getLevel()).render();
+ * }</pre>
+ * Numbers are written with ',' grouping and '.' decimals regardless of the default locale.
+ */
+public final class TextTemplate {
+    // Larger builders are dropped after rendering rather than kept per thread
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+    private static final int MAX_PRECISION = 9;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private static final ThreadLocal<Renderer> idleRenderer = new ThreadLocal<>();
+
+    private enum Kind {
+        TEXT("%s"),
+        INTEGER("%d"),
+        GROUPED_INTEGER("%,d"),
+        DECIMAL("%.Nf");
+
+        private final String specifier;
+
+        Kind(String specifier) {
+            this.specifier = specifier;
+        }
+    }
+
+    private final String source;
+    private final String[] literals;
+    private final Kind[] kinds;
+    private final int[] precisions;
+    private final int sizeHint;
+
+    private TextTemplate(String source, String[] literals, Kind[] kinds, int[] precisions) {
+        this.source = source;
+        this.literals = literals;
+        this.kinds = kinds;
+        this.precisions = precisions;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.sizeHint = literalLength + kinds.length * 16;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param source the template text
+     * @return the compiled template
+     * @throws IllegalArgumentException if the template uses an unsupported format specifier
+     */
+    public static TextTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Kind> kinds = new ArrayList<>();
+        List<Integer> precisions = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            int start = i++;
+            Kind kind;
+            int precision = 0;
+            if (source.startsWith("%", i)) {
+                literal.append('%');
+                i++;
+                continue;
+            } else if (source.startsWith("s", i)) {
+                kind = Kind.TEXT;
+                i++;
+            } else if (source.startsWith("d", i)) {
+                kind = Kind.INTEGER;
+                i++;
+            } else if (source.startsWith(",d", i)) {
+                kind = Kind.GROUPED_INTEGER;
+                i += 2;
+            } else if (source.startsWith(".", i) && i + 2 < source.length()
+                    && Character.isDigit(source.charAt(i + 1)) && source.charAt(i + 2) == 'f') {
+                kind = Kind.DECIMAL;
+                precision = source.charAt(i + 1) - '0';
+                i += 3;
+            } else {
+                int end = Math.min(source.length(), start + 4);
+                throw new IllegalArgumentException("Unsupported format specifier '" + source.substring(start, end)
+                        + "' at index " + start + " in template: " + abbreviate(source));
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            kinds.add(kind);
+            precisions.add(precision);
+        }
+        literals.add(literal.toString());
+
+        return new TextTemplate(source,
+                literals.toArray(String[]::new),
+                kinds.toArray(Kind[]::new),
+                precisions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Compiles interchangeable variants of a message, such as the wordings one is picked from at
+     * random. All variants must take the same arguments in the same order.
+     *
+     * @param sources the template texts
+     * @return the compiled templates, in order
+     * @throws IllegalArgumentException if a template is invalid or the variants' placeholders differ
+     */
+    public static List<TextTemplate> compileAll(String... sources) {
+        List<TextTemplate> templates = new ArrayList<>(sources.length);
+        for (String source : sources) {
+            TextTemplate template = compile(source);
+            if (!templates.isEmpty() && !template.hasSamePlaceholders(templates.get(0))) {
+                throw new IllegalArgumentException("Template variant takes " + template.describePlaceholders()
+                        + " but the first variant takes " + templates.get(0).describePlaceholders() + ": "
+                        + abbreviate(source));
+            }
+            templates.add(template);
+        }
+        return List.copyOf(templates);
+    }
+
+    /**
+     * Gets the number of placeholders, which is the number of arguments a render takes.
+     *
+     * @return the placeholder count
+     */
+    public int getPlaceholderCount() {
+        return kinds.length;
+    }
+
+    /**
+     * Starts rendering this template. Supply one {@code arg} per placeholder, in order, then call
+     * {@link Renderer#render()}.
+     *
+     * @return the renderer
+     */
+    public Renderer with() {
+        Renderer renderer = idleRenderer.get();
+        if (renderer == null) {
+            // First render on this thread, or an argument is itself being rendered
+            renderer = new Renderer();
+        } else {
+            idleRenderer.set(null);
+        }
+        renderer.start(this);
+        return renderer;
+    }
+
+    private boolean hasSamePlaceholders(TextTemplate other) {
+        return Arrays.equals(kinds, other.kinds) && Arrays.equals(precisions, other.precisions);
+    }
+
+    private String describePlaceholders() {
+        StringBuilder description = new StringBuilder("[");
+        for (int i = 0; i < kinds.length; i++) {
+            if (i > 0) {
+                description.append(", ");
+            }
+            description.append(kinds[i] == Kind.DECIMAL ? "%." + precisions[i] + "f" : kinds[i].specifier);
+        }
+        return description.append(']').toString();
+    }
+
+    private static String abbreviate(String source) {
+        String line = source.strip().lines().findFirst().orElse("");
+        return line.length() > 60 ? line.substring(0, 60) + "…" : line;
+    }
+
+    @Override
+    public String toString() {
+        return "TextTemplate{" + abbreviate(source) + "}";
+    }
+
+    /**
+     * Fills a template's placeholders in order. A renderer is single-use: it is recycled once
+     * {@link #render()} returns and must not be kept.
+     */
+    public static final class Renderer {
+        private StringBuilder builder = new StringBuilder(256);
+        private TextTemplate template;
+        private int next;
+
+        private Renderer() {
+        }
+
+        private void start(TextTemplate template) {
+            this.template = template;
+            this.next = 0;
+            builder.setLength(0);
+            builder.ensureCapacity(template.sizeHint);
+            builder.append(template.literals[0]);
+        }
+
+        /**
+         * Fills the next placeholder with text.
+         *
+         * @param value the text ({@code null} renders as "null", as with {@link String#format})
+         * @return this renderer
+         * @throws IllegalArgumentException if the next placeholder is not {@code %s}
+         */
+        public Renderer arg(CharSequence value) {
+            expect(Kind.TEXT);
+            builder.append(value);
+            return advance();
+        }
+
+        /**
+         * Fills the next placeholder with an integer.
+         *
+         * @param value the value
+         * @return this renderer
+         * @throws IllegalArgumentException if the next placeholder is not {@code %d} or {@code %,d}
+         */
+        public Renderer arg(long value) {
+            Kind kind = expect(Kind.INTEGER, Kind.GROUPED_INTEGER);
+            if (kind == Kind.GROUPED_INTEGER) {
+                appendGrouped(builder, value);
+            } else {
+                builder.append(value);
+            }
+            return advance();
+        }
+
+        /**
+         * Fills the next placeholder with a decimal, rounded half-up to the placeholder's precision.
+         *
+         * @param value the value
+         * @return this renderer
+         * @throws IllegalArgumentException if the next placeholder is not {@code %.Nf}
+         */
+        public Renderer arg(double value) {
+            expect(Kind.DECIMAL);
+            appendFixed(builder, value, template.precisions[next]);
+            return advance();
+        }
+
+        /**
+         * Finishes rendering.
+         *
+         * @return the rendered text
+         * @throws IllegalArgumentException if some placeholders were not filled
+         */
+        public String render() {
+            if (next != template.kinds.length) {
+                int filled = next;
+                TextTemplate failed = template;
+                release();
+                throw new IllegalArgumentException("Template takes " + failed.kinds.length + " arguments but got "
+                        + filled + ": " + failed);
+            }
+            String text = builder.toString();
+            release();
+            return text;
+        }
+
+        private Kind expect(Kind kind) {
+            return expect(kind, kind);
+        }
+
+        private Kind expect(Kind kind, Kind alternative) {
+            if (next == template.kinds.length) {
+                TextTemplate failed = template;
+                release();
+                throw new IllegalArgumentException("Template takes only " + failed.kinds.length + " arguments: "
+                        + failed);
+            }
+            Kind actual = template.kinds[next];
+            if (actual != kind && actual != alternative) {
+                int index = next;
+                TextTemplate failed = template;
+                release();
+                throw new IllegalArgumentException("Argument " + (index + 1) + " fills a " + actual.specifier
+                        + " placeholder, not " + kind.specifier + ": " + failed);
+            }
+            return actual;
+        }
+
+        private Renderer advance() {
+            next++;
+            builder.append(template.literals[next]);
+            return this;
+        }
+
+        private void release() {
+            template = null;
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                builder = new StringBuilder(256);
+            }
+            idleRenderer.set(this);
+        }
+    }
+
+    private static void appendGrouped(StringBuilder out, long value) {
+        if (value == Long.MIN_VALUE) {
+            out.append("-9,223,372,036,854,775,808");
+            return;
+        }
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        if (value < 1000) {
+            out.append(value);
+            return;
+        }
+        appendGrouped(out, value / 1000);
+        int group = (int) (value % 1000);
+        out.append(',');
+        if (group < 100) {
+            out.append('0');
+        }
+        if (group < 10) {
+            out.append('0');
+        }
+        out.append(group);
+    }
+
+    private static void appendFixed(StringBuilder out, double value, int precision) {
+        long scale = POWERS_OF_TEN[Math.min(precision, MAX_PRECISION)];
+        if (!Double.isFinite(value) || Math.abs(value) >= (double) (Long.MAX_VALUE / scale)) {
+            // NaN, infinities and values too large for fixed-point arithmetic
+            out.append(String.format(Locale.ROOT, "%." + precision + "f", value));
+            return;
+        }
+        // String.format rounds the shortest decimal form half up (1.005 is "1.01" at 2 places), while
+        // Math.round rounds the binary value (1.00499999...). They can only disagree near a tie, within
+        // the error of the value's decimal form and of the scaling, so those values are left to it.
+        double scaledValue = Math.abs(value) * scale;
+        double tieDistance = Math.abs(scaledValue - Math.floor(scaledValue) - 0.5);
+        if (tieDistance <= 4 * Math.ulp(scaledValue)) {
+            out.append(String.format(Locale.ROOT, "%." + precision + "f", value));
+            return;
+        }
+        if (Double.doubleToRawLongBits(value) < 0) {
+            out.append('-');
+        }
+        long scaled = Math.round(scaledValue);
+        out.append(scaled / scale);
+        if (precision > 0) {
+            out.append('.');
+            long fraction = scaled % scale;
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                out.append((char) ('0' + fraction / digit % 10));
+            }
+        }
+    }
+}
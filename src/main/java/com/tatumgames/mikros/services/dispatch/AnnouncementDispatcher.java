@@ -0,0 +1,303 @@
+package com.tatumgames.mikros.services.dispatch;
+
+import net.dv8tion.jda.api.requests.RestAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared, rate-limit-aware dispatcher for cross-guild announcements.
+ * <p>
+ * Schedulers submit {@link AnnouncementJob}s instead of calling sendMessage directly. Each job is
+ * released at a per-guild offset inside a spread window, then paced by a global token bucket and a
+ * per-channel token bucket sized below Discord's limits (50 requests/second globally, 5 messages
+ * per 5 seconds per channel). Jobs are deduplicated by (guildId, key) so reruns never double-post.
+ */
+public class AnnouncementDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(AnnouncementDispatcher.class);
+
+    // Pacing parameters (kept under Discord's published limits)
+    private static final double GLOBAL_PERMITS_PER_SECOND = 40;
+    private static final double GLOBAL_BURST = 10;
+    private static final double CHANNEL_PERMITS_PER_SECOND = 1;
+    private static final double CHANNEL_BURST = 5;
+
+    private static final Duration DEFAULT_SPREAD_WINDOW = Duration.ofMinutes(5);
+    private static final Duration DEDUPE_RETENTION = Duration.ofHours(24);
+
+    private final Duration defaultSpreadWindow;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+
+    // Dispatcher-thread state
+    private final PriorityQueue<PendingJob> pending = new PriorityQueue<>();
+    private final TokenBucket globalBucket = new TokenBucket(GLOBAL_BURST, GLOBAL_PERMITS_PER_SECOND);
+    private final Map<String, TokenBucket> channelBuckets = new HashMap<>();
+    private ScheduledFuture<?> nextDrain;
+    private long nextDrainAtNanos = Long.MAX_VALUE;
+    private long batchStartNanos;
+    private long batchSentAtStart;
+    private long batchFailedAtStart;
+    private long sequence;
+
+    // guildId:key -> time accepted
+    private final Map<String, Instant> acceptedKeys = new ConcurrentHashMap<>();
+
+    // Metrics
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong maxReleaseDelayMillis = new AtomicLong();
+
+    /**
+     * A job waiting for its release time.
+     */
+    private record PendingJob(AnnouncementJob job, long releaseAtNanos, long sequence)
+            implements Comparable<PendingJob> {
+        @Override
+        public int compareTo(PendingJob other) {
+            int byTime = Long.compare(releaseAtNanos, other.releaseAtNanos);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Creates a new AnnouncementDispatcher with the default spread window.
+     */
+    public AnnouncementDispatcher() {
+        this(DEFAULT_SPREAD_WINDOW);
+    }
+
+    /**
+     * Creates a new AnnouncementDispatcher.
+     *
+     * @param defaultSpreadWindow window over which a batch of jobs is spread by per-guild jitter
+     */
+    public AnnouncementDispatcher(Duration defaultSpreadWindow) {
+        this(defaultSpreadWindow, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new AnnouncementDispatcher.
+     *
+     * @param defaultSpreadWindow window over which a batch of jobs is spread by per-guild jitter
+     * @param clock               the clock dedupe retention is measured against
+     */
+    public AnnouncementDispatcher(Duration defaultSpreadWindow, Clock clock) {
+        this.defaultSpreadWindow = defaultSpreadWindow;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "announcement-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+        logger.info("AnnouncementDispatcher initialized (spread window: {}s)", defaultSpreadWindow.toSeconds());
+    }
+
+    /**
+     * Submits a job spread over the default window.
+     *
+     * @param job the job
+     * @return true if accepted, false if (guildId, key) was already posted or queued
+     */
+    public boolean submit(AnnouncementJob job) {
+        return submit(job, defaultSpreadWindow);
+    }
+
+    /**
+     * Submits a job, releasing it at a per-guild offset inside the given window.
+     * Use {@link Duration#ZERO} for announcements that should go out as soon as pacing allows.
+     *
+     * @param job          the job
+     * @param spreadWindow the window to spread over
+     * @return true if accepted, false if (guildId, key) was already posted or queued
+     */
+    public boolean submit(AnnouncementJob job, Duration spreadWindow) {
+        Instant now = clock.instant();
+        boolean[] accepted = new boolean[1];
+        // Atomic per key, so concurrent submits of a new or expired key accept exactly one
+        acceptedKeys.compute(job.dedupeKey(), (key, previous) -> {
+            if (previous != null && Duration.between(previous, now).compareTo(DEDUPE_RETENTION) < 0) {
+                return previous;
+            }
+            accepted[0] = true;
+            return now;
+        });
+        if (!accepted[0]) {
+            deduplicated.increment();
+            logger.debug("Skipping duplicate announcement {}", job.dedupeKey());
+            return false;
+        }
+
+        submitted.increment();
+        long releaseAt = System.nanoTime() + jitterNanos(job, spreadWindow);
+        try {
+            executor.execute(() -> enqueue(job, releaseAt));
+        } catch (Exception e) {
+            acceptedKeys.remove(job.dedupeKey(), now);
+            logger.warn("Announcement dispatcher rejected job {}", job.dedupeKey(), e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes a stable per-guild offset inside the spread window.
+     */
+    static long jitterNanos(AnnouncementJob job, Duration spreadWindow) {
+        long windowNanos = spreadWindow.toNanos();
+        if (windowNanos <= 0) {
+            return 0;
+        }
+        long hash = job.guildId().hashCode() * 0x9E3779B97F4A7C15L + job.key().hashCode();
+        hash ^= (hash >>> 31);
+        return Math.floorMod(hash, windowNanos);
+    }
+
+    private void enqueue(AnnouncementJob job, long releaseAtNanos) {
+        if (pending.isEmpty() && nextDrain == null) {
+            batchStartNanos = System.nanoTime();
+            batchSentAtStart = sent.sum();
+            batchFailedAtStart = failed.sum();
+        }
+        pending.add(new PendingJob(job, releaseAtNanos, sequence++));
+        scheduleDrain(releaseAtNanos);
+    }
+
+    private void scheduleDrain(long atNanos) {
+        if (nextDrain != null && !nextDrain.isDone() && nextDrainAtNanos <= atNanos) {
+            return;
+        }
+        if (nextDrain != null) {
+            nextDrain.cancel(false);
+        }
+        long delay = Math.max(0, atNanos - System.nanoTime());
+        nextDrainAtNanos = atNanos;
+        nextDrain = executor.schedule(this::drain, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Releases every due job the token buckets allow, then schedules the next drain.
+     */
+    private void drain() {
+        nextDrain = null;
+        nextDrainAtNanos = Long.MAX_VALUE;
+        long now = System.nanoTime();
+
+        while (!pending.isEmpty() && pending.peek().releaseAtNanos() <= now) {
+            long globalWait = globalBucket.nanosUntilAvailable();
+            if (globalWait > 0) {
+                scheduleDrain(now + globalWait);
+                return;
+            }
+
+            PendingJob next = pending.poll();
+            TokenBucket channelBucket = channelBuckets.computeIfAbsent(next.job().channelId(),
+                    id -> new TokenBucket(CHANNEL_BURST, CHANNEL_PERMITS_PER_SECOND));
+            long channelWait = channelBucket.nanosUntilAvailable();
+            if (channelWait > 0) {
+                // Route is hot; push this job back without blocking other channels
+                pending.add(new PendingJob(next.job(), now + channelWait, next.sequence()));
+                continue;
+            }
+
+            globalBucket.tryAcquire();
+            channelBucket.tryAcquire();
+            release(next, now);
+        }
+
+        if (!pending.isEmpty()) {
+            scheduleDrain(pending.peek().releaseAtNanos());
+        } else {
+            finishBatch();
+        }
+    }
+
+    private void release(PendingJob pendingJob, long nowNanos) {
+        AnnouncementJob job = pendingJob.job();
+        long delayMillis = TimeUnit.NANOSECONDS.toMillis(nowNanos - pendingJob.releaseAtNanos());
+        maxReleaseDelayMillis.accumulateAndGet(delayMillis, Math::max);
+
+        try {
+            RestAction<?> action = job.action().get();
+            if (action == null) {
+                failed.increment();
+                return;
+            }
+            action.queue(
+                    success -> sent.increment(),
+                    error -> {
+                        failed.increment();
+                        logger.error("Failed to post announcement {}", job.dedupeKey(), error);
+                    }
+            );
+        } catch (Exception e) {
+            failed.increment();
+            logger.error("Error building announcement {}", job.dedupeKey(), e);
+        }
+    }
+
+    /**
+     * Logs completion metrics for the batch that just drained and prunes idle state.
+     */
+    private void finishBatch() {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStartNanos);
+        logger.debug("Announcement batch drained in {} ms (sent so far: {}, failed so far: {}, max release delay: {} ms)",
+                elapsedMillis, sent.sum() - batchSentAtStart, failed.sum() - batchFailedAtStart,
+                maxReleaseDelayMillis.get());
+
+        channelBuckets.values().removeIf(TokenBucket::isFull);
+
+        Instant cutoff = clock.instant().minus(DEDUPE_RETENTION);
+        Iterator<Map.Entry<String, Instant>> it = acceptedKeys.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue().isBefore(cutoff)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of dispatcher metrics.
+     *
+     * @return the metrics
+     */
+    public Stats getStats() {
+        return new Stats(submitted.sum(), deduplicated.sum(), sent.sum(), failed.sum(), maxReleaseDelayMillis.get());
+    }
+
+    /**
+     * Dispatcher metrics. Sent and failed are counted when Discord acknowledges the request.
+     *
+     * @param submitted             jobs accepted
+     * @param deduplicated          jobs dropped as duplicates of (guildId, key)
+     * @param sent                  jobs posted successfully
+     * @param failed                jobs whose REST call failed
+     * @param maxReleaseDelayMillis worst delay between a job's release time and its send, caused by pacing
+     */
+    public record Stats(long submitted, long deduplicated, long sent, long failed, long maxReleaseDelayMillis) {
+    }
+
+    /**
+     * Stops the dispatcher. Jobs not yet released are dropped.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        logger.info("Announcement dispatcher stopped ({})", getStats());
+    }
+}
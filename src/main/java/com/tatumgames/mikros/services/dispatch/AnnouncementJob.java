@@ -0,0 +1,32 @@
+package com.tatumgames.mikros.services.dispatch;
+
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A single cross-guild announcement waiting to be posted by the {@link AnnouncementDispatcher}.
+ *
+ * @param guildId   the guild the announcement is for
+ * @param key       the announcement key; (guildId, key) is posted at most once within the dedupe window
+ * @param channelId the target channel (used for per-route rate limiting)
+ * @param action    builds the REST call when the job is released (e.g. {@code () -> channel.sendMessage(text)})
+ */
+public record AnnouncementJob(String guildId, String key, String channelId, Supplier<RestAction<?>> action) {
+    public AnnouncementJob {
+        Objects.requireNonNull(guildId, "guildId cannot be null");
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(channelId, "channelId cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+    }
+
+    /**
+     * Gets the dedupe key combining guild and announcement key.
+     *
+     * @return the dedupe key
+     */
+    public String dedupeKey() {
+        return guildId + ":" + key;
+    }
+}
@@ -0,0 +1,74 @@
+package com.tatumgames.mikros.services.dispatch;
+
+/**
+ * Simple token bucket used to pace outgoing REST calls.
+ * Not thread-safe; the dispatcher only touches buckets from its own thread.
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new full TokenBucket.
+     *
+     * @param capacity        maximum burst size
+     * @param permitsPerSecond sustained refill rate
+     */
+    TokenBucket(double capacity, double permitsPerSecond) {
+        if (capacity < 1 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be >= 1 and permitsPerSecond must be > 0");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = permitsPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return true if a token was taken
+     */
+    boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets how long until one token will be available.
+     *
+     * @return nanoseconds until the next token (0 if available now)
+     */
+    long nanosUntilAvailable() {
+        refill();
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    /**
+     * Checks whether the bucket is full, i.e. it has been idle long enough to be discarded.
+     *
+     * @return true if full
+     */
+    boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -2,21 +2,29 @@ package com.tatumgames.mikros.services.scheduler;
 
 import com.tatumgames.mikros.models.AppPromotion;
 import com.tatumgames.mikros.models.PromotionVerbosity;
+import com.tatumgames.mikros.promo.manager.CampaignTimeline;
 import com.tatumgames.mikros.promo.manager.PromotionStepManager;
-import com.tatumgames.mikros.promo.template.PromotionMessageTemplates;
+import com.tatumgames.mikros.promo.template.PromotionEmbedCache;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
+import com.tatumgames.mikros.services.AppCatalogCache;
 import com.tatumgames.mikros.services.GamePromotionService;
-import net.dv8tion.jda.api.EmbedBuilder;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import com.tatumgames.mikros.services.dispatch.AnnouncementJob;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.channel.concrete.NewsChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.awt.*;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -24,15 +32,14 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Scheduler service for posting app promotions at configured intervals.
  * Uses 4-step promotion story format while respecting campaign dates and avoiding spam.
- * Checks every 60 minutes and posts promotions based on guild verbosity settings.
+ * Registers one task per guild with the {@link SchedulingRuntime}, due at the guild's next instant
+ * (from verbosity, rotation cooldown and the campaign timeline), so guilds without a promotion channel
+ * cost nothing and posts land on their verbosity interval instead of the next hourly tick.
  * Implements dynamic cooldown and game rotation to handle multiple apps gracefully.
  */
 public class GamePromotionScheduler {
@@ -45,10 +52,19 @@ public class GamePromotionScheduler {
     private static final double RANDOMIZATION_FACTOR_MIN = 0.8;
     private static final double RANDOMIZATION_FACTOR_MAX = 1.2;
 
+    private static final String SUBSYSTEM = "game-promotion";
+    private static final TaskKey RESCHEDULE_TASK = TaskKey.global(SUBSYSTEM);
+    private static final String LAST_CHECK_MARK = "last-check";
+
+    // Small delay past a due instant so strict isAfter() checks pass
+    private static final long DUE_GRACE_SECONDS = 1;
+
     private final GamePromotionService gamePromotionService;
+    private final AppCatalogCache appCatalogCache;
+    private final AnnouncementDispatcher announcementDispatcher;
     private final PromotionStepManager stepManager;
-    private final PromotionMessageTemplates messageTemplates;
-    private final ScheduledExecutorService scheduler;
+    private final PromotionEmbedCache embedCache;
+    private final SchedulingRuntime schedulingRuntime;
     private final Random random;
     private JDA jda;
 
@@ -68,56 +84,152 @@ public class GamePromotionScheduler {
      * Creates a new GamePromotionScheduler.
      *
      * @param gamePromotionService the game promotion service
+     * @param appCatalogCache      the shared app catalog cache
+     * @param announcementDispatcher the shared dispatcher that paces posts across guilds
+     * @param schedulingRuntime    the shared scheduling runtime
      */
-    public GamePromotionScheduler(GamePromotionService gamePromotionService) {
+    public GamePromotionScheduler(GamePromotionService gamePromotionService, AppCatalogCache appCatalogCache,
+                                  AnnouncementDispatcher announcementDispatcher, SchedulingRuntime schedulingRuntime) {
         this.gamePromotionService = gamePromotionService;
+        this.appCatalogCache = appCatalogCache;
+        this.announcementDispatcher = announcementDispatcher;
         this.stepManager = new PromotionStepManager();
-        this.messageTemplates = new PromotionMessageTemplates();
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.embedCache = new PromotionEmbedCache();
+        this.schedulingRuntime = schedulingRuntime;
         this.random = new Random();
         logger.info("GamePromotionScheduler initialized");
     }
 
     /**
      * Starts the promotion scheduler.
-     * Checks at intervals based on guild verbosity settings (LOW: 24h, MEDIUM: 12h, HIGH: 6h).
-     * Default check interval is 60 minutes to ensure all verbosity levels are respected.
+     * Schedules every guild with a promotion channel at its next due instant based on verbosity
+     * (LOW: 24h, MEDIUM: 12h, HIGH: 6h); guilds without a channel are never visited.
      *
      * @param jda the JDA instance
      */
     public void start(JDA jda) {
         this.jda = jda;
 
-        // Run check every 60 minutes (ensures we catch all verbosity levels)
-        // Actual posting respects verbosity settings per guild
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                checkAndPostPromotions();
-            } catch (Exception e) {
-                logger.error("Error in promotion scheduler", e);
-            }
-        }, 0, 60, TimeUnit.MINUTES);
+        // Drop stale embeds and re-key all guilds when campaigns change
+        appCatalogCache.addChangeListener(snapshot -> {
+            embedCache.invalidate(snapshot.getVersion());
+            schedulingRuntime.schedule(RESCHEDULE_TASK, Trigger.at(Instant.now()), this::rescheduleAllGuilds);
+        });
 
-        logger.info("Game promotion scheduler started (checks every 60 minutes, respects verbosity per guild)");
+        schedulingRuntime.schedule(RESCHEDULE_TASK, Trigger.at(Instant.now()), this::rescheduleAllGuilds);
+
+        logger.info("Game promotion scheduler started (per-guild tasks, respects verbosity per guild)");
+    }
+
+    /**
+     * Re-keys a guild's task after its promotion configuration changed.
+     * Cancels the guild's task if it no longer has a promotion channel.
+     *
+     * @param guildId the guild ID
+     */
+    public void rescheduleGuild(String guildId) {
+        Instant dueAt = gamePromotionService.getPromotionChannel(guildId) != null
+                ? calculateNextDue(guildId, Instant.now())
+                : null;
+        setDue(guildId, dueAt);
     }
 
     /**
-     * Checks all guilds and posts promotions if it's time based on verbosity.
+     * Re-keys every guild the bot is in.
      */
-    private void checkAndPostPromotions() {
+    private void rescheduleAllGuilds() {
         if (jda == null) {
-            logger.warn("JDA not initialized, skipping promotion check");
+            logger.warn("JDA not initialized, skipping promotion scheduling");
             return;
         }
 
-        logger.info("Running scheduled promotion check...");
-
+        int scheduled = 0;
         for (Guild guild : jda.getGuilds()) {
-            try {
+            rescheduleGuild(guild.getId());
+            if (gamePromotionService.getPromotionChannel(guild.getId()) != null) {
+                scheduled++;
+            }
+        }
+        logger.info("Scheduled promotions for {} guild(s)", scheduled);
+    }
+
+    /**
+     * Calculates when a guild should next be checked: when the earliest next step of its active apps
+     * becomes due (or a campaign starts or ends), but no sooner than its verbosity interval and rotation
+     * cooldown allow.
+     *
+     * @param guildId the guild ID
+     * @param now     the current time
+     * @return the next due instant, or null if nothing can become due with the current catalog
+     */
+    Instant calculateNextDue(String guildId, Instant now) {
+        Instant floor = now;
+
+        Instant lastCheckTime = getLastCheckTime(guildId);
+        if (lastCheckTime != null) {
+            PromotionVerbosity verbosity = gamePromotionService.getPromotionVerbosity(guildId);
+            floor = latest(floor, lastCheckTime.plus(verbosity.getHoursInterval(), ChronoUnit.HOURS));
+        }
+
+        GameRotationState state = rotationStates.get(guildId);
+        if (state != null && state.lastPromotionTime != null) {
+            floor = latest(floor, state.lastPromotionTime.plus(state.currentCooldownMinutes, ChronoUnit.MINUTES));
+        }
+
+        CampaignTimeline timeline = appCatalogCache.getSnapshot().getTimeline();
+        List<AppPromotion> activeApps = timeline.getActiveApps(floor);
+        Instant wakeAt = timeline.getNextBoundaryAfter(floor);
+        for (AppPromotion app : activeApps) {
+            Instant stepDue = stepManager.getNextStepDue(app.getAppId(),
+                    gamePromotionService.getLastPromotionStep(guildId, app.getAppId()),
+                    gamePromotionService.getLastAppPostTime(guildId, app.getAppId()),
+                    activeApps.size(), timeline);
+            if (stepDue != null && (wakeAt == null || stepDue.isBefore(wakeAt))) {
+                wakeAt = stepDue;
+            }
+        }
+
+        if (wakeAt == null) {
+            return null;
+        }
+        return latest(floor, wakeAt.plusSeconds(DUE_GRACE_SECONDS));
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * Replaces a guild's task with one due at the given instant.
+     *
+     * @param guildId the guild ID
+     * @param dueAt   the new due instant, or null to cancel the guild's task
+     */
+    private void setDue(String guildId, Instant dueAt) {
+        TaskKey key = TaskKey.of(SUBSYSTEM, guildId);
+        if (dueAt == null) {
+            schedulingRuntime.cancel(key);
+            return;
+        }
+        schedulingRuntime.schedule(key, Trigger.at(dueAt), () -> runDueGuild(guildId));
+        logger.debug("Next promotion check for guild {} at {}", guildId, dueAt);
+    }
+
+    /**
+     * Checks a guild whose due instant has passed, then re-keys it.
+     *
+     * @param guildId the guild ID
+     */
+    private void runDueGuild(String guildId) {
+        try {
+            Guild guild = jda != null ? jda.getGuildById(guildId) : null;
+            if (guild != null) {
                 checkGuildPromotions(guild);
-            } catch (Exception e) {
-                logger.error("Error checking promotions for guild {}", guild.getId(), e);
             }
+        } catch (Exception e) {
+            logger.error("Error checking promotions for guild {}", guildId, e);
+        } finally {
+            rescheduleGuild(guildId);
         }
     }
 
@@ -179,7 +291,9 @@ public class GamePromotionScheduler {
         // Use whichever channel was found
         MessageChannel channel = textChannel != null ? textChannel : newsChannel;
 
-        return postPromotionsToChannel(guild, channel);
+        int posted = postPromotionsToChannel(guild, channel);
+        rescheduleGuild(guildId);
+        return posted;
     }
 
     /**
@@ -207,22 +321,17 @@ public class GamePromotionScheduler {
             }
         }
 
-        // Record this check time
-        recordLastCheckTime(guildId, now);
+        // Read the shared catalog snapshot (refreshed once in the background for all guilds)
+        AppCatalogCache.Snapshot catalog = appCatalogCache.getSnapshot();
 
-        // Fetch all apps from API
-        List<AppPromotion> allApps = gamePromotionService.fetchAllApps();
-
-        if (allApps.isEmpty()) {
+        if (catalog.getApps().isEmpty()) {
             logger.debug("No apps available for guild {}", guildId);
             return 0;
         }
 
-        // Filter to only active campaigns within campaign window
-        List<AppPromotion> activeApps = allApps.stream()
-                .filter(app -> isWithinCampaignWindow(app, now))
-                .filter(AppPromotion::isCampaignActive)
-                .collect(Collectors.toList());
+        // Active campaigns are a lookup on the snapshot's campaign timeline
+        CampaignTimeline timeline = catalog.getTimeline();
+        List<AppPromotion> activeApps = timeline.getActiveApps(now);
 
         if (activeApps.isEmpty()) {
             logger.debug("No active campaigns within window for guild {}", guildId);
@@ -240,17 +349,17 @@ public class GamePromotionScheduler {
         if (firstApp.getCampaign() != null && stepManager.shouldPostStep3(
                 activeApps,
                 lastStepForFirstApp,
-                firstApp.getCampaign().getStartDate(),
-                firstApp.getCampaign().getEndDate(),
+                timeline,
                 now)) {
 
             try {
-                postMultiGamePromotion(channel, activeApps);
+                postMultiGamePromotion(guildId, channel, activeApps, catalog.getVersion(), now);
 
                 // Record step 3 for all apps
                 for (AppPromotion app : activeApps) {
                     gamePromotionService.recordPromotionStep(guildId, app.getAppId(), 3, now);
                 }
+                recordLastCheckTime(guildId, now);
 
                 logger.info("Posted multi-game promotion (step 3) in guild {}", guildId);
                 return 1;
@@ -265,7 +374,7 @@ public class GamePromotionScheduler {
         // -----------------------------------------
 
         // Determine next game to promote
-        AppPromotion nextApp = getNextGameToPromote(guildId, activeApps);
+        AppPromotion nextApp = getNextGameToPromote(guildId, activeApps, catalog, now);
         if (nextApp == null) {
             // Cooldown not expired yet or no games in queue
             return 0;
@@ -273,7 +382,7 @@ public class GamePromotionScheduler {
 
         int lastStep = gamePromotionService.getLastPromotionStep(guildId, nextApp.getAppId());
         Instant lastPostTime = gamePromotionService.getLastAppPostTime(guildId, nextApp.getAppId());
-        int nextStep = stepManager.determineNextStep(nextApp, lastStep, lastPostTime, activeApps, now);
+        int nextStep = stepManager.determineNextStep(nextApp, lastStep, lastPostTime, activeApps, now, timeline);
 
         if (nextStep == 0) {
             // No step ready to post yet
@@ -286,8 +395,9 @@ public class GamePromotionScheduler {
         }
 
         try {
-            postAppPromotion(channel, nextApp, nextStep, activeApps);
+            postAppPromotion(guildId, channel, nextApp, nextStep, catalog.getVersion(), now);
             gamePromotionService.recordPromotionStep(guildId, nextApp.getAppId(), nextStep, now);
+            recordLastCheckTime(guildId, now);
 
             logger.info("Posted promotion step {} for app {} in guild {}",
                     nextStep, nextApp.getAppId(), guildId);
@@ -299,15 +409,13 @@ public class GamePromotionScheduler {
         }
     }
 
-    // Track last check time per guild for verbosity enforcement
-    private final Map<String, Instant> lastCheckTimes = new ConcurrentHashMap<>();
-
+    // Time of the guild's last post, which starts its verbosity interval; persisted in the schedule ledger
     private Instant getLastCheckTime(String guildId) {
-        return lastCheckTimes.get(guildId);
+        return schedulingRuntime.getLedger().getMark(TaskKey.of(SUBSYSTEM, guildId), LAST_CHECK_MARK);
     }
 
     private void recordLastCheckTime(String guildId, Instant checkTime) {
-        lastCheckTimes.put(guildId, checkTime);
+        schedulingRuntime.getLedger().setMark(TaskKey.of(SUBSYSTEM, guildId), LAST_CHECK_MARK, checkTime);
     }
 
     /**
@@ -336,36 +444,17 @@ public class GamePromotionScheduler {
         return actualInterval;
     }
 
-    /**
-     * Checks if an app is within its campaign window.
-     *
-     * @param app the app promotion
-     * @param now the current time
-     * @return true if within campaign window
-     */
-    private boolean isWithinCampaignWindow(AppPromotion app, Instant now) {
-        if (app.getCampaign() == null) {
-            return false;
-        }
-
-        Instant startDate = app.getCampaign().getStartDate();
-        Instant endDate = app.getCampaign().getEndDate();
-
-        if (startDate == null || endDate == null) {
-            return false;
-        }
-
-        return !now.isBefore(startDate) && !now.isAfter(endDate);
-    }
-
     /**
      * Gets the next game to promote based on rotation queue and cooldown.
      *
      * @param guildId    the guild ID
      * @param activeApps list of active apps
+     * @param catalog    the catalog snapshot the active apps came from
+     * @param now        the time the active apps were evaluated at
      * @return the next app to promote, or null if cooldown not expired
      */
-    private AppPromotion getNextGameToPromote(String guildId, List<AppPromotion> activeApps) {
+    private AppPromotion getNextGameToPromote(String guildId, List<AppPromotion> activeApps,
+                                              AppCatalogCache.Snapshot catalog, Instant now) {
         GameRotationState state = rotationStates.computeIfAbsent(guildId, k -> {
             GameRotationState newState = new GameRotationState();
             newState.gameQueue = new LinkedList<>();
@@ -400,14 +489,10 @@ public class GamePromotionScheduler {
             return null;
         }
 
-        // Store in final variable for lambda
         final String finalAppId = nextAppId;
 
-        // Find app and update state
-        AppPromotion app = activeApps.stream()
-                .filter(a -> a.getAppId().equals(finalAppId))
-                .findFirst()
-                .orElse(null);
+        // Find app via the snapshot index (a queued app whose campaign ended is dropped) and update state
+        AppPromotion app = catalog.getActiveApp(finalAppId, now);
 
         if (app != null) {
             state.lastPromotionTime = Instant.now();
@@ -454,7 +539,7 @@ public class GamePromotionScheduler {
                 .sorted()
                 .toList();
 
-        List<String> queueAppIds = new java.util.ArrayList<>(state.gameQueue);
+        List<String> queueAppIds = new ArrayList<>(state.gameQueue);
         Collections.sort(queueAppIds);
 
         return !currentAppIds.equals(queueAppIds);
@@ -463,127 +548,45 @@ public class GamePromotionScheduler {
     /**
      * Posts a single app promotion for a specific step.
      *
-     * @param channel the channel
-     * @param app     the app promotion
-     * @param step    the promotion step (1, 2, or 4)
-     * @param allApps all active apps (for context)
+     * @param guildId        the guild ID
+     * @param channel        the channel
+     * @param app            the app promotion
+     * @param step           the promotion step (1, 2, or 4)
+     * @param catalogVersion the catalog version the app came from
+     * @param now            the time the step is recorded at (announcement dedupe key)
      */
-    private void postAppPromotion(MessageChannel channel, AppPromotion app, int step, List<AppPromotion> allApps) {
-        EmbedBuilder embed = new EmbedBuilder();
-        embed.setTitle("🎮 " + app.getAppName());
-        embed.setColor(Color.CYAN);
-
-        // Get message template for this step
-        String template = messageTemplates.getTemplate(step);
-        String message = messageTemplates.formatMessage(template, app, allApps);
-
-        embed.setDescription(message);
-
-        // Add CTAs (at least one required)
-        List<String> availableCtas = messageTemplates.getAvailableCtas(app);
-        if (!availableCtas.isEmpty()) {
-            String ctaText = messageTemplates.getRandomCta();
-            StringBuilder ctaSection = new StringBuilder(ctaText + "\n");
-
-            // Include at least one CTA, randomly select from available
-            int ctaCount = Math.min(availableCtas.size(), random.nextInt(3) + 1); // 1-3 CTAs
-            for (int i = 0; i < ctaCount && i < availableCtas.size(); i++) {
-                ctaSection.append(availableCtas.get(i));
-                if (i < ctaCount - 1) {
-                    ctaSection.append(" | ");
-                }
-            }
-
-            embed.addField("🔗 Links", ctaSection.toString(), false);
-        }
-
-        // Optionally add social media links (~30% chance)
-        if (app.getCampaign() != null && app.getCampaign().getSocialMedia() != null) {
-            String socialLink = messageTemplates.getRandomSocialMediaLink(app.getCampaign().getSocialMedia());
-            if (socialLink != null) {
-                embed.addField("📱 Follow Us", socialLink, false);
-            }
-        }
-
-        // Add image if available
-        if (app.getCampaign() != null &&
-                app.getCampaign().getImages() != null &&
-                !app.getCampaign().getImages().isEmpty()) {
-            String imageUrl = app.getCampaign().getImages().getFirst().getAppLogo();
-            if (imageUrl != null && !imageUrl.isBlank() && !imageUrl.contains("...")) {
-                embed.setImage(imageUrl);
-            }
-        }
-
-        // Add MIKROS Marketing footer (always on step 4, randomly on steps 1-2)
-        if (messageTemplates.shouldShowMikrosFooter(step)) {
-            embed.setFooter(messageTemplates.getRandomMikrosFooter());
-        } else {
-            embed.setFooter("Powered by MIKROS Marketing");
-        }
-        embed.setTimestamp(Instant.now());
-
-        channel.sendMessageEmbeds(embed.build()).queue(
-                success -> logger.debug("Successfully posted promotion step {} for app {}", step, app.getAppId()),
-                error -> logger.error("Failed to send promotion message", error)
-        );
+    private void postAppPromotion(String guildId, MessageChannel channel, AppPromotion app, int step,
+                                  long catalogVersion, Instant now) {
+        MessageEmbed promotion = embedCache.getAppEmbed(catalogVersion, app, step,
+                random.nextInt(PromotionEmbedCache.VARIANTS_PER_STEP));
+        announcementDispatcher.submit(new AnnouncementJob(guildId,
+                "promotion:" + app.getAppId() + ":" + step + ":" + now.getEpochSecond(), channel.getId(),
+                () -> channel.sendMessageEmbeds(promotion)), Duration.ZERO);
     }
 
     /**
      * Posts a multi-game promotion (step 3).
      *
-     * @param channel the channel
-     * @param apps    list of active apps to promote
+     * @param guildId        the guild ID
+     * @param channel        the channel
+     * @param apps           list of active apps to promote
+     * @param catalogVersion the catalog version the apps came from
+     * @param now            the time the step is recorded at (announcement dedupe key)
      */
-    private void postMultiGamePromotion(MessageChannel channel, List<AppPromotion> apps) {
-        EmbedBuilder embed = new EmbedBuilder();
-        embed.setTitle("🌟 MIKROS Top Picks for this month");
-        embed.setColor(Color.MAGENTA);
-
-        // Get template for step 3
-        String template = messageTemplates.getTemplate(3);
-        String message = messageTemplates.formatMessage(template, null, apps);
-
-        embed.setDescription(message);
-
-        // Add each app with its description and CTA
-        for (AppPromotion app : apps) {
-            StringBuilder appInfo = new StringBuilder(app.getShortDescription());
-
-            // Add primary CTA for this app
-            List<String> ctas = messageTemplates.getAvailableCtas(app);
-            if (!ctas.isEmpty()) {
-                appInfo.append("\n").append(ctas.getFirst()); // Use first available CTA
-            }
-
-            embed.addField(app.getAppName(), appInfo.toString(), false);
-        }
-
-        // Add social media links if available (from first app)
-        if (!apps.isEmpty() && apps.getFirst().getCampaign() != null &&
-                apps.getFirst().getCampaign().getSocialMedia() != null) {
-            String socialLink = messageTemplates.getRandomSocialMediaLink(
-                    apps.getFirst().getCampaign().getSocialMedia());
-            if (socialLink != null) {
-                embed.addField("📱 Follow Us", socialLink, false);
-            }
-        }
-
-        // Always show MIKROS Marketing footer on step 3 (multi-game promotion)
-        embed.setFooter(messageTemplates.getRandomMikrosFooter());
-        embed.setTimestamp(Instant.now());
-
-        channel.sendMessageEmbeds(embed.build()).queue(
-                success -> logger.debug("Successfully posted multi-game promotion"),
-                error -> logger.error("Failed to send multi-game promotion message", error)
-        );
+    private void postMultiGamePromotion(String guildId, MessageChannel channel, List<AppPromotion> apps,
+                                        long catalogVersion, Instant now) {
+        MessageEmbed promotion = embedCache.getMultiGameEmbed(catalogVersion, apps,
+                random.nextInt(PromotionEmbedCache.VARIANTS_PER_STEP));
+        announcementDispatcher.submit(new AnnouncementJob(guildId,
+                "promotion-multi:" + now.getEpochSecond(), channel.getId(),
+                () -> channel.sendMessageEmbeds(promotion)), Duration.ZERO);
     }
 
     /**
      * Stops the scheduler.
      */
     public void shutdown() {
-        scheduler.shutdown();
+        schedulingRuntime.cancelSubsystem(SUBSYSTEM);
         logger.info("Game promotion scheduler stopped");
     }
 }
@@ -1,6 +1,10 @@
 package com.tatumgames.mikros.services.scheduler;
 
 import com.tatumgames.mikros.models.PromotionVerbosity;
+import com.tatumgames.mikros.scheduling.ScheduleLedger;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.scheduling.Trigger;
 import com.tatumgames.mikros.services.GamePromotionService;
 import com.tatumgames.mikros.services.PromotionOnboardingService;
 import net.dv8tion.jda.api.JDA;
@@ -12,11 +16,10 @@ import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +30,10 @@ public class PromotionOnboardingScheduler {
     private static final Logger logger = LoggerFactory.getLogger(PromotionOnboardingScheduler.class);
     
     private static final long CHECK_INTERVAL_MINUTES = 30;
+    private static final String SUBSYSTEM = "promotion-onboarding";
+    private static final TaskKey CHECK_TASK = TaskKey.global(SUBSYSTEM);
+    private static final String FIRST_SEEN_MARK = "first-seen";
+    private static final String PHASE_MARK_PREFIX = "phase:";
     
     // Channel names to match (case-insensitive, in priority order)
     private static final List<String> PREFERRED_CHANNEL_NAMES = Arrays.asList(
@@ -45,19 +52,22 @@ public class PromotionOnboardingScheduler {
 
     private final PromotionOnboardingService onboardingService;
     private final GamePromotionService gamePromotionService;
-    private ScheduledExecutorService scheduler;
+    private final SchedulingRuntime schedulingRuntime;
 
     /**
      * Creates a new PromotionOnboardingScheduler.
      *
      * @param onboardingService   the onboarding service
      * @param gamePromotionService the game promotion service
+     * @param schedulingRuntime   the shared scheduling runtime
      */
     public PromotionOnboardingScheduler(
             PromotionOnboardingService onboardingService,
-            GamePromotionService gamePromotionService) {
+            GamePromotionService gamePromotionService,
+            SchedulingRuntime schedulingRuntime) {
         this.onboardingService = onboardingService;
         this.gamePromotionService = gamePromotionService;
+        this.schedulingRuntime = schedulingRuntime;
     }
 
     /**
@@ -66,26 +76,21 @@ public class PromotionOnboardingScheduler {
      * @param jda the JDA instance
      */
     public void start(JDA jda) {
-        if (scheduler != null && !scheduler.isShutdown()) {
+        if (schedulingRuntime.isScheduled(CHECK_TASK)) {
             logger.warn("Onboarding scheduler already started");
             return;
         }
 
-        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "promotion-onboarding-scheduler");
-            t.setDaemon(true);
-            return t;
-        });
-
         // Run check every 30 minutes
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                logger.debug("Onboarding check triggered");
-                checkAllGuilds(jda);
-            } catch (Exception e) {
-                logger.error("Error in onboarding check", e);
-            }
-        }, 0, CHECK_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        schedulingRuntime.schedule(CHECK_TASK,
+                Trigger.every(Duration.ofMinutes(CHECK_INTERVAL_MINUTES), Duration.ZERO), () -> {
+                    try {
+                        logger.debug("Onboarding check triggered");
+                        checkAllGuilds(jda);
+                    } catch (Exception e) {
+                        logger.error("Error in onboarding check", e);
+                    }
+                });
 
         logger.info("Promotion onboarding scheduler started (checks every {} minutes)", CHECK_INTERVAL_MINUTES);
     }
@@ -94,8 +99,7 @@ public class PromotionOnboardingScheduler {
      * Stops the onboarding scheduler.
      */
     public void stop() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
+        if (schedulingRuntime.cancel(CHECK_TASK)) {
             logger.info("Promotion onboarding scheduler stopped");
         }
     }
@@ -129,29 +133,59 @@ public class PromotionOnboardingScheduler {
             return;
         }
 
-        // Ensure guild is recorded
-        onboardingService.recordGuildFirstSeen(guildId);
+        // Ensure guild is recorded, carrying first-seen and completed phases over restarts
+        TaskKey guildKey = TaskKey.of(SUBSYSTEM, guildId);
+        syncWithLedger(guildId, guildKey);
 
         // Check and execute each phase
         PromotionOnboardingService.Phase phase1 = PromotionOnboardingService.Phase.PHASE_1_SOFT_AWARENESS;
         if (onboardingService.shouldProcessPhase(guildId, phase1)) {
             executePhase1(guild);
-            onboardingService.markPhaseCompleted(guildId, phase1);
+            completePhase(guildId, guildKey, phase1);
         }
 
         PromotionOnboardingService.Phase phase2 = PromotionOnboardingService.Phase.PHASE_2_EXPECTATION;
         if (onboardingService.shouldProcessPhase(guildId, phase2)) {
             executePhase2(guild);
-            onboardingService.markPhaseCompleted(guildId, phase2);
+            completePhase(guildId, guildKey, phase2);
         }
 
         PromotionOnboardingService.Phase phase3 = PromotionOnboardingService.Phase.PHASE_3_AUTO_ASSIST;
         if (onboardingService.shouldProcessPhase(guildId, phase3)) {
             executePhase3(guild);
-            onboardingService.markPhaseCompleted(guildId, phase3);
+            completePhase(guildId, guildKey, phase3);
         }
     }
 
+    /**
+     * Brings the onboarding service and the schedule ledger in line for a guild: a persisted first-seen
+     * time wins over one recorded since startup, and phases completed before a restart stay completed.
+     *
+     * @param guildId  the guild ID
+     * @param guildKey the guild's ledger key
+     */
+    private void syncWithLedger(String guildId, TaskKey guildKey) {
+        ScheduleLedger ledger = schedulingRuntime.getLedger();
+        Instant persistedFirstSeen = ledger.getMark(guildKey, FIRST_SEEN_MARK);
+        if (persistedFirstSeen != null) {
+            onboardingService.restoreGuildFirstSeen(guildId, persistedFirstSeen);
+        } else {
+            onboardingService.recordGuildFirstSeen(guildId);
+            ledger.setMark(guildKey, FIRST_SEEN_MARK, onboardingService.getGuildFirstSeenTime(guildId));
+        }
+
+        for (PromotionOnboardingService.Phase phase : PromotionOnboardingService.Phase.values()) {
+            if (ledger.getMark(guildKey, PHASE_MARK_PREFIX + phase.name()) != null) {
+                onboardingService.markPhaseCompleted(guildId, phase);
+            }
+        }
+    }
+
+    private void completePhase(String guildId, TaskKey guildKey, PromotionOnboardingService.Phase phase) {
+        onboardingService.markPhaseCompleted(guildId, phase);
+        schedulingRuntime.getLedger().setMark(guildKey, PHASE_MARK_PREFIX + phase.name(), Instant.now());
+    }
+
     /**
      * Executes Phase 1: Soft Awareness (1 hour after first seen).
      * Sends a gentle DM to admins about opt-in promotions.
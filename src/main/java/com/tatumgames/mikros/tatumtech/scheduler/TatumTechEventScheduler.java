@@ -1,11 +1,19 @@
 package com.tatumgames.mikros.tatumtech.scheduler;
 
 import com.tatumgames.mikros.models.AppPromotion;
+import com.tatumgames.mikros.scheduling.CalendarTrigger;
+import com.tatumgames.mikros.scheduling.ScheduleLedger;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.services.AppCatalogCache;
 import com.tatumgames.mikros.services.GamePromotionService;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import com.tatumgames.mikros.services.dispatch.AnnouncementJob;
 import com.tatumgames.mikros.tatumtech.template.TatumTechEventTemplates;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.channel.concrete.NewsChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
@@ -14,18 +22,14 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.*;
 import java.time.*;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
  * Scheduler for Tatum Tech event promotions.
  * Posts preset event messages on specific dates (4 times per year).
  * Respects active campaigns and only posts when no active campaigns are running.
+ * A {@link CalendarTrigger} fires exactly at the post time on each scheduled date; posts are fanned out
+ * through the {@link AnnouncementDispatcher}, keyed by occurrence so a rerun or restart never double-posts.
  */
 public class TatumTechEventScheduler {
     private static final Logger logger = LoggerFactory.getLogger(TatumTechEventScheduler.class);
@@ -41,19 +45,25 @@ public class TatumTechEventScheduler {
     );
 
     // Post time: 10:00 AM PST (18:00 UTC)
-    private static final int POST_HOUR_UTC = 18;
-    private static final int POST_MINUTE = 0;
+    private static final LocalTime POST_TIME_UTC = LocalTime.of(18, 0);
+
+    // A run later than this after its occurrence (e.g. a long outage) no longer posts it
+    private static final Duration POST_GRACE = Duration.ofHours(12);
+
+    private static final String SUBSYSTEM = "tatum-tech-events";
+    private static final TaskKey CHECK_TASK = TaskKey.global(SUBSYSTEM);
+    private static final String POSTED_MARK_PREFIX = "posted:";
 
     private final GamePromotionService gamePromotionService;
+    private final AppCatalogCache appCatalogCache;
+    private final AnnouncementDispatcher announcementDispatcher;
     private final TatumTechEventTemplates templates;
-    private final ScheduledExecutorService scheduler;
+    private final SchedulingRuntime schedulingRuntime;
     private final String recapMonthYear;
     private final String recapVideoUrl;
+    private final CalendarTrigger trigger;
     private JDA jda;
 
-    // Track which dates have been posted this year (guildId -> set of dates posted)
-    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Boolean>> postedDates = new ConcurrentHashMap<>();
-
     /**
      * Represents a scheduled event date.
      */
@@ -71,6 +81,10 @@ public class TatumTechEventScheduler {
         String getKey() {
             return month + "-" + day;
         }
+
+        MonthDay getMonthDay() {
+            return MonthDay.of(month, day);
+        }
     }
 
     /**
@@ -85,107 +99,110 @@ public class TatumTechEventScheduler {
      * Creates a new TatumTechEventScheduler.
      *
      * @param gamePromotionService the game promotion service
+     * @param appCatalogCache      the shared app catalog cache
      * @param recapMonthYear       the recap month and year (e.g., "October 2025")
      * @param recapVideoUrl        the recap video URL
+     * @param announcementDispatcher the shared dispatcher that spreads event posts across guilds
+     * @param schedulingRuntime    the shared scheduling runtime
      */
     public TatumTechEventScheduler(
             GamePromotionService gamePromotionService,
+            AppCatalogCache appCatalogCache,
             String recapMonthYear,
-            String recapVideoUrl) {
+            String recapVideoUrl,
+            AnnouncementDispatcher announcementDispatcher,
+            SchedulingRuntime schedulingRuntime) {
         this.gamePromotionService = gamePromotionService;
+        this.appCatalogCache = appCatalogCache;
+        this.announcementDispatcher = announcementDispatcher;
         this.templates = new TatumTechEventTemplates();
         this.recapMonthYear = recapMonthYear;
         this.recapVideoUrl = recapVideoUrl;
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "tatum-tech-event-scheduler");
-            t.setDaemon(true);
-            return t;
-        });
+        this.schedulingRuntime = schedulingRuntime;
+        this.trigger = CalendarTrigger.of(
+                SCHEDULED_DATES.stream().map(EventDate::getMonthDay).toList(), POST_TIME_UTC, ZoneOffset.UTC);
         logger.info("TatumTechEventScheduler initialized");
     }
 
     /**
      * Starts the event scheduler.
-     * Checks daily at the scheduled post time to see if it's time to post.
+     * Fires once at the post time on each scheduled date.
      *
      * @param jda the JDA instance
      */
     public void start(JDA jda) {
         this.jda = jda;
 
-        // Calculate initial delay to next check (check at top of each hour)
-        long initialDelay = calculateInitialDelay();
-        
-        // Run check every hour
-        scheduler.scheduleAtFixedRate(() -> {
+        Instant firstFire = schedulingRuntime.schedule(CHECK_TASK, trigger, () -> {
             try {
-                checkAndPostEvents();
+                postScheduledEvent();
             } catch (Exception e) {
                 logger.error("Error in Tatum Tech event scheduler", e);
             }
-        }, initialDelay, 60, TimeUnit.MINUTES);
-
-        logger.info("Tatum Tech event scheduler started (checks every hour, posts at {}:{} UTC on scheduled dates)",
-                POST_HOUR_UTC, POST_MINUTE);
-    }
+        });
 
-    /**
-     * Calculates initial delay to next hour boundary.
-     *
-     * @return delay in minutes
-     */
-    private long calculateInitialDelay() {
-        Instant now = Instant.now();
-        Instant nextHour = now.truncatedTo(ChronoUnit.HOURS).plus(1, ChronoUnit.HOURS);
-        return ChronoUnit.MINUTES.between(now, nextHour);
+        logger.info("Tatum Tech event scheduler started (posts at {} UTC on scheduled dates, next at {})",
+                POST_TIME_UTC, firstFire);
     }
 
     /**
-     * Checks if it's time to post any scheduled events and posts them.
+     * Posts the event whose occurrence this run belongs to. A run normally fires at the occurrence
+     * itself; a catch-up run after a restart may be later and still posts it within the grace period.
      */
-    private void checkAndPostEvents() {
+    private void postScheduledEvent() {
         if (jda == null) {
             logger.warn("JDA not initialized, skipping event check");
             return;
         }
 
         Instant now = Instant.now();
-        ZonedDateTime utcNow = now.atZone(ZoneOffset.UTC);
-        int currentMonth = utcNow.getMonthValue();
-        int currentDay = utcNow.getDayOfMonth();
-        int currentHour = utcNow.getHour();
-        int currentMinute = utcNow.getMinute();
-
-        // Check if it's the scheduled post time
-        if (currentHour != POST_HOUR_UTC || currentMinute != POST_MINUTE) {
+        Instant occurrence = trigger.previousFireTime(now);
+        if (occurrence == null || Duration.between(occurrence, now).compareTo(POST_GRACE) > 0) {
+            logger.info("No Tatum Tech event occurrence within {}h of {}, skipping", POST_GRACE.toHours(), now);
             return;
         }
 
-        // Check if today matches any scheduled date
-        for (EventDate eventDate : SCHEDULED_DATES) {
-            if (eventDate.month == currentMonth && eventDate.day == currentDay) {
-                logger.info("Scheduled Tatum Tech event date detected: {} {} (Version {})",
-                        currentMonth, currentDay, eventDate.version);
-                
-                // Post to all configured guilds
-                for (Guild guild : jda.getGuilds()) {
-                    try {
-                        postEventToGuild(guild, eventDate);
-                    } catch (Exception e) {
-                        logger.error("Error posting Tatum Tech event to guild {}", guild.getId(), e);
-                    }
+        MonthDay occurrenceDate = MonthDay.from(occurrence.atZone(ZoneOffset.UTC));
+        EventDate eventDate = SCHEDULED_DATES.stream()
+                .filter(date -> date.getMonthDay().equals(occurrenceDate))
+                .findFirst()
+                .orElse(null);
+        if (eventDate == null) {
+            return;
+        }
+        logger.info("Scheduled Tatum Tech event date reached: {} (Version {})", occurrenceDate, eventDate.version);
+
+        // Check for active campaigns - don't interrupt active campaigns
+        List<AppPromotion> activeApps = appCatalogCache.getSnapshot().getActiveApps(now);
+        if (!activeApps.isEmpty()) {
+            logger.info("{} active campaign(s), skipping Tatum Tech event to avoid interruption", activeApps.size());
+            return;
+        }
+
+        // Post to all configured guilds; the dispatcher spreads the posts out per guild
+        String occurrenceKey = occurrence.atZone(ZoneOffset.UTC).toLocalDate() + "-" + eventDate.getKey();
+        int queued = 0;
+        for (Guild guild : jda.getGuilds()) {
+            try {
+                if (postEventToGuild(guild, eventDate, occurrenceKey)) {
+                    queued++;
                 }
+            } catch (Exception e) {
+                logger.error("Error posting Tatum Tech event to guild {}", guild.getId(), e);
             }
         }
+        logger.info("Queued Tatum Tech event {} for {} guild(s)", occurrenceKey, queued);
     }
 
     /**
      * Posts a Tatum Tech event message to a guild if conditions are met.
      *
-     * @param guild     the guild
-     * @param eventDate the event date
+     * @param guild         the guild
+     * @param eventDate     the event date
+     * @param occurrenceKey the occurrence's idempotency key (date of the occurrence plus event date)
+     * @return true if the post was queued
      */
-    private void postEventToGuild(Guild guild, EventDate eventDate) {
+    private boolean postEventToGuild(Guild guild, EventDate eventDate, String occurrenceKey) {
         String guildId = guild.getId();
         String dateKey = eventDate.getKey();
 
@@ -193,30 +210,15 @@ public class TatumTechEventScheduler {
         String channelId = gamePromotionService.getPromotionChannel(guildId);
         if (channelId == null) {
             logger.debug("Guild {} has no promotion channel configured, skipping Tatum Tech event", guildId);
-            return;
-        }
-
-        // Check if we've already posted this event today
-        ConcurrentHashMap<String, Boolean> guildPostedDates = postedDates.computeIfAbsent(
-                guildId, k -> new ConcurrentHashMap<>());
-        
-        String todayKey = LocalDate.now().toString() + "-" + dateKey;
-        if (guildPostedDates.containsKey(todayKey)) {
-            logger.debug("Already posted Tatum Tech event {} to guild {} today", dateKey, guildId);
-            return;
+            return false;
         }
 
-        // Check for active campaigns - don't interrupt active campaigns
-        List<AppPromotion> allApps = gamePromotionService.fetchAllApps();
-        List<AppPromotion> activeApps = allApps.stream()
-                .filter(app -> isWithinCampaignWindow(app, Instant.now()))
-                .filter(AppPromotion::isCampaignActive)
-                .collect(Collectors.toList());
-
-        if (!activeApps.isEmpty()) {
-            logger.info("Guild {} has {} active campaign(s), skipping Tatum Tech event to avoid interruption",
-                    guildId, activeApps.size());
-            return;
+        // Check if we've already posted this occurrence (posted dates live in the schedule ledger)
+        TaskKey guildKey = TaskKey.of(SUBSYSTEM, guildId);
+        ScheduleLedger ledger = schedulingRuntime.getLedger();
+        if (ledger.getMark(guildKey, POSTED_MARK_PREFIX + occurrenceKey) != null) {
+            logger.debug("Already posted Tatum Tech event {} to guild {}", dateKey, guildId);
+            return false;
         }
 
         // Try TextChannel first, then NewsChannel
@@ -226,28 +228,33 @@ public class TatumTechEventScheduler {
         if (textChannel == null && newsChannel == null) {
             logger.warn("Configured promotion channel {} not found in guild {} (tried TextChannel and NewsChannel)",
                     channelId, guildId);
-            return;
+            return false;
         }
         
         MessageChannel channel = textChannel != null ? textChannel : newsChannel;
 
+        // Mark as posted before queueing, so a concurrent or restarted check cannot post twice
+        if (!ledger.markOnce(guildKey, POSTED_MARK_PREFIX + occurrenceKey, Instant.now())) {
+            return false;
+        }
+
         // Post the event message
-        postEventMessage(channel, eventDate);
-        
-        // Mark as posted
-        guildPostedDates.put(todayKey, true);
-        
+        postEventMessage(guildId, channel, eventDate, occurrenceKey);
+
         // Clean up old entries (keep only current year)
-        cleanupOldEntries(guildId);
+        cleanupOldEntries(guildKey);
+        return true;
     }
 
     /**
      * Posts a Tatum Tech event message to a channel.
      *
+     * @param guildId   the guild ID
      * @param channel   the channel
      * @param eventDate the event date
+     * @param postKey   the occurrence key for this event (announcement dedupe key)
      */
-    private void postEventMessage(MessageChannel channel, EventDate eventDate) {
+    private void postEventMessage(String guildId, MessageChannel channel, EventDate eventDate, String postKey) {
         EmbedBuilder embed = new EmbedBuilder();
         
         // Set title and color based on version
@@ -272,50 +279,27 @@ public class TatumTechEventScheduler {
         embed.setFooter(templates.getRandomMikrosFooter());
         embed.setTimestamp(Instant.now());
 
-        channel.sendMessageEmbeds(embed.build()).queue(
-                success -> logger.info("Successfully posted Tatum Tech event (Version {}) to channel {}",
-                        eventDate.version, channel.getId()),
-                error -> logger.error("Failed to send Tatum Tech event message", error)
-        );
-    }
-
-    /**
-     * Checks if an app is within its campaign window.
-     *
-     * @param app the app promotion
-     * @param now current time
-     * @return true if within window
-     */
-    private boolean isWithinCampaignWindow(AppPromotion app, Instant now) {
-        if (app.getCampaign() == null) {
-            return false;
-        }
-        Instant startDate = app.getCampaign().getStartDate();
-        Instant endDate = app.getCampaign().getEndDate();
-        return now.isAfter(startDate) && now.isBefore(endDate);
+        MessageEmbed event = embed.build();
+        announcementDispatcher.submit(new AnnouncementJob(guildId, "tatum-tech:" + postKey, channel.getId(),
+                () -> channel.sendMessageEmbeds(event)));
+        logger.info("Queued Tatum Tech event (Version {}) for channel {}", eventDate.version, channel.getId());
     }
 
     /**
      * Cleans up old posted date entries (keeps only current year).
      *
-     * @param guildId the guild ID
+     * @param guildKey the guild's ledger key
      */
-    private void cleanupOldEntries(String guildId) {
-        ConcurrentHashMap<String, Boolean> guildPostedDates = postedDates.get(guildId);
-        if (guildPostedDates == null) {
-            return;
-        }
-
-        String currentYear = String.valueOf(LocalDate.now().getYear());
-        guildPostedDates.entrySet().removeIf(entry -> !entry.getKey().startsWith(currentYear));
+    private void cleanupOldEntries(TaskKey guildKey) {
+        Instant startOfYear = LocalDate.now(ZoneOffset.UTC).withDayOfYear(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        schedulingRuntime.getLedger().pruneMarks(guildKey, startOfYear);
     }
 
     /**
      * Stops the scheduler.
      */
     public void stop() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
+        if (schedulingRuntime.cancel(CHECK_TASK)) {
             logger.info("Tatum Tech event scheduler stopped");
         }
     }
@@ -0,0 +1,140 @@
+package com.tatumgames.mikros.games.rpg.achievements;
+
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the engine dispatches on the changed-counter bitmask: only rules depending on a changed
+ * counter are tested, and each rule set sees changes independently.
+ */
+public class ProgressRuleEngineTest {
+
+    @Test
+    public void testOnlyRulesOnChangedCountersRun() {
+        RPGCharacter character = new RPGCharacter("user-1", "Hero", CharacterClass.WARRIOR);
+        AtomicInteger levelRuns = new AtomicInteger();
+        AtomicInteger exploreRuns = new AtomicInteger();
+        AtomicInteger statsRuns = new AtomicInteger();
+        ProgressRuleEngine<String> engine = new ProgressRuleEngine<>(ProgressRuleSet.LORE_RECOGNITIONS, List.of(
+                countingRule("level", levelRuns, ProgressCounter.LEVEL),
+                countingRule("explore", exploreRuns, ProgressCounter.EXPLORES),
+                countingRule("stats", statsRuns, ProgressCounter.STATS)));
+
+        // A new character has every counter marked, so its first evaluation tests every rule
+        assertEquals(List.of("level", "explore", "stats"), engine.evaluate(character));
+        assertRuns(1, 1, 1, levelRuns, exploreRuns, statsRuns);
+
+        assertEquals(List.of(), engine.evaluate(character), "Nothing changed");
+        assertRuns(1, 1, 1, levelRuns, exploreRuns, statsRuns);
+
+        character.incrementExploreCount();
+        assertEquals(List.of("explore"), engine.evaluate(character));
+        assertRuns(1, 2, 1, levelRuns, exploreRuns, statsRuns);
+
+        character.getStats().setLuck(character.getStats().getLuck() + 1);
+        assertEquals(List.of("stats"), engine.evaluate(character), "Luck is one of the stats");
+        assertRuns(1, 2, 2, levelRuns, exploreRuns, statsRuns);
+
+        character.incrementRestCount();
+        assertEquals(List.of(), engine.evaluate(character), "No rule depends on rests");
+        assertRuns(1, 2, 2, levelRuns, exploreRuns, statsRuns);
+    }
+
+    @Test
+    public void testRuleDependingOnSeveralCountersRunsOncePerEvaluation() {
+        RPGCharacter character = new RPGCharacter("user-1", "Hero", CharacterClass.MAGE);
+        AtomicInteger runs = new AtomicInteger();
+        ProgressRuleEngine<String> engine = new ProgressRuleEngine<>(ProgressRuleSet.LORE_RECOGNITIONS, List.of(
+                countingRule("either", runs, ProgressCounter.EXPLORES, ProgressCounter.BOSS_KILLS)));
+        engine.evaluate(character);
+
+        character.incrementExploreCount();
+        character.incrementBossesKilled();
+        engine.evaluate(character);
+        assertEquals(2, runs.get());
+
+        character.incrementBossesKilled();
+        engine.evaluate(character);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void testRulesBeyondTheFirstMaskWordAreDispatched() {
+        RPGCharacter character = new RPGCharacter("user-1", "Hero", CharacterClass.ROGUE);
+        List<ProgressRule<Integer>> rules = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            ProgressCounter counter = i % 2 == 0 ? ProgressCounter.EXPLORES : ProgressCounter.LEVEL;
+            int reward = i;
+            rules.add(ProgressRule.of(reward, c -> true, counter));
+        }
+        ProgressRuleEngine<Integer> engine = new ProgressRuleEngine<>(ProgressRuleSet.LORE_RECOGNITIONS, rules);
+        assertEquals(130, engine.evaluate(character).size());
+
+        character.incrementExploreCount();
+        List<Integer> satisfied = engine.evaluate(character);
+
+        assertEquals(65, satisfied.size());
+        for (int i = 0; i < satisfied.size(); i++) {
+            assertEquals(2 * i, satisfied.get(i), "Rewards come back in rule order");
+        }
+    }
+
+    @Test
+    public void testRuleSetsTrackChangesIndependently() {
+        RPGCharacter character = new RPGCharacter("user-1", "Hero", CharacterClass.PRIEST);
+        AtomicInteger loreRuns = new AtomicInteger();
+        AtomicInteger achievementRuns = new AtomicInteger();
+        ProgressRuleEngine<String> lore = new ProgressRuleEngine<>(ProgressRuleSet.LORE_RECOGNITIONS,
+                List.of(countingRule("lore", loreRuns, ProgressCounter.EXPLORES)));
+        ProgressRuleEngine<String> achievements = new ProgressRuleEngine<>(ProgressRuleSet.FIRST_TO_ACHIEVEMENTS,
+                List.of(countingRule("achievement", achievementRuns, ProgressCounter.EXPLORES)));
+        lore.evaluate(character);
+        achievements.evaluate(character);
+
+        character.incrementExploreCount();
+        lore.evaluate(character);
+        lore.evaluate(character);
+
+        assertEquals(2, loreRuns.get());
+        assertEquals(List.of("achievement"), achievements.evaluate(character),
+                "Another set's evaluation does not consume this set's changes");
+        assertEquals(2, achievementRuns.get());
+    }
+
+    @Test
+    public void testFailingConditionIsRetestedOnTheNextChange() {
+        RPGCharacter character = new RPGCharacter("user-1", "Hero", CharacterClass.KNIGHT);
+        ProgressRuleEngine<String> engine = new ProgressRuleEngine<>(ProgressRuleSet.LORE_RECOGNITIONS, List.of(
+                ProgressRule.of("three explores", c -> c.getTotalExplores() >= 3, ProgressCounter.EXPLORES)));
+
+        assertEquals(List.of(), engine.evaluate(character));
+        character.incrementExploreCount();
+        character.incrementExploreCount();
+        assertEquals(List.of(), engine.evaluate(character));
+        character.incrementExploreCount();
+        assertEquals(List.of("three explores"), engine.evaluate(character));
+        assertEquals(List.of("three explores"), engine.evaluateAll(character), "evaluateAll ignores the mask");
+    }
+
+    private static ProgressRule<String> countingRule(String reward, AtomicInteger runs,
+                                                     ProgressCounter first, ProgressCounter... rest) {
+        return ProgressRule.of(reward, character -> {
+            runs.incrementAndGet();
+            return true;
+        }, first, rest);
+    }
+
+    private static void assertRuns(int level, int explore, int stats,
+                                   AtomicInteger levelRuns, AtomicInteger exploreRuns, AtomicInteger statsRuns) {
+        assertEquals(level, levelRuns.get(), "level rule runs");
+        assertEquals(explore, exploreRuns.get(), "explore rule runs");
+        assertEquals(stats, statsRuns.get(), "stats rule runs");
+    }
+}
@@ -0,0 +1,119 @@
+package com.tatumgames.mikros.games.rpg.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests rank and page results of the treap against a sorted list, through re-puts and removes.
+ */
+public class RankedIndexTest {
+    // Highest score first, then id, as a leaderboard orders them
+    private static final Comparator<Score> ORDER = Comparator.comparingLong(Score::points).reversed()
+            .thenComparing(Score::id);
+
+    private record Score(long points, String id) {
+    }
+
+    @Test
+    public void testRankAndPageMatchASortedListThroughRePutsAndRemoves() {
+        SplittableRandom random = new SplittableRandom(2024);
+        RankedIndex<Score> index = new RankedIndex<>(ORDER);
+        Map<String, Score> expected = new HashMap<>();
+
+        for (int op = 0; op < 20_000; op++) {
+            String id = "player-" + random.nextInt(600);
+            int action = random.nextInt(10);
+            if (action < 6) {
+                // Small score range so many entries tie on points and fall back to the id
+                Score score = new Score(random.nextInt(50), id);
+                index.put(id, score);
+                expected.put(id, score);
+            } else if (action < 8) {
+                Score current = expected.get(id);
+                if (current != null) {
+                    Score moved = new Score(current.points() + random.nextInt(-5, 6), id);
+                    index.put(id, moved);
+                    expected.put(id, moved);
+                }
+            } else {
+                assertEquals(expected.remove(id) != null, index.remove(id));
+            }
+
+            if (op % 500 == 0) {
+                assertMatches(expected, index, random);
+            }
+        }
+        assertMatches(expected, index, random);
+    }
+
+    @Test
+    public void testRePutWithSameKeyKeepsPosition() {
+        RankedIndex<Score> index = new RankedIndex<>(ORDER);
+        index.put("a", new Score(10, "a"));
+        index.put("b", new Score(20, "b"));
+        index.put("c", new Score(5, "c"));
+        index.put("a", new Score(10, "a"));
+
+        assertEquals(3, index.size());
+        assertEquals(List.of("b", "a", "c"), index.page(0, 10));
+
+        index.put("c", new Score(30, "c"));
+        assertEquals(List.of("c", "b", "a"), index.page(0, 10));
+        assertEquals(0, index.rankOf("c"));
+        assertEquals(2, index.rankOf("a"));
+    }
+
+    @Test
+    public void testEdgeCases() {
+        RankedIndex<Score> index = new RankedIndex<>(ORDER);
+        assertEquals(List.of(), index.page(0, 10));
+        assertEquals(-1, index.rankOf("missing"));
+        assertFalse(index.remove("missing"));
+
+        for (int i = 0; i < 10; i++) {
+            index.put("p" + i, new Score(i, "p" + i));
+        }
+        assertEquals(List.of(), index.page(10, 5), "Offset past the end");
+        assertEquals(List.of(), index.page(3, 0), "Zero limit");
+        assertEquals(List.of("p1", "p0"), index.page(8, 5), "Page truncated at the end");
+        assertThrows(IllegalArgumentException.class, () -> index.page(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> index.page(0, -1));
+
+        assertTrue(index.remove("p9"));
+        assertEquals(-1, index.rankOf("p9"));
+        assertFalse(index.contains("p9"));
+        assertEquals("p8", index.page(0, 1).getFirst());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.page(0, 5));
+    }
+
+    private static void assertMatches(Map<String, Score> expected, RankedIndex<Score> index, SplittableRandom random) {
+        List<Score> sorted = new ArrayList<>(expected.values());
+        sorted.sort(ORDER);
+        List<String> ids = sorted.stream().map(Score::id).toList();
+
+        assertEquals(ids.size(), index.size());
+        for (int rank = 0; rank < ids.size(); rank++) {
+            assertEquals(rank, index.rankOf(ids.get(rank)), "Rank of " + ids.get(rank));
+            assertTrue(index.contains(ids.get(rank)));
+        }
+        assertEquals(ids, index.page(0, ids.size() + 1));
+
+        for (int i = 0; i < 50; i++) {
+            int offset = random.nextInt(ids.size() + 2);
+            int limit = random.nextInt(40);
+            List<String> slice = ids.subList(Math.min(offset, ids.size()), Math.min(offset + limit, ids.size()));
+            assertEquals(slice, index.page(offset, limit), "page(" + offset + ", " + limit + ")");
+        }
+    }
+}
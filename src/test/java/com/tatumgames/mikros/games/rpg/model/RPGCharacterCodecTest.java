@@ -0,0 +1,276 @@
+package com.tatumgames.mikros.games.rpg.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trip tests for the binary character format, including format evolution and malformed input.
+ */
+public class RPGCharacterCodecTest {
+
+    @Test
+    public void testFreshCharacterRoundTrips() {
+        RPGCharacter character = new RPGCharacter("402918374650192837", "Ashen Wanderer", CharacterClass.ROGUE);
+
+        RPGCharacter decoded = roundTrip(character);
+
+        assertEquals("402918374650192837", decoded.getDiscordId());
+        assertEquals("Ashen Wanderer", decoded.getName());
+        assertEquals(CharacterClass.ROGUE, decoded.getCharacterClass());
+        assertEquals(character.getLevel(), decoded.getLevel());
+        assertEquals(character.getActionCharges(), decoded.getActionCharges());
+        assertEquals(character.getStats().getMaxHp(), decoded.getStats().getMaxHp());
+        assertNull(decoded.getTitle());
+        assertNull(decoded.getLastActionType());
+        assertNull(decoded.getInventory().getActiveInfusion());
+        assertTrue(decoded.getStoryFlags().isEmpty());
+        assertEquals(character.getCreatedAt().getEpochSecond(), decoded.getCreatedAt().getEpochSecond());
+        assertArrayEquals(encode(character), encode(decoded), "Re-encoding should give the same bytes");
+    }
+
+    @Test
+    public void testFullCharacterRoundTrips() {
+        RPGCharacter character = fullCharacter("918273645501928374", "Frostborne Vigil");
+
+        RPGCharacter decoded = roundTrip(character);
+
+        assertEquals(character.getLevel(), decoded.getLevel());
+        assertEquals(character.getXp(), decoded.getXp());
+        assertEquals(character.getStats().getStrength(), decoded.getStats().getStrength());
+        assertEquals(character.getStats().getCurrentHp(), decoded.getStats().getCurrentHp());
+        assertEquals(character.getTotalExplores(), decoded.getTotalExplores());
+        assertEquals(character.getEnemiesKilled(), decoded.getEnemiesKilled());
+        assertEquals(character.getBossesKilled(), decoded.getBossesKilled());
+        assertEquals("Frostborne's Chosen", decoded.getTitle());
+        assertEquals("GRAVEBOUND_PRESENCE", decoded.getLegendaryAura());
+        assertEquals("explore", decoded.getLastActionType());
+        assertEquals(List.of("Echo of the Shattering", "Ember Pact"), decoded.getStoryFlags());
+        assertEquals(Set.of(InfusionType.FROST_CLARITY, InfusionType.GALE_FORTUNE), decoded.getInfusionsCrafted());
+        assertEquals(0.15, decoded.getDarkRelicXpBonus());
+        assertEquals(0.1, decoded.getDarkRelicDamagePenalty());
+        assertTrue(decoded.isDead());
+        assertTrue(decoded.hasFrostbite());
+
+        RPGInventory inventory = decoded.getInventory();
+        for (EssenceType essence : EssenceType.values()) {
+            assertEquals(3 + essence.ordinal(), inventory.getEssenceCount(essence));
+        }
+        for (CatalystType catalyst : CatalystType.values()) {
+            assertEquals(1 + catalyst.ordinal(), inventory.getCatalystCount(catalyst));
+        }
+        assertEquals(1, inventory.getCraftedBonus(CraftedStat.STR));
+        assertEquals(InfusionType.FROST_CLARITY, inventory.getActiveInfusion());
+        assertEquals(character.getInventory().getInfusionExpiresAt().getEpochSecond(),
+                inventory.getInfusionExpiresAt().getEpochSecond());
+        assertArrayEquals(encode(character), encode(decoded), "Re-encoding should give the same bytes");
+    }
+
+    @Test
+    public void testNonSnowflakeIdsRoundTrip() {
+        // Not canonical numbers, or too large to tag: written as strings
+        for (String id : List.of("user-1", "0123", "", "-5", "99999999999999999999", "9223372036854775807",
+                "4611686018427387904")) {
+            RPGCharacter character = new RPGCharacter(id, "Hero", CharacterClass.WARRIOR);
+            character.applyHeroicRefresh(id, 3);
+            RPGCharacter decoded = roundTrip(character);
+            assertEquals(id, decoded.getDiscordId());
+            assertArrayEquals(encode(character), encode(decoded), "Re-encoding " + id);
+        }
+        // Largest snowflake that is still tagged as a number
+        RPGCharacter largest = new RPGCharacter("4611686018427387903", "Hero", CharacterClass.WARRIOR);
+        assertEquals("4611686018427387903", roundTrip(largest).getDiscordId());
+        assertEquals("0", roundTrip(new RPGCharacter("0", "Hero", CharacterClass.WARRIOR)).getDiscordId());
+    }
+
+    @Test
+    public void testNonBmpAndMultiByteNamesRoundTrip() {
+        for (String name : List.of("Frost 🧊 Wyrm", "𝔊𝔯𝔞𝔳𝔢𝔟𝔬𝔲𝔫𝔡", "Ælfrīc the Ünbroken", "氷の騎士", "🐉")) {
+            RPGCharacter character = new RPGCharacter("1", name, CharacterClass.MAGE);
+            character.setTitle(name);
+            character.addStoryFlag(name);
+            RPGCharacter decoded = roundTrip(character);
+            assertEquals(name, decoded.getName());
+            assertEquals(name, decoded.getTitle());
+            assertEquals(List.of(name), decoded.getStoryFlags());
+        }
+    }
+
+    @Test
+    public void testUnpairedSurrogatesAreWrittenAsStringGetBytesWould() {
+        String name = "Broken\uD83Dpair\uDC09";
+        RPGCharacter decoded = roundTrip(new RPGCharacter("1", name, CharacterClass.MAGE));
+        assertEquals(new String(name.getBytes(java.nio.charset.StandardCharsets.UTF_8),
+                java.nio.charset.StandardCharsets.UTF_8), decoded.getName());
+    }
+
+    @Test
+    public void testDirectBuffersRoundTrip() {
+        RPGCharacter character = fullCharacter("1", "Frost 🧊 Wyrm");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        RPGCharacterCodec.encode(character, buffer);
+        buffer.flip();
+
+        RPGCharacter decoded = RPGCharacterCodec.decode(buffer);
+
+        assertEquals("Frost 🧊 Wyrm", decoded.getName());
+        assertFalse(buffer.hasRemaining());
+        assertArrayEquals(encode(character), encode(decoded));
+    }
+
+    @Test
+    public void testFieldsAppendedByNewerWriterAreSkipped() {
+        RPGCharacter character = fullCharacter("918273645501928374", "Frostborne Vigil");
+        ByteBuffer buffer = ByteBuffer.allocate(2048);
+
+        // A newer writer: same fields, then fields this reader does not know, then the next record
+        BinaryFields.writeVarInt(buffer, RPGCharacterCodec.FORMAT_VERSION + 1);
+        int section = BinaryFields.beginSection(buffer);
+        character.writeState(buffer);
+        BinaryFields.writeVarLong(buffer, Long.MAX_VALUE);
+        BinaryFields.writeString(buffer, "a field from the future");
+        int nested = BinaryFields.beginSection(buffer);
+        buffer.putDouble(Math.PI);
+        BinaryFields.endSection(buffer, nested);
+        BinaryFields.endSection(buffer, section);
+        RPGCharacterCodec.encode(new RPGCharacter("2", "Next", CharacterClass.KNIGHT), buffer);
+        buffer.flip();
+
+        RPGCharacter decoded = RPGCharacterCodec.decode(buffer);
+        RPGCharacter next = RPGCharacterCodec.decode(buffer);
+
+        assertArrayEquals(encode(character), encode(decoded), "Known fields should read as written");
+        assertEquals("Next", next.getName(), "The reader should resume after the whole section");
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testInventoryFieldsAppendedByNewerWriterAreSkipped() {
+        RPGInventory inventory = fullCharacter("1", "Hero").getInventory();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        int section = BinaryFields.beginSection(buffer);
+        inventory.writeState(buffer);
+        BinaryFields.writeVarInt(buffer, 12345);
+        BinaryFields.endSection(buffer, section);
+        BinaryFields.writeVarInt(buffer, 77);
+        buffer.flip();
+
+        int previousLimit = BinaryFields.enterSection(buffer);
+        RPGInventory decoded = new RPGInventory(buffer);
+        BinaryFields.exitSection(buffer, previousLimit);
+
+        assertEquals(inventory.getEssences(), decoded.getEssences());
+        assertEquals(inventory.getCatalysts(), decoded.getCatalysts());
+        assertEquals(inventory.getCraftedBonuses(), decoded.getCraftedBonuses());
+        assertEquals(77, BinaryFields.readVarInt(buffer), "The reader should resume after the section");
+    }
+
+    @Test
+    public void testTruncatedInputThrowsIllegalArgumentException() {
+        byte[] encoded = encode(fullCharacter("918273645501928374", "Frost 🧊 Wyrm"));
+        for (int length = 0; length < encoded.length; length++) {
+            ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(encoded, length));
+            assertThrows(IllegalArgumentException.class, () -> RPGCharacterCodec.decode(truncated),
+                    "Truncated to " + length + " of " + encoded.length + " bytes");
+        }
+    }
+
+    @Test
+    public void testMalformedInputThrowsIllegalArgumentException() {
+        // Unknown format version
+        assertThrows(IllegalArgumentException.class,
+                () -> RPGCharacterCodec.decode(ByteBuffer.wrap(new byte[]{0, 0, 0, 0})));
+        // Varint that never ends
+        assertThrows(IllegalArgumentException.class, () -> RPGCharacterCodec.decode(ByteBuffer.wrap(
+                new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1})));
+        // Section longer than the data
+        assertThrows(IllegalArgumentException.class,
+                () -> RPGCharacterCodec.decode(ByteBuffer.wrap(new byte[]{1, 100, 0, 0})));
+    }
+
+    @Test
+    public void testVarIntsRoundTripAcrossTheirRange() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (int value : new int[]{0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE}) {
+            buffer.clear();
+            BinaryFields.writeVarInt(buffer, value);
+            buffer.flip();
+            assertEquals(value, BinaryFields.readVarInt(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+        for (long value : new long[]{0, 300, Long.MAX_VALUE, -1, Long.MIN_VALUE}) {
+            buffer.clear();
+            BinaryFields.writeVarLong(buffer, value);
+            buffer.flip();
+            assertEquals(value, BinaryFields.readVarLong(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    public void testEncodeIntoUndersizedBufferOverflows() {
+        RPGCharacter character = fullCharacter("1", "Hero");
+        assertThrows(java.nio.BufferOverflowException.class,
+                () -> RPGCharacterCodec.encode(character, ByteBuffer.allocate(32)));
+    }
+
+    private static RPGCharacter fullCharacter(String id, String name) {
+        RPGCharacter character = new RPGCharacter(id, name, CharacterClass.PRIEST);
+        character.addXp(40_000);
+        for (int i = 0; i < 30; i++) {
+            character.incrementExploreCount();
+            character.recordActionType(i % 4 == 0 ? "battle" : "explore");
+            character.incrementEnemiesKilled();
+        }
+        character.recordAction();
+        character.incrementBossesKilled();
+        character.incrementTimesResurrectedOthers();
+        character.recordDuel(true);
+        character.addStoryFlag("Echo of the Shattering");
+        character.addStoryFlag("Ember Pact");
+        character.setTitle("Frostborne's Chosen");
+        character.setLegendaryAura("GRAVEBOUND_PRESENCE");
+        character.setDarkRelicXpBonus(0.15);
+        character.setDarkRelicDamagePenalty(0.1);
+        character.setHasFrostbite(true);
+        character.setLastDonationReceived(Instant.ofEpochSecond(1_700_000_000L));
+        character.applyHeroicRefresh("102938475610293847", 42);
+        character.applyHeroicRefresh("guild-with-text-id", 7);
+        RPGInventory inventory = character.getInventory();
+        for (EssenceType essence : EssenceType.values()) {
+            inventory.addEssence(essence, 3 + essence.ordinal() + CraftedItemType.EMBER_INFUSION.getEssenceCount()
+                    * (essence == EssenceType.EMBER_SHARD ? 1 : 0));
+        }
+        for (CatalystType catalyst : CatalystType.values()) {
+            inventory.addCatalyst(catalyst, 1 + catalyst.ordinal()
+                    + (catalyst == CatalystType.ANCIENT_VIAL ? CraftedItemType.EMBER_INFUSION.getCatalystCount() : 0));
+        }
+        inventory.craft(CraftedItemType.EMBER_INFUSION);
+        inventory.setActiveInfusion(InfusionType.FROST_CLARITY);
+        character.addInfusionCrafted(InfusionType.FROST_CLARITY);
+        character.addInfusionCrafted(InfusionType.GALE_FORTUNE);
+        character.die();
+        return character;
+    }
+
+    private static RPGCharacter roundTrip(RPGCharacter character) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        RPGCharacterCodec.encode(character, buffer);
+        buffer.flip();
+        RPGCharacter decoded = RPGCharacterCodec.decode(buffer);
+        assertFalse(buffer.hasRemaining(), "Decoding should consume exactly the encoded bytes");
+        return decoded;
+    }
+
+    private static byte[] encode(RPGCharacter character) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        RPGCharacterCodec.encode(character, buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
@@ -0,0 +1,176 @@
+package com.tatumgames.mikros.games.rpg.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the ordinal-indexed inventory counts: adding, removing, caps, and the persisted layout.
+ */
+public class RPGInventoryTest {
+
+    @Test
+    public void testAddAndRemoveTrackEachTypeSeparately() {
+        RPGInventory inventory = new RPGInventory();
+        for (EssenceType essence : EssenceType.values()) {
+            inventory.addEssence(essence, 10 + essence.ordinal());
+        }
+        for (CatalystType catalyst : CatalystType.values()) {
+            inventory.addCatalyst(catalyst, 20 + catalyst.ordinal());
+        }
+
+        assertTrue(inventory.removeEssence(EssenceType.MIND_CRYSTAL, 4));
+        assertTrue(inventory.removeCatalyst(CatalystType.MONSTER_CORE, 7));
+        inventory.addEssence(EssenceType.MIND_CRYSTAL, 1);
+
+        for (EssenceType essence : EssenceType.values()) {
+            int expected = essence == EssenceType.MIND_CRYSTAL ? 10 + essence.ordinal() - 3 : 10 + essence.ordinal();
+            assertEquals(expected, inventory.getEssenceCount(essence), essence.name());
+        }
+        for (CatalystType catalyst : CatalystType.values()) {
+            int expected = catalyst == CatalystType.MONSTER_CORE ? 20 + catalyst.ordinal() - 7 : 20 + catalyst.ordinal();
+            assertEquals(expected, inventory.getCatalystCount(catalyst), catalyst.name());
+        }
+        assertEquals(EssenceType.values().length, inventory.getEssences().size());
+        assertEquals(inventory.getCatalystCount(CatalystType.MONSTER_CORE),
+                inventory.getCatalysts().get(CatalystType.MONSTER_CORE));
+    }
+
+    @Test
+    public void testRemovingMoreThanHeldLeavesCountsAtZeroOrAbove() {
+        RPGInventory inventory = new RPGInventory();
+        inventory.addEssence(EssenceType.FATE_CLOVER, 3);
+        inventory.addCatalyst(CatalystType.FROZEN_REAGENT, 1);
+
+        assertFalse(inventory.removeEssence(EssenceType.FATE_CLOVER, 4));
+        assertEquals(3, inventory.getEssenceCount(EssenceType.FATE_CLOVER), "A failed removal takes nothing");
+        assertTrue(inventory.removeEssence(EssenceType.FATE_CLOVER, 3));
+        assertEquals(0, inventory.getEssenceCount(EssenceType.FATE_CLOVER));
+        assertFalse(inventory.removeEssence(EssenceType.FATE_CLOVER, 1));
+        assertEquals(0, inventory.getEssenceCount(EssenceType.FATE_CLOVER));
+        assertFalse(inventory.getEssences().containsKey(EssenceType.FATE_CLOVER), "Empty types are not listed");
+
+        assertFalse(inventory.removeCatalyst(CatalystType.FROZEN_REAGENT, 2));
+        assertTrue(inventory.removeCatalyst(CatalystType.FROZEN_REAGENT, 1));
+        assertFalse(inventory.removeCatalyst(CatalystType.FROZEN_REAGENT, 1));
+        assertEquals(0, inventory.getCatalystCount(CatalystType.FROZEN_REAGENT));
+        assertTrue(inventory.getCatalysts().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> inventory.removeEssence(EssenceType.VITAL_ASH, -1));
+        assertThrows(IllegalArgumentException.class, () -> inventory.addCatalyst(CatalystType.ANCIENT_VIAL, -1));
+    }
+
+    @Test
+    public void testCraftedBonusesAreCappedPerStat() {
+        RPGInventory inventory = new RPGInventory();
+        inventory.addEssence(EssenceType.VITAL_ASH, 2 * CraftedItemType.VITAL_RUNE.getEssenceCount());
+        inventory.addCatalyst(CatalystType.MONSTER_CORE, 2 * CraftedItemType.VITAL_RUNE.getCatalystCount());
+        inventory.addEssence(EssenceType.FATE_CLOVER, CraftedItemType.CHARM_OF_FORTUNE.getEssenceCount());
+        inventory.addCatalyst(CatalystType.RUNIC_BINDING, CraftedItemType.CHARM_OF_FORTUNE.getCatalystCount());
+
+        inventory.craft(CraftedItemType.VITAL_RUNE);
+        assertEquals(5, inventory.getCraftedBonus(CraftedStat.HP));
+        assertFalse(inventory.canCraft(CraftedItemType.VITAL_RUNE), "HP is at its cap");
+        inventory.craft(CraftedItemType.VITAL_RUNE);
+        assertEquals(5, inventory.getCraftedBonus(CraftedStat.HP), "Crafting past the cap does not raise the bonus");
+
+        inventory.craft(CraftedItemType.CHARM_OF_FORTUNE);
+        assertEquals(1, inventory.getCraftedBonus(CraftedStat.LUCK));
+        assertEquals(1, inventory.getCraftedBonus("luck"));
+        assertEquals(0, inventory.getCraftedBonus("CHA"), "Unknown stats have no bonus");
+        assertEquals(Map.of("STR", 0, "AGI", 0, "INT", 0, "LUCK", 1, "HP", 5), inventory.getCraftedBonuses());
+        assertEquals(0, inventory.getEssenceCount(EssenceType.VITAL_ASH));
+        assertEquals(0, inventory.getCatalystCount(CatalystType.RUNIC_BINDING));
+    }
+
+    @Test
+    public void testStateRoundTrips() {
+        RPGInventory inventory = new RPGInventory();
+        for (EssenceType essence : EssenceType.values()) {
+            inventory.addEssence(essence, 200 + 17 * essence.ordinal());
+        }
+        for (CatalystType catalyst : CatalystType.values()) {
+            inventory.addCatalyst(catalyst, 3 + catalyst.ordinal());
+        }
+        inventory.craft(CraftedItemType.MIND_SIGIL);
+        inventory.craft(CraftedItemType.GALE_ETCHING);
+        inventory.craft(CraftedItemType.GALE_ETCHING);
+        inventory.setActiveInfusion(InfusionType.ELEMENTAL_CONVERGENCE);
+
+        RPGInventory decoded = roundTrip(inventory);
+
+        assertEquals(inventory.getEssences(), decoded.getEssences());
+        assertEquals(inventory.getCatalysts(), decoded.getCatalysts());
+        assertEquals(inventory.getCraftedBonuses(), decoded.getCraftedBonuses());
+        assertEquals(2, decoded.getCraftedBonus(CraftedStat.AGI));
+        assertEquals(InfusionType.ELEMENTAL_CONVERGENCE, decoded.getActiveInfusion());
+        assertEquals(inventory.getInfusionExpiresAt().getEpochSecond(), decoded.getInfusionExpiresAt().getEpochSecond());
+        assertArrayEquals(encode(inventory), encode(decoded), "Re-encoding should give the same bytes");
+    }
+
+    @Test
+    public void testPersistedLayoutFollowsDeclarationOrder() {
+        // Saved inventories are indexed by ordinal: new constants must be appended, never reordered
+        RPGInventory inventory = new RPGInventory();
+        inventory.addEssence(EssenceType.EMBER_SHARD, 1);
+        inventory.addEssence(EssenceType.GALE_FRAGMENT, 2);
+        inventory.addEssence(EssenceType.MIND_CRYSTAL, 3);
+        inventory.addEssence(EssenceType.FATE_CLOVER, 4);
+        inventory.addEssence(EssenceType.VITAL_ASH, 5 + CraftedItemType.VITAL_RUNE.getEssenceCount());
+        inventory.addCatalyst(CatalystType.ANCIENT_VIAL, 10);
+        inventory.addCatalyst(CatalystType.RUNIC_BINDING, 11);
+        inventory.addCatalyst(CatalystType.MONSTER_CORE, 12 + CraftedItemType.VITAL_RUNE.getCatalystCount());
+        inventory.addCatalyst(CatalystType.FROZEN_REAGENT, 13);
+        inventory.craft(CraftedItemType.VITAL_RUNE);
+
+        byte[] expected = {
+                5, 1, 2, 3, 4, 5,   // essences: EMBER_SHARD, GALE_FRAGMENT, MIND_CRYSTAL, FATE_CLOVER, VITAL_ASH
+                4, 10, 11, 12, 13,  // catalysts: ANCIENT_VIAL, RUNIC_BINDING, MONSTER_CORE, FROZEN_REAGENT
+                5, 0, 0, 0, 0, 5,   // crafted bonuses: STR, AGI, INT, LUCK, HP
+                0                   // no active infusion
+        };
+        assertArrayEquals(expected, encode(inventory));
+
+        // An older save with fewer types reads the missing ones as zero
+        RPGInventory older = new RPGInventory(ByteBuffer.wrap(new byte[]{2, 7, 8, 0, 1, 3, 0}));
+        assertEquals(7, older.getEssenceCount(EssenceType.EMBER_SHARD));
+        assertEquals(8, older.getEssenceCount(EssenceType.GALE_FRAGMENT));
+        assertEquals(0, older.getEssenceCount(EssenceType.VITAL_ASH));
+        assertTrue(older.getCatalysts().isEmpty());
+        assertEquals(3, older.getCraftedBonus(CraftedStat.STR));
+        assertEquals(0, older.getCraftedBonus(CraftedStat.HP));
+    }
+
+    @Test
+    public void testExpiredInfusionIsNotRestoredAsActive() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        BinaryFields.writeVarInt(buffer, 0);
+        BinaryFields.writeVarInt(buffer, 0);
+        BinaryFields.writeVarInt(buffer, 0);
+        BinaryFields.writeVarInt(buffer, InfusionType.FROST_CLARITY.ordinal() + 1);
+        BinaryFields.writeInstant(buffer, Instant.now().minusSeconds(60));
+        buffer.flip();
+
+        RPGInventory decoded = new RPGInventory(buffer);
+
+        assertFalse(decoded.hasActiveInfusion());
+    }
+
+    private static RPGInventory roundTrip(RPGInventory inventory) {
+        ByteBuffer buffer = ByteBuffer.wrap(encode(inventory));
+        RPGInventory decoded = new RPGInventory(buffer);
+        assertFalse(buffer.hasRemaining(), "Decoding should consume exactly the encoded bytes");
+        return decoded;
+    }
+
+    private static byte[] encode(RPGInventory inventory) {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        inventory.writeState(buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
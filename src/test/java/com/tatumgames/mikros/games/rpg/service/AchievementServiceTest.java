@@ -0,0 +1,67 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.achievements.AchievementType;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that first-to level achievements are claimed once per guild, by the first character to
+ * qualify.
+ */
+public class AchievementServiceTest {
+    private static final String GUILD_ID = "guild-1";
+
+    private final AchievementService achievementService = new AchievementService();
+
+    @Test
+    public void testFirstToAchievementIsAwardedOnce() {
+        RPGCharacter first = new RPGCharacter("user-1", "First", CharacterClass.WARRIOR);
+        RPGCharacter second = new RPGCharacter("user-2", "Second", CharacterClass.MAGE);
+        assertEquals(List.of(), achievementService.claimFirstToAchievements(GUILD_ID, first));
+
+        levelTo(first, 20);
+        assertEquals(List.of(AchievementType.FIRST_TO_LEVEL_20),
+                achievementService.claimFirstToAchievements(GUILD_ID, first));
+        assertEquals(List.of(), achievementService.claimFirstToAchievements(GUILD_ID, first),
+                "Nothing changed since the claim");
+
+        first.incrementExploreCount();
+        levelTo(first, 21);
+        assertEquals(List.of(), achievementService.claimFirstToAchievements(GUILD_ID, first),
+                "Still qualifying does not claim again");
+
+        levelTo(second, 20);
+        assertEquals(List.of(), achievementService.claimFirstToAchievements(GUILD_ID, second),
+                "Already claimed by the first character");
+        assertEquals("user-1", achievementService.getFirstToHolder(GUILD_ID, AchievementType.FIRST_TO_LEVEL_20));
+
+        // Claims are per guild
+        RPGCharacter elsewhere = new RPGCharacter("user-3", "Third", CharacterClass.ROGUE);
+        levelTo(elsewhere, 20);
+        assertEquals(List.of(AchievementType.FIRST_TO_LEVEL_20),
+                achievementService.claimFirstToAchievements("guild-2", elsewhere));
+    }
+
+    @Test
+    public void testMultiLevelJumpClaimsEveryThresholdPassed() {
+        RPGCharacter character = new RPGCharacter("user-1", "Hero", CharacterClass.KNIGHT);
+        achievementService.claimFirstToAchievements(GUILD_ID, character);
+
+        levelTo(character, 50);
+
+        assertEquals(List.of(AchievementType.FIRST_TO_LEVEL_20, AchievementType.FIRST_TO_LEVEL_30,
+                AchievementType.FIRST_TO_LEVEL_50), achievementService.claimFirstToAchievements(GUILD_ID, character));
+        assertEquals(List.of(), achievementService.claimFirstToAchievements(GUILD_ID, character));
+    }
+
+    private static void levelTo(RPGCharacter character, int level) {
+        while (character.getLevel() < level) {
+            character.addXp(character.getXpToNextLevel() - character.getXp());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that windows are applied per guild and that a guild stuck on a character lock does not hold
+ * up other guilds.
+ */
+public class BossAttackBatcherTest {
+    private CharacterService characterService;
+    private BossService bossService;
+    private BossAttackBatcher batcher;
+
+    @BeforeEach
+    public void setUp() {
+        characterService = new CharacterService();
+        GuildModifierService guildModifierService = new GuildModifierService();
+        bossService = new BossService(characterService, guildModifierService,
+                new WorldCurseService(guildModifierService), null);
+        batcher = new BossAttackBatcher(bossService, Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        batcher.shutdown();
+        bossService.shutdown();
+    }
+
+    @Test
+    public void testEachCallerGetsItsOwnDamage() throws Exception {
+        assertNotNull(bossService.spawnNormalBoss("guild-1"));
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            RPGCharacter character = characterService.registerCharacter("user-" + i, "Hero" + i, CharacterClass.WARRIOR);
+            results.add(batcher.submit("guild-1", character));
+        }
+
+        int total = 0;
+        for (CompletableFuture<Integer> result : results) {
+            int damage = result.get(5, TimeUnit.SECONDS);
+            assertTrue(damage > 0, "Every attack on a healthy boss should land");
+            total += damage;
+        }
+        int tallied = bossService.getTopDamageDealers("guild-1", Integer.MAX_VALUE).values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        assertEquals(total, tallied);
+    }
+
+    @Test
+    public void testBlockedGuildDoesNotDelayOtherGuilds() throws Exception {
+        assertNotNull(bossService.spawnNormalBoss("guild-slow"));
+        assertNotNull(bossService.spawnNormalBoss("guild-fast"));
+        RPGCharacter blocked = characterService.registerCharacter("user-blocked", "Stuck", CharacterClass.WARRIOR);
+        RPGCharacter free = characterService.registerCharacter("user-free", "Free", CharacterClass.WARRIOR);
+
+        // Another command holds the slow guild's attacker
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> characterService.withCharacterLock(blocked.getDiscordId(), () -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(held.await(5, TimeUnit.SECONDS));
+
+        try {
+            CompletableFuture<Integer> slow = batcher.submit("guild-slow", blocked);
+            Thread.sleep(50); // The slow guild's window closes first and its flush blocks
+            CompletableFuture<Integer> fast = batcher.submit("guild-fast", free);
+
+            assertTrue(fast.get(5, TimeUnit.SECONDS) > 0, "The other guild's batch should be applied meanwhile");
+            assertFalse(slow.isDone(), "The slow guild is still waiting on the character lock");
+
+            release.countDown();
+            assertTrue(slow.get(5, TimeUnit.SECONDS) > 0);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+}
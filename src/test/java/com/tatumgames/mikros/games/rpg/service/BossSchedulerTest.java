@@ -0,0 +1,163 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.config.RPGConfig;
+import com.tatumgames.mikros.games.rpg.model.Boss;
+import com.tatumgames.mikros.scheduling.MutableClock;
+import com.tatumgames.mikros.scheduling.ScheduleLedger;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests spawn, expiry and warning timers and spawn rescheduling on a clock the test moves by hand.
+ * <p>
+ * Bosses take their expiry from the game clock, so the test clock starts at the current hour and
+ * expiry-relative times are read back from the spawned boss.
+ */
+public class BossSchedulerTest {
+    private static final String GUILD_ID = "guild-1";
+    // Half-hour offset and no DST, so a spawn that honours the zone cannot land on a UTC hour
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+
+    private static final TaskKey SPAWN_KEY = TaskKey.of("boss-spawn", GUILD_ID);
+    private static final TaskKey EXPIRY_KEY = TaskKey.of("boss-expiry", GUILD_ID);
+    private static final TaskKey WARNING_KEY = TaskKey.of("boss-warning", GUILD_ID);
+
+    private Instant start;
+    private MutableClock clock;
+    private SchedulingRuntime runtime;
+    private CharacterService characterService;
+    private BossService bossService;
+    private AnnouncementDispatcher announcementDispatcher;
+    private BossScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        start = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        clock = new MutableClock(start);
+        // Coarser than the usual test tick: the warning test moves the clock most of a day
+        runtime = new SchedulingRuntime(clock, Duration.ofMillis(10), ScheduleLedger.inMemory());
+        runtime.start();
+
+        characterService = new CharacterService();
+        GuildModifierService guildModifierService = new GuildModifierService();
+        WorldCurseService worldCurseService = new WorldCurseService(guildModifierService);
+        bossService = new BossService(characterService, guildModifierService, worldCurseService, null);
+        announcementDispatcher = new AnnouncementDispatcher(Duration.ZERO);
+        scheduler = new BossScheduler(bossService, characterService, worldCurseService,
+                announcementDispatcher, runtime);
+
+        Guild guild = mock(Guild.class);
+        when(guild.getId()).thenReturn(GUILD_ID);
+        when(guild.getName()).thenReturn("Test Guild");
+        JDA jda = mock(JDA.class);
+        when(jda.getGuildById(GUILD_ID)).thenReturn(guild);
+        scheduler.start(jda);
+
+        characterService.getConfig(GUILD_ID).setBossSpawnZone(ZONE);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        runtime.shutdown();
+        announcementDispatcher.shutdown();
+        bossService.shutdown();
+    }
+
+    @Test
+    public void testSpawnFiresAtConfiguredHourInZone() throws InterruptedException {
+        Instant spawnAt = nextLocalHour(1);
+        characterService.getConfig(GUILD_ID).setBossSpawnHour(spawnAt.atZone(ZONE).getHour());
+        scheduler.rescheduleGuild(GUILD_ID);
+        assertEquals(spawnAt, runtime.getNextFireTime(SPAWN_KEY));
+
+        clock.set(spawnAt.minusSeconds(1));
+        Thread.sleep(200);
+        assertNull(currentBoss(), "Spawned before the configured hour");
+
+        clock.set(spawnAt);
+        awaitUntil(() -> currentBoss() != null);
+        awaitUntil(() -> spawnAt.plus(Duration.ofDays(1)).equals(runtime.getNextFireTime(SPAWN_KEY)));
+    }
+
+    @Test
+    public void testExpiryAndWarningTimersFollowTheSpawnedBoss() throws InterruptedException {
+        Instant spawnAt = nextLocalHour(1);
+        characterService.getConfig(GUILD_ID).setBossSpawnHour(spawnAt.atZone(ZONE).getHour());
+        scheduler.rescheduleGuild(GUILD_ID);
+        clock.set(spawnAt);
+        awaitUntil(() -> currentBoss() != null && runtime.getNextFireTime(WARNING_KEY) != null);
+
+        Instant expiresAt = currentBoss().getExpiresAt();
+        assertEquals(expiresAt, runtime.getNextFireTime(EXPIRY_KEY));
+        assertEquals(expiresAt.minus(Duration.ofHours(2)), runtime.getNextFireTime(WARNING_KEY));
+
+        // The expiry has sub-tick precision and the test clock stands still, so step just past each warning
+        clock.set(expiresAt.minus(Duration.ofHours(2)).plusSeconds(1));
+        awaitUntil(() -> expiresAt.minus(Duration.ofHours(1)).equals(runtime.getNextFireTime(WARNING_KEY)));
+
+        clock.set(expiresAt.minus(Duration.ofHours(1)).plusSeconds(1));
+        awaitUntil(() -> !runtime.isScheduled(WARNING_KEY));
+        assertEquals(expiresAt, runtime.getNextFireTime(EXPIRY_KEY), "Warnings do not move the expiry");
+    }
+
+    @Test
+    public void testRescheduleCancelsTheOldSlot() throws InterruptedException {
+        Instant oldSlot = nextLocalHour(1);
+        Instant newSlot = nextLocalHour(3);
+        RPGConfig config = characterService.getConfig(GUILD_ID);
+        config.setBossSpawnHour(oldSlot.atZone(ZONE).getHour());
+        scheduler.rescheduleGuild(GUILD_ID);
+        assertEquals(oldSlot, runtime.getNextFireTime(SPAWN_KEY));
+
+        config.setBossSpawnHour(newSlot.atZone(ZONE).getHour());
+        scheduler.rescheduleGuild(GUILD_ID);
+        assertEquals(newSlot, runtime.getNextFireTime(SPAWN_KEY));
+
+        clock.set(oldSlot.plus(Duration.ofMinutes(30)));
+        Thread.sleep(200);
+        assertNull(currentBoss(), "The old slot still fired");
+
+        clock.set(newSlot);
+        awaitUntil(() -> currentBoss() != null);
+    }
+
+    /**
+     * Gets the start of the local hour in {@link #ZONE} that is {@code hours} after the one the
+     * clock starts in.
+     */
+    private Instant nextLocalHour(int hours) {
+        ZonedDateTime local = start.atZone(ZONE).truncatedTo(ChronoUnit.HOURS);
+        return local.plusHours(hours).toInstant();
+    }
+
+    private Boss currentBoss() {
+        BossService.ServerBossState state = bossService.getState(GUILD_ID);
+        return state != null ? state.getCurrentBoss() : null;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the scheduler");
+            Thread.sleep(5);
+        }
+    }
+}
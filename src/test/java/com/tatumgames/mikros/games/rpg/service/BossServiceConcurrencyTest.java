@@ -0,0 +1,196 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.model.Boss;
+import com.tatumgames.mikros.games.rpg.model.BossHit;
+import com.tatumgames.mikros.games.rpg.model.BossType;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test for lock-free boss HP and exactly-once defeat handling with thousands of attackers.
+ */
+public class BossServiceConcurrencyTest {
+    private static final int ATTACKERS = 2_000;
+    private static final String GUILD_ID = "guild-1";
+
+    @Test
+    public void testConcurrentHitsAreNeverLost() throws Exception {
+        int hitsPerAttacker = 50;
+        Boss boss = new Boss("boss-1", "Sturdy Golem", BossType.GIANT, 1, Integer.MAX_VALUE, 10);
+        LongAdder dealt = new LongAdder();
+        AtomicInteger killingBlows = new AtomicInteger();
+
+        runAttackers(attacker -> {
+            for (int i = 0; i < hitsPerAttacker; i++) {
+                int damage = 1 + (attacker + i) % 7;
+                BossHit hit = boss.takeDamage(damage);
+                if (hit.killingBlow()) {
+                    killingBlows.incrementAndGet();
+                }
+                assertEquals(damage, hit.damage(), "A boss with HP left takes the full hit");
+                dealt.add(damage);
+            }
+        });
+
+        assertEquals(Integer.MAX_VALUE - dealt.intValue(), boss.getCurrentHp(), "Every hit should lower HP");
+        assertEquals(0, killingBlows.get(), "A boss with HP left must not be defeated");
+        assertFalse(boss.isDefeated());
+    }
+
+    @Test
+    public void testExactlyOneKillingBlow() throws Exception {
+        Boss boss = new Boss("boss-1", "Frail Wisp", BossType.SPIRIT, 1, 5_000, 10);
+        AtomicInteger killingBlows = new AtomicInteger();
+        LongAdder applied = new LongAdder();
+
+        runAttackers(attacker -> {
+            for (int i = 0; i < 10; i++) {
+                BossHit hit = boss.takeDamage(3);
+                if (hit.killingBlow()) {
+                    killingBlows.incrementAndGet();
+                }
+                applied.add(hit.damage());
+            }
+        });
+
+        assertEquals(1, killingBlows.get(), "Exactly one hit should report the defeat");
+        assertEquals(5_000, applied.intValue(), "Applied damage should add up to max HP, without overkill");
+        assertEquals(0, boss.getCurrentHp(), "HP should stop at zero");
+        assertTrue(boss.isDefeated());
+    }
+
+    @Test
+    public void testDefeatIsHandledExactlyOnce() throws Exception {
+        CharacterService characterService = new CharacterService();
+        GuildModifierService guildModifierService = new GuildModifierService();
+        BossService bossService = new BossService(characterService, guildModifierService,
+                new WorldCurseService(guildModifierService), null);
+        List<RPGCharacter> characters = new ArrayList<>();
+        for (int i = 0; i < ATTACKERS; i++) {
+            characters.add(characterService.registerCharacter("user-" + i, "Hero" + i, CharacterClass.WARRIOR));
+        }
+        Boss boss = bossService.spawnNormalBoss(GUILD_ID);
+        assertNotNull(boss);
+
+        // Every attacker swings until it is out of heroic charges or the boss is down;
+        // the charge pool is far above the boss's HP
+        LongAdder dealt = new LongAdder();
+        Set<String> landed = ConcurrentHashMap.newKeySet();
+        runAttackers(attacker -> {
+            RPGCharacter character = characters.get(attacker);
+            int damage;
+            while ((damage = bossService.attackBoss(GUILD_ID, character)) > 0) {
+                dealt.add(damage);
+                landed.add(character.getDiscordId());
+            }
+        });
+
+        BossService.ServerBossState state = bossService.getState(GUILD_ID);
+        awaitDefeatHandled(state);
+        try {
+            assertEquals(0, boss.getCurrentHp());
+            assertTrue(boss.isDefeated());
+            assertEquals(1, state.getNormalBossesDefeated(), "Progression should count the defeat once");
+            assertEquals(1, state.getNormalBossesSinceSuper());
+            assertNull(state.getCurrentBoss(), "The defeated boss should be cleared");
+
+            assertEquals(boss.getMaxHp(), dealt.intValue(), "Reported damage should add up to max HP");
+            int topDealers = characters.stream().mapToInt(RPGCharacter::getTopDamageBossKills).sum();
+            for (RPGCharacter character : characters) {
+                int expected = landed.contains(character.getDiscordId()) ? 1 : 0;
+                assertEquals(expected, character.getBossesKilled(),
+                        "Exactly the attackers that landed a hit are credited: " + character.getDiscordId());
+            }
+            assertEquals(1, topDealers, "Exactly one top damage dealer per defeat");
+        } finally {
+            bossService.shutdown();
+        }
+    }
+
+    @Test
+    public void testTallyAddsUpToMaxHp() throws Exception {
+        // Holds the defeat handler back so the fight's tally can be read before it is cleared
+        List<Runnable> deferred = new CopyOnWriteArrayList<>();
+        CharacterService characterService = new CharacterService();
+        GuildModifierService guildModifierService = new GuildModifierService();
+        BossService bossService = new BossService(characterService, guildModifierService,
+                new WorldCurseService(guildModifierService), null, deferred::add);
+        List<RPGCharacter> characters = new ArrayList<>();
+        for (int i = 0; i < ATTACKERS; i++) {
+            characters.add(characterService.registerCharacter("user-" + i, "Hero" + i, CharacterClass.MAGE));
+        }
+        Boss boss = bossService.spawnNormalBoss(GUILD_ID);
+        assertNotNull(boss);
+
+        runAttackers(attacker -> {
+            RPGCharacter character = characters.get(attacker);
+            while (bossService.attackBoss(GUILD_ID, character) > 0) {
+                // Keep swinging
+            }
+        });
+
+        assertEquals(1, deferred.size(), "Exactly one defeat should be handed off");
+        int tallied = bossService.getTopDamageDealers(GUILD_ID, Integer.MAX_VALUE).values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        assertEquals(boss.getMaxHp(), tallied, "The tally should hold exactly the boss's HP");
+
+        deferred.get(0).run();
+        assertNull(bossService.getState(GUILD_ID).getCurrentBoss(), "The defeated boss should be cleared");
+        assertTrue(bossService.getTopDamageDealers(GUILD_ID, 1).isEmpty(), "The fight's tally should be dropped");
+    }
+
+    /**
+     * Waits for the background defeat handler to clear the boss.
+     */
+    private static void awaitDefeatHandled(BossService.ServerBossState state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (state.getCurrentBoss() != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // Give a duplicate handler, if there were one, time to run as well
+        Thread.sleep(100);
+    }
+
+    /**
+     * Runs one task per attacker on virtual threads, all released together.
+     */
+    private static void runAttackers(IntConsumer attack) throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int a = 0; a < ATTACKERS; a++) {
+                int attacker = a;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    attack.accept(attacker);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.actions.DonateAction;
+import com.tatumgames.mikros.games.rpg.actions.ResurrectAction;
+import com.tatumgames.mikros.games.rpg.config.RPGConfig;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test for per-character serialized execution in CharacterService.
+ */
+public class CharacterServiceConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 5_000;
+
+    @Test
+    public void testConcurrentMutationsOfOneCharacterAreNotLost() throws Exception {
+        CharacterService service = new CharacterService();
+        RPGCharacter character = service.registerCharacter("user-1", "Hero", CharacterClass.WARRIOR);
+
+        runConcurrently(() -> service.withCharacterLock("user-1", () -> {
+            character.incrementEnemiesKilled();
+            character.addXp(3);
+            character.addTemporaryCharge();
+        }));
+
+        int totalOperations = THREADS * OPERATIONS_PER_THREAD;
+        assertEquals(totalOperations, character.getEnemiesKilled(), "Every kill should be counted");
+        assertEquals(totalOperations, character.getTemporaryCharges(), "Every charge should be counted");
+
+        // The same XP added on one thread must give the same level and XP
+        RPGCharacter reference = new RPGCharacter("reference", "Reference", CharacterClass.WARRIOR);
+        reference.addXp(3 * totalOperations);
+        assertEquals(reference.getLevel(), character.getLevel(), "Level should match a sequential run");
+        assertEquals(reference.getXp(), character.getXp(), "XP should match a sequential run");
+    }
+
+    @Test
+    public void testCrossCharacterTransfersConserveChargesWithoutDeadlock() throws Exception {
+        CharacterService service = new CharacterService();
+        int characterCount = 20;
+        int startingCharges = 1_000;
+        List<RPGCharacter> characters = new ArrayList<>();
+        for (int i = 0; i < characterCount; i++) {
+            RPGCharacter character = service.registerCharacter("user-" + i, "Hero" + i, CharacterClass.PRIEST);
+            for (int c = 0; c < startingCharges; c++) {
+                character.addTemporaryCharge();
+            }
+            characters.add(character);
+        }
+
+        // Random donor/recipient pairs in both directions, so unordered locking would deadlock
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            RPGCharacter donor = characters.get(random.nextInt(characterCount));
+            RPGCharacter recipient = characters.get(random.nextInt(characterCount));
+            service.withCharacterLocks(List.of(donor.getDiscordId(), recipient.getDiscordId()), () -> {
+                if (donor != recipient && donor.useTemporaryCharge()) {
+                    recipient.addTemporaryCharge();
+                }
+                return null;
+            });
+        });
+
+        int total = characters.stream().mapToInt(RPGCharacter::getTemporaryCharges).sum();
+        assertEquals(characterCount * startingCharges, total, "Transfers should neither create nor lose charges");
+    }
+
+    @Test
+    public void testConcurrentDonationsAndResurrectionsOnOverlappingPairs() throws Exception {
+        CharacterService service = new CharacterService();
+        RPGConfig config = service.getConfig("guild-1");
+        DonateAction donateAction = new DonateAction(service);
+        ResurrectAction resurrectAction = new ResurrectAction(new WorldCurseService(new GuildModifierService()), null);
+        int characterCount = 12;
+        List<RPGCharacter> characters = new ArrayList<>();
+        for (int i = 0; i < characterCount; i++) {
+            // Priests at level 10 can both donate and resurrect, so every pair of roles overlaps
+            RPGCharacter character = service.registerCharacter("user-" + i, "Hero" + i, CharacterClass.PRIEST);
+            while (character.getLevel() < 10) {
+                character.addXp(1_000);
+            }
+            character.recordAction();
+            characters.add(character);
+        }
+        AtomicInteger deaths = new AtomicInteger();
+
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            RPGCharacter first = characters.get(random.nextInt(characterCount));
+            RPGCharacter second = characters.get(random.nextInt(characterCount));
+            switch (random.nextInt(4)) {
+                // Takes the donor's and the drawn recipient's locks itself
+                case 0 -> donateAction.execute(first, config);
+                case 1 -> service.withCharacterLocks(List.of(first.getDiscordId(), second.getDiscordId()),
+                        () -> resurrectAction.executeWithTarget(first, second, config));
+                case 2 -> service.withCharacterLock(first.getDiscordId(), () -> {
+                    if (!first.isDead()) {
+                        first.die();
+                        deaths.incrementAndGet();
+                    }
+                });
+                // Time passing: recovery and donation cooldown end, charges refill
+                default -> service.withCharacterLock(first.getDiscordId(), () -> {
+                    first.setIsRecovering(false);
+                    first.setRecoverUntil(null);
+                    first.setLastDonationReceived(null);
+                    first.setActionCharges(first.getMaxActionCharges());
+                });
+            }
+        });
+
+        int received = characters.stream().mapToInt(RPGCharacter::getTemporaryCharges).sum();
+        int donated = characters.stream().mapToInt(RPGCharacter::getTotalChargesDonated).sum();
+        assertTrue(donated > 0, "Some donations should have gone through");
+        assertEquals(donated, received, "Every donated charge should be received exactly once");
+
+        int resurrected = characters.stream().mapToInt(RPGCharacter::getTotalResurrections).sum();
+        int resurrections = characters.stream().mapToInt(RPGCharacter::getTimesResurrectedOthers).sum();
+        long dead = characters.stream().filter(RPGCharacter::isDead).count();
+        assertEquals(resurrections, resurrected, "Every resurrection should have one priest and one target");
+        assertEquals(deaths.get(), resurrected + dead, "Every death should be resurrected or still dead");
+    }
+
+    @Test
+    public void testLeaderboardStaysConsistentUnderConcurrentXp() throws Exception {
+        CharacterService service = new CharacterService();
+        int characterCount = 50;
+        for (int i = 0; i < characterCount; i++) {
+            service.registerCharacter("user-" + i, "Hero" + i, CharacterClass.MAGE);
+        }
+
+        runConcurrently(() -> {
+            String discordId = "user-" + ThreadLocalRandom.current().nextInt(characterCount);
+            RPGCharacter character = service.getCharacter(discordId);
+            service.withCharacterLock(discordId, () -> character.addXp(7));
+        });
+
+        List<RPGCharacter> board = service.getLeaderboard(characterCount);
+        assertEquals(characterCount, board.size(), "Every character should be ranked exactly once");
+        for (int i = 1; i < board.size(); i++) {
+            RPGCharacter above = board.get(i - 1);
+            RPGCharacter below = board.get(i);
+            assertTrue(above.getLevel() > below.getLevel()
+                            || (above.getLevel() == below.getLevel() && above.getXp() >= below.getXp()),
+                    "Leaderboard should be sorted by level then XP");
+        }
+    }
+
+    /**
+     * Runs the operation OPERATIONS_PER_THREAD times on each of THREADS threads, all started together.
+     */
+    private static void runConcurrently(Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        operation.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.actions.DonateAction;
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGActionOutcome;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import com.tatumgames.mikros.services.GameClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for drawing donation recipients, especially in small populations where most of the
+ * lower-charge half is the donor or ineligible, and for characters leaving and re-entering the
+ * index as they die, recover and receive donations.
+ */
+public class DonationRecipientIndexTest {
+    private static final String GUILD_ID = "guild-1";
+
+    @Test
+    public void testDonorWithFewerChargesStillFindsRecipient() {
+        CharacterService service = new CharacterService();
+        RPGCharacter donor = levelTenDonor(service);
+        RPGCharacter recipient = service.registerCharacter("recipient", "Recipient", CharacterClass.MAGE);
+        act(recipient, 1);
+        assertTrue(donor.getActionCharges() < recipient.getActionCharges(), "The donor should be the lower half");
+
+        RPGActionOutcome outcome = new DonateAction(service).execute(donor, service.getConfig(GUILD_ID));
+
+        assertTrue(outcome.success());
+        assertEquals(1, recipient.getTemporaryCharges(), "The only other active player should receive the charge");
+        assertEquals(0, donor.getActionCharges(), "The donated charge should be consumed");
+    }
+
+    @Test
+    public void testDonorIsNeverDrawn() {
+        CharacterService service = new CharacterService();
+        RPGCharacter donor = levelTenDonor(service);
+        RPGCharacter other = service.registerCharacter("other", "Other", CharacterClass.ROGUE);
+        act(other, 1);
+
+        for (int i = 0; i < 200; i++) {
+            assertSame(other, service.drawDonationRecipient(donor.getDiscordId()));
+        }
+    }
+
+    @Test
+    public void testDrawSkipsIneligibleLowerHalf() {
+        CharacterService service = new CharacterService();
+        RPGCharacter donor = levelTenDonor(service);
+        // Many low-charge characters that are dead, recovering or on cooldown, and two eligible ones with more charges
+        for (int i = 0; i < 40; i++) {
+            RPGCharacter character = service.registerCharacter("low-" + i, "Low" + i, CharacterClass.KNIGHT);
+            act(character, 3);
+            switch (i % 3) {
+                case 0 -> character.die();
+                case 1 -> character.resurrect(24);
+                default -> character.setLastDonationReceived(Instant.now());
+            }
+        }
+        RPGCharacter first = service.registerCharacter("high-1", "High1", CharacterClass.PRIEST);
+        act(first, 1);
+        RPGCharacter second = service.registerCharacter("high-2", "High2", CharacterClass.PRIEST);
+        act(second, 1);
+
+        for (int i = 0; i < 50; i++) {
+            RPGCharacter drawn = service.drawDonationRecipient(donor.getDiscordId());
+            assertNotNull(drawn, "An eligible recipient exists");
+            assertSame(first, drawn, "The draw should come from the lower half of the eligible characters");
+        }
+    }
+
+    @Test
+    public void testNoEligibleRecipient() {
+        CharacterService service = new CharacterService();
+        RPGCharacter donor = levelTenDonor(service);
+        RPGCharacter other = service.registerCharacter("other", "Other", CharacterClass.ROGUE);
+        act(other, 1);
+        other.die();
+
+        assertNull(service.drawDonationRecipient(donor.getDiscordId()));
+
+        CharacterService empty = new CharacterService();
+        RPGCharacter lone = levelTenDonor(empty);
+        assertNull(empty.drawDonationRecipient(lone.getDiscordId()), "The donor alone is no one");
+    }
+
+    @Test
+    public void testResurrectedCharacterReturnsWhenRecoveryEnds() {
+        CharacterService service = new CharacterService();
+        RPGCharacter donor = levelTenDonor(service);
+        RPGCharacter other = service.registerCharacter("other", "Other", CharacterClass.ROGUE);
+        act(other, 1);
+
+        other.die();
+        assertNull(service.drawDonationRecipient(donor.getDiscordId()), "Dead characters are not drawn");
+        other.resurrect(1);
+        assertNull(service.drawDonationRecipient(donor.getDiscordId()), "Recovering characters are not drawn");
+
+        Instant recovered = other.getRecoverUntil().plusSeconds(1);
+        assertSame(other, drawAt(service, donor, recovered), "Back in the index once recovery ends");
+    }
+
+    @Test
+    public void testRecipientReturnsWhenDonationCooldownEnds() {
+        CharacterService service = new CharacterService();
+        RPGCharacter donor = levelTenDonor(service);
+        RPGCharacter other = service.registerCharacter("other", "Other", CharacterClass.ROGUE);
+        act(other, 1);
+
+        RPGActionOutcome outcome = new DonateAction(service).execute(donor, service.getConfig(GUILD_ID));
+        assertTrue(outcome.success());
+        assertEquals(1, other.getTemporaryCharges());
+        assertNull(service.drawDonationRecipient(donor.getDiscordId()), "On cooldown after receiving");
+
+        Instant lastDonation = other.getLastDonationReceived();
+        assertNull(drawAt(service, donor, lastDonation.plus(DonationRecipientIndex.DONATION_COOLDOWN).minusSeconds(1)));
+        assertSame(other, drawAt(service, donor, lastDonation.plus(DonationRecipientIndex.DONATION_COOLDOWN)));
+    }
+
+    @Test
+    public void testInactiveCharactersLeaveTheIndex() {
+        CharacterService service = new CharacterService();
+        RPGCharacter donor = levelTenDonor(service);
+        RPGCharacter other = service.registerCharacter("other", "Other", CharacterClass.ROGUE);
+        act(other, 1);
+
+        Instant windowEnd = other.getLastActionTime().plus(DonationRecipientIndex.ACTIVE_WINDOW);
+        assertSame(other, drawAt(service, donor, windowEnd.minusSeconds(1)));
+        assertNull(drawAt(service, donor, windowEnd.plus(Duration.ofHours(1))));
+    }
+
+    private static RPGCharacter drawAt(CharacterService service, RPGCharacter donor, Instant at) {
+        return GameClock.withClock(Clock.fixed(at, ZoneOffset.UTC),
+                () -> service.drawDonationRecipient(donor.getDiscordId()));
+    }
+
+    /**
+     * Registers an active level 10 donor with one action charge left.
+     */
+    private static RPGCharacter levelTenDonor(CharacterService service) {
+        RPGCharacter donor = service.registerCharacter("donor", "Donor", CharacterClass.WARRIOR);
+        while (donor.getLevel() < 10) {
+            donor.addXp(1_000);
+        }
+        act(donor, donor.getActionCharges() - 1);
+        return donor;
+    }
+
+    private static void act(RPGCharacter character, int actions) {
+        for (int i = 0; i < actions; i++) {
+            character.recordAction();
+        }
+    }
+}
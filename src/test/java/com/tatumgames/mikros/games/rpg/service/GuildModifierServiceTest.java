@@ -0,0 +1,158 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.achievements.LegendaryAura;
+import com.tatumgames.mikros.games.rpg.curse.WorldCurse;
+import com.tatumgames.mikros.games.rpg.events.NilfheimEventType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that concurrent snapshot updates are never lost and that a published snapshot never changes.
+ */
+public class GuildModifierServiceTest {
+    private static final String GUILD_ID = "guild-1";
+
+    private final GuildModifierService guildModifierService = new GuildModifierService();
+
+    @Test
+    public void testConcurrentUpdatesAreNotLost() throws Exception {
+        int threads = 8;
+        int updatesPerThread = 250;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        String userId = "user-" + thread + "-" + i;
+                        assertTrue(guildModifierService.update(GUILD_ID, snapshot -> {
+                            Set<String> holders = new LinkedHashSet<>(snapshot.getAuraHolders(LegendaryAura.HEROS_MARK));
+                            holders.add(userId);
+                            return snapshot.withAuraHolders(LegendaryAura.HEROS_MARK, holders);
+                        }));
+                        // Interleave changes to the other fields, which must not drop holders
+                        WorldCurse curse = i % 2 == 0 ? WorldCurse.MINOR_CURSE_OF_FRAILTY : WorldCurse.MAJOR_FADING_HOPE;
+                        guildModifierService.update(GUILD_ID, snapshot -> snapshot.withCurses(Set.of(curse)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        GuildModifierSnapshot snapshot = guildModifierService.getSnapshot(GUILD_ID);
+        assertEquals(threads * updatesPerThread, snapshot.getAuraHolders(LegendaryAura.HEROS_MARK).size());
+        assertEquals(1, snapshot.getCurses().size());
+        assertTrue(snapshot.getVersion() >= threads * updatesPerThread,
+                "Every published change bumps the version");
+    }
+
+    @Test
+    public void testConcurrentAcquireRespectsHolderLimit() throws Exception {
+        AuraService auraService = new AuraService(guildModifierService);
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 64; i++) {
+                String userId = "user-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    if (auraService.acquireAura(GUILD_ID, LegendaryAura.SONG_OF_NILFHEIM, userId)) {
+                        acquired.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(2, acquired.get(), "Song of Nilfheim has two holders at most");
+        assertEquals(2, auraService.getAuraHolders(GUILD_ID, LegendaryAura.SONG_OF_NILFHEIM).size());
+    }
+
+    @Test
+    public void testPublishedSnapshotNeverChanges() {
+        WorldCurseService worldCurseService = new WorldCurseService(guildModifierService);
+        AuraService auraService = new AuraService(guildModifierService);
+        InMemoryNilfheimEventService eventService = new InMemoryNilfheimEventService(guildModifierService);
+
+        GuildModifierSnapshot empty = guildModifierService.getSnapshot(GUILD_ID);
+        worldCurseService.applyCurse(GUILD_ID, WorldCurse.MAJOR_MARCH_OF_THE_DEAD);
+        assertTrue(auraService.acquireAura(GUILD_ID, LegendaryAura.HEROS_MARK, "user-1"));
+        GuildModifierSnapshot taken = guildModifierService.getSnapshot(GUILD_ID);
+
+        eventService.setActiveEvent(GUILD_ID, NilfheimEventType.GRAND_LIBRARY_OPENS, Instant.now().plusSeconds(3600));
+        worldCurseService.removeCurse(GUILD_ID, WorldCurse.MAJOR_MARCH_OF_THE_DEAD);
+        worldCurseService.applyCurse(GUILD_ID, WorldCurse.MINOR_CURSE_OF_WEAKNESS);
+        auraService.removeAura(GUILD_ID, LegendaryAura.HEROS_MARK, "user-1");
+
+        assertSame(GuildModifierSnapshot.EMPTY, empty);
+        assertTrue(empty.getCurses().isEmpty());
+        assertEquals(0, empty.getVersion());
+
+        assertEquals(Set.of(WorldCurse.MAJOR_MARCH_OF_THE_DEAD), taken.getCurses());
+        assertEquals(List.of(WorldCurse.MAJOR_MARCH_OF_THE_DEAD), taken.getActiveCurses());
+        assertEquals(Set.of("user-1"), taken.getAuraHolders(LegendaryAura.HEROS_MARK));
+        assertNull(taken.getActiveEvent());
+        assertEquals(0, taken.getTrainStatBonus());
+
+        GuildModifierSnapshot latest = guildModifierService.getSnapshot(GUILD_ID);
+        assertTrue(latest.getVersion() > taken.getVersion());
+        assertEquals(Set.of(WorldCurse.MINOR_CURSE_OF_WEAKNESS), latest.getCurses());
+        assertTrue(latest.getAuraHolders(LegendaryAura.HEROS_MARK).isEmpty());
+        assertEquals(NilfheimEventType.GRAND_LIBRARY_OPENS, latest.getActiveEvent());
+    }
+
+    @Test
+    public void testSnapshotViewsAreReadOnlyAndDetachedFromInputs() {
+        Set<String> holders = new LinkedHashSet<>(List.of("user-1", "user-2"));
+        Set<WorldCurse> curses = new LinkedHashSet<>(List.of(WorldCurse.MINOR_CURSE_OF_FRAILTY));
+        guildModifierService.update(GUILD_ID, snapshot -> snapshot
+                .withAuraHolders(LegendaryAura.SONG_OF_NILFHEIM, holders)
+                .withCurses(curses));
+        GuildModifierSnapshot snapshot = guildModifierService.getSnapshot(GUILD_ID);
+
+        holders.add("user-3");
+        curses.add(WorldCurse.MAJOR_FADING_HOPE);
+        assertEquals(Set.of("user-1", "user-2"), snapshot.getAuraHolders(LegendaryAura.SONG_OF_NILFHEIM));
+        assertEquals(Set.of(WorldCurse.MINOR_CURSE_OF_FRAILTY), snapshot.getCurses());
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getCurses().add(WorldCurse.MAJOR_FADING_HOPE));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getActiveCurses().clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getAuraHolders(LegendaryAura.SONG_OF_NILFHEIM).remove("user-1"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getAuraHolders(LegendaryAura.HEROS_MARK).add("user-1"));
+    }
+
+    @Test
+    public void testUnchangedUpdatePublishesNothing() {
+        assertTrue(guildModifierService.update(GUILD_ID, snapshot -> snapshot.withCurses(Set.of(WorldCurse.MAJOR_FADING_HOPE))));
+        GuildModifierSnapshot before = guildModifierService.getSnapshot(GUILD_ID);
+
+        assertFalse(guildModifierService.update(GUILD_ID, snapshot -> snapshot.withCurses(Set.of(WorldCurse.MAJOR_FADING_HOPE))));
+        assertSame(before, guildModifierService.getSnapshot(GUILD_ID));
+    }
+}
@@ -0,0 +1,116 @@
+package com.tatumgames.mikros.games.rpg.service;
+
+import com.tatumgames.mikros.games.rpg.model.CharacterClass;
+import com.tatumgames.mikros.games.rpg.model.RPGCharacter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the lazy heroic-charge refresh: boss spawns only advance the guild's epoch, and a character
+ * is refreshed once, the next time it fights there.
+ */
+public class HeroicRefreshTest {
+    private static final String GUILD_ID = "guild-1";
+
+    private CharacterService characterService;
+    private BossService bossService;
+    private RPGCharacter character;
+
+    @BeforeEach
+    public void setUp() {
+        characterService = new CharacterService();
+        GuildModifierService guildModifierService = new GuildModifierService();
+        bossService = new BossService(characterService, guildModifierService,
+                new WorldCurseService(guildModifierService), null);
+        character = characterService.registerCharacter("user-1", "Hero", CharacterClass.WARRIOR);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bossService.shutdown();
+    }
+
+    @Test
+    public void testFirstActionAfterSpawnRefreshes() {
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        spendCharges(3);
+
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        assertEquals(2, character.getHeroicCharges(), "Spawning alone does not touch the character");
+
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        assertEquals(character.getMaxHeroicCharges(), character.getHeroicCharges());
+    }
+
+    @Test
+    public void testNoSecondRefreshWithinAnEpoch() {
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        spendCharges(4);
+
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        assertEquals(1, character.getHeroicCharges(), "Charges spent on this boss stay spent");
+
+        long epoch = bossService.getState(GUILD_ID).getBossEpoch();
+        assertFalse(character.applyHeroicRefresh(GUILD_ID, epoch));
+        assertFalse(character.applyHeroicRefresh(GUILD_ID, epoch - 1), "An older epoch never refreshes");
+        assertEquals(1, character.getHeroicCharges());
+    }
+
+    @Test
+    public void testSkippingSeveralEpochsRefreshesOnce() {
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        spendCharges(5);
+        long first = bossService.getState(GUILD_ID).getBossEpoch();
+
+        // The character sits out several bosses, including a super boss
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        assertNotNull(bossService.spawnSuperBoss(GUILD_ID));
+        long latest = bossService.getState(GUILD_ID).getBossEpoch();
+        assertTrue(latest >= first + 3);
+        assertEquals(0, character.getHeroicCharges());
+
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        assertEquals(character.getMaxHeroicCharges(), character.getHeroicCharges());
+
+        spendCharges(2);
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        assertEquals(3, character.getHeroicCharges(), "Missed epochs are not owed as extra refreshes");
+    }
+
+    @Test
+    public void testEpochsAreTrackedPerGuild() {
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        assertNotNull(bossService.spawnNormalBoss("guild-2"));
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        bossService.applyHeroicRefresh("guild-2", character);
+        spendCharges(2);
+
+        assertNotNull(bossService.spawnNormalBoss(GUILD_ID));
+        bossService.applyHeroicRefresh("guild-2", character);
+        assertEquals(3, character.getHeroicCharges(), "A spawn in another guild does not refresh here");
+
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        assertEquals(character.getMaxHeroicCharges(), character.getHeroicCharges());
+    }
+
+    @Test
+    public void testNoRefreshBeforeAnyBossHasSpawned() {
+        spendCharges(2);
+        bossService.applyHeroicRefresh(GUILD_ID, character);
+        assertEquals(3, character.getHeroicCharges());
+    }
+
+    private void spendCharges(int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(character.useHeroicCharge());
+        }
+    }
+}
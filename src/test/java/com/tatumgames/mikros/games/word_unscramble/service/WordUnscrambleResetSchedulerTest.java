@@ -0,0 +1,69 @@
+package com.tatumgames.mikros.games.word_unscramble.service;
+
+import com.tatumgames.mikros.games.word_unscramble.model.WordUnscrambleConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that reset times stay on one fixed grid whatever time they are computed at.
+ */
+public class WordUnscrambleResetSchedulerTest {
+
+    @Test
+    public void testIntervalThatDoesNotDivideADayStaysOnOneGrid() {
+        WordUnscrambleConfig config = config(LocalTime.of(6, 0), 7);
+        Duration interval = Duration.ofHours(7);
+        Instant anchor = Instant.parse("1970-01-01T06:00:00Z");
+
+        Instant previous = null;
+        for (Instant now = Instant.parse("2024-05-01T00:00:00Z"); now.isBefore(Instant.parse("2024-05-15T00:00:00Z"));
+             now = now.plus(Duration.ofMinutes(17))) {
+            Instant next = WordUnscrambleResetScheduler.nextResetAfter(config, interval, now);
+            assertTrue(next.isAfter(now), "Reset must be after " + now);
+            assertFalse(next.isAfter(now.plus(interval)), "Reset more than one interval away from " + now);
+            assertEquals(0, Duration.between(anchor, next).toMillis() % interval.toMillis(), "Off the grid: " + next);
+            if (previous != null && !next.equals(previous)) {
+                assertEquals(previous.plus(interval), next, "A reset slot was skipped or shifted");
+            }
+            previous = next;
+        }
+    }
+
+    @Test
+    public void testRescheduleJustBeforeAndAfterMidnightKeepsTheSlot() {
+        // Anchoring at today's reset time used to move the slot when the date changed
+        WordUnscrambleConfig config = config(LocalTime.of(2, 0), 5);
+        Duration interval = Duration.ofHours(5);
+        Instant beforeMidnight = Instant.parse("2024-05-01T23:59:00Z");
+        Instant afterMidnight = Instant.parse("2024-05-02T00:01:00Z");
+
+        Instant expected = Instant.parse("2024-05-02T02:00:00Z");
+        assertEquals(expected, WordUnscrambleResetScheduler.nextResetAfter(config, interval, beforeMidnight));
+        assertEquals(expected, WordUnscrambleResetScheduler.nextResetAfter(config, interval, afterMidnight));
+    }
+
+    @Test
+    public void testDailyAndHourlyResets() {
+        WordUnscrambleConfig daily = config(LocalTime.of(18, 30), 24);
+        assertEquals(Instant.parse("2024-05-01T18:30:00Z"), WordUnscrambleResetScheduler.nextResetAfter(
+                daily, Duration.ofHours(24), Instant.parse("2024-05-01T12:00:00Z")));
+        assertEquals(Instant.parse("2024-05-02T18:30:00Z"), WordUnscrambleResetScheduler.nextResetAfter(
+                daily, Duration.ofHours(24), Instant.parse("2024-05-01T18:30:00Z")));
+
+        WordUnscrambleConfig hourly = config(LocalTime.of(0, 30), 1);
+        assertEquals(Instant.parse("2024-05-01T13:30:00Z"), WordUnscrambleResetScheduler.nextResetAfter(
+                hourly, Duration.ofHours(1), Instant.parse("2024-05-01T12:45:00Z")));
+    }
+
+    private static WordUnscrambleConfig config(LocalTime resetTime, int intervalHours) {
+        WordUnscrambleConfig config = new WordUnscrambleConfig("guild-1", "channel-1");
+        config.setResetTime(resetTime);
+        config.setResetIntervalHours(intervalHours);
+        return config;
+    }
+}
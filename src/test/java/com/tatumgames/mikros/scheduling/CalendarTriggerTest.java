@@ -0,0 +1,82 @@
+package com.tatumgames.mikros.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests yearly calendar dates, leap days and daylight saving changes.
+ */
+public class CalendarTriggerTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    public void testDatesFireInOrderAndWrapToNextYear() {
+        CalendarTrigger trigger = CalendarTrigger.of(
+                List.of(MonthDay.of(8, 28), MonthDay.of(2, 6), MonthDay.of(8, 28)), LocalTime.of(18, 0), ZoneOffset.UTC);
+        assertEquals(List.of(MonthDay.of(2, 6), MonthDay.of(8, 28)), trigger.getDates());
+
+        assertEquals(Instant.parse("2024-02-06T18:00:00Z"), trigger.nextFireTime(Instant.parse("2024-01-01T00:00:00Z")));
+        assertEquals(Instant.parse("2024-08-28T18:00:00Z"), trigger.nextFireTime(Instant.parse("2024-02-06T18:00:00Z")));
+        assertEquals(Instant.parse("2025-02-06T18:00:00Z"), trigger.nextFireTime(Instant.parse("2024-08-28T18:00:00Z")));
+    }
+
+    @Test
+    public void testNextIsStrictlyAfterAndPreviousIsAtOrBefore() {
+        CalendarTrigger trigger = CalendarTrigger.of(List.of(MonthDay.of(6, 1)), LocalTime.NOON, ZoneOffset.UTC);
+        Instant fire = Instant.parse("2024-06-01T12:00:00Z");
+
+        assertEquals(fire, trigger.nextFireTime(fire.minusNanos(1)));
+        assertEquals(Instant.parse("2025-06-01T12:00:00Z"), trigger.nextFireTime(fire));
+        assertEquals(fire, trigger.previousFireTime(fire));
+        assertEquals(Instant.parse("2023-06-01T12:00:00Z"), trigger.previousFireTime(fire.minusNanos(1)));
+    }
+
+    @Test
+    public void testLeapDayFiresOnlyInLeapYears() {
+        CalendarTrigger trigger = CalendarTrigger.of(List.of(MonthDay.of(2, 29)), LocalTime.MIDNIGHT, ZoneOffset.UTC);
+        assertEquals(Instant.parse("2028-02-29T00:00:00Z"), trigger.nextFireTime(Instant.parse("2024-02-29T00:00:00Z")));
+        // 2100 is not a leap year
+        assertEquals(Instant.parse("2104-02-29T00:00:00Z"), trigger.nextFireTime(Instant.parse("2096-03-01T00:00:00Z")));
+        assertEquals(Instant.parse("2024-02-29T00:00:00Z"), trigger.previousFireTime(Instant.parse("2027-12-31T00:00:00Z")));
+    }
+
+    @Test
+    public void testMonthEndDates() {
+        CalendarTrigger trigger = CalendarTrigger.of(
+                List.of(MonthDay.of(1, 31), MonthDay.of(4, 30), MonthDay.of(12, 31)), LocalTime.of(23, 59), ZoneOffset.UTC);
+        assertEquals(Instant.parse("2024-04-30T23:59:00Z"), trigger.nextFireTime(Instant.parse("2024-01-31T23:59:00Z")));
+        assertEquals(Instant.parse("2024-12-31T23:59:00Z"), trigger.nextFireTime(Instant.parse("2024-05-01T00:00:00Z")));
+        assertEquals(Instant.parse("2025-01-31T23:59:00Z"), trigger.nextFireTime(Instant.parse("2024-12-31T23:59:00Z")));
+    }
+
+    @Test
+    public void testTimeInSpringForwardGapIsShiftedLater() {
+        // 2024-03-10 02:00 EST jumps to 03:00 EDT; 02:30 becomes 03:30 EDT
+        CalendarTrigger trigger = CalendarTrigger.of(List.of(MonthDay.of(3, 10)), LocalTime.of(2, 30), NEW_YORK);
+        assertEquals(Instant.parse("2024-03-10T07:30:00Z"), trigger.nextFireTime(Instant.parse("2024-03-01T00:00:00Z")));
+    }
+
+    @Test
+    public void testTimeInFallBackOverlapFiresOnceAtTheEarlierOffset() {
+        // 2024-11-03 01:30 happens at 05:30Z (EDT) and again at 06:30Z (EST)
+        CalendarTrigger trigger = CalendarTrigger.of(List.of(MonthDay.of(11, 3)), LocalTime.of(1, 30), NEW_YORK);
+        Instant first = trigger.nextFireTime(Instant.parse("2024-11-01T00:00:00Z"));
+        assertEquals(Instant.parse("2024-11-03T05:30:00Z"), first);
+        assertEquals(Instant.parse("2025-11-03T06:30:00Z"), trigger.nextFireTime(first));
+    }
+
+    @Test
+    public void testRequiresDatesTimeAndZone() {
+        assertThrows(IllegalArgumentException.class, () -> CalendarTrigger.of(List.of(), LocalTime.NOON, ZoneOffset.UTC));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTrigger.of(List.of(MonthDay.of(1, 1)), null, ZoneOffset.UTC));
+        assertThrows(IllegalArgumentException.class, () -> CalendarTrigger.of(List.of(MonthDay.of(1, 1)), LocalTime.NOON, null));
+    }
+}
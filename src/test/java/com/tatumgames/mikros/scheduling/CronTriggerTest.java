@@ -0,0 +1,200 @@
+package com.tatumgames.mikros.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cron field matching, month ends, day-of-week rules and daylight saving changes.
+ */
+public class CronTriggerTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    public void testDailyTimeInUtc() {
+        CronTrigger trigger = CronTrigger.parse("30 9 * * *", ZoneOffset.UTC);
+        assertEquals(Instant.parse("2024-05-01T09:30:00Z"), trigger.nextFireTime(Instant.parse("2024-05-01T08:00:00Z")));
+        assertEquals(Instant.parse("2024-05-02T09:30:00Z"), trigger.nextFireTime(Instant.parse("2024-05-01T09:30:00Z")));
+    }
+
+    @Test
+    public void testNextIsStrictlyAfterTheGivenInstant() {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] expressions = {"* * * * *", "*/15 * * * *", "0 3 * * *", "30 1 * * 0", "0 0 31 * *", "0 2 * 3,11 *"};
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (String expression : expressions) {
+            CronTrigger trigger = CronTrigger.parse(expression, NEW_YORK);
+            for (int i = 0; i < 2_000; i++) {
+                Instant after = base.plusSeconds(random.nextLong(2L * 366 * 24 * 3600)).plusNanos(random.nextInt(1_000_000_000));
+                Instant next = trigger.nextFireTime(after);
+                assertTrue(next.isAfter(after), expression + " from " + after + " gave " + next);
+                assertEquals(0, next.getEpochSecond() % 60, "Fires on a whole minute");
+            }
+        }
+    }
+
+    @Test
+    public void testFireOnTheExactMinuteMovesToTheNextOne() {
+        CronTrigger trigger = CronTrigger.parse("* * * * *", ZoneOffset.UTC);
+        Instant minute = Instant.parse("2024-05-01T10:15:00Z");
+        assertEquals(minute.plusSeconds(60), trigger.nextFireTime(minute));
+        assertEquals(minute, trigger.nextFireTime(minute.minusNanos(1)));
+    }
+
+    @Test
+    public void testMonthEndSkipsShortMonths() {
+        CronTrigger trigger = CronTrigger.parse("0 0 31 * *", ZoneOffset.UTC);
+        List<Instant> fires = fires(trigger, Instant.parse("2024-01-31T12:00:00Z"), 4);
+        assertEquals(List.of(
+                Instant.parse("2024-03-31T00:00:00Z"),
+                Instant.parse("2024-05-31T00:00:00Z"),
+                Instant.parse("2024-07-31T00:00:00Z"),
+                Instant.parse("2024-08-31T00:00:00Z")), fires);
+    }
+
+    @Test
+    public void testLeapDayAndImpossibleDate() {
+        CronTrigger leapDay = CronTrigger.parse("0 12 29 2 *", ZoneOffset.UTC);
+        assertEquals(Instant.parse("2028-02-29T12:00:00Z"), leapDay.nextFireTime(Instant.parse("2024-03-01T00:00:00Z")));
+
+        CronTrigger never = CronTrigger.parse("0 0 30 2 *", ZoneOffset.UTC);
+        assertNull(never.nextFireTime(Instant.parse("2024-01-01T00:00:00Z")));
+    }
+
+    @Test
+    public void testDayOfWeek() {
+        CronTrigger weekdays = CronTrigger.parse("0 9 * * 1-5", ZoneOffset.UTC);
+        // 2024-05-03 is a Friday
+        assertEquals(Instant.parse("2024-05-06T09:00:00Z"), weekdays.nextFireTime(Instant.parse("2024-05-03T09:00:00Z")));
+
+        CronTrigger sundayAsZero = CronTrigger.parse("0 0 * * 0", ZoneOffset.UTC);
+        CronTrigger sundayAsSeven = CronTrigger.parse("0 0 * * 7", ZoneOffset.UTC);
+        Instant from = Instant.parse("2024-05-01T00:00:00Z");
+        assertEquals(Instant.parse("2024-05-05T00:00:00Z"), sundayAsZero.nextFireTime(from));
+        assertEquals(sundayAsZero.nextFireTime(from), sundayAsSeven.nextFireTime(from));
+
+        for (Instant fire : fires(weekdays, from, 20)) {
+            DayOfWeek day = fire.atZone(ZoneOffset.UTC).getDayOfWeek();
+            assertNotEquals(DayOfWeek.SATURDAY, day);
+            assertNotEquals(DayOfWeek.SUNDAY, day);
+        }
+    }
+
+    @Test
+    public void testDayOfMonthOrDayOfWeekWhenBothAreRestricted() {
+        // The 13th of any month, or any Friday
+        CronTrigger trigger = CronTrigger.parse("0 0 13 * 5", ZoneOffset.UTC);
+        assertEquals(List.of(
+                Instant.parse("2024-09-06T00:00:00Z"),
+                Instant.parse("2024-09-13T00:00:00Z"),
+                Instant.parse("2024-09-20T00:00:00Z"),
+                Instant.parse("2024-09-27T00:00:00Z"),
+                Instant.parse("2024-10-04T00:00:00Z"),
+                Instant.parse("2024-10-11T00:00:00Z"),
+                Instant.parse("2024-10-13T00:00:00Z")),
+                fires(trigger, Instant.parse("2024-09-01T00:00:00Z"), 7));
+    }
+
+    @Test
+    public void testStepsRangesAndLists() {
+        CronTrigger trigger = CronTrigger.parse("0-30/10 8,20 * * *", ZoneOffset.UTC);
+        assertEquals(List.of(
+                Instant.parse("2024-05-01T08:00:00Z"),
+                Instant.parse("2024-05-01T08:10:00Z"),
+                Instant.parse("2024-05-01T08:20:00Z"),
+                Instant.parse("2024-05-01T08:30:00Z"),
+                Instant.parse("2024-05-01T20:00:00Z")),
+                fires(trigger, Instant.parse("2024-05-01T07:00:00Z"), 5));
+    }
+
+    @Test
+    public void testTimeSkippedBySpringForwardFiresAtTheTransition() {
+        // 2024-03-10 02:00 EST jumps to 03:00 EDT (07:00Z)
+        CronTrigger trigger = CronTrigger.parse("30 2 * * *", NEW_YORK);
+        List<Instant> fires = fires(trigger, at(2024, 3, 9, 12, 0), 3);
+        assertEquals(List.of(
+                at(2024, 3, 10, 3, 0),
+                at(2024, 3, 11, 2, 30),
+                at(2024, 3, 12, 2, 30)), fires);
+        assertEquals(Instant.parse("2024-03-10T07:00:00Z"), fires.get(0));
+    }
+
+    @Test
+    public void testGapAndFollowingHourFireOnce() {
+        // 02:30 does not exist and resolves to 03:00, which is also a match of its own
+        CronTrigger trigger = CronTrigger.parse("0,30 2,3 * * *", NEW_YORK);
+        assertEquals(List.of(
+                at(2024, 3, 10, 3, 0),
+                at(2024, 3, 10, 3, 30),
+                at(2024, 3, 11, 2, 0)),
+                fires(trigger, at(2024, 3, 10, 0, 0), 3));
+    }
+
+    @Test
+    public void testTimeRepeatedByFallBackFiresOnce() {
+        // 2024-11-03 02:00 EDT falls back to 01:00 EST, so 01:30 happens twice
+        CronTrigger trigger = CronTrigger.parse("30 1 * * *", NEW_YORK);
+        List<Instant> fires = fires(trigger, at(2024, 11, 2, 12, 0), 3);
+        assertEquals(List.of(
+                Instant.parse("2024-11-03T05:30:00Z"),
+                Instant.parse("2024-11-04T06:30:00Z"),
+                Instant.parse("2024-11-05T06:30:00Z")), fires);
+
+        // Registered during the second pass, it waits for the next day
+        assertEquals(Instant.parse("2024-11-04T06:30:00Z"), trigger.nextFireTime(Instant.parse("2024-11-03T06:10:00Z")));
+    }
+
+    @Test
+    public void testHourlyScheduleFollowsRealTimeAcrossChanges() {
+        CronTrigger hourly = CronTrigger.parse("15 * * * *", NEW_YORK);
+
+        // Fall back: both passes of 01:15 fire, an hour apart
+        List<Instant> overlap = fires(hourly, Instant.parse("2024-11-03T04:00:00Z"), 4);
+        assertEquals(List.of(
+                Instant.parse("2024-11-03T04:15:00Z"),
+                Instant.parse("2024-11-03T05:15:00Z"),
+                Instant.parse("2024-11-03T06:15:00Z"),
+                Instant.parse("2024-11-03T07:15:00Z")), overlap);
+
+        // Spring forward: 02:15 does not exist and the cadence stays hourly
+        List<Instant> gap = fires(hourly, Instant.parse("2024-03-10T05:00:00Z"), 3);
+        assertEquals(List.of(
+                Instant.parse("2024-03-10T05:15:00Z"),
+                Instant.parse("2024-03-10T06:15:00Z"),
+                Instant.parse("2024-03-10T07:15:00Z")), gap);
+    }
+
+    @Test
+    public void testRejectsMalformedExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> CronTrigger.parse("* * * *", ZoneOffset.UTC));
+        assertThrows(IllegalArgumentException.class, () -> CronTrigger.parse("60 * * * *", ZoneOffset.UTC));
+        assertThrows(IllegalArgumentException.class, () -> CronTrigger.parse("* 5-2 * * *", ZoneOffset.UTC));
+        assertThrows(IllegalArgumentException.class, () -> CronTrigger.parse("*/0 * * * *", ZoneOffset.UTC));
+        assertThrows(IllegalArgumentException.class, () -> CronTrigger.parse("* * * * mon", ZoneOffset.UTC));
+        assertThrows(IllegalArgumentException.class, () -> CronTrigger.parse("* * * * *", null));
+    }
+
+    private static Instant at(int year, int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(LocalDateTime.of(year, month, day, hour, minute), NEW_YORK).toInstant();
+    }
+
+    private static List<Instant> fires(Trigger trigger, Instant from, int count) {
+        List<Instant> fires = new ArrayList<>();
+        Instant next = from;
+        for (int i = 0; i < count; i++) {
+            next = trigger.nextFireTime(next);
+            fires.add(next);
+        }
+        return fires;
+    }
+}
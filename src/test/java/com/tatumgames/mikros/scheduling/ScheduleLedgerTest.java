@@ -0,0 +1,69 @@
+package com.tatumgames.mikros.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the ledger round-trips through its file and does not keep entries for forgotten tasks.
+ */
+public class ScheduleLedgerTest {
+    private static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testFlushAndLoadRoundTrip() {
+        Path file = tempDir.resolve("ledger.json");
+        ScheduleLedger ledger = ScheduleLedger.load(file);
+        TaskKey key = TaskKey.of("events", "guild-1");
+        ledger.recordFire(key, NOW, NOW.plusSeconds(60));
+        ledger.setMark(key, "posted", NOW);
+        ledger.flush();
+
+        ScheduleLedger reloaded = ScheduleLedger.load(file);
+        assertEquals(NOW, reloaded.getLastFiredAt(key));
+        assertEquals(NOW.plusSeconds(60), reloaded.getNextDueAt(key));
+        assertEquals(NOW, reloaded.getMark(key, "posted"));
+    }
+
+    @Test
+    public void testForgottenTasksAreNotWritten() throws Exception {
+        Path file = tempDir.resolve("ledger.json");
+        ScheduleLedger ledger = ScheduleLedger.load(file);
+        TaskKey unmarked = TaskKey.of("promo", "guild-1");
+        TaskKey marked = TaskKey.of("promo", "guild-2");
+        ledger.recordFire(unmarked, NOW, NOW.plusSeconds(60));
+        ledger.recordFire(marked, NOW, NOW.plusSeconds(60));
+        ledger.setMark(marked, "seen", NOW);
+
+        ledger.forget(unmarked);
+        ledger.forget(marked);
+        ledger.flush();
+
+        String json = Files.readString(file);
+        assertFalse(json.contains("promo/guild-1"), "A forgotten key without marks should be dropped");
+        ScheduleLedger reloaded = ScheduleLedger.load(file);
+        assertNull(reloaded.getLastFiredAt(marked));
+        assertNull(reloaded.getNextDueAt(marked));
+        assertEquals(NOW, reloaded.getMark(marked, "seen"));
+    }
+
+    @Test
+    public void testMarkOnce() {
+        ScheduleLedger ledger = ScheduleLedger.inMemory();
+        TaskKey key = TaskKey.global("daily");
+        assertTrue(ledger.markOnce(key, "2024-03-01", NOW));
+        assertFalse(ledger.markOnce(key, "2024-03-01", NOW.plusSeconds(1)));
+        assertEquals(NOW, ledger.getMark(key, "2024-03-01"));
+
+        ledger.pruneMarks(key, NOW.plusSeconds(1));
+        assertNull(ledger.getMark(key, "2024-03-01"));
+    }
+}
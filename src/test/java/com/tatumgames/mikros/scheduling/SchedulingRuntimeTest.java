@@ -0,0 +1,212 @@
+package com.tatumgames.mikros.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests task firing, cancellation, re-keying and re-arming on a clock the test moves by hand.
+ */
+public class SchedulingRuntimeTest {
+    private static final Instant START = Instant.parse("2024-03-01T12:00:00Z");
+    private static final TaskKey KEY = TaskKey.of("test", "guild-1");
+
+    private MutableClock clock;
+    private ScheduleLedger ledger;
+    private SchedulingRuntime runtime;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(START);
+        ledger = ScheduleLedger.inMemory();
+        runtime = new SchedulingRuntime(clock, Duration.ofMillis(1), ledger);
+        runtime.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        runtime.shutdown();
+    }
+
+    @Test
+    public void testTaskFiresOnlyOnceItsTimeArrives() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        Instant first = runtime.schedule(KEY, Trigger.at(START.plusSeconds(5)), ran::countDown);
+        assertEquals(START.plusSeconds(5), first);
+
+        assertFalse(ran.await(200, TimeUnit.MILLISECONDS), "Fired before the clock reached it");
+
+        clock.advance(Duration.ofSeconds(5));
+        assertTrue(ran.await(5, TimeUnit.SECONDS), "Did not fire once the clock reached it");
+        awaitUntil(() -> !runtime.isScheduled(KEY));
+        assertNull(runtime.getNextFireTime(KEY), "A one-shot task is dropped after its run");
+    }
+
+    @Test
+    public void testCancelledTaskNeverRuns() throws InterruptedException {
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        CountDownLatch sentinel = new CountDownLatch(1);
+        runtime.schedule(KEY, Trigger.at(START.plusSeconds(5)), cancelledRuns::incrementAndGet);
+        runtime.schedule(TaskKey.of("test", "sentinel"), Trigger.at(START.plusSeconds(6)), sentinel::countDown);
+
+        assertTrue(runtime.cancel(KEY));
+        assertFalse(runtime.isScheduled(KEY));
+        assertNull(runtime.getNextFireTime(KEY));
+        assertFalse(runtime.cancel(KEY), "Already cancelled");
+
+        clock.advance(Duration.ofSeconds(10));
+        assertTrue(sentinel.await(5, TimeUnit.SECONDS), "The wheel did not advance past the cancelled task");
+        assertEquals(0, cancelledRuns.get());
+    }
+
+    @Test
+    public void testCancelSubsystem() {
+        runtime.schedule(TaskKey.of("test", "a"), Trigger.every(Duration.ofMinutes(1)), () -> { });
+        runtime.schedule(TaskKey.of("test", "b"), Trigger.every(Duration.ofMinutes(1)), () -> { });
+        runtime.schedule(TaskKey.of("other", "a"), Trigger.every(Duration.ofMinutes(1)), () -> { });
+
+        assertEquals(2, runtime.cancelSubsystem("test"));
+        assertFalse(runtime.isScheduled(TaskKey.of("test", "a")));
+        assertTrue(runtime.isScheduled(TaskKey.of("other", "a")));
+    }
+
+    @Test
+    public void testReschedulingAKeyReplacesTheEarlierTask() throws InterruptedException {
+        AtomicInteger replacedRuns = new AtomicInteger();
+        CountDownLatch replacementRan = new CountDownLatch(1);
+        runtime.schedule(KEY, Trigger.at(START.plusSeconds(5)), replacedRuns::incrementAndGet);
+        Instant rekeyed = runtime.schedule(KEY, Trigger.at(START.plusSeconds(8)), replacementRan::countDown);
+        assertEquals(START.plusSeconds(8), rekeyed);
+        assertEquals(START.plusSeconds(8), runtime.getNextFireTime(KEY));
+
+        // The replaced task's wheel entry expires first and must be dropped
+        clock.advance(Duration.ofSeconds(6));
+        assertFalse(replacementRan.await(200, TimeUnit.MILLISECONDS), "Replacement fired early");
+
+        clock.advance(Duration.ofSeconds(2));
+        assertTrue(replacementRan.await(5, TimeUnit.SECONDS));
+        assertEquals(0, replacedRuns.get());
+    }
+
+    @Test
+    public void testRearmSkipsFiresMissedDuringALongRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        runtime.schedule(KEY, Trigger.every(Duration.ofSeconds(10)), () -> {
+            runs.incrementAndGet();
+            // A slow run that overshoots three periods
+            clock.advance(Duration.ofSeconds(35));
+        });
+
+        clock.advance(Duration.ofSeconds(10));
+        Instant expectedNext = START.plusSeconds(10 + 35 + 10);
+        awaitUntil(() -> expectedNext.equals(runtime.getNextFireTime(KEY)));
+
+        // The missed fires at +20s, +30s and +40s are not replayed
+        Thread.sleep(200);
+        assertEquals(1, runs.get());
+        assertEquals(expectedNext, ledger.getNextDueAt(KEY));
+        assertEquals(START.plusSeconds(10), ledger.getLastFiredAt(KEY));
+
+        clock.set(expectedNext);
+        awaitUntil(() -> runs.get() == 2);
+    }
+
+    @Test
+    public void testFailingTaskIsCountedAndKeepsItsCadence() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        runtime.schedule(KEY, Trigger.every(Duration.ofSeconds(10)), () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+
+        clock.advance(Duration.ofSeconds(10));
+        awaitUntil(() -> START.plusSeconds(20).equals(runtime.getNextFireTime(KEY)));
+
+        SchedulingRuntime.TaskStats stats = runtime.getStats().get(KEY);
+        assertEquals(1, stats.runs());
+        assertEquals(1, stats.failures());
+        assertEquals(START.plusSeconds(10), stats.lastRunAt());
+    }
+
+    @Test
+    public void testRestoredRecurringTaskResumesItsRecordedCadence() {
+        ScheduleLedger restored = ScheduleLedger.inMemory();
+        restored.recordFire(KEY, START.minusSeconds(30), START.plusSeconds(90));
+        SchedulingRuntime restarted = new SchedulingRuntime(clock, Duration.ofMillis(1), restored);
+
+        assertEquals(START.plusSeconds(90), restarted.schedule(KEY, Trigger.every(Duration.ofMinutes(2)), () -> { }));
+        // Only the first registration in a process is restored
+        assertEquals(START.plusSeconds(120), restarted.schedule(KEY, Trigger.every(Duration.ofMinutes(2)), () -> { }));
+    }
+
+    @Test
+    public void testMissedRecurringFireCatchesUpOnceWithinTheWindow() {
+        ScheduleLedger restored = ScheduleLedger.inMemory();
+        restored.recordFire(KEY, START.minus(Duration.ofHours(3)), START.minus(Duration.ofHours(2)));
+        SchedulingRuntime restarted = new SchedulingRuntime(clock, Duration.ofMillis(1), restored);
+
+        Instant catchUp = restarted.schedule(KEY, Trigger.every(Duration.ofHours(1)), () -> { });
+        long offsetMillis = Math.floorMod(KEY.hashCode(), SchedulingRuntime.CATCH_UP_WINDOW.toMillis());
+        assertEquals(START.plusMillis(offsetMillis), catchUp);
+        assertTrue(catchUp.isBefore(START.plus(SchedulingRuntime.CATCH_UP_WINDOW)));
+        assertEquals(catchUp, restored.getNextDueAt(KEY));
+    }
+
+    @Test
+    public void testRestoredOneShotKeepsItsOwnFireTime() {
+        TaskKey later = TaskKey.of("test", "later");
+        ScheduleLedger restored = ScheduleLedger.inMemory();
+        restored.recordNextDue(KEY, START.minusSeconds(60));
+        restored.recordNextDue(later, START.minusSeconds(60));
+        SchedulingRuntime restarted = new SchedulingRuntime(clock, Duration.ofMillis(1), restored);
+
+        // An immediate one-shot is not pushed back by the catch-up offset
+        assertEquals(START, restarted.schedule(KEY, Trigger.at(START), () -> { }));
+        assertEquals(START.plusSeconds(600), restarted.schedule(later, Trigger.at(START.plusSeconds(600)), () -> { }));
+    }
+
+    @Test
+    public void testCancelDropsTheLedgerEntryButKeepsMarks() {
+        TaskKey marked = TaskKey.of("test", "marked");
+        runtime.schedule(KEY, Trigger.every(Duration.ofMinutes(1)), () -> { });
+        runtime.schedule(marked, Trigger.every(Duration.ofMinutes(1)), () -> { });
+        ledger.setMark(marked, "posted", START);
+        assertNotNull(ledger.getNextDueAt(KEY));
+
+        runtime.cancel(KEY);
+        runtime.cancel(marked);
+
+        assertNull(ledger.getNextDueAt(KEY));
+        assertNull(ledger.getNextDueAt(marked));
+        assertEquals(START, ledger.getMark(marked, "posted"));
+    }
+
+    @Test
+    public void testFinishedOneShotIsDroppedFromTheLedger() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        runtime.schedule(KEY, Trigger.at(START.plusSeconds(5)), ran::countDown);
+        assertEquals(START.plusSeconds(5), ledger.getNextDueAt(KEY));
+
+        clock.advance(Duration.ofSeconds(5));
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        awaitUntil(() -> ledger.getLastFiredAt(KEY) == null && ledger.getNextDueAt(KEY) == null
+                && !runtime.isScheduled(KEY));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the scheduler");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.tatumgames.mikros.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that entries expire exactly at their tick, whichever level they were placed in.
+ */
+public class TimingWheelTest {
+    private static final long LEVEL_1 = 64;
+    private static final long LEVEL_2 = 64 * 64;
+    private static final long LEVEL_3 = 64 * 64 * 64;
+    private static final long MAX_DELTA = 64L * 64 * 64 * 64;
+
+    @Test
+    public void testEntriesCascadeAcrossLevelsToTheirExactTick() {
+        long start = 1_000_003; // Not aligned to any level
+        long[] deltas = {1, 2, 63, LEVEL_1 - 1, LEVEL_1, LEVEL_1 + 1, 100, LEVEL_2 - 1, LEVEL_2, LEVEL_2 + 1,
+                123_456, LEVEL_3 - 1, LEVEL_3, LEVEL_3 + 1, MAX_DELTA - 1};
+        assertExpiresOnTime(start, deltas);
+    }
+
+    @Test
+    public void testEntriesCascadeFromAlignedStart() {
+        assertExpiresOnTime(0, new long[]{1, LEVEL_1, LEVEL_2, LEVEL_3, LEVEL_1 * 2, LEVEL_2 * 3 + 5});
+        assertExpiresOnTime(LEVEL_2 - 1, new long[]{1, LEVEL_1, LEVEL_1 + 1, LEVEL_2, LEVEL_3 + 1});
+    }
+
+    @Test
+    public void testFarFutureEntriesAreParkedAndStillExpireOnTime() {
+        assertExpiresOnTime(77, new long[]{MAX_DELTA, MAX_DELTA + 1, MAX_DELTA + 12_345, 3 * MAX_DELTA + 17});
+    }
+
+    @Test
+    public void testPastAndCurrentTicksExpireOnTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(500);
+        wheel.add(10, "past");
+        wheel.add(500, "now");
+        List<String> expired = new ArrayList<>();
+
+        wheel.advanceTo(500, expired::add);
+        assertTrue(expired.isEmpty(), "Nothing expires without the wheel moving");
+
+        wheel.advanceTo(501, expired::add);
+        assertEquals(List.of("past", "now"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testJumpsExpireEntriesInTickOrder() {
+        SplittableRandom random = new SplittableRandom(42);
+        long start = 9_999;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        List<Long> expiries = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            long expiry = start + 1 + random.nextLong(i % 10 == 0 ? 2 * MAX_DELTA : 100_000);
+            wheel.add(expiry, expiry);
+            expiries.add(expiry);
+        }
+
+        List<Long> expired = new ArrayList<>();
+        while (wheel.size() > 0) {
+            long target = wheel.getCurrentTick() + 1 + random.nextLong(5_000);
+            wheel.advanceTo(target, expiry -> {
+                assertEquals(expiry.longValue(), wheel.getCurrentTick(), "Expired at the wrong tick");
+                expired.add(expiry);
+            });
+            assertEquals(target, wheel.getCurrentTick());
+        }
+
+        expiries.sort(null);
+        assertEquals(expiries, expired, "Every entry should expire once, in tick order");
+    }
+
+    @Test
+    public void testNextWorkTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        assertEquals(Long.MAX_VALUE, wheel.nextWorkTick(), "An empty wheel has no work");
+
+        wheel.add(105, "soon");
+        assertEquals(105, wheel.nextWorkTick());
+
+        wheel.advanceTo(105, value -> {
+        });
+        wheel.add(105 + LEVEL_2, "later");
+        // Only the next level-0 wrap, where the higher levels cascade, can have work before then
+        assertEquals(128, wheel.nextWorkTick());
+    }
+
+    @Test
+    public void testEmptyWheelJumpsStraightToTheTarget() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.advanceTo(Long.MAX_VALUE / 2, value -> fail("Nothing was added"));
+        assertEquals(Long.MAX_VALUE / 2, wheel.getCurrentTick());
+
+        wheel.add(Long.MAX_VALUE / 2 + LEVEL_1 + 3, "after the jump");
+        List<Long> firedAt = new ArrayList<>();
+        wheel.advanceTo(Long.MAX_VALUE / 2 + LEVEL_2, value -> firedAt.add(wheel.getCurrentTick()));
+        assertEquals(List.of(Long.MAX_VALUE / 2 + LEVEL_1 + 3), firedAt);
+    }
+
+    /**
+     * Adds one entry per delta and advances tick by tick, checking each expires exactly at its tick.
+     */
+    private static void assertExpiresOnTime(long start, long[] deltas) {
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        long last = start;
+        for (long delta : deltas) {
+            wheel.add(start + delta, start + delta);
+            last = Math.max(last, start + delta);
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long tick = start + 1; tick <= last; tick++) {
+            wheel.advanceTo(tick, expiry -> firedAt.put(expiry, wheel.getCurrentTick()));
+        }
+
+        for (long delta : deltas) {
+            assertEquals(start + delta, firedAt.get(start + delta), "Entry " + delta + " ticks after " + start);
+        }
+        assertEquals(0, wheel.size());
+    }
+}
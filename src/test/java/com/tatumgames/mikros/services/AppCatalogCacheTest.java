@@ -0,0 +1,131 @@
+package com.tatumgames.mikros.services;
+
+import com.tatumgames.mikros.models.AppPromotion;
+import com.tatumgames.mikros.scheduling.ScheduleLedger;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the catalog version only moves when the content changes, that snapshot lookups
+ * are limited to active campaigns, and that a stale snapshot is served while the scheduling runtime
+ * refreshes it.
+ */
+public class AppCatalogCacheTest {
+    private static final Instant NOW = Instant.now();
+
+    private final SchedulingRuntime runtime =
+            new SchedulingRuntime(Clock.systemUTC(), Duration.ofMillis(10), ScheduleLedger.inMemory());
+    private AppCatalogCache cache;
+
+    @AfterEach
+    public void tearDown() {
+        if (cache != null) {
+            cache.shutdown();
+        }
+        runtime.shutdown();
+    }
+
+    @Test
+    public void testUnchangedCatalogKeepsItsVersion() {
+        List<String> names = new ArrayList<>(List.of("Star Miner", "Ocean Drift"));
+        cache = new AppCatalogCache(serviceReturning(() -> List.of(
+                app("app-1", names.get(0), NOW.minusSeconds(3600), NOW.plusSeconds(3600)),
+                app("app-2", names.get(1), NOW.minusSeconds(3600), NOW.plusSeconds(3600)))), runtime);
+        List<Long> published = new ArrayList<>();
+        cache.addChangeListener(snapshot -> published.add(snapshot.getVersion()));
+
+        AppCatalogCache.Snapshot first = cache.refresh();
+        // A full response that rebuilds equal apps is not a new version
+        AppCatalogCache.Snapshot second = cache.refresh();
+        assertEquals(first.getVersion(), second.getVersion());
+        assertFalse(second.getFetchedAt().isBefore(first.getFetchedAt()), "The unchanged snapshot is renewed");
+        assertEquals(List.of(first.getVersion()), published);
+
+        names.set(1, "Ocean Drift II");
+        AppCatalogCache.Snapshot changed = cache.refresh();
+        assertEquals(first.getVersion() + 1, changed.getVersion());
+        assertEquals("Ocean Drift II", changed.getApps().get(1).getAppName());
+        assertEquals(List.of(first.getVersion(), changed.getVersion()), published);
+    }
+
+    @Test
+    public void testGetActiveAppOnlyReturnsRunningCampaigns() {
+        cache = new AppCatalogCache(serviceReturning(() -> List.of(
+                app("running", "Running", NOW.minusSeconds(3600), NOW.plusSeconds(3600)),
+                app("ended", "Ended", NOW.minus(Duration.ofDays(10)), NOW.minus(Duration.ofDays(1))),
+                app("upcoming", "Upcoming", NOW.plus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(10))))), runtime);
+        AppCatalogCache.Snapshot snapshot = cache.refresh();
+
+        assertEquals(3, snapshot.getApps().size());
+        assertEquals("running", snapshot.getActiveApp("running", NOW).getAppId());
+        assertNull(snapshot.getActiveApp("ended", NOW));
+        assertNull(snapshot.getActiveApp("upcoming", NOW));
+        assertNull(snapshot.getActiveApp("missing", NOW));
+        assertNull(snapshot.getActiveApp(null, NOW));
+
+        assertEquals("upcoming", snapshot.getActiveApp("upcoming", NOW.plus(Duration.ofDays(2))).getAppId());
+        assertNull(snapshot.getActiveApp("running", NOW.plus(Duration.ofDays(2))));
+    }
+
+    @Test
+    public void testStaleSnapshotIsServedWhileTheRuntimeRefreshes() throws Exception {
+        List<Thread> fetchThreads = new CopyOnWriteArrayList<>();
+        cache = new AppCatalogCache(serviceReturning(() -> {
+            fetchThreads.add(Thread.currentThread());
+            return List.of(app("app-" + fetchThreads.size(), "Star Miner", NOW.minusSeconds(3600),
+                    NOW.plusSeconds(3600)));
+        }), runtime, Duration.ofMillis(200));
+        runtime.start();
+
+        AppCatalogCache.Snapshot first = cache.getSnapshot();
+        assertEquals(List.of(Thread.currentThread()), fetchThreads, "The first snapshot loads on the caller");
+        Thread.sleep(250);
+
+        assertSame(first, cache.getSnapshot(), "A stale snapshot is returned without waiting");
+        assertTrue(runtime.isScheduled(TaskKey.global("app-catalog")));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (cache.getSnapshot() == first && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        AppCatalogCache.Snapshot refreshed = cache.getSnapshot();
+        assertNotSame(first, refreshed);
+        assertNotEquals("app-1", refreshed.getApps().getFirst().getAppId());
+        assertTrue(fetchThreads.get(1).isVirtual(), "The refresh ran on a scheduling runtime worker");
+    }
+
+    private static GamePromotionService serviceReturning(Supplier<List<AppPromotion>> apps) {
+        return new InMemoryGamePromotionService() {
+            @Override
+            public List<AppPromotion> fetchAllApps() {
+                return apps.get();
+            }
+        };
+    }
+
+    private static AppPromotion app(String appId, String name, Instant start, Instant end) {
+        return new AppPromotion.Builder()
+                .appId(appId)
+                .appName(name)
+                .shortDescription(name + " short")
+                .campaign(new AppPromotion.Campaign.Builder()
+                        .campaignId(appId + "-campaign")
+                        .campaignName(name + " launch")
+                        .startDate(start)
+                        .endDate(end)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.tatumgames.mikros.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that compiled templates render exactly what {@link String#format} renders in the root locale.
+ */
+public class TextTemplateTest {
+    private static final int MAX_PRECISION = 9;
+    private static final int RANDOM_INPUTS = 2_000_000;
+
+    @Test
+    public void testDecimalsMatchStringFormatOnKnownTies() {
+        double[] ties = {1.005, 0.285, 0.125, 2.675, 1.115, 0.045, 8.345, 1.0005, 0.5, 1.5, 2.5, -0.5, -1.005,
+                -0.285, 123_456.785, 0.000_000_000_5, 1e-10, 0.9999999995, 4.35, 0.015};
+        for (double value : ties) {
+            for (int precision = 0; precision <= MAX_PRECISION; precision++) {
+                assertDecimalMatches(value, precision);
+            }
+        }
+    }
+
+    @Test
+    public void testDecimalsMatchStringFormatOnSpecialValues() {
+        double[] specials = {0.0, -0.0, -0.001, -0.004, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE,
+                -Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 9.2e18, 9.2e9,
+                (double) Long.MAX_VALUE, 1e15 + 0.5, 4503599627370496.5, 0.1 + 0.2};
+        for (double value : specials) {
+            for (int precision = 0; precision <= MAX_PRECISION; precision++) {
+                assertDecimalMatches(value, precision);
+            }
+        }
+    }
+
+    @Test
+    public void testDecimalsMatchStringFormatOnRandomInputs() {
+        SplittableRandom random = new SplittableRandom(20_240_611L);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            int precision = random.nextInt(MAX_PRECISION + 1);
+            double value = switch (i % 5) {
+                // Multipliers, percentages and ratios as the bot renders them
+                case 0 -> random.nextDouble();
+                case 1 -> random.nextDouble(-1_000.0, 1_000.0);
+                // Decimal ties at the rendered precision, where binary and decimal rounding can disagree
+                case 2 -> (random.nextLong(1_000_000_000L) + 0.5) / Math.pow(10, precision);
+                // Short decimals one place past the precision
+                case 3 -> random.nextLong(-100_000, 100_000) / Math.pow(10, precision + 1);
+                // Any magnitude
+                default -> Double.longBitsToDouble(random.nextLong());
+            };
+            assertDecimalMatches(value, precision);
+        }
+    }
+
+    @Test
+    public void testIntegersMatchStringFormat() {
+        SplittableRandom random = new SplittableRandom(7L);
+        TextTemplate plain = TextTemplate.compile("%d");
+        TextTemplate grouped = TextTemplate.compile("%,d");
+        long[] specials = {0, -1, 999, 1_000, -1_000, 999_999, 1_000_000, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : specials) {
+            assertEquals(String.format(Locale.ROOT, "%d", value), plain.with().arg(value).render());
+            assertEquals(String.format(Locale.ROOT, "%,d", value), grouped.with().arg(value).render());
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long value = i % 2 == 0 ? random.nextLong() : random.nextLong(-10_000_000, 10_000_000);
+            assertEquals(String.format(Locale.ROOT, "%,d", value), grouped.with().arg(value).render());
+        }
+    }
+
+    @Test
+    public void testMixedTemplateMatchesStringFormat() {
+        String source = "**%s** dealt %,d damage (%.1f%% of HP), %d%% crit, x%.2f";
+        TextTemplate template = TextTemplate.compile(source);
+        String rendered = template.with().arg("Frost Wyrm").arg(1_234_567L).arg(12.25).arg(15L).arg(1.005).render();
+        assertEquals(String.format(Locale.ROOT, source, "Frost Wyrm", 1_234_567L, 12.25, 15L, 1.005), rendered);
+    }
+
+    @Test
+    public void testUnsupportedSpecifiersAreRejected() {
+        for (String source : new String[]{"%x", "%5d", "%.10f", "%f", "%n", "trailing %"}) {
+            assertThrows(IllegalArgumentException.class, () -> TextTemplate.compile(source), source);
+        }
+    }
+
+    @Test
+    public void testWrongArgumentsAreRejected() {
+        TextTemplate template = TextTemplate.compile("%s has %d");
+        assertThrows(IllegalArgumentException.class, () -> template.with().arg(1L));
+        assertThrows(IllegalArgumentException.class, () -> template.with().arg("Hero").render());
+    }
+
+    private static void assertDecimalMatches(double value, int precision) {
+        String format = "%." + precision + "f";
+        String expected = String.format(Locale.ROOT, format, value);
+        String actual = TextTemplate.compile(format).with().arg(value).render();
+        if (!expected.equals(actual)) {
+            fail(format + " of " + value + " (bits " + Long.toHexString(Double.doubleToRawLongBits(value))
+                    + "): expected " + expected + " but was " + actual);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.tatumgames.mikros.services.dispatch;
+
+import com.tatumgames.mikros.scheduling.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests dedupe, per-guild jitter and token bucket pacing of the announcement dispatcher.
+ * <p>
+ * Jobs build no REST call (their action returns null), so each release is recorded without Discord.
+ */
+public class AnnouncementDispatcherTest {
+    private static final Instant START = Instant.parse("2024-03-01T12:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+    private AnnouncementDispatcher dispatcher;
+
+    @AfterEach
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDuplicateWithinRetentionIsSkipped() throws InterruptedException {
+        dispatcher = new AnnouncementDispatcher(Duration.ZERO, clock);
+        Map<String, Long> released = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        assertTrue(dispatcher.submit(job("guild-1", "boss", "channel-1", released, done)));
+        assertFalse(dispatcher.submit(job("guild-1", "boss", "channel-1", released, done)));
+        assertTrue(dispatcher.submit(job("guild-2", "boss", "channel-2", released, done)), "Other guild, same key");
+
+        clock.advance(Duration.ofHours(23));
+        assertFalse(dispatcher.submit(job("guild-1", "boss", "channel-1", released, done)));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        AnnouncementDispatcher.Stats stats = dispatcher.getStats();
+        assertEquals(2, stats.submitted());
+        assertEquals(2, stats.deduplicated());
+    }
+
+    @Test
+    public void testKeyIsAcceptedAgainAfterRetention() {
+        dispatcher = new AnnouncementDispatcher(Duration.ZERO, clock);
+        assertTrue(dispatcher.submit(job("guild-1", "daily", "channel-1", new ConcurrentHashMap<>(), null)));
+
+        clock.advance(Duration.ofHours(24));
+        assertTrue(dispatcher.submit(job("guild-1", "daily", "channel-1", new ConcurrentHashMap<>(), null)));
+        assertFalse(dispatcher.submit(job("guild-1", "daily", "channel-1", new ConcurrentHashMap<>(), null)));
+    }
+
+    @Test
+    public void testConcurrentSubmitsOfAnExpiredKeyAcceptOnce() throws Exception {
+        dispatcher = new AnnouncementDispatcher(Duration.ofHours(1), clock);
+        int threads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 50; round++) {
+                // Round 0 races on a new key, later rounds on one whose acceptance has just expired
+                CyclicBarrier barrier = new CyclicBarrier(threads);
+                List<Future<Boolean>> results = IntStream.range(0, threads)
+                        .mapToObj(i -> pool.submit(() -> {
+                            barrier.await();
+                            return dispatcher.submit(job("guild-1", "event", "channel-1", new ConcurrentHashMap<>(), null));
+                        }))
+                        .toList();
+                int accepted = 0;
+                for (Future<Boolean> result : results) {
+                    accepted += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+                }
+                assertEquals(1, accepted, "Round " + round);
+                clock.advance(Duration.ofHours(25));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testJitterIsStableAndInsideTheWindow() {
+        Duration window = Duration.ofMinutes(5);
+        Set<Long> windowTenths = new HashSet<>();
+        for (int guild = 0; guild < 1_000; guild++) {
+            AnnouncementJob job = job("guild-" + guild, "boss-spawn", "channel", new ConcurrentHashMap<>(), null);
+            long jitter = AnnouncementDispatcher.jitterNanos(job, window);
+            assertTrue(jitter >= 0 && jitter < window.toNanos(), "Outside the window: " + jitter);
+            assertEquals(jitter, AnnouncementDispatcher.jitterNanos(job, window), "Not stable");
+            windowTenths.add(TimeUnit.NANOSECONDS.toSeconds(jitter) / 30);
+            assertEquals(0, AnnouncementDispatcher.jitterNanos(job, Duration.ZERO));
+        }
+        // 1000 guilds land in every 30-second tenth of the window
+        assertEquals(10, windowTenths.size());
+    }
+
+    @Test
+    public void testJobIsNotReleasedBeforeItsOffset() throws InterruptedException {
+        Duration window = Duration.ofMillis(400);
+        dispatcher = new AnnouncementDispatcher(window, clock);
+        Map<String, Long> released = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(20);
+
+        long submittedAt = System.nanoTime();
+        Map<String, Long> offsets = new ConcurrentHashMap<>();
+        for (int guild = 0; guild < 20; guild++) {
+            AnnouncementJob job = job("guild-" + guild, "drop", "channel-" + guild, released, done);
+            offsets.put(job.dedupeKey(), AnnouncementDispatcher.jitterNanos(job, window));
+            assertTrue(dispatcher.submit(job));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        offsets.forEach((key, offset) -> assertTrue(released.get(key) - submittedAt >= offset,
+                key + " released before its offset"));
+    }
+
+    @Test
+    public void testChannelBurstThenOnePerSecond() throws InterruptedException {
+        dispatcher = new AnnouncementDispatcher(Duration.ZERO, clock);
+        Map<String, Long> released = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(7);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 7; i++) {
+            assertTrue(dispatcher.submit(job("guild-1", "message-" + i, "channel-1", released, done)));
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        List<Long> millis = released.values().stream().sorted()
+                .map(at -> TimeUnit.NANOSECONDS.toMillis(at - start)).toList();
+        // Burst of five, then the channel refills at one per second
+        assertTrue(millis.get(4) < 500, "Burst was paced: " + millis);
+        assertTrue(millis.get(5) >= 900, "Sixth message not paced: " + millis);
+        assertTrue(millis.get(6) >= 1_900, "Seventh message not paced: " + millis);
+    }
+
+    @Test
+    public void testGlobalPacingAcrossChannels() throws InterruptedException {
+        dispatcher = new AnnouncementDispatcher(Duration.ZERO, clock);
+        Map<String, Long> released = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(30);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 30; i++) {
+            assertTrue(dispatcher.submit(job("guild-" + i, "news", "channel-" + i, released, done)));
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        long lastMillis = TimeUnit.NANOSECONDS.toMillis(
+                released.values().stream().mapToLong(Long::longValue).max().orElseThrow() - start);
+        // A burst of 10, then 40 per second: the last of 30 goes out no sooner than 20 / 40 s
+        assertTrue(lastMillis >= 450, "Global bucket not applied: " + lastMillis + " ms");
+    }
+
+    /**
+     * Creates a job that records when it was released under its dedupe key.
+     */
+    private static AnnouncementJob job(String guildId, String key, String channelId,
+                                       Map<String, Long> released, CountDownLatch done) {
+        String dedupeKey = guildId + ":" + key;
+        return new AnnouncementJob(guildId, key, channelId, () -> {
+            released.put(dedupeKey, System.nanoTime());
+            if (done != null) {
+                done.countDown();
+            }
+            return null;
+        });
+    }
+}
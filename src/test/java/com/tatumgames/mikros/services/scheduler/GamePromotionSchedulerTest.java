@@ -0,0 +1,139 @@
+package com.tatumgames.mikros.services.scheduler;
+
+import com.tatumgames.mikros.models.AppPromotion;
+import com.tatumgames.mikros.models.PromotionVerbosity;
+import com.tatumgames.mikros.scheduling.ScheduleLedger;
+import com.tatumgames.mikros.scheduling.SchedulingRuntime;
+import com.tatumgames.mikros.scheduling.TaskKey;
+import com.tatumgames.mikros.services.AppCatalogCache;
+import com.tatumgames.mikros.services.InMemoryGamePromotionService;
+import com.tatumgames.mikros.services.dispatch.AnnouncementDispatcher;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that a guild's next due instant is the earliest step due among its active apps, held back by
+ * the verbosity interval and the rotation cooldown.
+ */
+public class GamePromotionSchedulerTest {
+    private static final String GUILD_ID = "guild-1";
+    private static final String CHANNEL_ID = "channel-1";
+    private static final TaskKey GUILD_KEY = TaskKey.of("game-promotion", GUILD_ID);
+    private static final Instant NOW = Instant.now();
+
+    private final List<AppPromotion> apps = new ArrayList<>();
+    private final InMemoryGamePromotionService gamePromotionService = new InMemoryGamePromotionService() {
+        @Override
+        public List<AppPromotion> fetchAllApps() {
+            return List.copyOf(apps);
+        }
+    };
+    private final SchedulingRuntime runtime = new SchedulingRuntime(ScheduleLedger.inMemory());
+    private final AppCatalogCache appCatalogCache = new AppCatalogCache(gamePromotionService, runtime);
+    private final GamePromotionScheduler scheduler = new GamePromotionScheduler(gamePromotionService,
+            appCatalogCache, mock(AnnouncementDispatcher.class), runtime);
+
+    @AfterEach
+    public void tearDown() {
+        appCatalogCache.shutdown();
+        runtime.shutdown();
+    }
+
+    @Test
+    public void testNoCampaignIsNeverDue() {
+        apps.add(new AppPromotion.Builder().appId("app-1").appName("No Campaign").build());
+        appCatalogCache.refresh();
+
+        assertNull(scheduler.calculateNextDue(GUILD_ID, NOW));
+    }
+
+    @Test
+    public void testStepDueBeforeVerbosityFloorWaitsForTheFloor() {
+        apps.add(app("app-1", NOW.minus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(29))));
+        appCatalogCache.refresh();
+        gamePromotionService.setPromotionVerbosity(GUILD_ID, PromotionVerbosity.HIGH);
+        runtime.getLedger().setMark(GUILD_KEY, "last-check", NOW.minus(Duration.ofHours(1)));
+
+        // Step 1 has been due since the campaign started
+        assertEquals(NOW.plus(Duration.ofHours(5)), scheduler.calculateNextDue(GUILD_ID, NOW));
+    }
+
+    @Test
+    public void testStepDueAfterVerbosityFloorWaitsForTheStep() {
+        apps.add(app("app-1", NOW.minus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(29))));
+        AppCatalogCache.Snapshot catalog = appCatalogCache.refresh();
+        gamePromotionService.setPromotionVerbosity(GUILD_ID, PromotionVerbosity.HIGH);
+        gamePromotionService.recordPromotionStep(GUILD_ID, "app-1", 1, NOW.minus(Duration.ofHours(1)));
+        runtime.getLedger().setMark(GUILD_KEY, "last-check", NOW.minus(Duration.ofHours(1)));
+
+        Instant step2 = catalog.getTimeline().getStepTargetTime("app-1", 2);
+        assertTrue(step2.isAfter(NOW.plus(Duration.ofDays(1))));
+        assertEquals(step2.plusSeconds(1), scheduler.calculateNextDue(GUILD_ID, NOW),
+                "Due just past the step target, not at the verbosity interval");
+    }
+
+    @Test
+    public void testCooldownDominatesOverdueStep() {
+        apps.add(app("app-1", NOW.minus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(29))));
+        apps.add(app("app-2", NOW.minus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(29))));
+        appCatalogCache.refresh();
+        gamePromotionService.setPromotionChannel(GUILD_ID, CHANNEL_ID);
+        gamePromotionService.setPromotionVerbosity(GUILD_ID, PromotionVerbosity.HIGH);
+
+        // Posting step 1 of one app starts the rotation cooldown; the other app's step 1 stays overdue
+        assertEquals(1, scheduler.forceCheckGuild(guildWithChannel()));
+        Instant now = Instant.now();
+        // Verbosity interval long past, so only the cooldown holds the guild back
+        runtime.getLedger().setMark(GUILD_KEY, "last-check", now.minus(Duration.ofHours(7)));
+
+        Instant due = scheduler.calculateNextDue(GUILD_ID, now);
+        assertTrue(due.isAfter(now.plus(Duration.ofMinutes(3))), "Cooldown is at least four minutes: " + due);
+        assertTrue(due.isBefore(now.plus(Duration.ofMinutes(10))), "Cooldown for two apps is under nine minutes: " + due);
+    }
+
+    @Test
+    public void testCheckTimeIsOnlyRecordedWhenAStepIsPosted() {
+        apps.add(app("app-1", NOW.plus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(30))));
+        appCatalogCache.refresh();
+        gamePromotionService.setPromotionChannel(GUILD_ID, CHANNEL_ID);
+
+        assertEquals(0, scheduler.forceCheckGuild(guildWithChannel()));
+        assertNull(runtime.getLedger().getMark(GUILD_KEY, "last-check"), "No campaign was running");
+        assertEquals(NOW.plus(Duration.ofDays(1)).plusSeconds(1), runtime.getNextFireTime(GUILD_KEY),
+                "Rescheduled for the campaign start");
+    }
+
+    private static Guild guildWithChannel() {
+        TextChannel channel = mock(TextChannel.class);
+        when(channel.getId()).thenReturn(CHANNEL_ID);
+        Guild guild = mock(Guild.class);
+        when(guild.getId()).thenReturn(GUILD_ID);
+        when(guild.getTextChannelById(CHANNEL_ID)).thenReturn(channel);
+        return guild;
+    }
+
+    private static AppPromotion app(String appId, Instant start, Instant end) {
+        return new AppPromotion.Builder()
+                .appId(appId)
+                .appName(appId + " name")
+                .shortDescription(appId + " short")
+                .campaign(new AppPromotion.Campaign.Builder()
+                        .campaignId(appId + "-campaign")
+                        .campaignName(appId + " launch")
+                        .startDate(start)
+                        .endDate(end)
+                        .build())
+                .build();
+    }
+}